@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,10 @@ import org.eclipse.rap.rwt.client.service.ClientFileUploader;
 
 public class UploaderService implements Uploader {
 
+  // the upload handler of the file dialog accepts chunked uploads, an interrupted upload is
+  // resumed instead of starting over
+  static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
   private final ClientFile[] clientFiles;
 
   public UploaderService( ClientFile[] clientFiles ) {
@@ -27,7 +31,7 @@ public class UploaderService implements Uploader {
   public void submit( String url ) {
     ClientFileUploader service = RWT.getClient().getService( ClientFileUploader.class );
     if( service != null ) {
-      service.submit( url, clientFiles );
+      service.submit( url, clientFiles, CHUNK_SIZE );
     }
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,26 +17,31 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
 
 
 /**
- * A file upload receiver that stores received files on disk.
+ * A file upload receiver that stores received files on disk. The data is passed to the file
+ * channel and to the registered chunk sinks in chunks of up to 64 KiB, without further copies.
  */
 public class DiskFileUploadReceiver extends FileUploadReceiver {
 
   private static final String DEFAULT_CONTENT_TYPE_FILE_NAME = "content-type.tmp";
   private static final String DEFAULT_TARGET_FILE_NAME = "upload.tmp";
   private static final String TEMP_DIRECTORY_PREFIX = "fileupload_";
+  private static final int CHUNK_SIZE = 64 * 1024;
 
   private final List<File> targetFiles;
+  private final List<FileUploadChunkSink> chunkSinks;
   private File contentTypeFile;
 
   public DiskFileUploadReceiver() {
     targetFiles = new ArrayList<>();
+    chunkSinks = new ArrayList<>();
   }
 
   @Override
@@ -44,7 +49,7 @@ public class DiskFileUploadReceiver extends FileUploadReceiver {
     File targetFile = createTargetFile( details );
     FileOutputStream outputStream = new FileOutputStream( targetFile );
     try {
-      copy( dataStream, outputStream );
+      transfer( dataStream, outputStream.getChannel(), details );
     } finally {
       outputStream.close();
     }
@@ -91,6 +96,33 @@ public class DiskFileUploadReceiver extends FileUploadReceiver {
     return contentType;
   }
 
+  /**
+   * Adds the given chunk sink to the sinks that process the data of all files that are received
+   * after this call.
+   *
+   * @param chunkSink the chunk sink to add, must not be <code>null</code>
+   * @since 3.2
+   */
+  public void addChunkSink( FileUploadChunkSink chunkSink ) {
+    if( chunkSink == null ) {
+      throw new NullPointerException( "chunkSink is null" );
+    }
+    chunkSinks.add( chunkSink );
+  }
+
+  /**
+   * Removes the given chunk sink from the sinks that process the received data.
+   *
+   * @param chunkSink the chunk sink to remove, must not be <code>null</code>
+   * @since 3.2
+   */
+  public void removeChunkSink( FileUploadChunkSink chunkSink ) {
+    if( chunkSink == null ) {
+      throw new NullPointerException( "chunkSink is null" );
+    }
+    chunkSinks.remove( chunkSink );
+  }
+
   /**
    * Returns an array with files that the received data has been saved to.
    *
@@ -146,19 +178,68 @@ public class DiskFileUploadReceiver extends FileUploadReceiver {
     return result;
   }
 
-  private static void copy( InputStream inputStream, OutputStream outputStream )
+  private void transfer( InputStream inputStream, FileChannel channel, FileDetails details )
     throws IOException
   {
-    byte[] buffer = new byte[ 8192 ];
-    boolean finished = false;
-    while( !finished ) {
-      int bytesRead = inputStream.read( buffer );
-      if( bytesRead != -1 ) {
-        outputStream.write( buffer, 0, bytesRead );
-      } else {
-        finished = true;
+    FileUploadChunkSink[] sinks = chunkSinks.toArray( new FileUploadChunkSink[ 0 ] );
+    int started = 0;
+    int finished = 0;
+    try {
+      while( started < sinks.length ) {
+        sinks[ started++ ].start( details );
+      }
+      byte[] buffer = new byte[ CHUNK_SIZE ];
+      ByteBuffer chunk = ByteBuffer.wrap( buffer );
+      int length = fill( inputStream, buffer );
+      while( length != -1 ) {
+        chunk.clear();
+        chunk.limit( length );
+        for( FileUploadChunkSink sink : sinks ) {
+          sink.receive( chunk.asReadOnlyBuffer() );
+        }
+        while( chunk.hasRemaining() ) {
+          channel.write( chunk );
+        }
+        length = fill( inputStream, buffer );
+      }
+      while( finished < sinks.length ) {
+        sinks[ finished ].finish();
+        finished++;
+      }
+    } catch( IOException | RuntimeException exception ) {
+      abort( sinks, finished, started, exception );
+      throw exception;
+    }
+  }
+
+  /*
+   * Aborts the sinks that were started but did not finish, including a sink that failed in start
+   * or finish.
+   */
+  private static void abort( FileUploadChunkSink[] sinks, int from, int to, Exception exception ) {
+    for( int i = from; i < to; i++ ) {
+      try {
+        sinks[ i ].abort( exception );
+      } catch( RuntimeException abortException ) {
+        exception.addSuppressed( abortException );
+      }
+    }
+  }
+
+  /*
+   * Reads until the buffer is full, as the item streams of a multipart request return the data in
+   * small portions. Returns -1 if the end of the stream was reached before any data was read.
+   */
+  private static int fill( InputStream inputStream, byte[] buffer ) throws IOException {
+    int length = 0;
+    int bytesRead = 0;
+    while( length < buffer.length && bytesRead != -1 ) {
+      bytesRead = inputStream.read( buffer, length, buffer.length - length );
+      if( bytesRead > 0 ) {
+        length += bytesRead;
       }
     }
+    return length == 0 && bytesRead == -1 ? -1 : length;
   }
 
 }
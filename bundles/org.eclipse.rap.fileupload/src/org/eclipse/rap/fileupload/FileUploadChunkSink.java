@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * A chunk sink processes the data of uploaded files while it is written to disk by a
+ * {@link DiskFileUploadReceiver}, e.g. to compute a checksum or to pass the data on to a virus
+ * scanner. Chunk sinks are notified in the thread that receives the upload, a slow sink also slows
+ * down reading the upload from the network.
+ *
+ * @see DiskFileUploadReceiver#addChunkSink(FileUploadChunkSink)
+ * @since 3.2
+ */
+public interface FileUploadChunkSink {
+
+  /**
+   * Called before the data of an uploaded file is received.
+   *
+   * @param details the details of the uploaded file, may be <code>null</code>
+   * @throws IOException to abort the upload
+   */
+  void start( FileDetails details ) throws IOException;
+
+  /**
+   * Called for every chunk of data that is received for the current file. The chunk is a
+   * read-only view of the receive buffer and is only valid for the duration of the call, its
+   * content must be copied if it is needed later on.
+   *
+   * @param chunk the received data, between the position and the limit of the buffer
+   * @throws IOException to abort the upload
+   */
+  void receive( ByteBuffer chunk ) throws IOException;
+
+  /**
+   * Called after all data of the current file has been received and written.
+   *
+   * @throws IOException to abort the upload
+   */
+  void finish() throws IOException;
+
+  /**
+   * Called instead of {@link #finish()} when the upload of the current file fails, e.g. because
+   * the connection was lost, the file size limit was exceeded or a chunk sink rejected the data.
+   * This is also the case if {@link #start(FileDetails)} or {@link #finish()} of this sink failed.
+   * Implementations should release the resources that were acquired for the current file.
+   *
+   * @param exception the exception that aborts the upload
+   */
+  void abort( Exception exception );
+
+}
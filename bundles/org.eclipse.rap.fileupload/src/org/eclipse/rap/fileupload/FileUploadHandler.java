@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ public class FileUploadHandler {
   private final FileUploadReceiver receiver;
   private final FileUploadListenerList listeners;
   private long maxFileSize = -1;
+  private long progressInterval;
 
   /**
    * Constructs a file upload handler that is associated with the given receiver. The receiver is
@@ -120,6 +121,33 @@ public class FileUploadHandler {
     this.maxFileSize = maxFileSize;
   }
 
+  /**
+   * Returns the minimum time in milliseconds between two progress events of an upload. The
+   * default value of 0 indicates that every increase of the received data is reported.
+   *
+   * @see #setProgressInterval
+   * @since 3.2
+   */
+  public long getProgressInterval() {
+    return progressInterval;
+  }
+
+  /**
+   * Sets the minimum time in milliseconds between two progress events of an upload. Progress is
+   * still reported for the first and the last data of an upload. Larger intervals reduce the
+   * overhead of large uploads, which are otherwise reported for every network packet.
+   *
+   * @param progressInterval the interval in milliseconds, must not be negative
+   * @see #getProgressInterval
+   * @since 3.2
+   */
+  public void setProgressInterval( long progressInterval ) {
+    if( progressInterval < 0 ) {
+      throw new IllegalArgumentException( "progressInterval must not be negative" );
+    }
+    this.progressInterval = progressInterval;
+  }
+
   FileUploadListenerList getListeners() {
     return listeners;
   }
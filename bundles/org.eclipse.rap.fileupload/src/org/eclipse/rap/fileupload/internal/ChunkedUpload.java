@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.eclipse.rap.fileupload.FileDetails;
+import org.eclipse.rap.fileupload.FileUploadHandler;
+
+
+/*
+ * The state of a chunked upload, see ChunkedUploadProcessor. The files of an upload are received
+ * one after another. The data of the current file is collected in a temporary file and passed to
+ * the receiver of the upload handler once it is complete. Progress is reported for the data of all
+ * files of the upload.
+ *
+ * The monitor only guards the state. A request that appends data reserves the current file under
+ * the lock, reads the data and passes the complete file to the receiver without holding it, and
+ * commits the result under the lock again. Other requests for the upload are not blocked by the
+ * I/O, a concurrent append for the reserved file is rejected like one with a wrong offset.
+ */
+final class ChunkedUpload {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final FileUploadHandler handler;
+  private final FileUploadTracker tracker;
+  private final ThrottledProgressListener progressListener;
+  private final int fileCount;
+  private final long totalSize;
+  private int fileIndex;
+  private long fileSize;
+  private long fileOffset;
+  private long completedSize;
+  private File tempFile;
+  private boolean reserved;
+  private boolean completing;
+  private boolean finished;
+  private boolean failed;
+  private long lastAccess;
+
+  ChunkedUpload( FileUploadHandler handler, int fileCount, long totalSize ) {
+    this.handler = handler;
+    this.fileCount = fileCount;
+    this.totalSize = totalSize;
+    fileSize = -1;
+    lastAccess = System.currentTimeMillis();
+    tracker = new FileUploadTracker( handler );
+    progressListener = new ThrottledProgressListener( tracker, handler.getProgressInterval() );
+  }
+
+  /*
+   * Returns whether the parameters of a request match this upload. The size of a file must be the
+   * same in all requests and must fit into the total size, the last file must fill it up.
+   */
+  synchronized boolean isValid( int fileCount, long totalSize, int index, long fileSize ) {
+    if( fileCount != this.fileCount || totalSize != this.totalSize ) {
+      return false;
+    }
+    if( index != fileIndex || finished ) {
+      return true;
+    }
+    if( this.fileSize != -1 ) {
+      return fileSize == this.fileSize;
+    }
+    long remainingSize = totalSize - completedSize;
+    return index == fileCount - 1 ? fileSize == remainingSize : fileSize <= remainingSize;
+  }
+
+  /*
+   * Returns the number of bytes of the given file that have been received, or -1 if the previous
+   * files of the upload are not complete yet. While the current file is passed to the receiver,
+   * requests for the next file wait for it.
+   */
+  synchronized long getOffset( int index, long fileSize ) {
+    while( completing && index > fileIndex ) {
+      try {
+        wait();
+      } catch( InterruptedException exception ) {
+        Thread.currentThread().interrupt();
+        return -1;
+      }
+    }
+    if( index < fileIndex ) {
+      return fileSize;
+    }
+    return index == fileIndex ? fileOffset : -1;
+  }
+
+  /*
+   * Appends the data of the given stream to the given file, up to the size of the file. Returns
+   * false if the data does not continue the file at its current offset. The data that has been
+   * read before an IOException occurs is kept, so that the upload can be resumed from there.
+   */
+  boolean append( int index, long offset, InputStream inputStream, FileDetails details, long size )
+    throws IOException
+  {
+    File file = reserve( index, offset, size );
+    if( file == null ) {
+      return false;
+    }
+    try {
+      FileOutputStream outputStream = new FileOutputStream( file, true );
+      try {
+        write( inputStream, outputStream.getChannel(), size - offset );
+      } finally {
+        outputStream.close();
+      }
+    } catch( IOException | RuntimeException exception ) {
+      commit( file, false );
+      throw exception;
+    }
+    if( commit( file, true ) ) {
+      completeFile( file, details );
+    }
+    return true;
+  }
+
+  synchronized boolean isFailed() {
+    return failed;
+  }
+
+  synchronized void fail( Exception exception ) {
+    if( !finished && !failed ) {
+      failed = true;
+      if( !reserved ) {
+        deleteTempFile();
+      }
+      tracker.setException( exception );
+      tracker.handleFailed();
+    }
+  }
+
+  synchronized void touch() {
+    lastAccess = System.currentTimeMillis();
+  }
+
+  /*
+   * Returns whether the upload has not been accessed within the given time, which depends on
+   * whether it has ended. An upload that is receiving data never expires.
+   */
+  synchronized boolean isExpired( long now, long idleTimeout, long retentionTime ) {
+    if( reserved ) {
+      return false;
+    }
+    long timeout = finished || failed ? retentionTime : idleTimeout;
+    return now - lastAccess >= timeout;
+  }
+
+  synchronized void dispose() {
+    failed = !finished;
+    if( !reserved ) {
+      deleteTempFile();
+    }
+  }
+
+  /*
+   * Returns the temporary file to append to, or null if the data is not accepted.
+   */
+  private synchronized File reserve( int index, long offset, long size ) throws IOException {
+    if( finished || failed || reserved || index != fileIndex || offset != fileOffset ) {
+      return null;
+    }
+    if( tempFile == null ) {
+      tempFile = File.createTempFile( "fileupload_", ".part" );
+    }
+    fileSize = size;
+    reserved = true;
+    return tempFile;
+  }
+
+  /*
+   * Takes over the data that has been written to the reserved file and returns true if the file is
+   * complete and has to be passed to the receiver. The reservation is kept in this case.
+   */
+  private synchronized boolean commit( File file, boolean canComplete ) {
+    if( failed ) {
+      reserved = false;
+      deleteTempFile();
+      return false;
+    }
+    fileOffset = file.length();
+    lastAccess = System.currentTimeMillis();
+    progressListener.update( completedSize + fileOffset, totalSize, fileIndex );
+    completing = canComplete && fileOffset >= fileSize;
+    reserved = completing;
+    return completing;
+  }
+
+  private static void write( InputStream inputStream, FileChannel channel, long length )
+    throws IOException
+  {
+    byte[] buffer = new byte[ BUFFER_SIZE ];
+    ByteBuffer chunk = ByteBuffer.wrap( buffer );
+    long remaining = length;
+    int bytesRead = 0;
+    while( remaining > 0 && bytesRead != -1 ) {
+      bytesRead = inputStream.read( buffer, 0, ( int )Math.min( buffer.length, remaining ) );
+      if( bytesRead > 0 ) {
+        chunk.clear();
+        chunk.limit( bytesRead );
+        while( chunk.hasRemaining() ) {
+          channel.write( chunk );
+        }
+        remaining -= bytesRead;
+      }
+    }
+  }
+
+  /*
+   * A failure of the receiver fails the upload, the exception is thrown to the caller.
+   */
+  private void completeFile( File file, FileDetails details ) throws IOException {
+    try {
+      InputStream inputStream = new FileInputStream( file );
+      try {
+        handler.getReceiver().receive( inputStream, details );
+      } finally {
+        inputStream.close();
+      }
+    } catch( IOException | RuntimeException exception ) {
+      release( null );
+      fail( exception );
+      throw exception;
+    }
+    release( details );
+  }
+
+  /*
+   * Releases the reservation of a completed file, which has been received if details are given.
+   */
+  private synchronized void release( FileDetails details ) {
+    reserved = false;
+    completing = false;
+    lastAccess = System.currentTimeMillis();
+    deleteTempFile();
+    if( details != null && !failed ) {
+      tracker.addFile( details );
+      completedSize += fileOffset;
+      fileOffset = 0;
+      fileSize = -1;
+      fileIndex++;
+      if( fileIndex == fileCount ) {
+        finished = true;
+        tracker.handleFinished();
+      }
+    }
+    notifyAll();
+  }
+
+  private void deleteTempFile() {
+    if( tempFile != null ) {
+      tempFile.delete();
+      tempFile = null;
+    }
+  }
+
+}
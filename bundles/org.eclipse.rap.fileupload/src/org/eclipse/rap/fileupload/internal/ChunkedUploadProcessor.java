@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import static org.eclipse.rap.fileupload.internal.FileUploadProcessor.stripFileName;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.fileupload.FileUploadBase.FileSizeLimitExceededException;
+import org.eclipse.rap.fileupload.FileDetails;
+import org.eclipse.rap.fileupload.FileUploadHandler;
+import org.eclipse.rap.json.JsonObject;
+
+
+/*
+ * Handles the requests of a chunked upload, in which the client sends the files of an upload one
+ * after another, in chunks of raw data. All requests carry the parameters "uploadId" (chosen by
+ * the client), "fileCount" and "totalSize" of the upload, and "fileIndex" and "fileSize" of the
+ * current file.
+ *
+ * - A POST request sends the data of the current file that starts at the parameter "offset". The
+ *   first chunk of a file also carries its "fileName" and "contentType".
+ * - A GET request asks for the offset at which to resume the current file.
+ * - A POST request with the parameter "abort" cancels the upload.
+ *
+ * An upload is created by the POST request of the first chunk of its first file. Until then, and
+ * after the upload has expired, the server answers requests as if no data had been received. See
+ * ChunkedUploadStore for the number and lifetime of uploads.
+ *
+ * The response is a JSON object with the "offset" of the data of the current file that has been
+ * received. A chunk that does not start at this offset is rejected with SC_CONFLICT. Once all data
+ * of a file has been received, it is passed to the receiver of the upload handler. Requests for an
+ * upload that has failed are rejected with SC_GONE.
+ *
+ * Requests with a non-positive file count, negative sizes or a file index beyond the file count
+ * are rejected with SC_BAD_REQUEST. The total size may be zero for an upload of empty files. A
+ * request whose sizes do not match the upload, e.g. a file size that differs from an earlier
+ * request or does not add up to the total size, fails the upload.
+ */
+final class ChunkedUploadProcessor {
+
+  static final String PARAMETER_UPLOAD_ID = "uploadId";
+  static final String PARAMETER_FILE_COUNT = "fileCount";
+  static final String PARAMETER_TOTAL_SIZE = "totalSize";
+  static final String PARAMETER_FILE_INDEX = "fileIndex";
+  static final String PARAMETER_FILE_SIZE = "fileSize";
+  static final String PARAMETER_FILE_NAME = "fileName";
+  static final String PARAMETER_CONTENT_TYPE = "contentType";
+  static final String PARAMETER_OFFSET = "offset";
+  static final String PARAMETER_ABORT = "abort";
+
+  private final FileUploadHandler handler;
+  private final String token;
+
+  ChunkedUploadProcessor( FileUploadHandler handler, String token ) {
+    this.handler = handler;
+    this.token = token;
+  }
+
+  static boolean isChunkedUpload( HttpServletRequest request ) {
+    return request.getParameter( PARAMETER_UPLOAD_ID ) != null;
+  }
+
+  void handleRequest( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    String uploadId = request.getParameter( PARAMETER_UPLOAD_ID );
+    int fileCount;
+    long totalSize;
+    int fileIndex;
+    long fileSize;
+    try {
+      fileCount = Integer.parseInt( request.getParameter( PARAMETER_FILE_COUNT ) );
+      totalSize = Long.parseLong( request.getParameter( PARAMETER_TOTAL_SIZE ) );
+      fileIndex = Integer.parseInt( request.getParameter( PARAMETER_FILE_INDEX ) );
+      fileSize = Long.parseLong( request.getParameter( PARAMETER_FILE_SIZE ) );
+    } catch( NumberFormatException exception ) {
+      String message = "Invalid chunked upload parameters";
+      response.sendError( HttpServletResponse.SC_BAD_REQUEST, message );
+      return;
+    }
+    if( !isValid( fileCount, totalSize, fileIndex, fileSize ) ) {
+      String message = "Invalid chunked upload parameters";
+      response.sendError( HttpServletResponse.SC_BAD_REQUEST, message );
+      return;
+    }
+    ChunkedUpload upload = ChunkedUploadStore.getInstance().getUpload( token, uploadId );
+    if( upload == null ) {
+      if( request.getParameter( PARAMETER_ABORT ) != null ) {
+        return;
+      }
+      if( !isFirstChunk( request, fileIndex ) ) {
+        writeUnknownUpload( request, response, fileIndex );
+        return;
+      }
+      upload = ChunkedUploadStore.getInstance()
+        .createUpload( token, uploadId, handler, fileCount, totalSize );
+      if( upload == null ) {
+        response.sendError( HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many uploads" );
+        return;
+      }
+    }
+    long maxFileSize = handler.getMaxFileSize();
+    if( request.getParameter( PARAMETER_ABORT ) != null ) {
+      upload.fail( new Exception( "Upload aborted by the client" ) );
+    } else if( upload.isFailed() ) {
+      response.sendError( HttpServletResponse.SC_GONE, "Upload failed" );
+    } else if( !upload.isValid( fileCount, totalSize, fileIndex, fileSize ) ) {
+      String message = "Chunked upload sizes do not match";
+      upload.fail( new Exception( message ) );
+      response.sendError( HttpServletResponse.SC_BAD_REQUEST, message );
+    } else if( maxFileSize != -1 && fileSize > maxFileSize ) {
+      String message = "The file exceeds its maximum permitted size of " + maxFileSize + " bytes";
+      upload.fail( new FileSizeLimitExceededException( message, fileSize, maxFileSize ) );
+      response.sendError( HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, message );
+    } else if( "POST".equalsIgnoreCase( request.getMethod() ) ) {
+      handleChunk( request, response, upload, fileIndex, fileSize );
+    } else {
+      writeOffset( response, upload, fileIndex, fileSize );
+    }
+  }
+
+  private static boolean isValid( int fileCount, long totalSize, int fileIndex, long fileSize ) {
+    return    fileCount > 0
+           && totalSize >= 0
+           && fileIndex >= 0
+           && fileIndex < fileCount
+           && fileSize >= 0
+           && fileSize <= totalSize;
+  }
+
+  private static boolean isFirstChunk( HttpServletRequest request, int fileIndex ) {
+    return    "POST".equalsIgnoreCase( request.getMethod() )
+           && fileIndex == 0
+           && "0".equals( request.getParameter( PARAMETER_OFFSET ) );
+  }
+
+  /*
+   * Answers a request for an upload that has not been started yet, or has expired, as if nothing
+   * of it has been received.
+   */
+  private static void writeUnknownUpload( HttpServletRequest request,
+                                          HttpServletResponse response,
+                                          int fileIndex ) throws IOException
+  {
+    if( fileIndex != 0 ) {
+      response.sendError( HttpServletResponse.SC_BAD_REQUEST, "Previous files are incomplete" );
+      return;
+    }
+    if( "POST".equalsIgnoreCase( request.getMethod() ) ) {
+      response.setStatus( HttpServletResponse.SC_CONFLICT );
+    }
+    writeOffset( response, 0 );
+  }
+
+  private static void handleChunk( HttpServletRequest request,
+                                   HttpServletResponse response,
+                                   ChunkedUpload upload,
+                                   int fileIndex,
+                                   long fileSize ) throws IOException
+  {
+    long offset;
+    try {
+      offset = Long.parseLong( request.getParameter( PARAMETER_OFFSET ) );
+    } catch( NumberFormatException exception ) {
+      response.sendError( HttpServletResponse.SC_BAD_REQUEST, "Invalid chunk offset" );
+      return;
+    }
+    int contentLength = request.getContentLength();
+    if( contentLength != -1 && offset + contentLength > fileSize ) {
+      response.sendError( HttpServletResponse.SC_BAD_REQUEST, "Chunk exceeds file size" );
+      return;
+    }
+    FileDetails details = createFileDetails( request );
+    boolean accepted;
+    try {
+      accepted = upload.append( fileIndex, offset, request.getInputStream(), details, fileSize );
+    } catch( IOException exception ) {
+      if( upload.isFailed() ) {
+        String message = exception.getMessage();
+        response.sendError( HttpServletResponse.SC_INTERNAL_SERVER_ERROR, message );
+        return;
+      }
+      // the client connection is broken, the client resumes the upload after reconnecting
+      throw exception;
+    } catch( RuntimeException exception ) {
+      String message = exception.getMessage();
+      response.sendError( HttpServletResponse.SC_INTERNAL_SERVER_ERROR, message );
+      return;
+    }
+    if( !accepted ) {
+      response.setStatus( HttpServletResponse.SC_CONFLICT );
+    }
+    writeOffset( response, upload, fileIndex, fileSize );
+  }
+
+  private static FileDetails createFileDetails( HttpServletRequest request ) {
+    String fileName = request.getParameter( PARAMETER_FILE_NAME );
+    String contentType = request.getParameter( PARAMETER_CONTENT_TYPE );
+    return new FileDetailsImpl( fileName == null ? null : stripFileName( fileName ), contentType );
+  }
+
+  private static void writeOffset( HttpServletResponse response,
+                                   ChunkedUpload upload,
+                                   int fileIndex,
+                                   long fileSize ) throws IOException
+  {
+    long offset = upload.getOffset( fileIndex, fileSize );
+    if( offset == -1 ) {
+      response.sendError( HttpServletResponse.SC_BAD_REQUEST, "Previous files are incomplete" );
+    } else {
+      writeOffset( response, offset );
+    }
+  }
+
+  private static void writeOffset( HttpServletResponse response, long offset ) throws IOException {
+    response.setContentType( "application/json" );
+    response.setCharacterEncoding( "UTF-8" );
+    new JsonObject().add( PARAMETER_OFFSET, offset ).writeTo( response.getWriter() );
+  }
+
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import static org.eclipse.rap.rwt.SingletonUtil.getUniqueInstance;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.fileupload.FileUploadHandler;
+import org.eclipse.rap.rwt.RWT;
+
+
+/*
+ * The chunked uploads by token of the upload handler and upload id. An upload is created by the
+ * first chunk that the client posts for it, and the number of uploads of a handler is limited.
+ *
+ * Uploads are kept after they have finished or failed for a while, so that repeated requests are
+ * answered consistently. Uploads that are not accessed within the idle timeout fail, the client
+ * has given up on them. Expired uploads are removed when an upload is created, all uploads of a
+ * handler are removed when it is disposed.
+ */
+final class ChunkedUploadStore {
+
+  static final int MAX_UPLOADS_PER_HANDLER = 16;
+  private static final long IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis( 10 );
+  private static final long RETENTION_TIME = TimeUnit.MINUTES.toMillis( 1 );
+
+  private final Map<String, Map<String, ChunkedUpload>> uploads;
+  private final long idleTimeout;
+  private final long retentionTime;
+
+  private ChunkedUploadStore() {
+    this( IDLE_TIMEOUT, RETENTION_TIME );
+  }
+
+  ChunkedUploadStore( long idleTimeout, long retentionTime ) {
+    this.idleTimeout = idleTimeout;
+    this.retentionTime = retentionTime;
+    uploads = new HashMap<>();
+  }
+
+  static ChunkedUploadStore getInstance() {
+    return getUniqueInstance( ChunkedUploadStore.class, RWT.getApplicationContext() );
+  }
+
+  /*
+   * Returns the upload with the given id, or null if it does not exist or has expired.
+   */
+  synchronized ChunkedUpload getUpload( String token, String uploadId ) {
+    Map<String, ChunkedUpload> handlerUploads = uploads.get( token );
+    ChunkedUpload result = handlerUploads == null ? null : handlerUploads.get( uploadId );
+    if( result != null ) {
+      if( expire( result, System.currentTimeMillis() ) ) {
+        removeUpload( token, uploadId );
+        result = null;
+      } else {
+        result.touch();
+      }
+    }
+    return result;
+  }
+
+  /*
+   * Creates an upload with the given id, unless it has been created concurrently. Returns null if
+   * the handler has reached the maximum number of uploads.
+   */
+  synchronized ChunkedUpload createUpload( String token,
+                                           String uploadId,
+                                           FileUploadHandler handler,
+                                           int fileCount,
+                                           long totalSize )
+  {
+    removeExpiredUploads();
+    Map<String, ChunkedUpload> handlerUploads = uploads.get( token );
+    if( handlerUploads == null ) {
+      handlerUploads = new HashMap<>();
+      uploads.put( token, handlerUploads );
+    }
+    ChunkedUpload result = handlerUploads.get( uploadId );
+    if( result == null && handlerUploads.size() < MAX_UPLOADS_PER_HANDLER ) {
+      result = new ChunkedUpload( handler, fileCount, totalSize );
+      handlerUploads.put( uploadId, result );
+    }
+    return result;
+  }
+
+  synchronized void removeUploads( String token ) {
+    Map<String, ChunkedUpload> handlerUploads = uploads.remove( token );
+    if( handlerUploads != null ) {
+      for( ChunkedUpload upload : handlerUploads.values() ) {
+        upload.dispose();
+      }
+    }
+  }
+
+  private void removeExpiredUploads() {
+    long now = System.currentTimeMillis();
+    Iterator<Map<String, ChunkedUpload>> tokenIterator = uploads.values().iterator();
+    while( tokenIterator.hasNext() ) {
+      Map<String, ChunkedUpload> handlerUploads = tokenIterator.next();
+      Iterator<ChunkedUpload> iterator = handlerUploads.values().iterator();
+      while( iterator.hasNext() ) {
+        if( expire( iterator.next(), now ) ) {
+          iterator.remove();
+        }
+      }
+      if( handlerUploads.isEmpty() ) {
+        tokenIterator.remove();
+      }
+    }
+  }
+
+  private void removeUpload( String token, String uploadId ) {
+    Map<String, ChunkedUpload> handlerUploads = uploads.get( token );
+    handlerUploads.remove( uploadId );
+    if( handlerUploads.isEmpty() ) {
+      uploads.remove( token );
+    }
+  }
+
+  private boolean expire( ChunkedUpload upload, long now ) {
+    if( upload.isExpired( now, idleTimeout, retentionTime ) ) {
+      upload.fail( new Exception( "Upload expired" ) );
+      upload.dispose();
+      return true;
+    }
+    return false;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -40,6 +40,7 @@ public final class FileUploadHandlerStore {
 
   public void deregisterHandler( String token ) {
     handlers.remove( token );
+    ChunkedUploadStore.getInstance().removeUploads( token );
   }
 
   public FileUploadHandler getHandler( String token ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -40,7 +40,8 @@ final class FileUploadProcessor {
     throws IOException
   {
     try {
-      ServletFileUpload upload = createUpload();
+      ThrottledProgressListener progressListener = createProgressListener();
+      ServletFileUpload upload = createUpload( progressListener );
       FileItemIterator iter = upload.getItemIterator( request );
       while( iter.hasNext() ) {
         FileItemStream item = iter.next();
@@ -54,6 +55,7 @@ final class FileUploadProcessor {
         tracker.handleFailed();
         response.sendError( HttpServletResponse.SC_BAD_REQUEST, errorMessage );
       } else {
+        progressListener.complete();
         tracker.handleFinished();
       }
     } catch( Exception exception ) {
@@ -70,32 +72,17 @@ final class FileUploadProcessor {
     }
   }
 
-  private ServletFileUpload createUpload() {
+  private ThrottledProgressListener createProgressListener() {
+    return new ThrottledProgressListener( tracker, handler.getProgressInterval() );
+  }
+
+  private ServletFileUpload createUpload( ProgressListener progressListener ) {
     ServletFileUpload upload = new ServletFileUpload();
     upload.setFileSizeMax( handler.getMaxFileSize() );
-    upload.setProgressListener( createProgressListener() );
+    upload.setProgressListener( progressListener );
     return upload;
   }
 
-  private ProgressListener createProgressListener() {
-    ProgressListener result = new ProgressListener() {
-      long prevTotalBytesRead = -1;
-      @Override
-      public void update( long totalBytesRead, long contentLength, int item ) {
-        // Depending on the servlet engine and other environmental factors,
-        // this listener may be notified for every network packet, so don't notify unless there
-        // is an actual increase.
-        if ( totalBytesRead > prevTotalBytesRead ) {
-          prevTotalBytesRead = totalBytesRead;
-          tracker.setContentLength( contentLength );
-          tracker.setBytesRead( totalBytesRead );
-          tracker.handleProgress();
-        }
-      }
-    };
-    return result;
-  }
-
   private void receive( FileItemStream item ) throws IOException {
     InputStream stream = item.openStream();
     try {
@@ -110,7 +97,7 @@ final class FileUploadProcessor {
     }
   }
 
-  private static String stripFileName( String name ) {
+  static String stripFileName( String name ) {
     String result = name;
     int lastSlash = result.lastIndexOf( '/' );
     if( lastSlash != -1 ) {
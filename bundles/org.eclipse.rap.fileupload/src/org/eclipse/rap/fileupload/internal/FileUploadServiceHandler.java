@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 EclipseSource and others.
+ * Copyright (c) 2002, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -44,6 +44,9 @@ public final class FileUploadServiceHandler implements ServiceHandler {
       if( registeredHandler == null ) {
         String message = "Invalid or missing token";
         response.sendError( HttpServletResponse.SC_FORBIDDEN, message );
+      } else if( ChunkedUploadProcessor.isChunkedUpload( request ) ) {
+        ChunkedUploadProcessor processor = new ChunkedUploadProcessor( registeredHandler, token );
+        processor.handleRequest( request, response );
       } else if( !"POST".equals( request.getMethod().toUpperCase() ) ) {
         String message = "Only POST requests allowed";
         response.sendError( HttpServletResponse.SC_METHOD_NOT_ALLOWED, message );
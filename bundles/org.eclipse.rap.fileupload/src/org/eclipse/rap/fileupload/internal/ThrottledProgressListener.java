@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import org.apache.commons.fileupload.ProgressListener;
+
+
+/*
+ * Depending on the servlet engine and other environmental factors, a progress listener may be
+ * notified for every network packet. Progress is only reported if there is an actual increase, and
+ * at most once per interval except for the first and the last data of an upload. The last data is
+ * only recognized if the content length is known, otherwise complete has to be called when the
+ * upload has been received.
+ */
+final class ThrottledProgressListener implements ProgressListener {
+
+  private final FileUploadTracker tracker;
+  private final long interval;
+  private long prevTotalBytesRead;
+  private long prevTime;
+  private long lastTotalBytesRead;
+  private long lastContentLength;
+
+  ThrottledProgressListener( FileUploadTracker tracker, long interval ) {
+    this.tracker = tracker;
+    this.interval = interval;
+    prevTotalBytesRead = -1;
+    lastTotalBytesRead = -1;
+  }
+
+  @Override
+  public void update( long totalBytesRead, long contentLength, int item ) {
+    update( totalBytesRead, contentLength, System.currentTimeMillis() );
+  }
+
+  void update( long totalBytesRead, long contentLength, long time ) {
+    lastTotalBytesRead = totalBytesRead;
+    lastContentLength = contentLength;
+    if( totalBytesRead > prevTotalBytesRead && isDue( totalBytesRead, contentLength, time ) ) {
+      report( totalBytesRead, contentLength, time );
+    }
+  }
+
+  /*
+   * Reports the last update if it has been skipped.
+   */
+  void complete() {
+    if( lastTotalBytesRead > prevTotalBytesRead ) {
+      report( lastTotalBytesRead, lastContentLength, prevTime );
+    }
+  }
+
+  private void report( long totalBytesRead, long contentLength, long time ) {
+    prevTotalBytesRead = totalBytesRead;
+    prevTime = time;
+    tracker.setContentLength( contentLength );
+    tracker.setBytesRead( totalBytesRead );
+    tracker.handleProgress();
+  }
+
+  private boolean isDue( long totalBytesRead, long contentLength, long time ) {
+    return    prevTotalBytesRead == -1
+           || totalBytesRead == contentLength
+           || time - prevTime >= interval;
+  }
+
+}
@@ -43,6 +43,9 @@ import org.eclipse.swt.widgets.Widget;
  * ITreeContentProvider} interface. Instead a {@link GridTreeViewer} should be
  * used.
  * <p>
+ * Users setting up a viewer on a grid with the {@code SWT.VIRTUAL} style bit
+ * can use an {@code ILazyContentProvider} to populate the rows on demand.
+ * <p>
  */
 public class GridTableViewer extends AbstractTableViewer {
 	/** This viewer's grid control. */
@@ -133,19 +136,19 @@ public class GridTableViewer extends AbstractTableViewer {
 	/** {@inheritDoc} */
 	@Override
   protected void doClear(int index) {
-		// TODO Fix when grid supports virtual
+		grid.clear(index, false);
 	}
 
 	/** {@inheritDoc} */
 	@Override
   protected void doClearAll() {
-		// TODO Fix when grid supports virtual
+		grid.clearAll(false);
 	}
 
 	/** {@inheritDoc} */
 	@Override
   protected void doSetItemCount(int count) {
-		// TODO Once grid supports virtual
+		grid.setItemCount(count);
 	}
 
 	/** {@inheritDoc} */
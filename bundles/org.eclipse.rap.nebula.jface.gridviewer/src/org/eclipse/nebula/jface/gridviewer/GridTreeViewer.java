@@ -20,19 +20,29 @@ import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.CellLabelProvider;
 import org.eclipse.jface.viewers.ColumnViewerEditor;
 import org.eclipse.jface.viewers.ColumnViewerEditorActivationStrategy;
+import org.eclipse.jface.viewers.IContentProvider;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
 import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.TreeSelection;
 import org.eclipse.jface.viewers.ViewerCell;
 import org.eclipse.jface.viewers.ViewerRow;
 import org.eclipse.nebula.widgets.grid.Grid;
 import org.eclipse.nebula.widgets.grid.GridItem;
+import org.eclipse.nebula.widgets.grid.internal.IGridItemAdapter;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.DisposeEvent;
+import org.eclipse.swt.events.DisposeListener;
+import org.eclipse.swt.events.TreeEvent;
 import org.eclipse.swt.events.TreeListener;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.swt.widgets.Widget;
@@ -47,7 +57,11 @@ import org.eclipse.swt.widgets.Widget;
  * <p>
  * Content providers for grid tree viewers must implement the
  * {@link ITreeContentProvider} interface.
- * <p><b>The current implementation does not support lazy content providers.</b></p>
+ * <p>
+ * Users setting up a viewer on a grid with the {@code SWT.VIRTUAL} style bit
+ * can use an {@link ILazyTreeContentProvider} to populate the items on demand.
+ * Lazy tree path content providers are not supported.
+ * </p>
  */
 public class GridTreeViewer extends AbstractTreeViewer {
 	
@@ -64,6 +78,19 @@ public class GridTreeViewer extends AbstractTreeViewer {
 	
 	private CellLabelProvider rowHeaderLabelProvider;
 
+	private static final String VIRTUAL_DISPOSE_KEY = "org.eclipse.nebula.jface.gridviewer.DISPOSE_LISTENER"; //$NON-NLS-1$
+
+	/**
+	 * Flag for whether the grid has been disposed of.
+	 */
+	private boolean gridIsDisposed = false;
+
+	private boolean contentProviderIsLazy;
+
+	/**
+	 * true if we are inside a preservingSelection() call
+	 */
+	private boolean insidePreservingSelection;
 
 	/**
      * Creates a grid tree viewer on a newly-created grid control under the given
@@ -116,6 +143,31 @@ public class GridTreeViewer extends AbstractTreeViewer {
 		return grid;
 	}
 	
+	/** {@inheritDoc} */
+	protected void hookControl(Control control) {
+		super.hookControl(control);
+		Grid gridControl = (Grid) control;
+
+		if ((gridControl.getStyle() & SWT.VIRTUAL) != 0) {
+			gridControl.addDisposeListener(new DisposeListener() {
+				public void widgetDisposed(DisposeEvent e) {
+					gridIsDisposed = true;
+					unmapAllElements();
+				}
+			});
+			gridControl.addListener(SWT.SetData, new Listener() {
+				public void handleEvent(Event event) {
+					if (contentProviderIsLazy) {
+						GridItem item = (GridItem) event.item;
+						GridItem parentItem = item.getParentItem();
+						virtualLazyUpdateWidget(parentItem == null ? (Widget) getGrid()
+								: parentItem, event.index);
+					}
+				}
+			});
+		}
+	}
+
 	/** {@inheritDoc} */
 	protected Item getItemAt(Point point) {
 		return grid.getItem(point);
@@ -144,6 +196,17 @@ public class GridTreeViewer extends AbstractTreeViewer {
 		return null;
 	}
 	
+	/** {@inheritDoc} */
+	protected Item getChild(Widget widget, int index) {
+		if (widget instanceof GridItem) {
+			return ((GridItem) widget).getItem(index);
+		}
+		if (widget instanceof Grid) {
+			return ((Grid) widget).getRootItem(index);
+		}
+		return null;
+	}
+
 	/** {@inheritDoc} */
 	protected boolean getExpanded(Item item) {
 		return ((GridItem) item).isExpanded();
@@ -392,6 +455,567 @@ public class GridTreeViewer extends AbstractTreeViewer {
 		});
 	}
 	
+	/** {@inheritDoc} */
+	public void setContentProvider(IContentProvider provider) {
+		contentProviderIsLazy = provider instanceof ILazyTreeContentProvider;
+		super.setContentProvider(provider);
+	}
+
+	/** {@inheritDoc} */
+	protected void assertContentProviderType(IContentProvider provider) {
+		if (provider instanceof ILazyTreeContentProvider) {
+			return;
+		}
+		super.assertContentProviderType(provider);
+	}
+
+	/** {@inheritDoc} */
+	protected Object[] getRawChildren(Object parent) {
+		if (contentProviderIsLazy) {
+			return new Object[0];
+		}
+		return super.getRawChildren(parent);
+	}
+
+	/** {@inheritDoc} */
+	protected void preservingSelection(Runnable updateCode) {
+		if (insidePreservingSelection) {
+			// avoid preserving the selection if called reentrantly
+			updateCode.run();
+			return;
+		}
+		insidePreservingSelection = true;
+		try {
+			super.preservingSelection(updateCode);
+		} finally {
+			insidePreservingSelection = false;
+		}
+	}
+
+	/**
+	 * For a GridTreeViewer with a grid with the VIRTUAL style bit set, set the
+	 * number of children of the given element or tree path. To set the number
+	 * of children of the invisible root of the tree, you can pass the input
+	 * object or an empty tree path.
+	 *
+	 * @param elementOrTreePath
+	 *            the element, or tree path
+	 * @param count
+	 *            the number of children
+	 */
+	public void setChildCount(final Object elementOrTreePath, final int count) {
+		if (checkBusy())
+			return;
+		preservingSelection(new Runnable() {
+			public void run() {
+				if (internalIsInputOrEmptyPath(elementOrTreePath)) {
+					setRootItemCount(count);
+					return;
+				}
+				Widget[] items = internalFindItems(elementOrTreePath);
+				for (int i = 0; i < items.length; i++) {
+					GridItem gridItem = (GridItem) items[i];
+					gridItem.setItemCount(count);
+				}
+			}
+		});
+	}
+
+	/**
+	 * For a GridTreeViewer with a grid with the VIRTUAL style bit set, replace
+	 * the given parent's child at index with the given element. If the given
+	 * parent is this viewer's input or an empty tree path, this will replace
+	 * the root element at the given index.
+	 * <p>
+	 * This method should be called by implementers of ILazyTreeContentProvider
+	 * to populate this viewer.
+	 * </p>
+	 *
+	 * @param parentElementOrTreePath
+	 *            the parent of the element that should be updated, or the tree
+	 *            path to that parent
+	 * @param index
+	 *            the index in the parent's children
+	 * @param element
+	 *            the new element
+	 *
+	 * @see #setChildCount(Object, int)
+	 * @see ILazyTreeContentProvider
+	 */
+	public void replace(final Object parentElementOrTreePath, final int index,
+			final Object element) {
+		if (checkBusy())
+			return;
+		Item[] selectedItems = getSelection(getControl());
+		TreeSelection selection = (TreeSelection) getSelection();
+		Widget[] itemsToDisassociate;
+		if (parentElementOrTreePath instanceof TreePath) {
+			TreePath elementPath = ((TreePath) parentElementOrTreePath)
+					.createChildPath(element);
+			itemsToDisassociate = internalFindItems(elementPath);
+		} else {
+			itemsToDisassociate = internalFindItems(element);
+		}
+		if (internalIsInputOrEmptyPath(parentElementOrTreePath)) {
+			if (index < grid.getRootItemCount()) {
+				GridItem item = grid.getRootItem(index);
+				selection = adjustSelectionForReplace(selectedItems, selection,
+						item, element, getRoot());
+				replaceItem(item, element, itemsToDisassociate);
+			}
+		} else {
+			Widget[] parentItems = internalFindItems(parentElementOrTreePath);
+			for (int i = 0; i < parentItems.length; i++) {
+				GridItem parentItem = (GridItem) parentItems[i];
+				if (index < parentItem.getItemCount()) {
+					GridItem item = parentItem.getItem(index);
+					selection = adjustSelectionForReplace(selectedItems,
+							selection, item, element, parentItem.getData());
+					replaceItem(item, element, itemsToDisassociate);
+				}
+			}
+		}
+		// Restore the selection if we are not already in a nested
+		// preservingSelection:
+		if (!insidePreservingSelection) {
+			setSelectionToWidget(selection, false);
+			// send out notification if old and new differ
+			ISelection newSelection = getSelection();
+			if (!newSelection.equals(selection)) {
+				handleInvalidSelection(selection, newSelection);
+			}
+		}
+	}
+
+	/**
+	 * For a GridTreeViewer with a grid with the VIRTUAL style bit set, inform
+	 * the viewer about whether the given element or tree path has children.
+	 * Avoid calling this method if the number of children has already been
+	 * set.
+	 *
+	 * @param elementOrTreePath
+	 *            the element, or tree path
+	 * @param hasChildren
+	 *            whether the element has children
+	 */
+	public void setHasChildren(final Object elementOrTreePath,
+			final boolean hasChildren) {
+		if (checkBusy())
+			return;
+		preservingSelection(new Runnable() {
+			public void run() {
+				if (internalIsInputOrEmptyPath(elementOrTreePath)) {
+					if (hasChildren) {
+						virtualLazyUpdateChildCount(getGrid(),
+								getChildren(getGrid()).length);
+					} else {
+						setChildCount(elementOrTreePath, 0);
+					}
+					return;
+				}
+				Widget[] items = internalFindItems(elementOrTreePath);
+				for (int i = 0; i < items.length; i++) {
+					GridItem item = (GridItem) items[i];
+					if (!hasChildren) {
+						item.setItemCount(0);
+					} else if (!item.isExpanded()) {
+						item.setItemCount(1);
+						GridItem child = item.getItem(0);
+						if (child.getData() != null) {
+							disassociate(child);
+						}
+						item.clear(0, true);
+					} else {
+						virtualLazyUpdateChildCount(item, item.getItemCount());
+					}
+				}
+			}
+		});
+	}
+
+	/** {@inheritDoc} */
+	public boolean isExpandable(Object element) {
+		if (contentProviderIsLazy) {
+			GridItem gridItem = (GridItem) internalExpand(element, false);
+			if (gridItem == null) {
+				return false;
+			}
+			virtualMaterializeItem(gridItem);
+			return gridItem.getItemCount() > 0;
+		}
+		return super.isExpandable(element);
+	}
+
+	/** {@inheritDoc} */
+	protected Object getParentElement(Object element) {
+		if (contentProviderIsLazy && !(element instanceof TreePath)) {
+			boolean oldBusy = isBusy();
+			setBusy(true);
+			try {
+				return ((ILazyTreeContentProvider) getContentProvider())
+						.getParent(element);
+			} finally {
+				setBusy(oldBusy);
+			}
+		}
+		return super.getParentElement(element);
+	}
+
+	/** {@inheritDoc} */
+	protected void createChildren(Widget widget) {
+		if (contentProviderIsLazy) {
+			virtualCreateChildren(widget, true);
+			return;
+		}
+		super.createChildren(widget);
+	}
+
+	/** {@inheritDoc} */
+	protected void internalExpandToLevel(Widget widget, int level) {
+		if (!contentProviderIsLazy) {
+			super.internalExpandToLevel(widget, level);
+			return;
+		}
+		if (level == ALL_LEVELS || level > 0) {
+			if (widget instanceof Item && widget.getData() != null
+					&& !isExpandable(widget.getData())) {
+				return;
+			}
+			virtualCreateChildren(widget, false);
+			if (widget instanceof Item) {
+				setExpanded((Item) widget, true);
+			}
+			if (level == ALL_LEVELS || level > 1) {
+				Item[] children = getChildren(widget);
+				int newLevel = (level == ALL_LEVELS ? ALL_LEVELS : level - 1);
+				for (int i = 0; i < children.length; i++) {
+					internalExpandToLevel(children[i], newLevel);
+				}
+			}
+		}
+	}
+
+	/** {@inheritDoc} */
+	protected void internalAdd(Widget widget, Object parentElement,
+			Object[] childElements) {
+		if (contentProviderIsLazy) {
+			if (widget instanceof GridItem) {
+				GridItem gridItem = (GridItem) widget;
+				gridItem.setItemCount(gridItem.getItemCount()
+						+ childElements.length);
+				gridItem.clearAll(false);
+			} else {
+				setRootItemCount(grid.getRootItemCount() + childElements.length);
+				clearRootItems(false);
+			}
+			return;
+		}
+		super.internalAdd(widget, parentElement, childElements);
+	}
+
+	/** {@inheritDoc} */
+	protected void internalRefresh(Widget widget, Object element,
+			boolean doStruct, boolean updateLabels) {
+		if (contentProviderIsLazy && doStruct) {
+			if (widget instanceof Item) {
+				updatePlus((Item) widget, element);
+				doUpdateItem(widget, element, true);
+			}
+			// clear all starting with the given widget
+			int index = 0;
+			Widget parent = null;
+			if (widget instanceof GridItem) {
+				GridItem gridItem = (GridItem) widget;
+				gridItem.clearAll(true);
+				parent = gridItem.getParentItem();
+				if (parent == null) {
+					parent = gridItem.getParent();
+				}
+				index = indexOf(gridItem);
+			} else {
+				clearRootItems(true);
+			}
+			virtualRefreshExpandedItems(parent, widget, element, index);
+			return;
+		}
+		super.internalRefresh(widget, element, doStruct, updateLabels);
+	}
+
+	/** {@inheritDoc} */
+	protected void internalInitializeTree(Control widget) {
+		if (contentProviderIsLazy) {
+			if (widget instanceof Grid && widget.getData() != null) {
+				virtualLazyUpdateChildCount(widget, 0);
+				return;
+			}
+		}
+		super.internalInitializeTree(widget);
+	}
+
+	/** {@inheritDoc} */
+	protected void updatePlus(Item item, Object element) {
+		if (contentProviderIsLazy) {
+			Object data = item.getData();
+			int itemCount = 0;
+			if (data != null) {
+				// item is already materialized
+				itemCount = ((GridItem) item).getItemCount();
+			}
+			virtualLazyUpdateChildCount(item, itemCount);
+		} else {
+			super.updatePlus(item, element);
+		}
+	}
+
+	/** {@inheritDoc} */
+	protected void handleTreeExpand(TreeEvent event) {
+		if (contentProviderIsLazy) {
+			if (event.item.getData() != null) {
+				Item[] children = getChildren(event.item);
+				if (children.length == 1 && children[0].getData() == null) {
+					// we have a dummy child node, ask for an updated child
+					// count
+					virtualLazyUpdateChildCount(event.item, children.length);
+				}
+				fireTreeExpanded(new TreeExpansionEvent(this, event.item
+						.getData()));
+			}
+			return;
+		}
+		super.handleTreeExpand(event);
+	}
+
+	/** {@inheritDoc} */
+	protected void disassociate(Item item) {
+		if (contentProviderIsLazy) {
+			// avoid causing a callback:
+			item.setText(" "); //$NON-NLS-1$
+		}
+		super.disassociate(item);
+	}
+
+	/*
+	 * To unmap elements correctly, we need to register a dispose listener with
+	 * the item if the grid is virtual.
+	 */
+	protected void mapElement(Object element, final Widget item) {
+		super.mapElement(element, item);
+		// make sure to unmap elements if the grid is virtual
+		if ((getGrid().getStyle() & SWT.VIRTUAL) != 0) {
+			// only add a dispose listener if item hasn't already on assigned
+			// because it is reused
+			if (item.getData(VIRTUAL_DISPOSE_KEY) == null) {
+				item.setData(VIRTUAL_DISPOSE_KEY, Boolean.TRUE);
+				item.addDisposeListener(new DisposeListener() {
+					public void widgetDisposed(DisposeEvent e) {
+						if (!gridIsDisposed) {
+							Object data = item.getData();
+							if (usingElementMap() && data != null) {
+								unmapElement(data, item);
+							}
+						}
+					}
+				});
+			}
+		}
+	}
+
+	private void virtualCreateChildren(Widget widget, boolean materialize) {
+		Object element = widget.getData();
+		if (element == null && widget instanceof GridItem) {
+			// parent has not been materialized
+			virtualMaterializeItem((GridItem) widget);
+			// try getting the element now that updateElement was called
+			element = widget.getData();
+		}
+		if (element == null) {
+			// give up because the parent is still not materialized
+			return;
+		}
+		Item[] children = getChildren(widget);
+		if (children.length == 1 && children[0].getData() == null) {
+			// found a dummy node
+			virtualLazyUpdateChildCount(widget, children.length);
+			children = getChildren(widget);
+		}
+		// touch all children to make sure they are materialized
+		for (int i = 0; i < children.length; i++) {
+			if (children[i].getData() == null) {
+				if (materialize) {
+					virtualLazyUpdateWidget(widget, i);
+				} else {
+					((GridItem) children[i]).clearAll(true);
+				}
+			}
+		}
+	}
+
+	private void virtualMaterializeItem(GridItem gridItem) {
+		if (gridItem.getData() != null) {
+			// already materialized
+			return;
+		}
+		if (!contentProviderIsLazy) {
+			return;
+		}
+		Widget parent = gridItem.getParentItem();
+		if (parent == null) {
+			parent = gridItem.getParent();
+		}
+		if (parent.getData() != null) {
+			virtualLazyUpdateWidget(parent, indexOf(gridItem));
+		}
+	}
+
+	/**
+	 * Traverses the visible (expanded) part of the tree and updates child
+	 * counts.
+	 *
+	 * @param parent the parent of the widget, or <code>null</code> if the widget is the grid
+	 * @param widget
+	 * @param element
+	 * @param index the index of the widget in the children array of its parent, or 0 if the widget is the grid
+	 */
+	private void virtualRefreshExpandedItems(Widget parent, Widget widget,
+			Object element, int index) {
+		if (widget instanceof Grid) {
+			if (element == null) {
+				setRootItemCount(0);
+				return;
+			}
+			virtualLazyUpdateChildCount(widget, getChildren(widget).length);
+		} else if (((GridItem) widget).isExpanded()) {
+			// prevent SetData callback
+			((GridItem) widget).setText(" "); //$NON-NLS-1$
+			virtualLazyUpdateWidget(parent, index);
+		} else {
+			return;
+		}
+		Item[] items = getChildren(widget);
+		for (int i = 0; i < items.length; i++) {
+			Item item = items[i];
+			virtualRefreshExpandedItems(widget, item, item.getData(), i);
+		}
+	}
+
+	/**
+	 * Update the widget at index.
+	 * @param widget
+	 * @param index
+	 */
+	private void virtualLazyUpdateWidget(Widget widget, int index) {
+		boolean oldBusy = isBusy();
+		setBusy(false);
+		try {
+			((ILazyTreeContentProvider) getContentProvider()).updateElement(
+					widget.getData(), index);
+		} finally {
+			setBusy(oldBusy);
+		}
+	}
+
+	/**
+	 * Update the child count
+	 * @param widget
+	 * @param currentChildCount
+	 */
+	private void virtualLazyUpdateChildCount(Widget widget,
+			int currentChildCount) {
+		boolean oldBusy = isBusy();
+		setBusy(false);
+		try {
+			((ILazyTreeContentProvider) getContentProvider()).updateChildCount(
+					widget.getData(), currentChildCount);
+		} finally {
+			setBusy(oldBusy);
+		}
+	}
+
+	/**
+	 * If the currently replaced item was selected, add it to the selection
+	 * that is being restored. Only do this if its getData() is currently null.
+	 */
+	private TreeSelection adjustSelectionForReplace(Item[] selectedItems,
+			TreeSelection selection, GridItem item, Object element,
+			Object parentElement) {
+		if (item.getData() != null || selectedItems.length == selection.size()
+				|| parentElement == null) {
+			return selection;
+		}
+		for (int i = 0; i < selectedItems.length; i++) {
+			if (item == selectedItems[i]) {
+				// The current item was selected, but its data is null.
+				// The data will be replaced by the given element, so to keep
+				// it selected, we have to add it to the selection.
+				TreePath[] originalPaths = selection.getPaths();
+				int length = originalPaths.length;
+				TreePath[] paths = new TreePath[length + 1];
+				System.arraycopy(originalPaths, 0, paths, 0, length);
+				// set the element temporarily so that we can call
+				// getTreePathFromItem
+				item.setData(element);
+				paths[length] = getTreePathFromItem(item);
+				item.setData(null);
+				return new TreeSelection(paths, selection.getElementComparer());
+			}
+		}
+		// The item was not selected, return the given selection
+		return selection;
+	}
+
+	private void replaceItem(GridItem item, Object element,
+			Widget[] itemsToDisassociate) {
+		// disassociate any different item that represents the same element
+		// under the same parent
+		for (int i = 0; i < itemsToDisassociate.length; i++) {
+			if (itemsToDisassociate[i] instanceof GridItem) {
+				GridItem itemToDisassociate = (GridItem) itemsToDisassociate[i];
+				if (itemToDisassociate != item
+						&& itemToDisassociate.getParentItem() == item
+								.getParentItem()) {
+					disassociate(itemToDisassociate);
+					clear(itemToDisassociate);
+				}
+			}
+		}
+		Object oldData = item.getData();
+		updateItem(item, element);
+		if (!GridTreeViewer.this.equals(oldData, element)) {
+			item.clearAll(true);
+		}
+	}
+
+	private void clear(GridItem item) {
+		GridItem parentItem = item.getParentItem();
+		if (parentItem == null) {
+			grid.clear(grid.indexOf(item), true);
+		} else {
+			parentItem.clear(parentItem.indexOf(item), true);
+		}
+	}
+
+	private void clearRootItems(boolean allChildren) {
+		GridItem[] rootItems = grid.getRootItems();
+		for (int i = 0; i < rootItems.length; i++) {
+			grid.clear(grid.indexOf(rootItems[i]), allChildren);
+		}
+	}
+
+	private void setRootItemCount(int count) {
+		int itemCount = Math.max(0, count);
+		while (itemCount < grid.getRootItemCount()) {
+			grid.getRootItem(grid.getRootItemCount() - 1).dispose();
+		}
+		while (itemCount > grid.getRootItemCount()) {
+			new GridItem(grid, SWT.NONE);
+		}
+	}
+
+	private static int indexOf(GridItem item) {
+		// the index cached in the item, root items have no parent to ask
+		return item.getAdapter(IGridItemAdapter.class).getIndex();
+	}
+
 	/**
 	 * Label provider used by calculate the row header text
 	 * 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import org.eclipse.nebula.widgets.grid.internal.GridCellStore;
 import org.eclipse.nebula.widgets.grid.internal.IGridAdapter;
 import org.eclipse.nebula.widgets.grid.internal.IScrollBarProxy;
 import org.eclipse.nebula.widgets.grid.internal.NullScrollBarProxy;
@@ -78,6 +79,10 @@ public class Grid extends Composite {
   private List<GridColumn> columns = new ArrayList<GridColumn>();
   private List<GridColumn> displayOrderedColumns = new ArrayList<GridColumn>();
   private List<GridColumnGroup> columnGroups = new ArrayList<GridColumnGroup>();
+  private GridCellStore cellStore = new GridCellStore( 0 );
+  // the items before these indices have an up-to-date flatIndex respectively index
+  private int validFlatIndices;
+  private int validRootIndices;
   private GridItem focusItem;
   private boolean isTree;
   private boolean disposing;
@@ -90,6 +95,7 @@ public class Grid extends Composite {
   private boolean selectionEnabled = true;
   private boolean cellSelectionEnabled;
   private int customItemHeight = -1;
+  private int preloadedItems;
   private int groupHeaderHeight;
   private Point itemImageSize;
   private Listener resizeListener;
@@ -444,7 +450,7 @@ public class Grid extends Composite {
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    return item.getParent() == this ? items.indexOf( item ) : -1;
+    return item.getParent() == this ? internalIndexOf( item ) : -1;
   }
 
   /**
@@ -512,7 +518,7 @@ public class Grid extends Composite {
   public GridItem getNextVisibleItem( GridItem item ) {
     checkWidget();
     GridItem result = null;
-    int index = items.indexOf( item );
+    int index = internalIndexOf( item );
     if( index != items.size() - 1 ) {
       result = items.get( index + 1 );
       while( result != null && !result.isVisible() ) {
@@ -547,7 +553,7 @@ public class Grid extends Composite {
     if( item == null ) {
       index = items.size();
     } else {
-      index = items.indexOf( item );
+      index = internalIndexOf( item );
     }
     if( index > 0 ) {
       result = items.get( index - 1 );
@@ -1418,7 +1424,7 @@ public class Grid extends Composite {
           if( item.isDisposed() ) {
             SWT.error( SWT.ERROR_INVALID_ARGUMENT );
           }
-          internalSelect( this.items.indexOf( item ) );
+          internalSelect( internalIndexOf( item ) );
         }
       }
     }
@@ -1520,7 +1526,7 @@ public class Grid extends Composite {
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        result = items.indexOf( selectedItems.get( 0 ) );
+        result = internalIndexOf( selectedItems.get( 0 ) );
       }
     }
     return result;
@@ -1559,13 +1565,13 @@ public class Grid extends Composite {
       result = new int[ selectedRows.size() ];
       for( int i = 0; i < result.length; i++ ) {
         GridItem item = selectedRows.get( i );
-        result[ i ] = items.indexOf( item );
+        result[ i ] = internalIndexOf( item );
       }
     } else {
       result = new int[ selectedItems.size() ];
       for( int i = 0; i < result.length; i++ ) {
         GridItem item = selectedItems.get( i );
-        result[ i ] = items.indexOf( item );
+        result[ i ] = internalIndexOf( item );
       }
     }
     return result;
@@ -1627,7 +1633,7 @@ public class Grid extends Composite {
     }
     boolean result = false;
     if( cellSelectionEnabled ) {
-      int index = items.indexOf( item );
+      int index = internalIndexOf( item );
       if( index != -1 ) {
         for( Point cell : selectedCells ) {
           if( cell.y == index ) {
@@ -2078,7 +2084,7 @@ public class Grid extends Composite {
             if( item.isVisible() ) {
               row--;
               if( row == 0 ) {
-                firstVisibleIndex = items.indexOf( item );
+                firstVisibleIndex = internalIndexOf( item );
               }
             }
           }
@@ -2126,7 +2132,7 @@ public class Grid extends Composite {
           parent = parent.getParentItem();
         }
         if( !isShown( item ) ) {
-          setTopIndex( items.indexOf( item ) );
+          setTopIndex( internalIndexOf( item ) );
         }
       }
     }
@@ -2255,6 +2261,9 @@ public class Grid extends Composite {
 
   @Override
   public void setData( String key, Object value ) {
+    if( RWT.PRELOADED_ITEMS.equals( key ) ) {
+      setPreloadedItems( value );
+    }
     if( !RWT.MARKUP_ENABLED.equals( key ) || !isMarkupEnabledFor( this ) ) {
       super.setData( key, value );
     }
@@ -2273,7 +2282,7 @@ public class Grid extends Composite {
       if( index >= rootItems.size() ) {
         flatIndex = -1;
       } else {
-        flatIndex = items.indexOf( rootItems.get( index ) );
+        flatIndex = internalIndexOf( rootItems.get( index ) );
       }
     } else if( !root ) {
       if( index >= parentItem.getItemCount() || index == -1 ) {
@@ -2282,9 +2291,9 @@ public class Grid extends Composite {
           int lastChildIndex = rightMostDescendent.getItemCount() - 1;
           rightMostDescendent = rightMostDescendent.getItem( lastChildIndex );
         }
-        flatIndex = items.indexOf( rightMostDescendent ) + 1;
+        flatIndex = internalIndexOf( rightMostDescendent ) + 1;
       } else {
-        flatIndex = items.indexOf( parentItem.getItem( index ) );
+        flatIndex = internalIndexOf( parentItem.getItem( index ) );
       }
     }
     if( flatIndex == -1 ) {
@@ -2294,6 +2303,8 @@ public class Grid extends Composite {
       items.add( flatIndex, item );
       row = flatIndex;
     }
+    item.flatIndex = row;
+    validFlatIndices = Math.min( validFlatIndices, row );
     updateVisibleItems( 1 );
     scheduleRedraw();
     return row;
@@ -2301,6 +2312,8 @@ public class Grid extends Composite {
 
   void removeItem( int index ) {
     GridItem item = items.remove( index );
+    item.flatIndex = -1;
+    validFlatIndices = Math.min( validFlatIndices, index );
     if( !disposing ) {
       selectedItems.remove (item );
 // TODO: [if] Implement cell selection
@@ -2326,18 +2339,22 @@ public class Grid extends Composite {
       rootItems.add( index, item );
       item.index = index;
     }
-    adjustItemIndices( item.index + 1 );
+    validRootIndices = Math.min( validRootIndices, item.index );
   }
 
   void removeRootItem( int index ) {
     rootItems.remove( index );
-    adjustItemIndices( index );
+    validRootIndices = Math.min( validRootIndices, index );
   }
 
-  private void adjustItemIndices( int start ) {
-    for( int i = start; i < rootItems.size(); i++ ) {
-      rootItems.get( i ).index = i;
+  int rootIndexOf( GridItem item ) {
+    if( item.index >= validRootIndices ) {
+      for( int i = validRootIndices; i < rootItems.size(); i++ ) {
+        rootItems.get( i ).index = i;
+      }
+      validRootIndices = rootItems.size();
     }
+    return item.index;
   }
 
   int newColumn( GridColumn column, int index ) {
@@ -2349,8 +2366,8 @@ public class Grid extends Composite {
       displayOrderedColumns.add( index, column );
     }
     updatePrimaryCheckColumn();
-    for( GridItem item : items ) {
-      item.columnAdded( index );
+    if( columns.size() > 1 ) {
+      cellStore.addColumn( index );
     }
     if( column.isCheck() ) {
       layoutCache.invalidateItemHeight();
@@ -2366,8 +2383,8 @@ public class Grid extends Composite {
     columns.remove( index );
     displayOrderedColumns.remove( column );
     updatePrimaryCheckColumn();
-    for( GridItem item : items ) {
-      item.columnRemoved( index );
+    if( columns.size() > 0 ) {
+      cellStore.removeColumn( index );
     }
     if( column.isCheck() ) {
       layoutCache.invalidateItemHeight();
@@ -2447,7 +2464,7 @@ public class Grid extends Composite {
         y += getHeaderHeight();
       }
       int topIndex = getTopIndex();
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -2474,7 +2491,7 @@ public class Grid extends Composite {
     checkWidget();
     boolean result = false;
     if( item.isVisible() ) {
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -2487,16 +2504,56 @@ public class Grid extends Composite {
   }
 
   private void doRedraw() {
+    checkData();
+    updateScrollBars();
+  }
+
+  void checkData() {
     if( isVirtual() && items.size() > 0 ) {
-      for( int index = getTopIndex(); index <= getBottomIndex(); index++ ) {
-        GridItem item = items.get( index );
-        if( item.isVisible() ) {
-          item.ensureItemData();
-          item.handleVirtual();
+      int index = getTopIndex();
+      int preloadedAbove = 0;
+      while( preloadedAbove < preloadedItems && index > 0 ) {
+        index--;
+        if( items.get( index ).isVisible() ) {
+          preloadedAbove++;
+        }
+      }
+      // re-check the bounds every time, SetData listeners may change the grid
+      while( !isDisposed() && index < items.size() && index <= getBottomIndex() ) {
+        resolveItem( items.get( index ) );
+        index++;
+      }
+      int preloadedBelow = 0;
+      while( !isDisposed() && preloadedBelow < preloadedItems && index < items.size() ) {
+        if( resolveItem( items.get( index ) ) ) {
+          preloadedBelow++;
         }
+        index++;
+      }
+    }
+  }
+
+  private static boolean resolveItem( GridItem item ) {
+    boolean result = item.isVisible();
+    if( result ) {
+      item.ensureItemData();
+      item.handleVirtual();
+    }
+    return result;
+  }
+
+  private void setPreloadedItems( Object value ) {
+    if( value == null ) {
+      preloadedItems = 0;
+    } else {
+      if( !( value instanceof Integer ) ) {
+        SWT.error( SWT.ERROR_INVALID_ARGUMENT );
+      }
+      preloadedItems = ( ( Integer )value ).intValue();
+      if( preloadedItems < 0 ) {
+        SWT.error( SWT.ERROR_INVALID_RANGE );
       }
     }
-    updateScrollBars();
   }
 
   boolean isVirtual() {
@@ -3065,7 +3122,24 @@ public class Grid extends Composite {
   }
 
   int internalIndexOf( GridItem item ) {
-    return items.indexOf( item );
+    int result = -1;
+    if( item != null ) {
+      if( item.flatIndex >= validFlatIndices ) {
+        for( int i = validFlatIndices; i < items.size(); i++ ) {
+          items.get( i ).flatIndex = i;
+        }
+        validFlatIndices = items.size();
+      }
+      int index = item.flatIndex;
+      if( index >= 0 && index < items.size() && items.get( index ) == item ) {
+        result = index;
+      }
+    }
+    return result;
+  }
+
+  GridCellStore getCellStore() {
+    return cellStore;
   }
 
   void scheduleRedraw() {
@@ -3156,7 +3230,7 @@ public class Grid extends Composite {
 
     @Override
     public int getItemIndex( GridItem item ) {
-      return item.index;
+      return item.internalGetIndex();
     }
 
     @Override
@@ -3184,6 +3258,11 @@ public class Grid extends Composite {
       Grid.this.doRedraw();
     }
 
+    @Override
+    public void checkData() {
+      Grid.this.checkData();
+    }
+
     @Override
     public void provideItems( WidgetTreeVisitor visitor ) {
       for( GridColumnGroup columnGroup : columnGroups ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,8 +17,8 @@ import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisab
 import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.nebula.widgets.grid.internal.GridCellStore;
 import org.eclipse.nebula.widgets.grid.internal.GridItemData;
-import org.eclipse.nebula.widgets.grid.internal.GridItemData.CellData;
 import org.eclipse.nebula.widgets.grid.internal.IGridItemAdapter;
 import org.eclipse.nebula.widgets.grid.internal.griditemkit.GridItemLCA;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
@@ -59,11 +59,13 @@ public class GridItem extends Item {
   private Grid parent;
   private GridItem parentItem;
   private GridItemData data;
+  private int slot;
   private boolean hasChildren;
   private boolean visible = true;
   private boolean cached;
   private transient IGridItemAdapter gridItemAdapter;
   int index;
+  int flatIndex;
 
   /**
    * Creates a new instance of this class and places the item at the end of
@@ -188,13 +190,15 @@ public class GridItem extends Item {
   }
 
   void dispose( int flatIndex ) {
+    boolean releaseCells = false;
     if( !parent.isDisposing() && !isDisposed() ) {
       if( data != null ) {
+        GridCellStore cells = parent.getCellStore();
         for( int i = 0; i < parent.getColumnCount(); i++ ) {
-          CellData itemData = getCellData( i );
-          updateColumnImageCount( i, itemData.image, null );
-          updateColumnTextCount( i, itemData.text, "" );
+          updateColumnImageCount( i, cells.getImage( slot, i ), null );
+          updateColumnTextCount( i, cells.getText( slot, i ), "" );
         }
+        releaseCells = true;
       }
       int index = flatIndex == SWT.DEFAULT ? parent.internalIndexOf( this ) : flatIndex;
       if( hasChildren ) {
@@ -207,10 +211,14 @@ public class GridItem extends Item {
       if( parentItem != null ) {
         parentItem.removeItem( this.index );
       } else {
-        parent.removeRootItem( this.index );
+        parent.removeRootItem( internalGetIndex() );
       }
     }
     super.dispose();
+    // dispose listeners may still read the cell values
+    if( releaseCells ) {
+      parent.getCellStore().release( slot );
+    }
   }
 
   /**
@@ -322,6 +330,34 @@ public class GridItem extends Item {
     return hasChildren ? getItemData().getChildren().size() : 0;
   }
 
+  /**
+   * Sets the number of child items contained in the receiver. If the grid was
+   * created with the <code>SWT.VIRTUAL</code> style, the new items are
+   * populated on demand by <code>SWT.SetData</code> events.
+   *
+   * @param count
+   *            the number of items
+   *
+   * @throws org.eclipse.swt.SWTException
+   *             <ul>
+   *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed
+   *             </li>
+   *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+   *             thread that created the receiver</li>
+   *             </ul>
+   */
+  public void setItemCount( int count ) {
+    checkWidget();
+    int itemCount = Math.max( 0, count );
+    while( itemCount < getItemCount() ) {
+      getItemData().getChildren().get( getItemCount() - 1 ).dispose();
+    }
+    while( itemCount > getItemCount() ) {
+      new GridItem( parent, this, SWT.NONE, -1 );
+    }
+    parent.redraw();
+  }
+
   /**
    * Returns a (possibly empty) array of <code>GridItem</code>s which are the
    * direct item children of the receiver.
@@ -586,7 +622,7 @@ public class GridItem extends Item {
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
-    getCellData( index ).font = font;
+    getCells().setFont( slot, index, font );
     markCached();
     parent.scheduleRedraw();
   }
@@ -609,7 +645,7 @@ public class GridItem extends Item {
   public Font getFont( int index ) {
     checkWidget();
     handleVirtual();
-    Font result = getCellData( index ).font;
+    Font result = getCells().getFont( slot, index );
     if( result == null ) {
       result = getFont();
     }
@@ -691,7 +727,7 @@ public class GridItem extends Item {
     if( background != null && background.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
-    getCellData( index ).background = background;
+    getCells().setBackground( slot, index, background );
     markCached();
   }
 
@@ -712,7 +748,7 @@ public class GridItem extends Item {
   public Color getBackground( int index ) {
     checkWidget();
     handleVirtual();
-    Color result = getCellData( index ).background;
+    Color result = getCells().getBackground( slot, index );
      if( result == null ) {
        result = getBackground();
      }
@@ -794,7 +830,7 @@ public class GridItem extends Item {
     if( foreground != null && foreground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
-    getCellData( index ).foreground = foreground;
+    getCells().setForeground( slot, index, foreground );
     markCached();
   }
 
@@ -815,7 +851,7 @@ public class GridItem extends Item {
   public Color getForeground( int index ) {
     checkWidget();
     handleVirtual();
-    Color result = getCellData( index ).foreground;
+    Color result = getCells().getForeground( slot, index );
     if( result == null ) {
       result = getForeground();
     }
@@ -867,9 +903,9 @@ public class GridItem extends Item {
     if( isMarkupEnabledFor( parent ) && !isValidationDisabledFor( parent ) ) {
       MarkupValidator.getInstance().validate( text );
     }
-    CellData cellData = getCellData( index );
-    updateColumnTextCount( index, cellData.text, text );
-    cellData.text = text;
+    GridCellStore cells = getCells();
+    updateColumnTextCount( index, cells.getText( slot, index ), text );
+    cells.setText( slot, index, text );
     markCached();
   }
 
@@ -891,7 +927,7 @@ public class GridItem extends Item {
   public String getText( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).text;
+    return getCells().getText( slot, index );
   }
 
   /**
@@ -911,7 +947,7 @@ public class GridItem extends Item {
    */
   public void setToolTipText( int index, String tooltip ) {
     checkWidget();
-    getCellData( index ).tooltip = tooltip;
+    getCells().setTooltip( slot, index, tooltip );
     if( tooltip != null && tooltip.length() > 0 ) {
       parent.setCellToolTipsEnabled( true );
     }
@@ -935,7 +971,7 @@ public class GridItem extends Item {
   public String getToolTipText( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).tooltip;
+    return getCells().getTooltip( slot, index );
   }
 
   /**
@@ -980,9 +1016,9 @@ public class GridItem extends Item {
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
-    CellData cellData = getCellData( index );
-    updateColumnImageCount( index, cellData.image, image );
-    cellData.image = image;
+    GridCellStore cells = getCells();
+    updateColumnImageCount( index, cells.getImage( slot, index ), image );
+    cells.setImage( slot, index, image );
     parent.imageSetOnItem( index, this );
     markCached();
   }
@@ -1005,7 +1041,7 @@ public class GridItem extends Item {
   public Image getImage( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).image;
+    return getCells().getImage( slot, index );
   }
 
   /**
@@ -1061,7 +1097,7 @@ public class GridItem extends Item {
   public void setChecked( int index, boolean checked ) {
     checkWidget();
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
-    getCellData( index ).checked = checked;
+    getCells().setChecked( slot, index, checked );
     markCached();
   }
 
@@ -1082,7 +1118,7 @@ public class GridItem extends Item {
   public boolean getChecked( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).checked;
+    return getCells().getChecked( slot, index );
   }
 
   /**
@@ -1144,7 +1180,7 @@ public class GridItem extends Item {
   public void setGrayed( int index, boolean grayed ) {
     checkWidget();
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
-    getCellData( index ).grayed = grayed;
+    getCells().setGrayed( slot, index, grayed );
     markCached();
   }
 
@@ -1167,7 +1203,7 @@ public class GridItem extends Item {
   public boolean getGrayed( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).grayed;
+    return getCells().getGrayed( slot, index );
   }
 
   /**
@@ -1191,7 +1227,7 @@ public class GridItem extends Item {
   public void setCheckable( int index, boolean checked ) {
     checkWidget();
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
-    getCellData( index ).checkable = checked;
+    getCells().setCheckable( slot, index, checked );
     markCached();
   }
 
@@ -1214,7 +1250,7 @@ public class GridItem extends Item {
   public boolean getCheckable( int index ) {
     checkWidget();
     handleVirtual();
-    boolean result = getCellData( index ).checkable;
+    boolean result = getCells().getCheckable( slot, index );
     if( parent.getColumnCount() > 0 && !parent.getColumn( index ).getCheckable() ) {
       result = false;
     }
@@ -1241,7 +1277,7 @@ public class GridItem extends Item {
    */
   public void setColumnSpan( int index, int span ) {
     checkWidget();
-    getCellData( index ).columnSpan = span;
+    getCells().setColumnSpan( slot, index, span );
   }
 
   /**
@@ -1262,7 +1298,7 @@ public class GridItem extends Item {
    */
   public int getColumnSpan( int index ) {
     checkWidget();
-    return getCellData( index ).columnSpan;
+    return getCells().getColumnSpan( slot, index );
   }
 
   /**
@@ -1409,25 +1445,76 @@ public class GridItem extends Item {
     }
   }
 
-  void columnAdded( int index ) {
-    if( data != null && parent.getColumnCount() > 1 ) {
-      data.addCellData( index );
+  /**
+   * Clears the child item at the given zero-relative index in the receiver.
+   * The text, icon and other attributes of the item are set to their default
+   * values. If the grid was created with the <code>SWT.VIRTUAL</code> style,
+   * these attributes are requested again as needed.
+   *
+   * @param index
+   *            the index of the item to clear
+   * @param allChildren
+   *            <code>true</code> if all child items of the indexed item
+   *            should be cleared recursively, and <code>false</code> otherwise
+   *
+   * @throws IllegalArgumentException
+   *             <ul>
+   *             <li>ERROR_INVALID_RANGE - if the index is not between 0 and
+   *             the number of elements in the list minus 1 (inclusive)</li>
+   *             </ul>
+   * @throws org.eclipse.swt.SWTException
+   *             <ul>
+   *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed
+   *             </li>
+   *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+   *             thread that created the receiver</li>
+   *             </ul>
+   */
+  public void clear( int index, boolean allChildren ) {
+    checkWidget();
+    if( index < 0 || index >= getItemCount() ) {
+      SWT.error( SWT.ERROR_INVALID_RANGE );
     }
+    getItemData().getChildren().get( index ).clear( allChildren );
+    parent.redraw();
   }
 
-  void columnRemoved( int index ) {
-    if( data != null && parent.getColumnCount() > 0 ) {
-      data.removeCellData( index );
+  /**
+   * Clears all the child items in the receiver. The text, icon and other
+   * attributes of the items are set to their default values. If the grid was
+   * created with the <code>SWT.VIRTUAL</code> style, these attributes are
+   * requested again as needed.
+   *
+   * @param allChildren
+   *            <code>true</code> if all child items of the receiver's items
+   *            should be cleared recursively, and <code>false</code> otherwise
+   *
+   * @throws org.eclipse.swt.SWTException
+   *             <ul>
+   *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed
+   *             </li>
+   *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+   *             thread that created the receiver</li>
+   *             </ul>
+   */
+  public void clearAll( boolean allChildren ) {
+    checkWidget();
+    if( hasChildren ) {
+      for( GridItem child : getItemData().getChildren() ) {
+        child.clear( allChildren );
+      }
+      parent.redraw();
     }
   }
 
   void clear( boolean allChildren ) {
     if( data != null ) {
+      GridCellStore cells = parent.getCellStore();
       for( int i = 0; i < parent.getColumnCount(); i++ ) {
-        CellData cellData = getCellData( i );
-        updateColumnImageCount( i, cellData.image, null );
-        updateColumnTextCount( i, cellData.text, "" );
+        updateColumnImageCount( i, cells.getImage( slot, i ), null );
+        updateColumnTextCount( i, cells.getText( slot, i ), "" );
       }
+      cells.clear( slot );
       data.clear();
     }
     cached = false;
@@ -1481,7 +1568,7 @@ public class GridItem extends Item {
 
   private int getSpacing( int index ) {
     int result = 0;
-    String text = getCellData( index ).text;
+    String text = getCells().getText( slot, index );
     if( parent.hasColumnImages( index ) && text.length() > 0 ) {
       result = parent.getCellSpacing();
     }
@@ -1489,7 +1576,7 @@ public class GridItem extends Item {
   }
 
   private int getTextWidth( int index ) {
-    String text = getCellData( index ).text;
+    String text = getCells().getText( slot, index );
     if( text.length() > 0 ) {
       return stringExtent( internalGetFont( index ), text, isMarkupEnabledFor( parent ) ).x;
     }
@@ -1508,7 +1595,7 @@ public class GridItem extends Item {
   }
 
   private Font internalGetFont( int index ) {
-    Font result = getCellData( index ).font;
+    Font result = getCells().getFont( slot, index );
     if( result == null ) {
       result = getItemData().defaultFont;
     }
@@ -1537,8 +1624,9 @@ public class GridItem extends Item {
     return new Point( width, height );
   }
 
-  private CellData getCellData( int index ) {
-    return getItemData().getCellData( index );
+  private GridCellStore getCells() {
+    ensureItemData();
+    return parent.getCellStore();
   }
 
   private GridItemData getItemData() {
@@ -1548,7 +1636,8 @@ public class GridItem extends Item {
 
   void ensureItemData() {
     if( data == null ) {
-      data = new GridItemData( parent.getColumnCount() );
+      data = new GridItemData();
+      slot = parent.getCellStore().allocate();
     }
   }
 
@@ -1557,11 +1646,15 @@ public class GridItem extends Item {
       markCached();
       Event event = new Event();
       event.item = this;
-      event.index = index;
+      event.index = internalGetIndex();
       parent.notifyListeners( SWT.SetData, event );
     }
   }
 
+  int internalGetIndex() {
+    return parentItem == null ? parent.rootIndexOf( this ) : index;
+  }
+
   private boolean deselectChildren( GridItem item ) {
     boolean flag = false;
     for( GridItem child : item.getItems() ) {
@@ -1632,6 +1725,11 @@ public class GridItem extends Item {
       return GridItem.this.isCached();
     }
 
+    @Override
+    public int getIndex() {
+      return internalGetIndex();
+    }
+
     @Override
     public Color getUserBackground() {
       return getItemData().defaultBackground;
@@ -1652,7 +1750,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       String[] result = null;
       for( int i = 0; i < columnCount; i++ ) {
-        String text = getCellData( i ).text;
+        String text = getCells().getText( slot, i );
         if( !"".equals( text ) ) {
           if( result == null ) {
             result = new String[ columnCount ];
@@ -1669,7 +1767,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       Image[] result = null;
       for( int i = 0; i < columnCount; i++ ) {
-        Image image = getCellData( i ).image;
+        Image image = getCells().getImage( slot, i );
         if( image != null ) {
           if( result == null ) {
             result = new Image[ columnCount ];
@@ -1685,7 +1783,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       Color[] result = null;
       for( int i = 0; i < columnCount; i++ ) {
-        Color background = getCellData( i ).background;
+        Color background = getCells().getBackground( slot, i );
         if( background != null ) {
           if( result == null ) {
             result = new Color[ columnCount ];
@@ -1701,7 +1799,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       Color[] result = null;
       for( int i = 0; i < columnCount; i++ ) {
-        Color foreground = getCellData( i ).foreground;
+        Color foreground = getCells().getForeground( slot, i );
         if( foreground != null ) {
           if( result == null ) {
             result = new Color[ columnCount ];
@@ -1717,7 +1815,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       Font[] result = null;
       for( int i = 0; i < columnCount; i++ ) {
-        Font font = getCellData( i ).font;
+        Font font = getCells().getFont( slot, i );
         if( font != null ) {
           if( result == null ) {
             result = new Font[ columnCount ];
@@ -1733,7 +1831,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       boolean[] result = null;
       for( int i = 0; i < columnCount; i++ ) {
-        boolean checked = getCellData( i ).checked;
+        boolean checked = getCells().getChecked( slot, i );
         if( checked ) {
           if( result == null ) {
             result = new boolean[ columnCount ];
@@ -1749,7 +1847,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       boolean[] result = null;
       for( int i = 0; i < columnCount; i++ ) {
-        boolean grayed = getCellData( i ).grayed;
+        boolean grayed = getCells().getGrayed( slot, i );
         if( grayed ) {
           if( result == null ) {
             result = new boolean[ columnCount ];
@@ -1765,7 +1863,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       boolean[] result = null;
       for( int i = 0; i < columnCount; i++ ) {
-        boolean checkable = getCellData( i ).checkable;
+        boolean checkable = getCells().getCheckable( slot, i );
         if( !checkable ) {
           if( result == null ) {
             result = new boolean[ columnCount ];
@@ -1782,7 +1880,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       int[] result = null;
       for( int i = 0; i < columnCount; i++ ) {
-        int span = getCellData( i ).columnSpan;
+        int span = getCells().getColumnSpan( slot, i );
         if( span != 0 ) {
           if( result == null ) {
             result = new int[ columnCount ];
@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * Holds the cell values of all items of a grid in column order. Every item that has data is
+ * assigned a slot, the values of its cells are stored at that slot in per-column arrays. An
+ * attribute array of a column is only allocated when a value is set for that attribute in that
+ * column, the boolean flags are kept in bit sets. Slots of disposed items are reused.
+ */
+@SuppressWarnings( "restriction" )
+public class GridCellStore implements SerializableCompatibility {
+
+  private static final int TEXT = 0;
+  private static final int TOOLTIP = 1;
+  private static final int FONT = 2;
+  private static final int BACKGROUND = 3;
+  private static final int FOREGROUND = 4;
+  private static final int IMAGE = 5;
+  private static final int ATTRIBUTE_COUNT = 6;
+  private static final int MIN_CAPACITY = 16;
+
+  private final List<Column> columns;
+  private int[] freeSlots;
+  private int freeSlotCount;
+  private int slotCount;
+
+  public GridCellStore( int columnCount ) {
+    columns = new ArrayList<Column>();
+    for( int i = 0; i < Math.max( 1, columnCount ); i++ ) {
+      columns.add( new Column() );
+    }
+    freeSlots = new int[ MIN_CAPACITY ];
+  }
+
+  public int getColumnCount() {
+    return columns.size();
+  }
+
+  public void addColumn( int index ) {
+    if( index == -1 ) {
+      columns.add( new Column() );
+    } else {
+      columns.add( index, new Column() );
+    }
+  }
+
+  public void removeColumn( int index ) {
+    if( columns.size() > index ) {
+      columns.remove( index );
+    }
+  }
+
+  /**
+   * Returns a slot that has no values set.
+   */
+  public int allocate() {
+    int result;
+    if( freeSlotCount > 0 ) {
+      result = freeSlots[ --freeSlotCount ];
+    } else {
+      result = slotCount++;
+    }
+    return result;
+  }
+
+  public void release( int slot ) {
+    clear( slot );
+    if( freeSlotCount == freeSlots.length ) {
+      freeSlots = Arrays.copyOf( freeSlots, freeSlotCount * 2 );
+    }
+    freeSlots[ freeSlotCount++ ] = slot;
+  }
+
+  public void clear( int slot ) {
+    for( Column column : columns ) {
+      column.clear( slot );
+    }
+  }
+
+  public String getText( int slot, int column ) {
+    String result = ( String )columns.get( column ).get( TEXT, slot );
+    return result == null ? "" : result;
+  }
+
+  public void setText( int slot, int column, String text ) {
+    columns.get( column ).set( TEXT, slot, text.length() == 0 ? null : text );
+  }
+
+  public String getTooltip( int slot, int column ) {
+    return ( String )columns.get( column ).get( TOOLTIP, slot );
+  }
+
+  public void setTooltip( int slot, int column, String tooltip ) {
+    columns.get( column ).set( TOOLTIP, slot, tooltip );
+  }
+
+  public Font getFont( int slot, int column ) {
+    return ( Font )columns.get( column ).get( FONT, slot );
+  }
+
+  public void setFont( int slot, int column, Font font ) {
+    columns.get( column ).set( FONT, slot, font );
+  }
+
+  public Color getBackground( int slot, int column ) {
+    return ( Color )columns.get( column ).get( BACKGROUND, slot );
+  }
+
+  public void setBackground( int slot, int column, Color background ) {
+    columns.get( column ).set( BACKGROUND, slot, background );
+  }
+
+  public Color getForeground( int slot, int column ) {
+    return ( Color )columns.get( column ).get( FOREGROUND, slot );
+  }
+
+  public void setForeground( int slot, int column, Color foreground ) {
+    columns.get( column ).set( FOREGROUND, slot, foreground );
+  }
+
+  public Image getImage( int slot, int column ) {
+    return ( Image )columns.get( column ).get( IMAGE, slot );
+  }
+
+  public void setImage( int slot, int column, Image image ) {
+    columns.get( column ).set( IMAGE, slot, image );
+  }
+
+  public boolean getChecked( int slot, int column ) {
+    return get( columns.get( column ).checked, slot );
+  }
+
+  public void setChecked( int slot, int column, boolean checked ) {
+    Column cells = columns.get( column );
+    cells.checked = set( cells.checked, slot, checked );
+  }
+
+  public boolean getGrayed( int slot, int column ) {
+    return get( columns.get( column ).grayed, slot );
+  }
+
+  public void setGrayed( int slot, int column, boolean grayed ) {
+    Column cells = columns.get( column );
+    cells.grayed = set( cells.grayed, slot, grayed );
+  }
+
+  public boolean getCheckable( int slot, int column ) {
+    return !get( columns.get( column ).uncheckable, slot );
+  }
+
+  public void setCheckable( int slot, int column, boolean checkable ) {
+    Column cells = columns.get( column );
+    cells.uncheckable = set( cells.uncheckable, slot, !checkable );
+  }
+
+  public int getColumnSpan( int slot, int column ) {
+    int[] spans = columns.get( column ).spans;
+    return spans != null && slot < spans.length ? spans[ slot ] : 0;
+  }
+
+  public void setColumnSpan( int slot, int column, int span ) {
+    columns.get( column ).setSpan( slot, span );
+  }
+
+  private static boolean get( BitSet bits, int slot ) {
+    return bits != null && bits.get( slot );
+  }
+
+  private static BitSet set( BitSet bits, int slot, boolean value ) {
+    BitSet result = bits;
+    if( value && result == null ) {
+      result = new BitSet();
+    }
+    if( result != null ) {
+      result.set( slot, value );
+    }
+    return result;
+  }
+
+  private static int grow( int length, int slot ) {
+    return Math.max( slot + 1, Math.max( MIN_CAPACITY, length * 3 / 2 ) );
+  }
+
+  private static final class Column implements SerializableCompatibility {
+
+    final Object[][] attributes = new Object[ ATTRIBUTE_COUNT ][];
+    BitSet checked;
+    BitSet grayed;
+    BitSet uncheckable;
+    int[] spans;
+
+    Object get( int attribute, int slot ) {
+      Object[] values = attributes[ attribute ];
+      return values != null && slot < values.length ? values[ slot ] : null;
+    }
+
+    void set( int attribute, int slot, Object value ) {
+      Object[] values = attributes[ attribute ];
+      if( value != null || ( values != null && slot < values.length ) ) {
+        if( values == null ) {
+          values = new Object[ grow( 0, slot ) ];
+          attributes[ attribute ] = values;
+        } else if( slot >= values.length ) {
+          values = Arrays.copyOf( values, grow( values.length, slot ) );
+          attributes[ attribute ] = values;
+        }
+        values[ slot ] = value;
+      }
+    }
+
+    void setSpan( int slot, int span ) {
+      if( span != 0 || ( spans != null && slot < spans.length ) ) {
+        if( spans == null ) {
+          spans = new int[ grow( 0, slot ) ];
+        } else if( slot >= spans.length ) {
+          spans = Arrays.copyOf( spans, grow( spans.length, slot ) );
+        }
+        spans[ slot ] = span;
+      }
+    }
+
+    void clear( int slot ) {
+      for( int attribute = 0; attribute < ATTRIBUTE_COUNT; attribute++ ) {
+        set( attribute, slot, null );
+      }
+      if( checked != null ) {
+        checked.clear( slot );
+      }
+      if( grayed != null ) {
+        grayed.clear( slot );
+      }
+      if( uncheckable != null ) {
+        uncheckable.clear( slot );
+      }
+      setSpan( slot, 0 );
+    }
+
+  }
+
+}
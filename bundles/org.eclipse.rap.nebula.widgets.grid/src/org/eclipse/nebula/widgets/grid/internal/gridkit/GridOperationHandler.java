@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -126,6 +126,7 @@ public class GridOperationHandler extends ControlOperationHandler<Grid> {
     if( value != null ) {
       getGridAdapter( grid ).invalidateTopIndex();
       setScrollBarSelection( grid.getVerticalBar(), value.asInt() );
+      getGridAdapter( grid ).checkData();
     }
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import javax.servlet.http.HttpServlet;
 
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ApplicationRunner;
+import org.eclipse.rap.rwt.engine.RWTResourceServlet;
 import org.eclipse.rap.rwt.engine.RWTServlet;
 import org.eclipse.rap.rwt.osgi.ApplicationReference;
 import org.eclipse.rap.rwt.service.ApplicationContext;
@@ -77,7 +78,11 @@ class ApplicationReferenceImpl implements ApplicationReference {
   private void startRWTApplication() {
     applicationRunner.start();
     registerServlets();
-    registerResourceDirectory();
+    if( isResourceDirectoryBased() ) {
+      registerResourceDirectory();
+    } else {
+      registerServlet( "/" + ApplicationRunner.RESOURCES, new RWTResourceServlet() );
+    }
     registerAsService();
   }
 
@@ -145,6 +150,14 @@ class ApplicationReferenceImpl implements ApplicationReference {
     return applicationContextImpl.getEntryPointManager().getServletPaths();
   }
 
+  @SuppressWarnings( "restriction" )
+  private boolean isResourceDirectoryBased() {
+    ApplicationContext applicationContext = applicationRunner.getApplicationContext();
+    org.eclipse.rap.rwt.internal.application.ApplicationContextImpl applicationContextImpl
+      = ( org.eclipse.rap.rwt.internal.application.ApplicationContextImpl ) applicationContext;
+    return applicationContextImpl.isResourceDirectoryBased();
+  }
+
   boolean belongsTo( Object service ) {
     return configuration == service || httpService == service;
   }
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+namespace( "rwt.client" );
+
+(function() {
+
+var MAX_RETRIES = 5;
+var RETRY_DELAY = 1000;
+
+var createUploadId = function() {
+  return new Date().getTime().toString( 36 ) + Math.random().toString( 36 ).slice( 2 );
+};
+
+var parseOffset = function( text ) {
+  try {
+    var offset = JSON.parse( text ).offset;
+    return typeof offset === "number" ? offset : null;
+  } catch( ex ) {
+    return null;
+  }
+};
+
+var isTransientError = function( status ) {
+  return status === 0 || status === 502 || status === 503 || status === 504;
+};
+
+/**
+ * Uploads files in chunks, one file after another. After a connection problem, the offset at
+ * which to continue is queried from the server and the upload is resumed from there. See
+ * ChunkedUploadProcessor.java for the protocol.
+ */
+rwt.client.ChunkedFileUpload = function( url, files, chunkSize ) {
+  this._url = url;
+  this._files = files;
+  this._chunkSize = chunkSize;
+  this._uploadId = createUploadId();
+  this._totalSize = 0;
+  for( var i = 0; i < files.length; i++ ) {
+    this._totalSize += files[ i ].size;
+  }
+  this._fileIndex = 0;
+  this._offset = 0;
+  this._retries = 0;
+};
+
+rwt.client.ChunkedFileUpload.isSupported = function() {
+  return typeof Blob !== "undefined" && typeof Blob.prototype.slice === "function";
+};
+
+rwt.client.ChunkedFileUpload.prototype = {
+
+  start : function() {
+    this._sendChunk();
+  },
+
+  _sendChunk : function() {
+    var file = this._files[ this._fileIndex ];
+    var end = Math.min( this._offset + this._chunkSize, file.size );
+    var parameters = this._createParameters();
+    parameters.offset = this._offset;
+    if( this._offset === 0 ) {
+      parameters.fileName = file.name;
+      parameters.contentType = file.type;
+    }
+    this._send( "POST", parameters, file.slice( this._offset, end ) );
+  },
+
+  _queryOffset : function() {
+    this._send( "GET", this._createParameters(), null );
+  },
+
+  _abort : function() {
+    var parameters = this._createParameters();
+    parameters.abort = true;
+    var xhr = rwt.remote.Request.createXHR();
+    xhr.open( "POST", this._createUrl( parameters ) );
+    xhr.send( null );
+  },
+
+  _send : function( method, parameters, data ) {
+    var xhr = rwt.remote.Request.createXHR();
+    var that = this;
+    xhr.open( method, this._createUrl( parameters ) );
+    xhr.onreadystatechange = function() {
+      if( xhr.readyState === 4 ) {
+        that._handleResponse( xhr.status, xhr.responseText );
+      }
+    };
+    xhr.send( data );
+  },
+
+  _handleResponse : function( status, text ) {
+    if( status === 200 || status === 409 ) {
+      var offset = parseOffset( text );
+      if( offset === null ) {
+        this._retry();
+      } else {
+        this._retries = 0;
+        this._offset = offset;
+        this._continue();
+      }
+    } else if( isTransientError( status ) ) {
+      this._retry();
+    }
+    // all other errors fail the upload on the server, which notifies the upload listeners
+  },
+
+  _continue : function() {
+    if( this._offset >= this._files[ this._fileIndex ].size ) {
+      this._fileIndex++;
+      this._offset = 0;
+    }
+    if( this._fileIndex < this._files.length ) {
+      this._sendChunk();
+    }
+  },
+
+  _retry : function() {
+    if( this._retries < MAX_RETRIES ) {
+      var delay = RETRY_DELAY * Math.pow( 2, this._retries );
+      this._retries++;
+      rwt.client.Timer.once( this._queryOffset, this, delay );
+    } else {
+      this._abort();
+    }
+  },
+
+  _createParameters : function() {
+    return {
+      "uploadId" : this._uploadId,
+      "fileCount" : this._files.length,
+      "totalSize" : this._totalSize,
+      "fileIndex" : this._fileIndex,
+      "fileSize" : this._files[ this._fileIndex ].size
+    };
+  },
+
+  _createUrl : function( parameters ) {
+    var result = [ this._url ];
+    var separator = this._url.indexOf( "?" ) === -1 ? "?" : "&";
+    for( var name in parameters ) {
+      result.push( separator, name, "=", encodeURIComponent( parameters[ name ] ) );
+      separator = "&";
+    }
+    return result.join( "" );
+  }
+
+};
+
+}());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -41,18 +41,30 @@ rwt.client.FileUploader.prototype = {
 
   submit : function( callProperties ) {
     var url = callProperties.url;
-    var fileIds = callProperties.fileIds;
-    var formData = rwt.client.FileUploader.createFormData();
+    var files = this._getFiles( callProperties.fileIds );
+    if( callProperties.chunkSize && rwt.client.ChunkedFileUpload.isSupported() ) {
+      new rwt.client.ChunkedFileUpload( url, files, callProperties.chunkSize ).start();
+    } else {
+      var formData = rwt.client.FileUploader.createFormData();
+      for( var i = 0; i < files.length; i++ ) {
+        formData.append( files[ i ].name, files[ i ] );
+      }
+      var xhr = rwt.remote.Request.createXHR();
+      xhr.open( "POST", url );
+      xhr.send( formData );
+    }
+  },
+
+  _getFiles : function( fileIds ) {
+    var result = [];
     for( var i = 0; i < fileIds.length; i++ ) {
       var file = this._holder[ fileIds[ i ] ];
       if( !file ) {
         throw new Error( "Unkown file id \"" + fileIds[ i ] + "\"." );
       }
-      formData.append( file.name, file );
+      result.push( file );
     }
-    var xhr = rwt.remote.Request.createXHR();
-    xhr.open( "POST", url );
-    xhr.send( formData );
+    return result;
   }
 
 };
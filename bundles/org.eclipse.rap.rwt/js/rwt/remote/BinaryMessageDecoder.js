@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+namespace( "rwt.remote" );
+
+(function(){
+
+var VERSION = 2;
+var MAX_FIXINT = 0x7f;
+var NULL = 0x80;
+var FALSE = 0x81;
+var TRUE = 0x82;
+var INT32 = 0x83;
+var FLOAT64 = 0x84;
+var STRING = 0x85;
+var STRING_REF = 0x86;
+var ARRAY = 0x87;
+var OBJECT = 0x88;
+var DICTIONARY_STRING = 0x89;
+var DICTIONARY_REF = 0x8a;
+
+/**
+ * Decodes messages in the binary format written by the server, see BinaryMessageFormat.java.
+ */
+rwt.remote.BinaryMessageDecoder = {
+
+  ENCODING : "binary",
+
+  CONTENT_TYPE : "application/octet-stream",
+
+  isSupported : function() {
+    return    typeof ArrayBuffer !== "undefined"
+           && typeof Uint8Array !== "undefined"
+           && typeof DataView !== "undefined";
+  },
+
+  /**
+   * Returns the message object that is encoded in the given ArrayBuffer. The dictionary is an
+   * array of the strings that were received in previous messages of the same connection, it is
+   * updated with the strings added by this message.
+   */
+  decode : function( buffer, dictionary ) {
+    var reader = new Reader( buffer, dictionary || [] );
+    var version = reader.readByte();
+    if( version !== VERSION ) {
+      throw new Error( "Unsupported binary message version: " + version );
+    }
+    reader.readDictionarySize();
+    return reader.readValue();
+  },
+
+  /**
+   * Returns the content of the given ArrayBuffer as text, decoded from UTF-8.
+   */
+  decodeText : function( buffer ) {
+    return decodeUtf8( new Uint8Array( buffer ), 0, buffer.byteLength );
+  }
+
+};
+
+var Reader = function( buffer, dictionary ) {
+  this._bytes = new Uint8Array( buffer );
+  this._view = new DataView( buffer );
+  this._offset = 0;
+  this._dictionary = dictionary;
+  this._strings = [];
+};
+
+Reader.prototype = {
+
+  readByte : function() {
+    if( this._offset >= this._bytes.length ) {
+      throw new Error( "Unexpected end of binary message" );
+    }
+    return this._bytes[ this._offset++ ];
+  },
+
+  readDictionarySize : function() {
+    var size = this._readVarint();
+    if( size > this._dictionary.length ) {
+      throw new Error( "Binary message requires unknown dictionary entries" );
+    }
+    this._dictionary.length = size;
+  },
+
+  readValue : function() {
+    var tag = this.readByte();
+    if( tag <= MAX_FIXINT ) {
+      return tag;
+    }
+    var result;
+    switch( tag ) {
+      case NULL:
+        result = null;
+        break;
+      case FALSE:
+        result = false;
+        break;
+      case TRUE:
+        result = true;
+        break;
+      case INT32:
+        result = this._view.getInt32( this._offset );
+        this._offset += 4;
+        break;
+      case FLOAT64:
+        result = this._view.getFloat64( this._offset );
+        this._offset += 8;
+        break;
+      case STRING:
+      case STRING_REF:
+      case DICTIONARY_STRING:
+      case DICTIONARY_REF:
+        result = this._readString( tag );
+        break;
+      case ARRAY:
+        result = this._readArray();
+        break;
+      case OBJECT:
+        result = this._readObject();
+        break;
+      default:
+        throw new Error( "Invalid tag in binary message: " + tag );
+    }
+    return result;
+  },
+
+  _readString : function( tag ) {
+    if( tag === STRING_REF ) {
+      return this._getString( this._strings, this._readVarint() );
+    }
+    if( tag === DICTIONARY_REF ) {
+      return this._getString( this._dictionary, this._readVarint() );
+    }
+    var length = this._readVarint();
+    if( this._offset + length > this._bytes.length ) {
+      throw new Error( "Unexpected end of binary message" );
+    }
+    var result = decodeUtf8( this._bytes, this._offset, length );
+    this._offset += length;
+    if( tag === DICTIONARY_STRING ) {
+      this._dictionary.push( result );
+    } else {
+      this._strings.push( result );
+    }
+    return result;
+  },
+
+  _getString : function( strings, index ) {
+    if( index >= strings.length ) {
+      throw new Error( "Invalid string reference in binary message: " + index );
+    }
+    return strings[ index ];
+  },
+
+  _readArray : function() {
+    var length = this._readVarint();
+    var result = new Array( length );
+    for( var i = 0; i < length; i++ ) {
+      result[ i ] = this.readValue();
+    }
+    return result;
+  },
+
+  _readObject : function() {
+    var length = this._readVarint();
+    var result = {};
+    for( var i = 0; i < length; i++ ) {
+      var tag = this.readByte();
+      if( !isString( tag ) ) {
+        throw new Error( "Invalid object key in binary message: " + tag );
+      }
+      var name = this._readString( tag );
+      result[ name ] = this.readValue();
+    }
+    return result;
+  },
+
+  _readVarint : function() {
+    var result = 0;
+    var factor = 1;
+    var current;
+    do {
+      current = this.readByte();
+      result += ( current & 0x7f ) * factor;
+      factor *= 128;
+    } while( ( current & 0x80 ) !== 0 );
+    return result;
+  }
+
+};
+
+var isString = function( tag ) {
+  return    tag === STRING
+         || tag === STRING_REF
+         || tag === DICTIONARY_STRING
+         || tag === DICTIONARY_REF;
+};
+
+var CHUNK_SIZE = 4096;
+
+var decodeUtf8 = function( bytes, offset, length ) {
+  var end = offset + length;
+  var chunks = [];
+  var codeUnits = [];
+  var index = offset;
+  while( index < end ) {
+    var code = bytes[ index++ ];
+    if( code >= 0xf0 ) {
+      code =   ( code & 0x07 ) << 18
+             | ( bytes[ index++ ] & 0x3f ) << 12
+             | ( bytes[ index++ ] & 0x3f ) << 6
+             | ( bytes[ index++ ] & 0x3f );
+      code -= 0x10000;
+      codeUnits.push( 0xd800 + ( code >> 10 ), 0xdc00 + ( code & 0x3ff ) );
+    } else {
+      if( code >= 0xe0 ) {
+        code =   ( code & 0x0f ) << 12
+               | ( bytes[ index++ ] & 0x3f ) << 6
+               | ( bytes[ index++ ] & 0x3f );
+      } else if( code >= 0xc0 ) {
+        code = ( code & 0x1f ) << 6 | ( bytes[ index++ ] & 0x3f );
+      }
+      codeUnits.push( code );
+    }
+    if( codeUnits.length >= CHUNK_SIZE ) {
+      chunks.push( String.fromCharCode.apply( String, codeUnits ) );
+      codeUnits = [];
+    }
+  }
+  chunks.push( String.fromCharCode.apply( String, codeUnits ) );
+  return chunks.join( "" );
+};
+
+}());
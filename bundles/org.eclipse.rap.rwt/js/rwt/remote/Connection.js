@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ var EventUtil = rwt.remote.EventUtil;
 var ServerPush = rwt.client.ServerPush;
 var ClientDocument = rwt.widgets.base.ClientDocument;
 var Widget = rwt.widgets.base.Widget;
+var BinaryMessageDecoder = rwt.remote.BinaryMessageDecoder;
 
 rwt.qx.Class.define( "rwt.remote.Connection", {
 
@@ -41,6 +42,8 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
     this._requestCounter = 0;
     this._requestPending = false;
     this._connectionId = null;
+    this._binary = false;
+    this._dictionary = [];
     this._sendTimer = new Timer( 60 );
     this._sendTimer.addEventListener( "interval", function() {
       this.sendImmediate( true );
@@ -85,6 +88,19 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
       return this._connectionId;
     },
 
+    /**
+     * Sets the message encodings offered by the server. If the binary encoding is offered and
+     * supported by the browser, it is requested for all further asynchronous requests.
+     */
+    setEncodings : function( encodings ) {
+      var offered = rwt.util.Arrays.contains( encodings, BinaryMessageDecoder.ENCODING );
+      this._binary = offered && BinaryMessageDecoder.isSupported();
+    },
+
+    isBinary : function() {
+      return this._binary;
+    },
+
     _flushEvent : function() {
       if( this._event ) {
         var writer = this.getMessageWriter();
@@ -122,10 +138,15 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
         this._flushEvent();
         this._sendTimer.stop();
         this.getMessageWriter().appendHead( "requestCounter", this._requestCounter++ );
+        var binary = this._binary && async;
+        if( binary ) {
+          this.getMessageWriter().appendHead( "encoding", BinaryMessageDecoder.ENCODING );
+        }
         this._requestPending = true;
         this._startWaitHintTimer();
         var request = this._createRequest();
         request.setAsynchronous( async );
+        request.setBinary( binary );
         request.setData( this.getMessageWriter().createMessage() );
         this._writer.dispose();
         this._writer = null;
@@ -206,7 +227,7 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
 
     _handleSuccess : function( event ) {
       try {
-        var messageObject = JSON.parse( event.responseText );
+        var messageObject = this._parseMessage( event );
         rwt.remote.EventUtil.setSuspended( true );
         var that = this;
         Processor.processMessage( messageObject, function() {
@@ -224,6 +245,13 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
       }
     },
 
+    _parseMessage : function( event ) {
+      if( event.responseBuffer ) {
+        return BinaryMessageDecoder.decode( event.responseBuffer, this._dictionary );
+      }
+      return JSON.parse( event.responseText );
+    },
+
     ///////////////////////////////
     // Handling connection problems
 
@@ -234,6 +262,7 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
         var request = this._createRequest();
         var failedRequest = event.target;
         request.setAsynchronous( failedRequest.getAsynchronous() );
+        request.setBinary( failedRequest.getBinary() );
         request.setData( failedRequest.getData() );
         request.send();
       };
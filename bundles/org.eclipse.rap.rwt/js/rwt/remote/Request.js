@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ rwt.remote.Request = function( url, method, responseType ) {
   this._error = null;
   this._data = null;
   this._responseType = responseType;
+  this._binary = false;
   this._request = rwt.remote.Request.createXHR();
 };
 
@@ -82,22 +83,48 @@ rwt.remote.Request.prototype = {
     return this._data;
   },
 
+  /**
+   * Receives the response as an ArrayBuffer. Binary responses are passed to the handlers as
+   * "responseBuffer", all other responses are decoded to "responseText". Only supported for
+   * asynchronous requests.
+   */
+  setBinary : function( value ) {
+    this._binary = value;
+  },
+
+  getBinary : function() {
+    return this._binary;
+  },
+
   _configRequest : function() {
     var contentType = "application/json; charset=UTF-8";
     this._request.setRequestHeader( "Content-Type", contentType );
+    if( this._binary ) {
+      this._request.responseType = "arraybuffer";
+    }
     this._request.onreadystatechange = rwt.util.Functions.bind( this._onReadyStateChange, this );
   },
 
   _onReadyStateChange : function() {
     if( this._request.readyState === 4 ) {
       var text;
-      // [if] typeof(..) == "unknown" is IE specific. Used to prevent error:
-      // "The data necessary to complete this operation is not yet available"
-      if( typeof this._request.responseText !== "unknown" ) {
-        text = this._request.responseText;
+      var buffer;
+      if( this._binary ) {
+        if( this._isBinaryResponse() ) {
+          buffer = this._request.response;
+        } else if( this._request.response ) {
+          text = rwt.remote.BinaryMessageDecoder.decodeText( this._request.response );
+        }
+      } else {
+        // [if] typeof(..) == "unknown" is IE specific. Used to prevent error:
+        // "The data necessary to complete this operation is not yet available"
+        if( typeof this._request.responseText !== "unknown" ) {
+          text = this._request.responseText;
+        }
       }
       var event = {
         "responseText" : text,
+        "responseBuffer" : buffer,
         "status" : this._request.status,
         "responseHeaders" : this._getHeaders(),
         "target" : this
@@ -117,6 +144,12 @@ rwt.remote.Request.prototype = {
     }
   },
 
+  _isBinaryResponse : function() {
+    var contentType = this._request.getResponseHeader( "Content-Type" );
+    var binaryType = rwt.remote.BinaryMessageDecoder.CONTENT_TYPE;
+    return contentType != null && contentType.indexOf( binaryType ) !== -1;
+  },
+
   _getHeaders : function() {
     var text = this._request.getAllResponseHeaders();
     var values = text.split( /[\r\n]+/g );
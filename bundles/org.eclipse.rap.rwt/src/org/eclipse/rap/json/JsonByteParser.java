@@ -0,0 +1,494 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+
+/*
+ * A parser that reads UTF-8 encoded JSON directly from an input stream, without an intermediate
+ * Reader. The read buffer, the character buffer used to decode strings and a table of recently
+ * created short strings are reused per thread. Names and short strings are looked up in this table,
+ * so that recurring strings like operation names, property names and widget ids do not result in
+ * new String instances. A parser created with an explicit buffer size uses a table of its own.
+ *
+ * Error offsets and columns are reported in bytes.
+ */
+class JsonByteParser {
+
+  private static final int MIN_BUFFER_SIZE = 10;
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  private static final int MAX_RETAINED_CHARS = 65536;
+  private static final int MAX_CACHED_LENGTH = 32;
+  private static final int CACHE_SIZE = 4096;
+  private static final char REPLACEMENT_CHAR = '\uFFFD';
+  private static final ThreadLocal<byte[]> BYTES = new ThreadLocal<>();
+  private static final ThreadLocal<char[]> CHARS = new ThreadLocal<>();
+  private static final ThreadLocal<String[]> STRINGS = new ThreadLocal<>();
+
+  private final InputStream input;
+  private final byte[] buffer;
+  private final boolean pooled;
+  private final String[] strings;
+  private char[] chars;
+  private int charCount;
+  private int bufferOffset;
+  private int index;
+  private int fill;
+  private int line;
+  private int lineOffset;
+  private int current;
+
+  JsonByteParser( InputStream input ) {
+    this( input, getPooledBuffer(), true );
+  }
+
+  JsonByteParser( InputStream input, int buffersize ) {
+    this( input, new byte[ Math.max( MIN_BUFFER_SIZE, buffersize ) ], false );
+  }
+
+  private JsonByteParser( InputStream input, byte[] buffer, boolean pooled ) {
+    this.input = input;
+    this.buffer = buffer;
+    this.pooled = pooled;
+    chars = pooled ? getPooledChars() : new char[ 64 ];
+    strings = pooled ? getPooledStrings() : new String[ CACHE_SIZE ];
+    line = 1;
+  }
+
+  JsonValue parse() throws IOException {
+    try {
+      read();
+      skipWhiteSpace();
+      JsonValue result = readValue();
+      skipWhiteSpace();
+      if( !isEndOfText() ) {
+        throw error( "Unexpected character" );
+      }
+      return result;
+    } finally {
+      if( pooled && chars.length <= MAX_RETAINED_CHARS ) {
+        CHARS.set( chars );
+      }
+    }
+  }
+
+  private JsonValue readValue() throws IOException {
+    switch( current ) {
+    case 'n':
+      return readNull();
+    case 't':
+      return readTrue();
+    case 'f':
+      return readFalse();
+    case '"':
+      return readString();
+    case '[':
+      return readArray();
+    case '{':
+      return readObject();
+    case '-':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      return readNumber();
+    default:
+      throw expected( "value" );
+    }
+  }
+
+  private JsonArray readArray() throws IOException {
+    read();
+    JsonArray array = new JsonArray();
+    skipWhiteSpace();
+    if( readChar( ']' ) ) {
+      return array;
+    }
+    do {
+      skipWhiteSpace();
+      array.add( readValue() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    if( !readChar( ']' ) ) {
+      throw expected( "',' or ']'" );
+    }
+    return array;
+  }
+
+  private JsonObject readObject() throws IOException {
+    read();
+    JsonObject object = new JsonObject();
+    skipWhiteSpace();
+    if( readChar( '}' ) ) {
+      return object;
+    }
+    do {
+      skipWhiteSpace();
+      String name = readName();
+      skipWhiteSpace();
+      if( !readChar( ':' ) ) {
+        throw expected( "':'" );
+      }
+      skipWhiteSpace();
+      object.add( name, readValue() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    if( !readChar( '}' ) ) {
+      throw expected( "',' or '}'" );
+    }
+    return object;
+  }
+
+  private String readName() throws IOException {
+    if( current != '"' ) {
+      throw expected( "name" );
+    }
+    return readStringInternal();
+  }
+
+  private JsonValue readNull() throws IOException {
+    read();
+    readRequiredChar( 'u' );
+    readRequiredChar( 'l' );
+    readRequiredChar( 'l' );
+    return JsonValue.NULL;
+  }
+
+  private JsonValue readTrue() throws IOException {
+    read();
+    readRequiredChar( 'r' );
+    readRequiredChar( 'u' );
+    readRequiredChar( 'e' );
+    return JsonValue.TRUE;
+  }
+
+  private JsonValue readFalse() throws IOException {
+    read();
+    readRequiredChar( 'a' );
+    readRequiredChar( 'l' );
+    readRequiredChar( 's' );
+    readRequiredChar( 'e' );
+    return JsonValue.FALSE;
+  }
+
+  private void readRequiredChar( char ch ) throws IOException {
+    if( !readChar( ch ) ) {
+      throw expected( "'" + ch + "'" );
+    }
+  }
+
+  private JsonValue readString() throws IOException {
+    return new JsonString( readStringInternal() );
+  }
+
+  private String readStringInternal() throws IOException {
+    read();
+    charCount = 0;
+    while( current != '"' ) {
+      if( current == '\\' ) {
+        readEscape();
+      } else if( current < 0x20 ) {
+        throw expected( "valid string character" );
+      } else if( current < 0x80 ) {
+        append( ( char )current );
+        read();
+      } else {
+        readMultiByteChar();
+      }
+    }
+    read();
+    return createString();
+  }
+
+  private void readEscape() throws IOException {
+    read();
+    switch( current ) {
+    case '"':
+    case '/':
+    case '\\':
+      append( ( char )current );
+      break;
+    case 'b':
+      append( '\b' );
+      break;
+    case 'f':
+      append( '\f' );
+      break;
+    case 'n':
+      append( '\n' );
+      break;
+    case 'r':
+      append( '\r' );
+      break;
+    case 't':
+      append( '\t' );
+      break;
+    case 'u':
+      int value = 0;
+      for( int i = 0; i < 4; i++ ) {
+        read();
+        if( !isHexDigit() ) {
+          throw expected( "hexadecimal digit" );
+        }
+        value = ( value << 4 ) | Character.digit( current, 16 );
+      }
+      append( ( char )value );
+      break;
+    default:
+      throw expected( "valid escape sequence" );
+    }
+    read();
+  }
+
+  /*
+   * Decodes a UTF-8 multi-byte sequence. Malformed sequences are replaced by U+FFFD, like the
+   * InputStreamReader used for the Reader based parser does.
+   */
+  private void readMultiByteChar() throws IOException {
+    int codePoint;
+    int followBytes;
+    int minCodePoint;
+    if( ( current & 0xE0 ) == 0xC0 ) {
+      codePoint = current & 0x1F;
+      followBytes = 1;
+      minCodePoint = 0x80;
+    } else if( ( current & 0xF0 ) == 0xE0 ) {
+      codePoint = current & 0x0F;
+      followBytes = 2;
+      minCodePoint = 0x800;
+    } else if( ( current & 0xF8 ) == 0xF0 ) {
+      codePoint = current & 0x07;
+      followBytes = 3;
+      minCodePoint = 0x10000;
+    } else {
+      append( REPLACEMENT_CHAR );
+      read();
+      return;
+    }
+    read();
+    for( int i = 0; i < followBytes; i++ ) {
+      if( ( current & 0xC0 ) != 0x80 ) {
+        append( REPLACEMENT_CHAR );
+        return;
+      }
+      codePoint = ( codePoint << 6 ) | ( current & 0x3F );
+      read();
+    }
+    if(    codePoint < minCodePoint
+        || codePoint > Character.MAX_CODE_POINT
+        || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE )
+    {
+      append( REPLACEMENT_CHAR );
+    } else if( codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT ) {
+      append( Character.highSurrogate( codePoint ) );
+      append( Character.lowSurrogate( codePoint ) );
+    } else {
+      append( ( char )codePoint );
+    }
+  }
+
+  private JsonValue readNumber() throws IOException {
+    charCount = 0;
+    readCapturedChar( '-' );
+    int firstDigit = current;
+    if( !readDigit() ) {
+      throw expected( "digit" );
+    }
+    if( firstDigit != '0' ) {
+      while( readDigit() ) {
+      }
+    }
+    readFraction();
+    readExponent();
+    return new JsonNumber( new String( chars, 0, charCount ) );
+  }
+
+  private boolean readFraction() throws IOException {
+    if( !readCapturedChar( '.' ) ) {
+      return false;
+    }
+    if( !readDigit() ) {
+      throw expected( "digit" );
+    }
+    while( readDigit() ) {
+    }
+    return true;
+  }
+
+  private boolean readExponent() throws IOException {
+    if( !readCapturedChar( 'e' ) && !readCapturedChar( 'E' ) ) {
+      return false;
+    }
+    if( !readCapturedChar( '+' ) ) {
+      readCapturedChar( '-' );
+    }
+    if( !readDigit() ) {
+      throw expected( "digit" );
+    }
+    while( readDigit() ) {
+    }
+    return true;
+  }
+
+  private boolean readChar( char ch ) throws IOException {
+    if( current != ch ) {
+      return false;
+    }
+    read();
+    return true;
+  }
+
+  private boolean readCapturedChar( char ch ) throws IOException {
+    if( current != ch ) {
+      return false;
+    }
+    append( ch );
+    read();
+    return true;
+  }
+
+  private boolean readDigit() throws IOException {
+    if( !isDigit() ) {
+      return false;
+    }
+    append( ( char )current );
+    read();
+    return true;
+  }
+
+  private void skipWhiteSpace() throws IOException {
+    while( isWhiteSpace() ) {
+      read();
+    }
+  }
+
+  private void read() throws IOException {
+    if( isEndOfText() ) {
+      throw error( "Unexpected end of input" );
+    }
+    if( index == fill ) {
+      bufferOffset += fill;
+      fill = input.read( buffer, 0, buffer.length );
+      index = 0;
+      if( fill == -1 ) {
+        current = -1;
+        return;
+      }
+    }
+    if( current == '\n' ) {
+      line++;
+      lineOffset = bufferOffset + index;
+    }
+    current = buffer[ index++ ] & 0xFF;
+  }
+
+  private void append( char ch ) {
+    if( charCount == chars.length ) {
+      chars = Arrays.copyOf( chars, chars.length * 2 );
+    }
+    chars[ charCount++ ] = ch;
+  }
+
+  private String createString() {
+    if( charCount > MAX_CACHED_LENGTH ) {
+      return new String( chars, 0, charCount );
+    }
+    int hash = 0;
+    for( int i = 0; i < charCount; i++ ) {
+      hash = 31 * hash + chars[ i ];
+    }
+    int slot = ( hash ^ ( hash >>> 16 ) ) & ( CACHE_SIZE - 1 );
+    String cached = strings[ slot ];
+    if( cached != null && isCapturedString( cached ) ) {
+      return cached;
+    }
+    String string = new String( chars, 0, charCount );
+    strings[ slot ] = string;
+    return string;
+  }
+
+  private boolean isCapturedString( String string ) {
+    if( string.length() != charCount ) {
+      return false;
+    }
+    for( int i = 0; i < charCount; i++ ) {
+      if( string.charAt( i ) != chars[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ParseException expected( String expected ) {
+    if( isEndOfText() ) {
+      return error( "Unexpected end of input" );
+    }
+    return error( "Expected " + expected );
+  }
+
+  private ParseException error( String message ) {
+    int absIndex = bufferOffset + index;
+    int column = absIndex - lineOffset;
+    int offset = isEndOfText() ? absIndex : absIndex - 1;
+    return new ParseException( message, offset, line, column - 1 );
+  }
+
+  private boolean isWhiteSpace() {
+    return current == ' ' || current == '\t' || current == '\n' || current == '\r';
+  }
+
+  private boolean isDigit() {
+    return current >= '0' && current <= '9';
+  }
+
+  private boolean isHexDigit() {
+    return current >= '0' && current <= '9'
+        || current >= 'a' && current <= 'f'
+        || current >= 'A' && current <= 'F';
+  }
+
+  private boolean isEndOfText() {
+    return current == -1;
+  }
+
+  private static byte[] getPooledBuffer() {
+    byte[] buffer = BYTES.get();
+    if( buffer == null ) {
+      buffer = new byte[ DEFAULT_BUFFER_SIZE ];
+      BYTES.set( buffer );
+    }
+    return buffer;
+  }
+
+  private static char[] getPooledChars() {
+    char[] chars = CHARS.get();
+    return chars != null ? chars : new char[ 256 ];
+  }
+
+  private static String[] getPooledStrings() {
+    String[] strings = STRINGS.get();
+    if( strings == null ) {
+      strings = new String[ CACHE_SIZE ];
+      STRINGS.set( strings );
+    }
+    return strings;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 EclipseSource.
+ * Copyright (c) 2008, 2026 EclipseSource.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
 package org.eclipse.rap.json;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.Reader;
 import java.util.ArrayList;
@@ -123,6 +124,29 @@ public class JsonObject extends JsonValue implements Iterable<Member> {
     return JsonValue.readFrom( reader ).asObject();
   }
 
+  /**
+   * Reads a JSON object from the given UTF-8 encoded input stream.
+   * <p>
+   * Bytes are read in chunks and decoded internally, therefore wrapping an existing input stream
+   * in an additional <code>BufferedInputStream</code> does <strong>not</strong> improve reading
+   * performance.
+   * </p>
+   *
+   * @param input
+   *          the input stream to read the JSON object from
+   * @return the JSON object that has been read
+   * @throws IOException
+   *           if an I/O error occurs in the input stream
+   * @throws ParseException
+   *           if the input is not valid JSON
+   * @throws UnsupportedOperationException
+   *           if the input does not contain a JSON object
+   * @since 3.2
+   */
+  public static JsonObject readFrom( InputStream input ) throws IOException {
+    return JsonValue.readFrom( input ).asObject();
+  }
+
   /**
    * Reads a JSON object from the given string.
    *
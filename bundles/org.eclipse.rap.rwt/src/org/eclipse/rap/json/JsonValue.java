@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 EclipseSource.
+ * Copyright (c) 2008, 2026 EclipseSource.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
 package org.eclipse.rap.json;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.Serializable;
 import java.io.StringWriter;
@@ -92,6 +93,27 @@ public abstract class JsonValue implements Serializable {
     return new JsonParser( reader ).parse();
   }
 
+  /**
+   * Reads a JSON value from the given UTF-8 encoded input stream.
+   * <p>
+   * Bytes are read in chunks and decoded internally, therefore wrapping an existing input stream
+   * in an additional <code>BufferedInputStream</code> does <strong>not</strong> improve reading
+   * performance.
+   * </p>
+   *
+   * @param input
+   *          the input stream to read the JSON value from
+   * @return the JSON value that has been read
+   * @throws IOException
+   *           if an I/O error occurs in the input stream
+   * @throws ParseException
+   *           if the input is not valid JSON
+   * @since 3.2
+   */
+  public static JsonValue readFrom( InputStream input ) throws IOException {
+    return new JsonByteParser( input ).parse();
+  }
+
   /**
    * Reads a JSON value from the given string.
    *
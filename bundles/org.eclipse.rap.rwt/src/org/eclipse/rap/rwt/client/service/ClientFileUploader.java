@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,4 +31,20 @@ public interface ClientFileUploader extends ClientService {
    */
   public void submit( String url, ClientFile[] clientFiles );
 
+  /**
+   * Starts to upload the provided <code>ClientFile</code> to the given URL in chunks of the given
+   * size. The files are sent one after another, an interrupted upload is resumed from the last
+   * chunk that has been received. The URL must accept the chunked upload protocol, as the URL of
+   * a <code>FileUploadHandler</code> does. Clients that do not support chunked uploads send all
+   * files in a single multipart request as with {@link #submit(String, ClientFile[])}. If no files
+   * are provided, nothing happens.
+   *
+   * @param url the URL to upload to, must not be <code>null</code> or empty
+   * @param clientFiles client-side files, must not be <code>null</code>
+   * @param chunkSize the maximum number of bytes that are sent in one request, must be positive
+   * @see ClientFileTransfer
+   * @since 3.2
+   */
+  public void submit( String url, ClientFile[] clientFiles, int chunkSize );
+
 }
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.engine;
+
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceStore;
+import org.eclipse.rap.rwt.internal.resources.StoredResource;
+import org.eclipse.rap.rwt.service.ResourceManager;
+
+
+/**
+ * Serves the registered resources of a RAP application if they are kept in memory instead of
+ * being written to the <code>rwt-resources</code> directory. Responses carry an entity tag, and
+ * textual resources are sent gzip compressed to clients that accept it. The compressed variant
+ * has its own entity tag, and responses for resources with both variants vary on
+ * <code>Accept-Encoding</code>.
+ * <p>
+ * In a traditional web application (without OSGi), this servlet must be registered for the
+ * resources path when a memory based resource store is configured:
+ * </p>
+ *
+ * <pre>
+ * &lt;servlet&gt;
+ *   &lt;servlet-name&gt;rwtResourceServlet&lt;/servlet-name&gt;
+ *   &lt;servlet-class&gt;org.eclipse.rap.rwt.engine.RWTResourceServlet&lt;/servlet-class&gt;
+ * &lt;/servlet&gt;
+ *
+ * &lt;servlet-mapping&gt;
+ *   &lt;servlet-name&gt;rwtResourceServlet&lt;/servlet-name&gt;
+ *   &lt;url-pattern&gt;/rwt-resources/*&lt;/url-pattern&gt;
+ * &lt;/servlet-mapping&gt;
+ * </pre>
+ *
+ * @since 3.2
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class RWTResourceServlet extends HttpServlet {
+
+  private static final String HEADER_ETAG = "ETag";
+  private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+  private static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+  private static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+  private static final String HEADER_VARY = "Vary";
+  private static final String ENCODING_GZIP = "gzip";
+  private static final String ENCODING_X_GZIP = "x-gzip";
+  private static final String WILDCARD = "*";
+  private static final String WEAK_PREFIX = "W/";
+
+  private ApplicationContextImpl applicationContext;
+
+  @Override
+  public String getServletInfo() {
+    return "RWT Resource Servlet";
+  }
+
+  @Override
+  public void init() throws ServletException {
+    applicationContext = ApplicationContextImpl.getFrom( getServletContext() );
+  }
+
+  @Override
+  public void doGet( HttpServletRequest request, HttpServletResponse response )
+    throws ServletException, IOException
+  {
+    if( !applicationContext.allowsRequests() ) {
+      response.sendError( SC_SERVICE_UNAVAILABLE );
+    } else {
+      StoredResource resource = getResource( request.getPathInfo() );
+      if( resource == null ) {
+        response.sendError( SC_NOT_FOUND );
+      } else {
+        sendResource( request, response, resource );
+      }
+    }
+  }
+
+  private void sendResource( HttpServletRequest request,
+                             HttpServletResponse response,
+                             StoredResource resource )
+    throws IOException
+  {
+    boolean gzip = resource.hasGzipContent() && acceptsGzip( request );
+    String etag = gzip ? resource.getGzipETag() : resource.getETag();
+    response.setHeader( HEADER_ETAG, etag );
+    if( resource.hasGzipContent() ) {
+      response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    }
+    if( matchesETag( request.getHeader( HEADER_IF_NONE_MATCH ), etag ) ) {
+      response.setStatus( SC_NOT_MODIFIED );
+    } else {
+      String contentType = getServletContext().getMimeType( request.getPathInfo() );
+      if( contentType != null ) {
+        response.setContentType( contentType );
+      }
+      if( gzip ) {
+        response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+        response.setContentLength( resource.getGzipLength() );
+      } else {
+        response.setContentLength( resource.getLength() );
+      }
+      resource.writeTo( response.getOutputStream(), gzip );
+    }
+  }
+
+  private StoredResource getResource( String pathInfo ) {
+    StoredResource result = null;
+    ResourceManager resourceManager = applicationContext.getResourceManager();
+    boolean hasStore = resourceManager instanceof ResourceManagerImpl;
+    if( hasStore && pathInfo != null && pathInfo.length() > 1 ) {
+      ResourceStore resourceStore = ( ( ResourceManagerImpl )resourceManager ).getResourceStore();
+      result = resourceStore.getResource( pathInfo.substring( 1 ) );
+    }
+    return result;
+  }
+
+  /*
+   * Evaluates the codings and quality values of the Accept-Encoding header. A coding with a
+   * quality value of zero is not acceptable. If gzip is not listed, the wildcard coding applies.
+   */
+  private static boolean acceptsGzip( HttpServletRequest request ) {
+    String acceptEncoding = request.getHeader( HEADER_ACCEPT_ENCODING );
+    if( acceptEncoding == null ) {
+      return false;
+    }
+    float gzipQuality = -1;
+    float wildcardQuality = -1;
+    for( String element : acceptEncoding.split( "," ) ) {
+      String[] parts = element.split( ";" );
+      String coding = parts[ 0 ].trim().toLowerCase( Locale.ENGLISH );
+      float quality = getQuality( parts );
+      if( ENCODING_GZIP.equals( coding ) || ENCODING_X_GZIP.equals( coding ) ) {
+        gzipQuality = Math.max( gzipQuality, quality );
+      } else if( WILDCARD.equals( coding ) ) {
+        wildcardQuality = Math.max( wildcardQuality, quality );
+      }
+    }
+    return gzipQuality >= 0 ? gzipQuality > 0 : wildcardQuality > 0;
+  }
+
+  private static float getQuality( String[] parts ) {
+    float result = 1;
+    for( int i = 1; i < parts.length; i++ ) {
+      String parameter = parts[ i ].trim().toLowerCase( Locale.ENGLISH );
+      if( parameter.startsWith( "q=" ) ) {
+        try {
+          result = Float.parseFloat( parameter.substring( 2 ).trim() );
+        } catch( NumberFormatException exception ) {
+          result = 0;
+        }
+      }
+    }
+    return result;
+  }
+
+  /*
+   * Compares the entity tag with the list of entity tags in an If-None-Match header. The
+   * comparison is weak, as required for If-None-Match, and the wildcard matches any entity tag.
+   */
+  private static boolean matchesETag( String ifNoneMatch, String etag ) {
+    if( ifNoneMatch == null ) {
+      return false;
+    }
+    for( String element : ifNoneMatch.split( "," ) ) {
+      String tag = element.trim();
+      if( tag.startsWith( WEAK_PREFIX ) ) {
+        tag = tag.substring( WEAK_PREFIX.length() );
+      }
+      if( WILDCARD.equals( tag ) || etag.equals( tag ) ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,26 @@ public final class RWTProperties {
   public static final String SERVICE_HANDLER_BASE_URL = "org.eclipse.rap.rwt.serviceHandlerBaseURL";
   public static final String DEVELOPMEMT_MODE = "org.eclipse.rap.rwt.developmentMode";
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
+  public static final String TEXT_SIZE_STORE_STATISTICS
+    = "org.eclipse.rap.rwt.textSizeStoreStatistics";
+  public static final String VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.virtualUIThreads";
+  public static final String ASYNC_SERVER_PUSH = "org.eclipse.rap.rwt.asyncServerPush";
+  public static final String CHANGE_TRACKING = "org.eclipse.rap.rwt.changeTracking";
+  public static final String STREAMING_RESPONSE = "org.eclipse.rap.rwt.streamingResponse";
+  public static final String TEXT_SIZE_SNAPSHOT = "org.eclipse.rap.rwt.textSizeSnapshot";
+  public static final String RESOURCE_STORE = "org.eclipse.rap.rwt.resourceStore";
+  public static final String RESOURCE_STORE_MAPPED = "mapped";
+  public static final String RESOURCE_STORE_MEMORY = "memory";
+  public static final String RESOURCE_STORE_DIRECT = "direct";
+  public static final String VIRTUAL_ITEM_EVICTION = "org.eclipse.rap.rwt.virtualItemEviction";
+  public static final String RENDER_CACHE = "org.eclipse.rap.rwt.renderCache";
+  public static final String BINARY_PROTOCOL = "org.eclipse.rap.rwt.binaryProtocol";
+  public static final String SERVER_TEXT_MEASUREMENT
+    = "org.eclipse.rap.rwt.serverTextMeasurement";
+  public static final String SERVER_PUSH_MIN_INTERVAL
+    = "org.eclipse.rap.rwt.serverPushMinInterval";
+  public static final String SERVER_PUSH_BATCH_WINDOW
+    = "org.eclipse.rap.rwt.serverPushBatchWindow";
 
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
@@ -40,6 +60,119 @@ public final class RWTProperties {
     return getIntProperty( TEXT_SIZE_STORE_SIZE, defaultValue );
   }
 
+  /*
+   * Counts the hits and misses of the text size storage. The counters are shared by all sessions
+   * of an application and updated on every lookup, therefore they are disabled by default.
+   */
+  public static boolean isTextSizeStoreStatistics() {
+    return getBooleanProperty( TEXT_SIZE_STORE_STATISTICS, false );
+  }
+
+  /*
+   * Runs the UI threads of the SWT_COMPATIBILITY operation mode on virtual threads, if supported
+   * by the JVM (Java 21 and later).
+   */
+  public static boolean useVirtualUIThreads() {
+    return getBooleanProperty( VIRTUAL_UI_THREADS, false );
+  }
+
+  /*
+   * Parks server push requests in a servlet 3.0 AsyncContext instead of blocking a container
+   * thread. Requires the RWT servlet to be registered with async support.
+   */
+  public static boolean isAsyncServerPush() {
+    return getBooleanProperty( ASYNC_SERVER_PUSH, false );
+  }
+
+  /*
+   * Renders only the widgets that have been changed since the last render phase instead of
+   * visiting the whole widget tree. Evaluated when a display is created.
+   */
+  public static boolean isChangeTracking() {
+    return getBooleanProperty( CHANGE_TRACKING, false );
+  }
+
+  /*
+   * Writes the operations of a JSON response to the response while they are rendered, instead of
+   * building the complete message first. Only used when no message filters are installed. Once
+   * the container has flushed parts of the message, headers can no longer be set and an error in
+   * the life cycle ends a truncated message.
+   */
+  public static boolean isStreamingResponse() {
+    return getBooleanProperty( STREAMING_RESPONSE, false );
+  }
+
+  /*
+   * The file that the measured text sizes are written to when the application is stopped, and
+   * read from when it is started again. Applications that run in the same JVM need different
+   * files.
+   */
+  public static String getTextSizeSnapshotFile() {
+    return System.getProperty( TEXT_SIZE_SNAPSHOT );
+  }
+
+  /*
+   * How registered resources are kept: "mapped" maps the files in the resources directory into
+   * memory, "memory" and "direct" keep them in heap or direct buffers only. The latter two
+   * require the RWTResourceServlet. By default, resources are only written to the directory.
+   */
+  public static String getResourceStore() {
+    return System.getProperty( RESOURCE_STORE );
+  }
+
+  /*
+   * Resets the resolved items of a virtual Table that are scrolled out of the preloaded range to
+   * their placeholder state, so that their data is requested again with SWT.SetData.
+   */
+  public static boolean isVirtualItemEviction() {
+    return getBooleanProperty( VIRTUAL_ITEM_EVICTION, false );
+  }
+
+  /*
+   * Replays the operations that were rendered for an equal widget in any session of the
+   * application when a new widget is rendered, instead of rendering its properties one by one.
+   * Only LCAs that provide a render cache key take part.
+   */
+  public static boolean isRenderCache() {
+    return getBooleanProperty( RENDER_CACHE, false );
+  }
+
+  /*
+   * Offers the binary message format to clients that can decode it. Clients that accept the
+   * offer request it in the head of their messages and receive binary responses.
+   *
+   * Binary responses are about half the size of JSON and take slightly less time to encode, but
+   * they are encoded after rendering and never streamed. They pay off for large messages on slow
+   * connections, not for reducing the memory of a request.
+   */
+  public static boolean isBinaryProtocol() {
+    return getBooleanProperty( BINARY_PROTOCOL, false );
+  }
+
+  /*
+   * Computes the extents of texts on the server from bundled glyph metrics, instead of estimating
+   * them until the client has measured them.
+   */
+  public static boolean isServerTextMeasurement() {
+    return getBooleanProperty( SERVER_TEXT_MEASUREMENT, false );
+  }
+
+  /*
+   * The minimum time in milliseconds between two server pushes of a session. Runnables that are
+   * added meanwhile are rendered with the next push.
+   */
+  public static int getServerPushMinInterval() {
+    return getIntProperty( SERVER_PUSH_MIN_INTERVAL, 0 );
+  }
+
+  /*
+   * The time in milliseconds that a server push is held back after the first runnable was added,
+   * so that the runnables added within this window are rendered together.
+   */
+  public static int getServerPushBatchWindow() {
+    return getIntProperty( SERVER_PUSH_BATCH_WINDOW, 0 );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,55 +10,125 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
-import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
-import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
+/*
+ * Every singleton type is assigned a slot number once per application context, the slots are
+ * shared by the managers of the application and its UI sessions. The singletons of a manager are
+ * kept in an array at their slots, which only grows with the singleton types of the application.
+ * Looking up an existing singleton reads the array without locking. The array is replaced with a
+ * copy whenever a singleton is added, which happens only once per type and manager, so that the
+ * volatile write publishes the new singleton safely.
+ *
+ * Singletons are created under a lock per type, like before, so that a singleton constructor may
+ * wait for other threads that ask for other singletons. As slot numbers differ between JVMs, the
+ * singletons are serialized by their type and a deserialized manager assigns slots of its own.
+ */
 public class SingletonManager implements SerializableCompatibility {
 
   private static final String ATTR_SINGLETON_MANAGER
     = SingletonManager.class.getName() + "#instance";
+  private static final Object[] EMPTY = new Object[ 0 ];
 
-  private final SharedInstanceBuffer<Class<?>, AtomicReference<Object>> singletonHolders;
-  private InstanceCreator<Class<?>, AtomicReference<Object>> instanceCreator;
+  private transient Slots slots;
+  private transient volatile Object[] singletons;
+  private transient Map<Integer, Object> creationLocks;
 
   SingletonManager() {
-    singletonHolders = new SharedInstanceBuffer<>();
-    instanceCreator = new InstanceCreator<Class<?>, AtomicReference<Object>>() {
-      @Override
-      public AtomicReference<Object> createInstance( Class<?> key ) {
-        return new AtomicReference<>();
-      }
-    };
+    this( new Slots() );
+  }
+
+  private SingletonManager( Slots slots ) {
+    this.slots = slots;
+    initialize();
   }
 
   public <T> T getSingleton( Class<T> type ) {
-    AtomicReference<T> singletonHolder = getSingletonHolder( type );
-    synchronized( singletonHolder ) {
-      T singleton = singletonHolder.get();
-      if( singleton == null ) {
-        singleton = ClassUtil.newInstance( type );
-        singletonHolder.set( singleton );
+    int slot = slots.getSlot( type );
+    Object[] currentSingletons = singletons;
+    Object result = slot < currentSingletons.length ? currentSingletons[ slot ] : null;
+    if( result == null ) {
+      result = createSingleton( slot, type );
+    }
+    return type.cast( result );
+  }
+
+  private Object createSingleton( int slot, Class<?> type ) {
+    synchronized( getCreationLock( slot ) ) {
+      // Re-check because another thread might have created the singleton while we were waiting
+      Object[] currentSingletons = singletons;
+      Object result = slot < currentSingletons.length ? currentSingletons[ slot ] : null;
+      if( result == null ) {
+        result = ClassUtil.newInstance( type );
+        addSingleton( slot, result );
       }
-      return singleton;
+      return result;
+    }
+  }
+
+  private synchronized Object getCreationLock( int slot ) {
+    Integer key = Integer.valueOf( slot );
+    Object result = creationLocks.get( key );
+    if( result == null ) {
+      result = new Object();
+      creationLocks.put( key, result );
     }
+    return result;
+  }
+
+  private synchronized void addSingleton( int slot, Object singleton ) {
+    Object[] currentSingletons = singletons;
+    int length = Math.max( currentSingletons.length, slot + 1 );
+    Object[] newSingletons = new Object[ length ];
+    System.arraycopy( currentSingletons, 0, newSingletons, 0, currentSingletons.length );
+    newSingletons[ slot ] = singleton;
+    singletons = newSingletons;
+    // Threads that still hold the lock re-check the singletons, later ones don't need it anymore
+    creationLocks.remove( Integer.valueOf( slot ) );
   }
 
-  @SuppressWarnings( "unchecked" )
-  private <T> AtomicReference<T> getSingletonHolder( Class<T> type ) {
-    Object result = singletonHolders.get( type, instanceCreator );
-    return ( AtomicReference<T> )result;
+  private void initialize() {
+    singletons = EMPTY;
+    creationLocks = new HashMap<>();
+  }
+
+  private void writeObject( ObjectOutputStream stream ) throws IOException {
+    stream.defaultWriteObject();
+    Map<Class<?>, Object> singletonsByType = new HashMap<>();
+    for( Object singleton : singletons ) {
+      if( singleton != null ) {
+        singletonsByType.put( singleton.getClass(), singleton );
+      }
+    }
+    stream.writeObject( singletonsByType );
+  }
+
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    slots = new Slots();
+    initialize();
+    Map<?, ?> singletonsByType = ( Map<?, ?> )stream.readObject();
+    for( Map.Entry<?, ?> entry : singletonsByType.entrySet() ) {
+      addSingleton( slots.getSlot( ( Class<?> )entry.getKey() ), entry.getValue() );
+    }
   }
 
   public static void install( UISession uiSession ) {
     checkNotInstalled( uiSession );
-    uiSession.setAttribute( ATTR_SINGLETON_MANAGER, new SingletonManager() );
+    Slots slots = getSlots( uiSession.getApplicationContext() );
+    uiSession.setAttribute( ATTR_SINGLETON_MANAGER, new SingletonManager( slots ) );
   }
 
   public static void install( ApplicationContext applicationContext ) {
@@ -74,6 +144,16 @@ public class SingletonManager implements SerializableCompatibility {
     return ( SingletonManager )applicationContext.getAttribute( ATTR_SINGLETON_MANAGER );
   }
 
+  private static Slots getSlots( ApplicationContext applicationContext ) {
+    if( applicationContext != null ) {
+      SingletonManager manager = getInstance( applicationContext );
+      if( manager != null ) {
+        return manager.slots;
+      }
+    }
+    return new Slots();
+  }
+
   private static void checkNotInstalled( UISession uiSession ) {
     if( getInstance( uiSession ) != null ) {
       String msg = "SingletonManager already installed for UI session: " + uiSession.getId();
@@ -88,4 +168,31 @@ public class SingletonManager implements SerializableCompatibility {
     }
   }
 
+  private static final class Slots {
+
+    private final ConcurrentMap<Class<?>, Integer> slots;
+
+    Slots() {
+      slots = new ConcurrentHashMap<>();
+    }
+
+    int getSlot( Class<?> type ) {
+      Integer result = slots.get( type );
+      if( result == null ) {
+        result = assignSlot( type );
+      }
+      return result.intValue();
+    }
+
+    private synchronized Integer assignSlot( Class<?> type ) {
+      Integer result = slots.get( type );
+      if( result == null ) {
+        result = Integer.valueOf( slots.size() );
+        slots.put( type, result );
+      }
+      return result;
+    }
+
+  }
+
 }
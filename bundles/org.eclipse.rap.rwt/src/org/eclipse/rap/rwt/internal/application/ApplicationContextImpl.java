@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,16 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.application;
 
+import static org.eclipse.rap.rwt.internal.RWTProperties.RESOURCE_STORE_DIRECT;
+import static org.eclipse.rap.rwt.internal.RWTProperties.RESOURCE_STORE_MAPPED;
+import static org.eclipse.rap.rwt.internal.RWTProperties.RESOURCE_STORE_MEMORY;
+import static org.eclipse.rap.rwt.internal.RWTProperties.getResourceStore;
+import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeSnapshotFile;
+import static org.eclipse.rap.rwt.internal.RWTProperties.isRenderCache;
+import static org.eclipse.rap.rwt.internal.RWTProperties.isServerTextMeasurement;
+
+import java.io.File;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -27,14 +37,20 @@ import org.eclipse.rap.rwt.internal.client.ClientSelector;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleFactory;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseListenerManager;
+import org.eclipse.rap.rwt.internal.lifecycle.RenderCache;
 import org.eclipse.rap.rwt.internal.remote.MessageChainElement;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
 import org.eclipse.rap.rwt.internal.remote.MessageFilter;
 import org.eclipse.rap.rwt.internal.remote.MessageFilterChain;
 import org.eclipse.rap.rwt.internal.resources.ClientResources;
+import org.eclipse.rap.rwt.internal.resources.DirectoryResourceStore;
+import org.eclipse.rap.rwt.internal.resources.MappedFileResourceStore;
+import org.eclipse.rap.rwt.internal.resources.MemoryResourceStore;
 import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
 import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
 import org.eclipse.rap.rwt.internal.resources.ResourceRegistry;
+import org.eclipse.rap.rwt.internal.resources.ResourceStore;
+import org.eclipse.rap.rwt.internal.serverpush.AsyncServerPushRegistry;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushServiceHandler;
 import org.eclipse.rap.rwt.internal.service.ApplicationStoreImpl;
 import org.eclipse.rap.rwt.internal.service.LifeCycleServiceHandler;
@@ -42,7 +58,11 @@ import org.eclipse.rap.rwt.internal.service.RWTMessageHandler;
 import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
 import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
 import org.eclipse.rap.rwt.internal.service.StartupPage;
+import org.eclipse.rap.rwt.internal.textsize.GlyphMetricsMeasurer;
 import org.eclipse.rap.rwt.internal.textsize.ProbeStore;
+import org.eclipse.rap.rwt.internal.textsize.ServerTextMeasurement;
+import org.eclipse.rap.rwt.internal.textsize.TextMeasurer;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeSnapshot;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
@@ -61,6 +81,7 @@ import org.eclipse.swt.internal.graphics.ImageFactory;
 import org.eclipse.swt.internal.graphics.InternalImageFactory;
 import org.eclipse.swt.internal.graphics.ResourceFactory;
 import org.eclipse.swt.internal.widgets.DisplaysHolder;
+import org.eclipse.swt.internal.widgets.TimerExecExecutor;
 
 
 public class ApplicationContextImpl implements ApplicationContext {
@@ -99,15 +120,19 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final FontDataFactory fontDataFactory;
   private final StartupPage startupPage;
   private final DisplaysHolder displaysHolder;
+  private final TimerExecExecutor timerExecExecutor;
   private final TextSizeStorage textSizeStorage;
   private final ProbeStore probeStore;
   private final ServletContext servletContext;
   private final ClientSelector clientSelector;
+  private final AsyncServerPushRegistry asyncServerPushRegistry;
+  private final RenderCache renderCache;
   private final Set<ApplicationContextListener> appContextListeners;
   private final Set<UIThreadListener> uiThreadListeners;
   private final SerializableLock listenersLock;
   private final AtomicReference<State> state;
   private ExceptionHandler exceptionHandler;
+  private volatile ServerTextMeasurement serverTextMeasurement;
 
   public ApplicationContextImpl( ApplicationConfiguration applicationConfiguration,
                                  ServletContext servletContext )
@@ -133,9 +158,15 @@ public class ApplicationContextImpl implements ApplicationContext {
     startupPage = new StartupPage( this );
     serviceManager = createServiceManager();
     displaysHolder = new DisplaysHolder();
+    timerExecExecutor = new TimerExecExecutor();
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
     clientSelector = new ClientSelector();
+    asyncServerPushRegistry = new AsyncServerPushRegistry();
+    renderCache = isRenderCache() ? new RenderCache() : null;
+    if( isServerTextMeasurement() ) {
+      serverTextMeasurement = new ServerTextMeasurement( new GlyphMetricsMeasurer() );
+    }
     appContextListeners = new HashSet<>();
     listenersLock = new SerializableLock();
     state = new AtomicReference<>( State.INACTIVE );
@@ -147,7 +178,19 @@ public class ApplicationContextImpl implements ApplicationContext {
   }
 
   protected ResourceManager createResourceManager() {
-    return new ResourceManagerImpl( resourceDirectory );
+    return new ResourceManagerImpl( createResourceStore() );
+  }
+
+  private ResourceStore createResourceStore() {
+    String type = getResourceStore();
+    if( RESOURCE_STORE_MAPPED.equals( type ) ) {
+      return new MappedFileResourceStore( resourceDirectory );
+    } else if( RESOURCE_STORE_MEMORY.equals( type ) ) {
+      return new MemoryResourceStore( false );
+    } else if( RESOURCE_STORE_DIRECT.equals( type ) ) {
+      return new MemoryResourceStore( true );
+    }
+    return new DirectoryResourceStore( resourceDirectory );
   }
 
   public static ApplicationContextImpl getFrom( ServletContext servletContext ) {
@@ -275,6 +318,16 @@ public class ApplicationContextImpl implements ApplicationContext {
     return resourceManager;
   }
 
+  /**
+   * @return whether the registered resources are written to the resources directory, from where
+   *         they can be served by the servlet container. If not, they have to be served by the
+   *         <code>RWTResourceServlet</code>.
+   */
+  public boolean isResourceDirectoryBased() {
+    return !( resourceManager instanceof ResourceManagerImpl )
+           || ( ( ResourceManagerImpl )resourceManager ).getResourceStore().isDirectoryBased();
+  }
+
   public EntryPointManager getEntryPointManager() {
     return entryPointManager;
   }
@@ -332,6 +385,10 @@ public class ApplicationContextImpl implements ApplicationContext {
     return displaysHolder;
   }
 
+  public TimerExecExecutor getTimerExecExecutor() {
+    return timerExecExecutor;
+  }
+
   public TextSizeStorage getTextSizeStorage() {
     return textSizeStorage;
   }
@@ -344,6 +401,32 @@ public class ApplicationContextImpl implements ApplicationContext {
     return clientSelector;
   }
 
+  public AsyncServerPushRegistry getAsyncServerPushRegistry() {
+    return asyncServerPushRegistry;
+  }
+
+  /*
+   * Returns null unless the render cache is enabled.
+   */
+  public RenderCache getRenderCache() {
+    return renderCache;
+  }
+
+  /*
+   * Returns null unless text extents are computed on the server.
+   */
+  public ServerTextMeasurement getServerTextMeasurement() {
+    return serverTextMeasurement;
+  }
+
+  /*
+   * Replaces the measurer that computes text extents on the server, null leaves all measurements
+   * to the client.
+   */
+  public void setTextMeasurer( TextMeasurer measurer ) {
+    serverTextMeasurement = measurer == null ? null : new ServerTextMeasurement( measurer );
+  }
+
   public ExceptionHandler getExceptionHandler() {
     return exceptionHandler;
   }
@@ -382,9 +465,13 @@ public class ApplicationContextImpl implements ApplicationContext {
     }
     resourceRegistry.registerResources();
     clientSelector.activate();
+    loadTextSizeSnapshot();
   }
 
   void doDeactivate() {
+    saveTextSizeSnapshot();
+    asyncServerPushRegistry.deactivate();
+    timerExecExecutor.shutdown();
     startupPage.deactivate();
     lifeCycleFactory.deactivate();
     serviceManager.clear();
@@ -398,6 +485,9 @@ public class ApplicationContextImpl implements ApplicationContext {
     settingStoreManager.deregisterFactory();
     resourceDirectory.reset();
     applicationStore.reset();
+    if( renderCache != null ) {
+      renderCache.clear();
+    }
   }
 
   private ServiceManagerImpl createServiceManager() {
@@ -413,6 +503,30 @@ public class ApplicationContextImpl implements ApplicationContext {
     return location;
   }
 
+  private void loadTextSizeSnapshot() {
+    String location = getTextSizeSnapshotFile();
+    if( location != null ) {
+      TextSizeSnapshot snapshot = new TextSizeSnapshot( new File( location ) );
+      try {
+        snapshot.load( TextSizeSnapshot.createFingerprint( themeManager ), textSizeStorage );
+      } catch( IOException exception ) {
+        servletContext.log( "Could not load text size snapshot " + location, exception );
+      }
+    }
+  }
+
+  private void saveTextSizeSnapshot() {
+    String location = getTextSizeSnapshotFile();
+    if( location != null ) {
+      TextSizeSnapshot snapshot = new TextSizeSnapshot( new File( location ) );
+      try {
+        snapshot.save( TextSizeSnapshot.createFingerprint( themeManager ), textSizeStorage );
+      } catch( IOException exception ) {
+        servletContext.log( "Could not save text size snapshot " + location, exception );
+      }
+    }
+  }
+
   private void addInternalServiceHandlers() {
     serviceManager.registerServiceHandler( ServerPushServiceHandler.HANDLER_ID,
                                            new ServerPushServiceHandler() );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -33,6 +33,18 @@ public class ClientFileUploaderImpl implements ClientFileUploader {
 
   @Override
   public void submit( String url, ClientFile[] clientFiles ) {
+    submit( url, clientFiles, null );
+  }
+
+  @Override
+  public void submit( String url, ClientFile[] clientFiles, int chunkSize ) {
+    if( chunkSize <= 0 ) {
+      throw new IllegalArgumentException( "Chunk size must be positive: " + chunkSize );
+    }
+    submit( url, clientFiles, Integer.valueOf( chunkSize ) );
+  }
+
+  private void submit( String url, ClientFile[] clientFiles, Integer chunkSize ) {
     notNullOrEmpty( url, "url" );
     notNull( clientFiles, "clientFiles" );
     JsonArray fileIds = new JsonArray();
@@ -41,6 +53,9 @@ public class ClientFileUploaderImpl implements ClientFileUploader {
     }
     if( !fileIds.isEmpty() ) {
       JsonObject parameters = new JsonObject() .add( "url", url ) .add( "fileIds", fileIds );
+      if( chunkSize != null ) {
+        parameters.add( "chunkSize", chunkSize.intValue() );
+      }
       remoteObject.call( "submit", parameters );
     }
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,10 +15,17 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderData;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenKey;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListener;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderToolTipMarkupEnabled;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getVariant;
+import static org.eclipse.rap.rwt.internal.scripting.ClientListenerUtil.getClientListenerOperations;
+import static org.eclipse.swt.internal.events.EventLCAUtil.getEventList;
 import static org.eclipse.swt.internal.widgets.ControlUtil.getControlAdapter;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.widgets.ChangedWidgets;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
 import org.eclipse.swt.internal.widgets.IControlAdapter;
 import org.eclipse.swt.widgets.Composite;
@@ -78,10 +85,41 @@ public class ControlLCAUtil {
     renderListenHelp( control );
   }
 
+  /**
+   * Creates a render cache key for a control that is not yet initialized. The key covers the
+   * values rendered by <code>renderChanges</code>, the listeners and the custom variant of the
+   * control. Returns <code>null</code> for composites and for controls that render data, client
+   * listeners or references to other widgets.
+   */
+  public static RenderCacheKey createRenderCacheKey( Control control, Class<?> type ) {
+    ControlRemoteAdapter remoteAdapter = getRemoteAdapter( control );
+    if(    control instanceof Composite
+        || remoteAdapter.hasPreservedData()
+        || getClientListenerOperations( control ) != null )
+    {
+      return null;
+    }
+    RenderCacheKey key = new RenderCacheKey( type, control.getStyle() );
+    if( !remoteAdapter.addRenderCacheValues( key, control ) ) {
+      return null;
+    }
+    boolean listeners = remoteAdapter.hasPreservedListeners();
+    key.add( listeners ? Long.valueOf( getEventList( control ) ) : null );
+    key.add( remoteAdapter.hasPreservedVariant() ? getVariant( control ) : null );
+    return key;
+  }
+
   private static void recalculateTabIndex( Shell shell ) {
-    resetTabIndices( shell );
-    // tabIndex must be a positive value
-    computeTabIndices( shell, 1 );
+    if( shell.getDisplay().getAdapter( ChangedWidgets.class ) != null ) {
+      Map<Control, Integer> tabIndices = new IdentityHashMap<>();
+      // tabIndex must be a positive value
+      collectTabIndices( shell, 1, tabIndices );
+      applyTabIndices( shell, tabIndices );
+    } else {
+      resetTabIndices( shell );
+      // tabIndex must be a positive value
+      computeTabIndices( shell, 1 );
+    }
   }
 
   private static void resetTabIndices( Composite composite ) {
@@ -106,6 +144,37 @@ public class ControlLCAUtil {
     return result;
   }
 
+  private static int collectTabIndices( Composite composite,
+                                        int startIndex,
+                                        Map<Control, Integer> tabIndices )
+  {
+    int result = startIndex;
+    for( Control control : composite.getTabList() ) {
+      tabIndices.put( control, Integer.valueOf( result ) );
+      // for Links, leave a range out to be assigned to hrefs on the client
+      result += control instanceof Link ? 300 : 1;
+      if( control instanceof Composite ) {
+        result = collectTabIndices( ( Composite )control, result, tabIndices );
+      }
+    }
+    return result;
+  }
+
+  private static void applyTabIndices( Composite composite, Map<Control, Integer> tabIndices ) {
+    for( Control control : composite.getChildren() ) {
+      Integer tabIndex = tabIndices.get( control );
+      int index = tabIndex == null ? -1 : tabIndex.intValue();
+      IControlAdapter controlAdapter = getControlAdapter( control );
+      // in change tracking mode, setting the tab index preserves it and marks the control changed
+      if( controlAdapter.getTabIndex() != index || !getRemoteAdapter( control ).isInitialized() ) {
+        controlAdapter.setTabIndex( index );
+      }
+      if( control instanceof Composite ) {
+        applyTabIndices( ( Composite )control, tabIndices );
+      }
+    }
+  }
+
   private static void renderListenActivate( Control control ) {
     // Note: Shell "Activate" event is handled by ShellLCA
     if( !( control instanceof Shell ) ) {
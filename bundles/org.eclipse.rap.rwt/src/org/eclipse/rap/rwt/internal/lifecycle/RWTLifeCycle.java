@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,12 @@
 package org.eclipse.rap.rwt.internal.lifecycle;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.IPhase.IInterruptible;
 import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
@@ -184,13 +186,17 @@ public class RWTLifeCycle extends LifeCycle {
     UISession uiSession = ContextProvider.getUISession();
     IUIThreadHolder uiThread = getUIThreadHolder();
     if( uiThread == null ) {
-      uiThread = createUIThread();
+      final IUIThreadHolder newUIThread = createUIThread();
       // The serviceContext MUST be set before thread.start() is called
-      uiThread.setServiceContext( context );
-      synchronized( uiThread.getLock() ) {
-        uiThread.getThread().start();
-        uiThread.switchThread();
-      }
+      newUIThread.setServiceContext( context );
+      runLocked( newUIThread.getLock(), new Runnable() {
+        @Override
+        public void run() {
+          newUIThread.getThread().start();
+          newUIThread.switchThread();
+        }
+      } );
+      uiThread = newUIThread;
     } else {
       uiThread.setServiceContext( context );
       // See bug 354368
@@ -237,8 +243,14 @@ public class RWTLifeCycle extends LifeCycle {
 
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
-    result.getThread().setDaemon( true );
+    IUIThreadHolder result;
+    if( RWTProperties.useVirtualUIThreads() && VirtualUIThread.isSupported() ) {
+      // virtual threads are always daemon threads
+      result = new VirtualUIThread( uiRunnable );
+    } else {
+      result = new UIThread( uiRunnable );
+      result.getThread().setDaemon( true );
+    }
     result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
     LifeCycleUtil.setUIThread( uiSession, result );
     setShutdownAdapter( ( ISessionShutdownAdapter )result );
@@ -270,6 +282,34 @@ public class RWTLifeCycle extends LifeCycle {
     return LifeCycleUtil.getUIThread( ContextProvider.getUISession() );
   }
 
+  private static IUIThreadHolder getCurrentUIThreadHolder() {
+    Thread currentThread = Thread.currentThread();
+    if( currentThread instanceof IUIThreadHolder ) {
+      return ( IUIThreadHolder )currentThread;
+    }
+    return VirtualUIThread.getCurrent();
+  }
+
+  /*
+   * Executes the given runnable while holding the lock of a UI thread holder. Holders that run on
+   * virtual threads provide an explicit lock in order not to pin the carrier thread.
+   */
+  private static void runLocked( Object lock, Runnable runnable ) {
+    if( lock instanceof Lock ) {
+      Lock explicitLock = ( Lock )lock;
+      explicitLock.lock();
+      try {
+        runnable.run();
+      } finally {
+        explicitLock.unlock();
+      }
+    } else {
+      synchronized( lock ) {
+        runnable.run();
+      }
+    }
+  }
+
   private static final class PhaseExecutionError extends ThreadDeath {
     public PhaseExecutionError( Throwable cause ) {
       initCause( cause );
@@ -279,36 +319,43 @@ public class RWTLifeCycle extends LifeCycle {
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      final IUIThreadHolder uiThread = getCurrentUIThreadHolder();
       try {
         // [rh] sync exception handling and switchThread (see bug 316676)
-        synchronized( uiThread.getLock() ) {
-          try {
-            uiThread.updateServiceContext();
-            ServerPushManager.getInstance().notifyUIThreadStart();
-            continueLifeCycle();
-            createUI();
-            continueLifeCycle();
-            ServerPushManager.getInstance().notifyUIThreadEnd();
-          } catch( UIThreadTerminatedError thr ) {
-            throw thr;
-          } catch( Throwable thr ) {
-            ServiceStore serviceStore = ContextProvider.getServiceStore();
-            serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
+        runLocked( uiThread.getLock(), new Runnable() {
+          @Override
+          public void run() {
+            runUI( uiThread );
           }
-          // We have to prevent the ui thread from waking up at that point, otherwise
-          // processShutdown would never be executed and session store would not be cleared.
-          // See bug 354368
-          UISession uiSession = ContextProvider.getUISession();
-          uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
-          // In any case: wait for the thread to be terminated by session timeout
-          uiThread.switchThread();
-        }
+        } );
       } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
         // If we get here, the session is being invalidated, see UIThread#terminateThread()
         ( ( ISessionShutdownAdapter )uiThread ).processShutdown();
       }
     }
+
+    private void runUI( IUIThreadHolder uiThread ) {
+      try {
+        uiThread.updateServiceContext();
+        ServerPushManager.getInstance().notifyUIThreadStart();
+        continueLifeCycle();
+        createUI();
+        continueLifeCycle();
+        ServerPushManager.getInstance().notifyUIThreadEnd();
+      } catch( UIThreadTerminatedError thr ) {
+        throw thr;
+      } catch( Throwable thr ) {
+        ServiceStore serviceStore = ContextProvider.getServiceStore();
+        serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
+      }
+      // We have to prevent the ui thread from waking up at that point, otherwise
+      // processShutdown would never be executed and session store would not be cleared.
+      // See bug 354368
+      UISession uiSession = ContextProvider.getUISession();
+      uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
+      // In any case: wait for the thread to be terminated by session timeout
+      uiThread.switchThread();
+    }
   }
 
 }
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.rap.rwt.internal.protocol.RenderFragment;
+
+
+/*
+ * The operations rendered for new widgets in all sessions of an application, by render cache
+ * key. Once the maximum size is reached, new fragments are no longer stored. The fragments of
+ * an application are expected to converge on a small set of widget configurations, so that
+ * entries are not evicted.
+ */
+public final class RenderCache {
+
+  public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+  private final ConcurrentMap<RenderCacheKey, RenderFragment> fragments;
+  private final int maximumSize;
+  private final AtomicLong hitCount;
+  private final AtomicLong missCount;
+
+  public RenderCache() {
+    this( DEFAULT_MAXIMUM_SIZE );
+  }
+
+  public RenderCache( int maximumSize ) {
+    this.maximumSize = maximumSize;
+    fragments = new ConcurrentHashMap<>();
+    hitCount = new AtomicLong();
+    missCount = new AtomicLong();
+  }
+
+  public RenderFragment get( RenderCacheKey key ) {
+    RenderFragment result = fragments.get( key );
+    if( result != null ) {
+      hitCount.incrementAndGet();
+    } else {
+      missCount.incrementAndGet();
+    }
+    return result;
+  }
+
+  public void put( RenderCacheKey key, RenderFragment fragment ) {
+    // the size check is racy, the map may exceed the maximum size by the number of UI threads
+    if( fragments.size() < maximumSize ) {
+      fragments.putIfAbsent( key, fragment );
+    }
+  }
+
+  public int getSize() {
+    return fragments.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public void clear() {
+    fragments.clear();
+  }
+
+}
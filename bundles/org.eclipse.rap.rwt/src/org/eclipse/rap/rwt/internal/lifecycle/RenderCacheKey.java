@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/*
+ * Identifies the operations that an LCA renders for a new widget. Two keys are equal if they were
+ * created for the same LCA type and widget style and the same values were added in the same
+ * order. Keys are shared between sessions, therefore only immutable values that do not reference
+ * widgets or session resources (strings, numbers, booleans and JSON values) may be added.
+ */
+public final class RenderCacheKey {
+
+  private final Class<?> type;
+  private final int style;
+  private final List<Object> values;
+
+  public RenderCacheKey( Class<?> type, int style ) {
+    this.type = type;
+    this.style = style;
+    values = new ArrayList<>();
+  }
+
+  public RenderCacheKey add( Object value ) {
+    values.add( value );
+    return this;
+  }
+
+  public RenderCacheKey add( int value ) {
+    return add( Integer.valueOf( value ) );
+  }
+
+  public RenderCacheKey add( long value ) {
+    return add( Long.valueOf( value ) );
+  }
+
+  public RenderCacheKey add( boolean value ) {
+    return add( Boolean.valueOf( value ) );
+  }
+
+  @Override
+  public boolean equals( Object object ) {
+    if( object == this ) {
+      return true;
+    }
+    if( object instanceof RenderCacheKey ) {
+      RenderCacheKey other = ( RenderCacheKey )object;
+      return type == other.type && style == other.style && values.equals( other.values );
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * ( 31 * type.hashCode() + style ) + values.hashCode();
+  }
+
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/**
+ * A UI thread holder that runs the UI code on a virtual thread (Java 21 and later).
+ * <p>
+ * In contrast to <code>UIThread</code>, the hand-over between request thread and UI thread is
+ * done with a <code>ReentrantLock</code> and a <code>Condition</code> instead of an object
+ * monitor. A virtual thread that waits on a condition unmounts from its carrier thread, whereas
+ * waiting in <code>Object.wait()</code> would pin it.
+ * </p>
+ */
+@SuppressWarnings( "deprecation" )
+final class VirtualUIThread implements IUIThreadHolder, ISessionShutdownAdapter {
+
+  private static final ThreadLocal<VirtualUIThread> CURRENT = new ThreadLocal<>();
+  private static final Method OF_VIRTUAL = findMethod( Thread.class, "ofVirtual" );
+  private static final Method UNSTARTED = findMethod( findClass( "java.lang.Thread$Builder" ),
+                                                      "unstarted",
+                                                      Runnable.class );
+
+  private final ReentrantLock lock;
+  private final Condition switched;
+  private final Thread thread;
+  private final UIThreadSupport support;
+
+  VirtualUIThread( Runnable runnable ) {
+    lock = new ReentrantLock();
+    switched = lock.newCondition();
+    thread = createVirtualThread( new CurrentHolderRunnable( runnable ) );
+    support = new UIThreadSupport() {
+      @Override
+      Thread getThread() {
+        return thread;
+      }
+      @Override
+      void signalAll() {
+        switched.signalAll();
+      }
+      @Override
+      void await() throws InterruptedException {
+        switched.await();
+      }
+      @Override
+      void interruptThread() {
+        lock.lock();
+        try {
+          thread.interrupt();
+        } finally {
+          lock.unlock();
+        }
+      }
+    };
+  }
+
+  static boolean isSupported() {
+    return OF_VIRTUAL != null && UNSTARTED != null;
+  }
+
+  static VirtualUIThread getCurrent() {
+    return CURRENT.get();
+  }
+
+  //////////////////////////
+  // interface IThreadHolder
+
+  @Override
+  public void setServiceContext( ServiceContext serviceContext ) {
+    support.setServiceContext( serviceContext );
+  }
+
+  @Override
+  public void updateServiceContext() {
+    support.updateServiceContext();
+  }
+
+  @Override
+  public void switchThread() {
+    lock.lock();
+    try {
+      support.switchThread();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void terminateThread() {
+    support.terminateThread();
+  }
+
+  @Override
+  public Thread getThread() {
+    return thread;
+  }
+
+  @Override
+  public Object getLock() {
+    return lock;
+  }
+
+  ////////////////////////////////////
+  // interface ISessionShutdownAdapter
+
+  @Override
+  public void setUISession( UISession uiSession ) {
+    support.setUISession( uiSession );
+  }
+
+  @Override
+  public void setShutdownCallback( Runnable shutdownCallback ) {
+    support.setShutdownCallback( shutdownCallback );
+  }
+
+  @Override
+  public void interceptShutdown() {
+    terminateThread();
+  }
+
+  @Override
+  public void processShutdown() {
+    support.processShutdown();
+  }
+
+  private static Thread createVirtualThread( Runnable runnable ) {
+    if( !isSupported() ) {
+      throw new UnsupportedOperationException( "Virtual threads are not supported by this JVM" );
+    }
+    try {
+      Object builder = OF_VIRTUAL.invoke( null );
+      return ( Thread )UNSTARTED.invoke( builder, runnable );
+    } catch( Exception exception ) {
+      throw new IllegalStateException( "Failed to create virtual UI thread", exception );
+    }
+  }
+
+  private static Class<?> findClass( String name ) {
+    try {
+      return Class.forName( name );
+    } catch( @SuppressWarnings( "unused" ) ClassNotFoundException exception ) {
+      return null;
+    }
+  }
+
+  private static Method findMethod( Class<?> type, String name, Class<?>... parameterTypes ) {
+    if( type != null ) {
+      try {
+        return type.getMethod( name, parameterTypes );
+      } catch( @SuppressWarnings( "unused" ) NoSuchMethodException exception ) {
+        // not available on this JVM
+      }
+    }
+    return null;
+  }
+
+  private final class CurrentHolderRunnable implements Runnable {
+
+    private final Runnable runnable;
+
+    CurrentHolderRunnable( Runnable runnable ) {
+      this.runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+      CURRENT.set( VirtualUIThread.this );
+      try {
+        if( runnable != null ) {
+          runnable.run();
+        }
+      } finally {
+        CURRENT.remove();
+      }
+    }
+
+  }
+
+}
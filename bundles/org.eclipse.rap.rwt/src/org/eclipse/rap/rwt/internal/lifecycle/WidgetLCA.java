@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,9 +20,12 @@ import java.util.List;
 
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.Operation;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
+import org.eclipse.rap.rwt.internal.protocol.RenderFragment;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectImpl;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
@@ -36,8 +39,10 @@ public abstract class WidgetLCA<T extends Widget>  {
     WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( widget );
     if( !adapter.isInitialized() ) {
       renderInitialization( widget );
+      renderInitialChanges( widget );
+    } else {
+      renderChanges( widget );
     }
-    renderChanges( widget );
     adapter.setInitialized( true );
   }
 
@@ -53,6 +58,30 @@ public abstract class WidgetLCA<T extends Widget>  {
     }
   }
 
+  /**
+   * Returns whether all properties rendered by this LCA are preserved by the widget itself when
+   * they are changed. In change tracking mode, <code>preserveValues</code> is not called for such
+   * widgets and they are only rendered after a value has been preserved in their remote adapter.
+   * The parent chain of the widget must lead through the widgets that contain it in the widget
+   * tree.
+   */
+  public boolean isChangeTracking() {
+    return false;
+  }
+
+  /**
+   * Returns a key that identifies the operations rendered by <code>renderChanges</code> for the
+   * given widget while it is not yet initialized, or <code>null</code> if they must not be taken
+   * from the render cache. The operations recorded for a key are replayed for every new widget
+   * with an equal key, in any session of the application. Therefore the key has to cover all
+   * values that <code>renderChanges</code> depends on, and <code>renderChanges</code> must not have
+   * side effects other than rendering properties, listeners and calls of the widget itself.
+   */
+  @SuppressWarnings( "unused" )
+  public RenderCacheKey getRenderCacheKey( T widget ) {
+    return null;
+  }
+
   public abstract void preserveValues( T widget );
 
   public abstract void renderInitialization( T widget ) throws IOException;
@@ -74,6 +103,31 @@ public abstract class WidgetLCA<T extends Widget>  {
   public void doRedrawFake( Control control ) {
   }
 
+  private void renderInitialChanges( T widget ) throws IOException {
+    RenderCache renderCache = ContextProvider.getApplicationContext().getRenderCache();
+    RenderCacheKey key = renderCache == null ? null : getRenderCacheKey( widget );
+    if( key == null ) {
+      renderChanges( widget );
+    } else {
+      ProtocolMessageWriter writer = ContextProvider.getProtocolWriter();
+      String id = getId( widget );
+      RenderFragment fragment = renderCache.get( key );
+      if( fragment != null ) {
+        fragment.replay( writer, id );
+      } else {
+        writer.startRecording( id );
+        try {
+          renderChanges( widget );
+        } finally {
+          fragment = writer.stopRecording();
+        }
+        if( fragment != null ) {
+          renderCache.put( key, fragment );
+        }
+      }
+    }
+  }
+
   private static OperationHandler getOperationHandler( String id ) {
     RemoteObjectImpl remoteObject = RemoteObjectRegistry.getInstance().get( id );
     if( remoteObject == null ) {
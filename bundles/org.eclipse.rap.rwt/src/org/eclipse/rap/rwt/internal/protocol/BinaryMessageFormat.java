@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonObject.Member;
+import org.eclipse.rap.json.JsonValue;
+
+
+/**
+ * A compact binary representation of protocol messages. The message is encoded as a tree of
+ * tagged values, integers between 0 and 127 take a single byte. Every string that occurs in a
+ * message is written once, further occurrences, e.g. of widget ids and property names, refer to it
+ * by index. Strings that are also used in other messages of the UI session are taken from a
+ * {@link StringDictionary} that is kept by the client between messages. The decoder of the web
+ * client is <code>rwt.remote.BinaryMessageDecoder</code>.
+ * <p>
+ * A message starts with the format version byte and the varint size of the dictionary that the
+ * message expects the client to know, followed by the encoded value:
+ * </p>
+ * <pre>
+ * 0x00 - 0x7f  integer 0 - 127
+ * 0x80         null
+ * 0x81         false
+ * 0x82         true
+ * 0x83         integer, 4 bytes big endian
+ * 0x84         number, 8 bytes IEEE 754 big endian
+ * 0x85         string, varint byte length and UTF-8 bytes, added to the string table
+ * 0x86         string, varint index into the string table
+ * 0x87         array, varint length and values
+ * 0x88         object, varint length and pairs of string and value
+ * 0x89         string, varint byte length and UTF-8 bytes, added to the dictionary
+ * 0x8a         string, varint index into the dictionary
+ * </pre>
+ * Varints are unsigned and use 7 bits per byte, the least significant group first.
+ */
+public final class BinaryMessageFormat {
+
+  public static final String ENCODING = "binary";
+  public static final int VERSION = 2;
+
+  static final int MAX_FIXINT = 0x7f;
+  static final int NULL = 0x80;
+  static final int FALSE = 0x81;
+  static final int TRUE = 0x82;
+  static final int INT32 = 0x83;
+  static final int FLOAT64 = 0x84;
+  static final int STRING = 0x85;
+  static final int STRING_REF = 0x86;
+  static final int ARRAY = 0x87;
+  static final int OBJECT = 0x88;
+  static final int DICTIONARY_STRING = 0x89;
+  static final int DICTIONARY_REF = 0x8a;
+
+  private static final String HEAD = "head";
+  private static final String OPERATIONS = "operations";
+
+  private BinaryMessageFormat() {
+    // prevent instantiation
+  }
+
+  public static void write( JsonValue message, OutputStream outputStream ) throws IOException {
+    write( message, outputStream, null );
+  }
+
+  /*
+   * Writes the message using and extending the given dictionary, which must be the dictionary
+   * of the client that receives the message. The dictionary may be null.
+   */
+  public static void write( JsonValue message,
+                            OutputStream outputStream,
+                            StringDictionary dictionary ) throws IOException
+  {
+    DataOutputStream output = new DataOutputStream( new BufferedOutputStream( outputStream ) );
+    Encoder encoder = new Encoder( output, dictionary );
+    output.writeByte( VERSION );
+    encoder.writeVarint( dictionary == null ? 0 : dictionary.getSize() );
+    encoder.writeValue( message );
+    output.flush();
+  }
+
+  /*
+   * Writes a response message from its operations, without creating the JSON representation of
+   * the whole message. Responses in the binary format are not streamed, a StreamedResponseMessage
+   * is only written after its operations have been parsed again.
+   */
+  public static void write( ResponseMessage message,
+                            OutputStream outputStream,
+                            StringDictionary dictionary ) throws IOException
+  {
+    DataOutputStream output = new DataOutputStream( new BufferedOutputStream( outputStream ) );
+    Encoder encoder = new Encoder( output, dictionary );
+    output.writeByte( VERSION );
+    encoder.writeVarint( dictionary == null ? 0 : dictionary.getSize() );
+    encoder.writeObjectStart( 2 );
+    encoder.writeString( HEAD, true );
+    encoder.writeValue( message.getHead() );
+    encoder.writeString( OPERATIONS, true );
+    List<Operation> operations = message.getOperations();
+    encoder.writeArrayStart( operations.size() );
+    for( Operation operation : operations ) {
+      encoder.writeValue( operation.toJson() );
+    }
+    output.flush();
+  }
+
+  public static JsonValue read( InputStream inputStream ) throws IOException {
+    return read( inputStream, new ArrayList<String>() );
+  }
+
+  /*
+   * Reads a message using and extending the given list of dictionary strings. Entries that the
+   * message does not expect are removed, e.g. when the dictionary of the sender was reset.
+   */
+  public static JsonValue read( InputStream inputStream, List<String> dictionary )
+    throws IOException
+  {
+    DataInputStream input = new DataInputStream( new BufferedInputStream( inputStream ) );
+    Decoder decoder = new Decoder( input, dictionary );
+    int version = input.readUnsignedByte();
+    if( version != VERSION ) {
+      throw new IOException( "Unsupported binary message version: " + version );
+    }
+    int dictionarySize = decoder.readVarint();
+    if( dictionarySize > dictionary.size() ) {
+      throw new IOException( "Binary message requires unknown dictionary entries" );
+    }
+    dictionary.subList( dictionarySize, dictionary.size() ).clear();
+    return decoder.readValue();
+  }
+
+  private static final class Encoder {
+
+    private final DataOutputStream output;
+    private final StringDictionary dictionary;
+    private final Map<String, Integer> strings;
+
+    Encoder( DataOutputStream output, StringDictionary dictionary ) {
+      this.output = output;
+      this.dictionary = dictionary;
+      strings = new HashMap<>();
+    }
+
+    void writeValue( JsonValue value ) throws IOException {
+      if( value.isNull() ) {
+        output.writeByte( NULL );
+      } else if( value.isBoolean() ) {
+        output.writeByte( value.isTrue() ? TRUE : FALSE );
+      } else if( value.isNumber() ) {
+        writeNumber( value.asDouble() );
+      } else if( value.isString() ) {
+        writeString( value.asString(), false );
+      } else if( value.isArray() ) {
+        writeArray( value.asArray() );
+      } else {
+        writeObject( value.asObject() );
+      }
+    }
+
+    void writeNumber( double number ) throws IOException {
+      int integer = ( int )number;
+      if( integer != number || integer == 0 && 1 / number < 0 ) {
+        output.writeByte( FLOAT64 );
+        output.writeDouble( number );
+      } else if( integer >= 0 && integer <= MAX_FIXINT ) {
+        output.writeByte( integer );
+      } else {
+        output.writeByte( INT32 );
+        output.writeInt( integer );
+      }
+    }
+
+    void writeString( String string, boolean propertyName ) throws IOException {
+      int dictionaryIndex = dictionary == null ? -1 : dictionary.indexOf( string );
+      Integer index = strings.get( string );
+      if( dictionaryIndex != -1 ) {
+        output.writeByte( DICTIONARY_REF );
+        writeVarint( dictionaryIndex );
+      } else if( index != null ) {
+        output.writeByte( STRING_REF );
+        writeVarint( index.intValue() );
+      } else if( dictionary != null && dictionary.add( string, propertyName ) != -1 ) {
+        writeBytes( DICTIONARY_STRING, string );
+      } else {
+        strings.put( string, Integer.valueOf( strings.size() ) );
+        writeBytes( STRING, string );
+      }
+    }
+
+    private void writeBytes( int tag, String string ) throws IOException {
+      byte[] bytes = string.getBytes( UTF_8 );
+      output.writeByte( tag );
+      writeVarint( bytes.length );
+      output.write( bytes );
+    }
+
+    void writeArrayStart( int size ) throws IOException {
+      output.writeByte( ARRAY );
+      writeVarint( size );
+    }
+
+    void writeObjectStart( int size ) throws IOException {
+      output.writeByte( OBJECT );
+      writeVarint( size );
+    }
+
+    private void writeArray( JsonArray array ) throws IOException {
+      writeArrayStart( array.size() );
+      for( JsonValue element : array ) {
+        writeValue( element );
+      }
+    }
+
+    private void writeObject( JsonObject object ) throws IOException {
+      writeObjectStart( object.size() );
+      for( Member member : object ) {
+        writeString( member.getName(), true );
+        writeValue( member.getValue() );
+      }
+    }
+
+    void writeVarint( int value ) throws IOException {
+      int remaining = value;
+      while( ( remaining & ~0x7f ) != 0 ) {
+        output.writeByte( ( remaining & 0x7f ) | 0x80 );
+        remaining >>>= 7;
+      }
+      output.writeByte( remaining );
+    }
+
+  }
+
+  private static final class Decoder {
+
+    private final DataInputStream input;
+    private final List<String> dictionary;
+    private final List<String> strings;
+
+    Decoder( DataInputStream input, List<String> dictionary ) {
+      this.input = input;
+      this.dictionary = dictionary;
+      strings = new ArrayList<>();
+    }
+
+    JsonValue readValue() throws IOException {
+      int tag = input.readUnsignedByte();
+      if( tag <= MAX_FIXINT ) {
+        return JsonValue.valueOf( tag );
+      }
+      switch( tag ) {
+        case NULL:
+          return JsonValue.NULL;
+        case FALSE:
+          return JsonValue.FALSE;
+        case TRUE:
+          return JsonValue.TRUE;
+        case INT32:
+          return JsonValue.valueOf( input.readInt() );
+        case FLOAT64:
+          return JsonValue.valueOf( input.readDouble() );
+        case STRING:
+        case STRING_REF:
+        case DICTIONARY_STRING:
+        case DICTIONARY_REF:
+          return JsonValue.valueOf( readString( tag ) );
+        case ARRAY:
+          return readArray();
+        case OBJECT:
+          return readObject();
+      }
+      throw new IOException( "Invalid tag in binary message: " + tag );
+    }
+
+    private String readString( int tag ) throws IOException {
+      if( tag == STRING_REF ) {
+        return getString( strings, readVarint() );
+      }
+      if( tag == DICTIONARY_REF ) {
+        return getString( dictionary, readVarint() );
+      }
+      byte[] bytes = new byte[ readVarint() ];
+      input.readFully( bytes );
+      String result = new String( bytes, UTF_8 );
+      if( tag == DICTIONARY_STRING ) {
+        dictionary.add( result );
+      } else {
+        strings.add( result );
+      }
+      return result;
+    }
+
+    private static boolean isString( int tag ) {
+      return    tag == STRING
+             || tag == STRING_REF
+             || tag == DICTIONARY_STRING
+             || tag == DICTIONARY_REF;
+    }
+
+    private static String getString( List<String> strings, int index ) throws IOException {
+      if( index >= strings.size() ) {
+        throw new IOException( "Invalid string reference in binary message: " + index );
+      }
+      return strings.get( index );
+    }
+
+    private JsonArray readArray() throws IOException {
+      JsonArray result = new JsonArray();
+      int length = readVarint();
+      for( int i = 0; i < length; i++ ) {
+        result.add( readValue() );
+      }
+      return result;
+    }
+
+    private JsonObject readObject() throws IOException {
+      JsonObject result = new JsonObject();
+      int length = readVarint();
+      for( int i = 0; i < length; i++ ) {
+        int tag = input.readUnsignedByte();
+        if( !isString( tag ) ) {
+          throw new IOException( "Invalid object key in binary message: " + tag );
+        }
+        String name = readString( tag );
+        result.add( name, readValue() );
+      }
+      return result;
+    }
+
+    int readVarint() throws IOException {
+      int result = 0;
+      int shift = 0;
+      int current;
+      do {
+        current = input.readUnsignedByte();
+        result |= ( current & 0x7f ) << shift;
+        shift += 7;
+      } while( ( current & 0x80 ) != 0 );
+      return result;
+    }
+
+  }
+
+}
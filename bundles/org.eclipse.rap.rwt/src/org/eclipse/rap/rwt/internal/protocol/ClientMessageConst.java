@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ public final class ClientMessageConst {
   public static final String CONNECTION_ID = "cid";
   public static final String REQUEST_COUNTER = "requestCounter";
   public static final String SHUTDOWN = "shutdown";
+  public static final String ENCODING = "encoding";
 
   // SWT keys used to identify which kind of SWT-Event is requested
   public static final String EVENT_SELECTION = "Selection";
@@ -10,7 +10,9 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.Writer;
 
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
@@ -35,6 +37,25 @@ public abstract class Operation implements Serializable {
     return new JsonArray().add( action ).add( target );
   }
 
+  /*
+   * Writes the same JSON as toJson() without creating the array.
+   */
+  void writeTo( Writer writer ) throws IOException {
+    writer.write( '[' );
+    JsonValue.valueOf( action ).writeTo( writer );
+    writeArgument( writer, JsonValue.valueOf( target ) );
+    writeArgumentsTo( writer );
+    writer.write( ']' );
+  }
+
+  void writeArgumentsTo( Writer writer ) throws IOException {
+  }
+
+  static void writeArgument( Writer writer, JsonValue value ) throws IOException {
+    writer.write( ',' );
+    value.writeTo( writer );
+  }
+
   public static class CreateOperation extends Operation {
 
     private final JsonObject properties;
@@ -63,6 +84,12 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( type ).add( properties );
     }
 
+    @Override
+    void writeArgumentsTo( Writer writer ) throws IOException {
+      writeArgument( writer, JsonValue.valueOf( type ) );
+      writeArgument( writer, properties );
+    }
+
     void putProperty( String key, JsonValue value ) {
       properties.set( key, value );
     }
@@ -99,6 +126,11 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( properties );
     }
 
+    @Override
+    void writeArgumentsTo( Writer writer ) throws IOException {
+      writeArgument( writer, properties );
+    }
+
     void putProperty( String key, JsonValue value ) {
       properties.set( key, value );
     }
@@ -129,6 +161,12 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( method ).add( parameters );
     }
 
+    @Override
+    void writeArgumentsTo( Writer writer ) throws IOException {
+      writeArgument( writer, JsonValue.valueOf( method ) );
+      writeArgument( writer, parameters );
+    }
+
   }
 
   public static class ListenOperation extends Operation {
@@ -153,6 +191,11 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( properties );
     }
 
+    @Override
+    void writeArgumentsTo( Writer writer ) throws IOException {
+      writeArgument( writer, properties );
+    }
+
     void putListener( String event, boolean listening ) {
       properties.set( event, JsonValue.valueOf( listening ) );
     }
@@ -187,6 +230,12 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( event ).add( properties );
     }
 
+    @Override
+    void writeArgumentsTo( Writer writer ) throws IOException {
+      writeArgument( writer, JsonValue.valueOf( event ) );
+      writeArgument( writer, properties );
+    }
+
     void putProperty( String key, JsonValue value ) {
       properties.set( key, value );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2010, 2015 EclipseSource and others.
+* Copyright (c) 2010, 2026 EclipseSource and others.
 * All rights reserved. This program and the accompanying materials
 * are made available under the terms of the Eclipse Public License v1.0
 * which accompanies this distribution, and is available at
@@ -28,6 +28,7 @@ public class ProtocolMessageWriter {
   private final List<Operation> operations;
   private Operation pendingOperation;
   private boolean alreadyCreated;
+  private RenderFragment.Recorder recorder;
 
   public ProtocolMessageWriter() {
     head = new JsonObject();
@@ -48,6 +49,9 @@ public class ProtocolMessageWriter {
   }
 
   public void appendCreate( String target, String type ) {
+    if( recorder != null ) {
+      recorder.invalidate();
+    }
     prepareOperation( new CreateOperation( target, type ) );
   }
 
@@ -68,6 +72,9 @@ public class ProtocolMessageWriter {
   }
 
   public void appendSet( String target, String property, JsonValue value ) {
+    if( recorder != null ) {
+      recorder.recordSet( target, property, value );
+    }
     CreateOperation createOperation = findPendingOperation( target, CreateOperation.class );
     if( createOperation != null ) {
       createOperation.putProperty( property, value );
@@ -82,6 +89,9 @@ public class ProtocolMessageWriter {
   }
 
   public void appendListen( String target, String eventType, boolean listen ) {
+    if( recorder != null ) {
+      recorder.recordListen( target, eventType, listen );
+    }
     ListenOperation operation = findPendingOperation( target, ListenOperation.class );
     if( operation == null ) {
       operation = new ListenOperation( target );
@@ -91,13 +101,37 @@ public class ProtocolMessageWriter {
   }
 
   public void appendCall( String target, String methodName, JsonObject parameters ) {
+    if( recorder != null ) {
+      recorder.recordCall( target, methodName, parameters );
+    }
     prepareOperation( new CallOperation( target, methodName, parameters ) );
   }
 
   public void appendDestroy( String target ) {
+    if( recorder != null ) {
+      recorder.invalidate();
+    }
     prepareOperation( new DestroyOperation( target ) );
   }
 
+  /**
+   * Starts recording the operations that are appended for the given target until
+   * <code>stopRecording</code> is called.
+   */
+  public void startRecording( String target ) {
+    recorder = new RenderFragment.Recorder( target );
+  }
+
+  /**
+   * Stops recording and returns the recorded operations, or <code>null</code> if operations were
+   * appended that cannot be replayed for another target.
+   */
+  public RenderFragment stopRecording() {
+    RenderFragment result = recorder == null ? null : recorder.createFragment();
+    recorder = null;
+    return result;
+  }
+
   private void prepareOperation( Operation operation ) {
     ensureMessagePending();
     appendPendingOperation();
@@ -118,9 +152,17 @@ public class ProtocolMessageWriter {
 
   private ResponseMessage createMessageObject() {
     appendPendingOperation();
+    return createResponseMessage( head );
+  }
+
+  protected ResponseMessage createResponseMessage( JsonObject head ) {
     return new ResponseMessage( head, operations );
   }
 
+  protected void appendOperation( Operation operation ) {
+    operations.add( operation );
+  }
+
   @SuppressWarnings( "unchecked" )
   private <T extends Operation> T findPendingOperation( String target, Class<T> type ) {
     boolean matches =    pendingOperation != null
@@ -131,7 +173,7 @@ public class ProtocolMessageWriter {
 
   private void appendPendingOperation() {
     if( pendingOperation != null ) {
-      operations.add( pendingOperation );
+      appendOperation( pendingOperation );
     }
   }
 
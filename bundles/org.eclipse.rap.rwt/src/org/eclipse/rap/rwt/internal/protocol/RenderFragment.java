@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+
+
+/*
+ * The set, listen and call operations that were rendered for one target, in the order they were
+ * rendered. A fragment does not contain the id of the target it was recorded for and can be
+ * replayed for any other target. The recorded values are shared between all replays and must not
+ * be modified.
+ */
+public final class RenderFragment {
+
+  private static final int SET = 0;
+  private static final int LISTEN = 1;
+  private static final int CALL = 2;
+
+  private final Entry[] entries;
+
+  private RenderFragment( List<Entry> entries ) {
+    this.entries = entries.toArray( new Entry[ entries.size() ] );
+  }
+
+  public void replay( ProtocolMessageWriter writer, String target ) {
+    for( Entry entry : entries ) {
+      switch( entry.kind ) {
+        case SET:
+          writer.appendSet( target, entry.name, entry.value );
+          break;
+        case LISTEN:
+          writer.appendListen( target, entry.name, entry.value.asBoolean() );
+          break;
+        case CALL:
+          writer.appendCall( target, entry.name, ( JsonObject )entry.value );
+          break;
+      }
+    }
+  }
+
+  private static final class Entry {
+    private final int kind;
+    private final String name;
+    private final JsonValue value;
+
+    Entry( int kind, String name, JsonValue value ) {
+      this.kind = kind;
+      this.name = name;
+      this.value = value;
+    }
+  }
+
+  /*
+   * Collects the operations for the recorded target. Any operation for another target, and any
+   * create or destroy operation, makes the recording invalid as it could not be replayed.
+   */
+  static final class Recorder {
+
+    private final String target;
+    private final List<Entry> entries;
+    private boolean valid;
+
+    Recorder( String target ) {
+      this.target = target;
+      entries = new ArrayList<>();
+      valid = true;
+    }
+
+    void recordSet( String target, String property, JsonValue value ) {
+      record( target, SET, property, value );
+    }
+
+    void recordListen( String target, String eventType, boolean listen ) {
+      record( target, LISTEN, eventType, JsonValue.valueOf( listen ) );
+    }
+
+    void recordCall( String target, String methodName, JsonObject parameters ) {
+      record( target, CALL, methodName, parameters );
+    }
+
+    void invalidate() {
+      valid = false;
+    }
+
+    RenderFragment createFragment() {
+      return valid ? new RenderFragment( entries ) : null;
+    }
+
+    private void record( String target, int kind, String name, JsonValue value ) {
+      if( this.target.equals( target ) ) {
+        entries.add( new Entry( kind, name, value ) );
+      } else {
+        valid = false;
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+
+
+/**
+ * A response message whose operations have been written to the response by the
+ * <code>StreamingProtocolMessageWriter</code>. It keeps the head and a UTF-8 copy of the written
+ * operations, which is sent again in response to a duplicate request.
+ * <p>
+ * Responses are only streamed when no message filters are installed, filters always receive the
+ * operations as objects. Parsing the operations from the copy with <code>getOperations</code> or
+ * <code>toJson</code> is meant for tests and debugging.
+ * </p>
+ */
+public class StreamedResponseMessage extends ResponseMessage {
+
+  private static final byte[] HEAD_START = "{\"head\":".getBytes( UTF_8 );
+  private static final byte[] OPERATIONS_START = ",\"operations\":[".getBytes( UTF_8 );
+  private static final byte[] END = "]}".getBytes( UTF_8 );
+
+  private final byte[] operations;
+
+  StreamedResponseMessage( JsonObject head, byte[] operations ) {
+    super( head, Collections.<Operation>emptyList() );
+    this.operations = operations;
+  }
+
+  public void writeTo( OutputStream outputStream ) throws IOException {
+    outputStream.write( HEAD_START );
+    outputStream.write( getHead().toString().getBytes( UTF_8 ) );
+    outputStream.write( OPERATIONS_START );
+    outputStream.write( operations );
+    outputStream.write( END );
+  }
+
+  @Override
+  public List<Operation> getOperations() {
+    return new ResponseMessage( toJson() ).getOperations();
+  }
+
+  @Override
+  public JsonObject toJson() {
+    JsonArray operationsArray = JsonArray.readFrom( "[" + new String( operations, UTF_8 ) + "]" );
+    return new JsonObject().add( "head", getHead() ).add( "operations", operationsArray );
+  }
+
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonObject;
+
+
+/**
+ * A protocol message writer that writes every completed operation to the response as soon as
+ * streaming has been started with <code>streamTo</code>. The operations are written field by
+ * field, neither the operations nor a JSON tree of the message are kept until the end of the
+ * request. A UTF-8 copy of the written operations is kept for the duplicate request buffer.
+ * <p>
+ * As the head can still change after the operations are rendered, it is written last by
+ * <code>finish</code>. Until streaming is started, the writer keeps the operations like a
+ * <code>ProtocolMessageWriter</code> and creates a plain response message.
+ * </p>
+ */
+public class StreamingProtocolMessageWriter extends ProtocolMessageWriter {
+
+  private static final String OPERATIONS_START = "{\"operations\":[";
+  private static final String HEAD_START = "],\"head\":";
+  private static final int INITIAL_COPY_SIZE = 8192;
+
+  private final List<Operation> operations;
+  private ByteArrayOutputStream copy;
+  private Writer output;
+  private Writer writer;
+  private JsonObject head;
+  private boolean started;
+
+  public StreamingProtocolMessageWriter() {
+    operations = new ArrayList<>();
+  }
+
+  /**
+   * Starts writing the operations to the given writer, including the operations that have been
+   * appended before.
+   */
+  public void streamTo( Writer output ) {
+    if( writer != null ) {
+      throw new IllegalStateException( "Streaming already started" );
+    }
+    this.output = output;
+    copy = new ByteArrayOutputStream( INITIAL_COPY_SIZE );
+    Writer copyWriter = new OutputStreamWriter( copy, StandardCharsets.UTF_8 );
+    writer = new BufferedWriter( new TeeWriter( output, copyWriter ) );
+    for( Operation operation : operations ) {
+      writeOperation( operation );
+    }
+    operations.clear();
+  }
+
+  /**
+   * Writes the head and the end of the message. Must be called after the message has been
+   * created.
+   */
+  public void finish() throws IOException {
+    if( head == null ) {
+      throw new IllegalStateException( "Message not created" );
+    }
+    if( !started ) {
+      output.write( OPERATIONS_START );
+    }
+    output.write( HEAD_START );
+    head.writeTo( output );
+    output.write( '}' );
+  }
+
+  @Override
+  protected void appendOperation( Operation operation ) {
+    if( writer == null ) {
+      operations.add( operation );
+    } else {
+      writeOperation( operation );
+    }
+  }
+
+  @Override
+  protected ResponseMessage createResponseMessage( JsonObject head ) {
+    if( writer == null ) {
+      return new ResponseMessage( head, operations );
+    }
+    this.head = head;
+    try {
+      writer.flush();
+    } catch( IOException exception ) {
+      throw new IllegalStateException( "Failed to write operations", exception );
+    }
+    return new StreamedResponseMessage( head, copy.toByteArray() );
+  }
+
+  private void writeOperation( Operation operation ) {
+    try {
+      if( started ) {
+        writer.write( ',' );
+      } else {
+        // nothing is buffered yet, the start of the message is not part of the copy
+        output.write( OPERATIONS_START );
+        started = true;
+      }
+      operation.writeTo( writer );
+    } catch( IOException exception ) {
+      throw new IllegalStateException( "Failed to write operation", exception );
+    }
+  }
+
+  /*
+   * Passes the written characters to the response and to the copy. Flushing only flushes the copy,
+   * the response is flushed by the container.
+   */
+  private static final class TeeWriter extends Writer {
+
+    private final Writer output;
+    private final Writer copy;
+
+    TeeWriter( Writer output, Writer copy ) {
+      this.output = output;
+      this.copy = copy;
+    }
+
+    @Override
+    public void write( char[] chars, int offset, int length ) throws IOException {
+      output.write( chars, offset, length );
+      copy.write( chars, offset, length );
+    }
+
+    @Override
+    public void flush() throws IOException {
+      copy.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      copy.close();
+    }
+
+  }
+
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/*
+ * The strings that the client of a UI session knows by index, used to encode binary messages.
+ * Property names are added when they are first written, other strings when they occur in a
+ * second message, so that the widget ids and types that are referred to repeatedly end up in the
+ * dictionary while one-off values like texts do not. The dictionary only grows, it is limited to
+ * MAXIMUM_SIZE entries of at most MAXIMUM_LENGTH characters.
+ */
+public final class StringDictionary implements SerializableCompatibility {
+
+  static final int MAXIMUM_SIZE = 8192;
+  static final int MAXIMUM_LENGTH = 64;
+
+  private final Map<String, Integer> indexes;
+  private final Set<String> candidates;
+
+  public static StringDictionary getInstance() {
+    return SingletonUtil.getUniqueInstance( StringDictionary.class, getUISession() );
+  }
+
+  public StringDictionary() {
+    indexes = new HashMap<>();
+    candidates = new HashSet<>();
+  }
+
+  public int getSize() {
+    return indexes.size();
+  }
+
+  int indexOf( String string ) {
+    Integer index = indexes.get( string );
+    return index == null ? -1 : index.intValue();
+  }
+
+  /*
+   * Returns the index of the added string, or -1 if the string is not (yet) added.
+   */
+  int add( String string, boolean propertyName ) {
+    if( indexes.size() >= MAXIMUM_SIZE || string.length() > MAXIMUM_LENGTH ) {
+      return -1;
+    }
+    if( propertyName || candidates.remove( string ) ) {
+      int index = indexes.size();
+      indexes.put( string, Integer.valueOf( index ) );
+      return index;
+    }
+    if( candidates.size() >= MAXIMUM_SIZE ) {
+      candidates.clear();
+    }
+    candidates.add( string );
+    return -1;
+  }
+
+}
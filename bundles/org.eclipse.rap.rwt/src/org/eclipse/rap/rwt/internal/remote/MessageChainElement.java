@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,10 @@ public class MessageChainElement implements MessageFilterChain {
     return filter.handleMessage( request, nextElement );
   }
 
+  boolean hasNextElement() {
+    return nextElement != null;
+  }
+
   public MessageChainElement remove( MessageFilter filter ) {
     if( this.filter == filter ) {
       return nextElement;
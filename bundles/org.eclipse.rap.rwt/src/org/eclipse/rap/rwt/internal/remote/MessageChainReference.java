@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,15 @@ public class MessageChainReference {
     }
   }
 
+  /*
+   * Whether filters have been added in front of the message handler the chain was created with.
+   */
+  public boolean hasFilters() {
+    synchronized( chain ) {
+      return chain.hasNextElement();
+    }
+  }
+
   public void add( MessageFilter filter ) {
     synchronized( chain ) {
       chain = new MessageChainElement( filter, chain );
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Reads the remaining content of a byte buffer, advancing the position of the given buffer.
+ */
+final class ByteBufferInputStream extends InputStream {
+
+  private final ByteBuffer buffer;
+
+  ByteBufferInputStream( ByteBuffer buffer ) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public int read() {
+    return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+  }
+
+  @Override
+  public int read( byte[] bytes, int offset, int length ) {
+    if( length == 0 ) {
+      return 0;
+    }
+    if( !buffer.hasRemaining() ) {
+      return -1;
+    }
+    int count = Math.min( length, buffer.remaining() );
+    buffer.get( bytes, offset, count );
+    return count;
+  }
+
+  @Override
+  public long skip( long count ) {
+    int skipped = ( int )Math.max( 0, Math.min( count, buffer.remaining() ) );
+    buffer.position( buffer.position() + skipped );
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+
+}
+
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Innoopract Informationssysteme GmbH - initial API and implementation
+ *    EclipseSource - ongoing development
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+
+/**
+ * Writes the resources to the resources directory, from where they are served by the servlet
+ * container.
+ */
+public class DirectoryResourceStore implements ResourceStore {
+
+  private final ResourceDirectory resourceDirectory;
+
+  public DirectoryResourceStore( ResourceDirectory resourceDirectory ) {
+    this.resourceDirectory = resourceDirectory;
+  }
+
+  @Override
+  public void store( String path, InputStream content ) throws IOException {
+    File location = getDiskLocation( path );
+    createDirectories( location );
+    writeResource( content, location );
+  }
+
+  @Override
+  public InputStream getContent( String path ) throws IOException {
+    return new FileInputStream( getDiskLocation( path ) );
+  }
+
+  @Override
+  public void remove( String path ) {
+    getDiskLocation( path ).delete();
+  }
+
+  @Override
+  public StoredResource getResource( String path ) {
+    return null;
+  }
+
+  @Override
+  public boolean isDirectoryBased() {
+    return true;
+  }
+
+  File getDiskLocation( String path ) {
+    return new File( resourceDirectory.getDirectory(), path );
+  }
+
+  private static void writeResource( InputStream inputStream, File location )
+    throws IOException
+  {
+    BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
+    OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( location ) );
+    try {
+      byte[] buffer = new byte[ 256 ];
+      int read = bufferedStream.read( buffer );
+      while( read != -1 ) {
+        outputStream.write( buffer, 0, read );
+        read = bufferedStream.read( buffer );
+      }
+    } finally {
+      outputStream.close();
+    }
+  }
+
+  private static void createDirectories( File file ) throws IOException {
+    File dir = new File( file.getParent() );
+    if( !dir.mkdirs() ) {
+      if( !dir.exists() ) {
+        throw new IOException( "Could not create directory structure: " + dir.getAbsolutePath() );
+      }
+    }
+  }
+
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Writes the resources to the resources directory like the {@link DirectoryResourceStore}, and
+ * maps each file into memory once it is written. Reading the content of a registered resource
+ * does not open the file again. As the files are served by the servlet container, no entity tags
+ * or compressed variants are computed.
+ * <p>
+ * Note that on Windows, mapped files cannot be deleted before the mapping is garbage collected.
+ * </p>
+ */
+public class MappedFileResourceStore extends DirectoryResourceStore {
+
+  private final Map<String, ByteBuffer> resources;
+
+  public MappedFileResourceStore( ResourceDirectory resourceDirectory ) {
+    super( resourceDirectory );
+    resources = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void store( String path, InputStream content ) throws IOException {
+    if( resources.remove( path ) != null ) {
+      // Remove the mapped file instead of overwriting it, existing mappings must not change
+      super.remove( path );
+    }
+    super.store( path, content );
+    resources.put( path, map( getDiskLocation( path ) ) );
+  }
+
+  @Override
+  public InputStream getContent( String path ) throws IOException {
+    ByteBuffer buffer = resources.get( path );
+    if( buffer == null ) {
+      throw new FileNotFoundException( path );
+    }
+    return new ByteBufferInputStream( buffer.duplicate() );
+  }
+
+  @Override
+  public void remove( String path ) {
+    resources.remove( path );
+    super.remove( path );
+  }
+
+  private static ByteBuffer map( File file ) throws IOException {
+    RandomAccessFile randomAccessFile = new RandomAccessFile( file, "r" );
+    try {
+      FileChannel channel = randomAccessFile.getChannel();
+      return channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Keeps the resources in memory, either on the heap or in direct buffers. Nothing is written to
+ * disk, the resources have to be served by the <code>RWTResourceServlet</code>.
+ */
+public class MemoryResourceStore implements ResourceStore {
+
+  private final boolean direct;
+  private final Map<String, StoredResource> resources;
+
+  public MemoryResourceStore( boolean direct ) {
+    this.direct = direct;
+    resources = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void store( String path, InputStream content ) throws IOException {
+    byte[] bytes = read( content );
+    ByteBuffer buffer;
+    if( direct ) {
+      buffer = ByteBuffer.allocateDirect( bytes.length );
+      buffer.put( bytes ).flip();
+    } else {
+      buffer = ByteBuffer.wrap( bytes );
+    }
+    resources.put( path, StoredResource.create( path, buffer, direct ) );
+  }
+
+  @Override
+  public InputStream getContent( String path ) throws IOException {
+    StoredResource resource = resources.get( path );
+    if( resource == null ) {
+      throw new FileNotFoundException( path );
+    }
+    return resource.getContent();
+  }
+
+  @Override
+  public void remove( String path ) {
+    resources.remove( path );
+  }
+
+  @Override
+  public StoredResource getResource( String path ) {
+    return resources.get( path );
+  }
+
+  @Override
+  public boolean isDirectoryBased() {
+    return false;
+  }
+
+  private static byte[] read( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 8192 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      outputStream.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return outputStream.toByteArray();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,15 +12,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.resources;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -46,14 +39,22 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  */
 public class ResourceManagerImpl implements ResourceManager {
 
-  private final ResourceDirectory resourceDirectory;
+  private final ResourceStore resourceStore;
   private final Set<String> resources;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
-    this.resourceDirectory = resourceDirectory;
+    this( new DirectoryResourceStore( resourceDirectory ) );
+  }
+
+  public ResourceManagerImpl( ResourceStore resourceStore ) {
+    this.resourceStore = resourceStore;
     resources = Collections.synchronizedSet( new HashSet<String>() );
   }
 
+  public ResourceStore getResourceStore() {
+    return resourceStore;
+  }
+
   /////////////////////////////
   // interface ResourceManager
 
@@ -90,8 +91,7 @@ public class ResourceManagerImpl implements ResourceManager {
     boolean result = false;
     if( resources.remove( name ) ) {
       result = true;
-      File file = getDiskLocation( name );
-      file.delete();
+      resourceStore.remove( escapeResourceName( name ) );
     }
     return result;
   }
@@ -116,11 +116,10 @@ public class ResourceManagerImpl implements ResourceManager {
     ParamCheck.notNull( name, "name" );
     InputStream result = null;
     if( resources.contains( name ) ) {
-      File file = getDiskLocation( name );
       try {
-        result = new FileInputStream( file );
-      } catch( FileNotFoundException fnfe ) {
-        throw new RuntimeException( fnfe );
+        result = resourceStore.getContent( escapeResourceName( name ) );
+      } catch( IOException ioe ) {
+        throw new RuntimeException( ioe );
       }
     }
     return result;
@@ -138,47 +137,14 @@ public class ResourceManagerImpl implements ResourceManager {
   }
 
   private void internalRegister( String name, InputStream inputStream ) {
-    File location = getDiskLocation( name );
     try {
-      createDirectories( location );
-      writeResource( inputStream, location );
+      resourceStore.store( escapeResourceName( name ), inputStream );
     } catch ( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
     }
     resources.add( name );
   }
 
-  private static void writeResource( InputStream inputStream, File location )
-    throws IOException
-  {
-    BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-    OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( location ) );
-    try {
-      byte[] buffer = new byte[ 256 ];
-      int read = bufferedStream.read( buffer );
-      while( read != -1 ) {
-        outputStream.write( buffer, 0, read );
-        read = bufferedStream.read( buffer );
-      }
-    } finally {
-      outputStream.close();
-    }
-  }
-
-  private static void createDirectories( File file ) throws IOException {
-    File dir = new File( file.getParent() );
-    if( !dir.mkdirs() ) {
-      if( !dir.exists() ) {
-        throw new IOException( "Could not create directory structure: " + dir.getAbsolutePath() );
-      }
-    }
-  }
-
-  private File getDiskLocation( String resourceName ) {
-    String escapedResourceName = escapeResourceName( resourceName );
-    return new File( resourceDirectory.getDirectory(), escapedResourceName );
-  }
-
   //////////////////
   // helping methods
 
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+
+/**
+ * Keeps the content of the resources that are registered with the resource manager. Paths are
+ * relative to the resources directory and already escaped.
+ */
+public interface ResourceStore {
+
+  void store( String path, InputStream content ) throws IOException;
+
+  /**
+   * @throws IOException if there is no resource with the given path or it cannot be read
+   */
+  InputStream getContent( String path ) throws IOException;
+
+  void remove( String path );
+
+  /**
+   * Returns the resource with the given path if its content is held in memory, so that it can
+   * be served by the <code>RWTResourceServlet</code>.
+   *
+   * @return the resource or <code>null</code> if there is no such resource or if the store does
+   *         not keep its content in memory
+   */
+  StoredResource getResource( String path );
+
+  /**
+   * @return whether the resources are written to the resources directory, where they can be
+   *         served by the servlet container
+   */
+  boolean isDirectoryBased();
+
+}
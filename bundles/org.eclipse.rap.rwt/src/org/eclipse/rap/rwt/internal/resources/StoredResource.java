@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * The content of a resource that is held in memory, together with its entity tag and, for
+ * textual resources, a gzip compressed variant. Both are computed once when the resource is
+ * registered. The buffers are never exposed, heap buffers are written to a stream without
+ * copying.
+ */
+public final class StoredResource {
+
+  private static final int MIN_COMPRESSED_LENGTH = 256;
+  private static final int CHUNK_SIZE = 8192;
+  private static final String[] COMPRESSIBLE_EXTENSIONS = {
+    ".js", ".css", ".json", ".html", ".htm", ".txt", ".svg", ".xml"
+  };
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final ByteBuffer content;
+  private final ByteBuffer gzipContent;
+  private final String etag;
+  private final String gzipETag;
+
+  StoredResource( ByteBuffer content, ByteBuffer gzipContent, String etag ) {
+    this.content = content;
+    this.gzipContent = gzipContent;
+    this.etag = etag;
+    // both variants are different representations and must not share a strong entity tag
+    gzipETag = gzipContent == null ? null : etag.substring( 0, etag.length() - 1 ) + "-gz\"";
+  }
+
+  /**
+   * @param direct whether a compressed variant is kept in a direct buffer
+   */
+  static StoredResource create( String path, ByteBuffer content, boolean direct )
+    throws IOException
+  {
+    ByteBuffer gzipContent = null;
+    if( isCompressible( path, content ) ) {
+      gzipContent = compress( content, direct );
+    }
+    return new StoredResource( content, gzipContent, createETag( content ) );
+  }
+
+  public String getETag() {
+    return etag;
+  }
+
+  /**
+   * @return the entity tag of the gzip compressed variant or <code>null</code> if there is none
+   */
+  public String getGzipETag() {
+    return gzipETag;
+  }
+
+  public int getLength() {
+    return content.remaining();
+  }
+
+  public boolean hasGzipContent() {
+    return gzipContent != null;
+  }
+
+  public int getGzipLength() {
+    return gzipContent == null ? -1 : gzipContent.remaining();
+  }
+
+  public InputStream getContent() {
+    return new ByteBufferInputStream( content.duplicate() );
+  }
+
+  public void writeTo( OutputStream outputStream, boolean gzip ) throws IOException {
+    write( gzip ? gzipContent : content, outputStream );
+  }
+
+  private static void write( ByteBuffer buffer, OutputStream outputStream ) throws IOException {
+    if( buffer.hasArray() ) {
+      int offset = buffer.arrayOffset() + buffer.position();
+      outputStream.write( buffer.array(), offset, buffer.remaining() );
+    } else {
+      ByteBuffer source = buffer.duplicate();
+      byte[] chunk = new byte[ Math.min( CHUNK_SIZE, source.remaining() ) ];
+      while( source.hasRemaining() ) {
+        int length = Math.min( chunk.length, source.remaining() );
+        source.get( chunk, 0, length );
+        outputStream.write( chunk, 0, length );
+      }
+    }
+  }
+
+  private static boolean isCompressible( String path, ByteBuffer content ) {
+    if( content.remaining() >= MIN_COMPRESSED_LENGTH ) {
+      String lowerCasePath = path.toLowerCase( Locale.ENGLISH );
+      for( String extension : COMPRESSIBLE_EXTENSIONS ) {
+        if( lowerCasePath.endsWith( extension ) ) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static ByteBuffer compress( ByteBuffer content, boolean direct ) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream( content.remaining() / 3 );
+    GZIPOutputStream gzipStream = new GZIPOutputStream( bytes );
+    try {
+      write( content, gzipStream );
+    } finally {
+      gzipStream.close();
+    }
+    if( bytes.size() >= content.remaining() ) {
+      return null;
+    }
+    byte[] compressed = bytes.toByteArray();
+    if( direct ) {
+      ByteBuffer result = ByteBuffer.allocateDirect( compressed.length );
+      result.put( compressed ).flip();
+      return result;
+    }
+    return ByteBuffer.wrap( compressed );
+  }
+
+  private static String createETag( ByteBuffer content ) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance( "MD5" );
+    } catch( NoSuchAlgorithmException shouldNotHappen ) {
+      throw new RuntimeException( shouldNotHappen );
+    }
+    digest.update( content.duplicate() );
+    byte[] hash = digest.digest();
+    StringBuilder builder = new StringBuilder( hash.length * 2 + 2 );
+    builder.append( '"' );
+    for( byte value : hash ) {
+      builder.append( HEX_DIGITS[ ( value >> 4 ) & 0xF ] ).append( HEX_DIGITS[ value & 0xF ] );
+    }
+    builder.append( '"' );
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.serverpush;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Keeps track of the server push managers of an application that have parked asynchronous
+ * server push requests. A single scheduler thread periodically checks the parked requests of all
+ * sessions, instead of one blocked container thread per session. The scheduler thread only
+ * triggers the checks, the connections of parked requests are probed on container threads.
+ * <p>
+ * Once the registry is deactivated, it refuses to register managers or to schedule checks.
+ * </p>
+ */
+public class AsyncServerPushRegistry {
+
+  private final Map<ServerPushManager, ScheduledFuture<?>> checks;
+  private ScheduledExecutorService scheduler;
+  private boolean deactivated;
+
+  public AsyncServerPushRegistry() {
+    checks = new ConcurrentHashMap<>();
+  }
+
+  /*
+   * Returns false if the registry is deactivated. In that case the manager must not park requests.
+   */
+  synchronized boolean register( final ServerPushManager manager, long checkInterval ) {
+    if( deactivated ) {
+      return false;
+    }
+    if( !checks.containsKey( manager ) ) {
+      Runnable check = new Runnable() {
+        @Override
+        public void run() {
+          manager.checkParkedRequests();
+        }
+      };
+      ScheduledFuture<?> future = getScheduler().scheduleWithFixedDelay( check,
+                                                                        checkInterval,
+                                                                        checkInterval,
+                                                                        TimeUnit.MILLISECONDS );
+      checks.put( manager, future );
+    }
+    return true;
+  }
+
+  /*
+   * Returns false if the registry is deactivated and the check was not scheduled.
+   */
+  synchronized boolean scheduleCheck( final ServerPushManager manager, long delay ) {
+    if( deactivated ) {
+      return false;
+    }
+    Runnable check = new Runnable() {
+      @Override
+      public void run() {
+        manager.checkDelayedRequests();
+      }
+    };
+    getScheduler().schedule( check, delay, TimeUnit.MILLISECONDS );
+    return true;
+  }
+
+  void deregister( ServerPushManager manager ) {
+    ScheduledFuture<?> future = checks.remove( manager );
+    if( future != null ) {
+      future.cancel( false );
+    }
+  }
+
+  int getRegisteredCount() {
+    return checks.size();
+  }
+
+  public void deactivate() {
+    synchronized( this ) {
+      deactivated = true;
+    }
+    List<ServerPushManager> managers = new ArrayList<>( checks.keySet() );
+    for( ServerPushManager manager : managers ) {
+      manager.releaseParkedRequests();
+    }
+    checks.clear();
+    synchronized( this ) {
+      if( scheduler != null ) {
+        scheduler.shutdownNow();
+        scheduler = null;
+      }
+    }
+  }
+
+  private ScheduledExecutorService getScheduler() {
+    if( scheduler == null ) {
+      ThreadFactory threadFactory = new ThreadFactory() {
+        @Override
+        public Thread newThread( Runnable runnable ) {
+          Thread thread = new Thread( runnable, "RWT server push scheduler" );
+          thread.setDaemon( true );
+          return thread;
+        }
+      };
+      ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor( 1, threadFactory );
+      executor.setRemoveOnCancelPolicy( true );
+      scheduler = executor;
+    }
+    return scheduler;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,11 +13,16 @@ package org.eclipse.rap.rwt.internal.serverpush;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -40,14 +45,31 @@ public final class ServerPushManager implements SerializableCompatibility {
   // indicates whether the display has runnables to execute
   private boolean hasRunnables;
   private int requestCheckInterval;
+  // the minimum time between two pushes and the time a push is held back to collect runnables
+  private int minPushInterval;
+  private int batchWindow;
+  private long runnablesPendingSince;
+  // whether the push for the pending runnables was recorded, all requests released for them count
+  // as a single push
+  private boolean pushRecorded;
+  private long lastPushTime;
+  private long wakeUpCount;
+  private long pushCount;
+  private long pushDelaySum;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  private transient List<ParkedRequest> parkedRequests;
+  private transient AsyncServerPushRegistry asyncRegistry;
+  private transient boolean delayedCheckScheduled;
 
   private ServerPushManager() {
     lock = new SerializableLock();
     serverPushActivationTracker = new ServerPushActivationTracker();
     uiThreadRunning = false;
     requestCheckInterval = DEFAULT_REQUEST_CHECK_INTERVAL;
+    minPushInterval = RWTProperties.getServerPushMinInterval();
+    batchWindow = RWTProperties.getServerPushBatchWindow();
     serverPushRequestTracker = new ServerPushRequestTracker();
+    parkedRequests = new ArrayList<>();
   }
 
   public static ServerPushManager getInstance() {
@@ -63,6 +85,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void wakeClient() {
     synchronized( lock ) {
       if( !uiThreadRunning ) {
+        wakeUpCount++;
         releaseBlockedRequest();
       }
     }
@@ -71,11 +94,16 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void releaseBlockedRequest() {
     synchronized( lock ) {
       lock.notifyAll();
+      releaseDueParkedRequests();
     }
   }
 
   public void setHasRunnables( boolean hasRunnables ) {
     synchronized( lock ) {
+      if( hasRunnables && !this.hasRunnables ) {
+        runnablesPendingSince = System.currentTimeMillis();
+        pushRecorded = false;
+      }
       this.hasRunnables = hasRunnables;
     }
     ServiceStore serviceStore = ContextProvider.getServiceStore();
@@ -88,6 +116,48 @@ public final class ServerPushManager implements SerializableCompatibility {
     this.requestCheckInterval = requestCheckInterval;
   }
 
+  public void setMinPushInterval( int minPushInterval ) {
+    synchronized( lock ) {
+      this.minPushInterval = minPushInterval;
+    }
+  }
+
+  public void setBatchWindow( int batchWindow ) {
+    synchronized( lock ) {
+      this.batchWindow = batchWindow;
+    }
+  }
+
+  /*
+   * The number of times the client was woken up because runnables were added while no request was
+   * processed.
+   */
+  public long getWakeUpCount() {
+    synchronized( lock ) {
+      return wakeUpCount;
+    }
+  }
+
+  /*
+   * The number of pushes for pending runnables. Requests that are released for the same pending
+   * runnables count as a single push. Wake-ups that exceed this number were coalesced with others.
+   */
+  public long getPushCount() {
+    synchronized( lock ) {
+      return pushCount;
+    }
+  }
+
+  /*
+   * The sum of the times in milliseconds between the first runnable being added and the push that
+   * rendered it.
+   */
+  public long getPushDelaySum() {
+    synchronized( lock ) {
+      return pushDelaySum;
+    }
+  }
+
   public void notifyUIThreadStart() {
     synchronized( lock ) {
       uiThreadRunning = true;
@@ -129,14 +199,14 @@ public final class ServerPushManager implements SerializableCompatibility {
       if( isCallBackRequestBlocked() ) {
         releaseBlockedRequest();
       }
-      if( mustBlockCallBackRequest() ) {
-        long requestStartTime = System.currentTimeMillis();
+      long requestStartTime = System.currentTimeMillis();
+      if( mustHoldCallBackRequest( requestStartTime ) ) {
         serverPushRequestTracker.activate( Thread.currentThread() );
         TerminationListener listener = attachTerminationListener();
         try {
           boolean canRelease = false;
           while( !canRelease ) {
-            lock.wait( requestCheckInterval );
+            lock.wait( getWaitTime( System.currentTimeMillis() ) );
             canRelease = canReleaseBlockedRequest( response, requestStartTime );
           }
         } catch( @SuppressWarnings( "unused" ) InterruptedException ie ) {
@@ -145,15 +215,129 @@ public final class ServerPushManager implements SerializableCompatibility {
           listener.detach();
           serverPushRequestTracker.deactivate( Thread.currentThread() );
         }
+      } else {
+        recordPush( requestStartTime );
+      }
+    }
+  }
+
+  /*
+   * Parks the request in an AsyncContext instead of blocking the container thread. The request is
+   * completed by releaseBlockedRequest() or by the periodic check of the AsyncServerPushRegistry.
+   * Once the registry is deactivated, requests are answered right away.
+   */
+  void processAsyncRequest( HttpServletRequest request, HttpServletResponse response ) {
+    synchronized( lock ) {
+      long currentTime = System.currentTimeMillis();
+      if( mustHoldCallBackRequest( currentTime ) && registerAsyncRequest() ) {
+        AsyncContext asyncContext = request.startAsync( request, response );
+        // the request check interval is handled by the registry
+        asyncContext.setTimeout( 0 );
+        ParkedRequest parkedRequest = new ParkedRequest( asyncContext,
+                                                         ContextProvider.getUISession(),
+                                                         currentTime );
+        serverPushRequestTracker.activate( parkedRequest );
+        parkedRequests.add( parkedRequest );
+        parkedRequest.attach();
+        scheduleDelayedCheck( currentTime );
+      } else {
+        recordPush( currentTime );
+      }
+      // in contrast to processRequest, previously parked requests are released after the current
+      // request has been activated
+      if( isCallBackRequestBlocked() ) {
+        releaseBlockedRequest();
+      }
+    }
+  }
+
+  private boolean registerAsyncRequest() {
+    asyncRegistry = ContextProvider.getApplicationContext().getAsyncServerPushRegistry();
+    return asyncRegistry.register( this, requestCheckInterval );
+  }
+
+  /*
+   * Probing a connection writes to the response, which can block on a slow client. The probes run
+   * outside the lock on container threads, so that they stall neither this session nor the
+   * checks of other sessions.
+   */
+  void checkParkedRequests() {
+    List<ParkedRequest> probedRequests;
+    synchronized( lock ) {
+      releaseDueParkedRequests();
+      probedRequests = new ArrayList<>( parkedRequests );
+    }
+    for( ParkedRequest parkedRequest : probedRequests ) {
+      parkedRequest.probeConnection();
+    }
+  }
+
+  void checkDelayedRequests() {
+    synchronized( lock ) {
+      delayedCheckScheduled = false;
+      releaseDueParkedRequests();
+    }
+  }
+
+  void releaseParkedRequests() {
+    synchronized( lock ) {
+      for( ParkedRequest parkedRequest : new ArrayList<>( parkedRequests ) ) {
+        releaseParkedRequest( parkedRequest );
+      }
+    }
+  }
+
+  private void releaseDueParkedRequests() {
+    if( !parkedRequests.isEmpty() ) {
+      long currentTime = System.currentTimeMillis();
+      for( ParkedRequest parkedRequest : new ArrayList<>( parkedRequests ) ) {
+        if( canReleaseParkedRequest( parkedRequest, currentTime ) ) {
+          releaseParkedRequest( parkedRequest );
+        }
       }
+      scheduleDelayedCheck( currentTime );
+    }
+  }
+
+  /*
+   * Parked requests are checked periodically with the request check interval, a push that is held
+   * back needs an additional check when it is due.
+   */
+  private void scheduleDelayedCheck( long currentTime ) {
+    if( !parkedRequests.isEmpty() && !delayedCheckScheduled && mustDelayPush( currentTime ) ) {
+      delayedCheckScheduled = asyncRegistry.scheduleCheck( this, getPushDelay( currentTime ) );
     }
   }
 
+  private void releaseParkedRequest( ParkedRequest parkedRequest ) {
+    parkedRequests.remove( parkedRequest );
+    serverPushRequestTracker.deactivate( parkedRequest );
+    parkedRequest.complete();
+    if( parkedRequests.isEmpty() && asyncRegistry != null ) {
+      asyncRegistry.deregister( this );
+    }
+  }
+
+  private boolean canReleaseParkedRequest( ParkedRequest parkedRequest, long currentTime ) {
+    boolean result = false;
+    if( !mustHoldCallBackRequest( currentTime ) ) {
+      recordPush( currentTime );
+      result = true;
+    } else if( isSessionExpired( parkedRequest.uiSession, parkedRequest.startTime, currentTime ) ) {
+      result = true;
+    } else if( !serverPushRequestTracker.isActive( parkedRequest ) ) {
+      result = true;
+    }
+    return result;
+  }
+
   private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
     boolean result = false;
-    if( !mustBlockCallBackRequest() ) {
+    long currentTime = System.currentTimeMillis();
+    if( !mustHoldCallBackRequest( currentTime ) ) {
+      recordPush( currentTime );
       result = true;
-    } else if( isSessionExpired( requestStartTime ) ) {
+    } else if( isSessionExpired( requestStartTime, currentTime ) ) {
       result = true;
     } else if( !isConnectionAlive( response ) ) {
       result = true;
@@ -167,12 +351,46 @@ public final class ServerPushManager implements SerializableCompatibility {
     return isServerPushActive() && !hasRunnables;
   }
 
+  boolean mustHoldCallBackRequest( long currentTime ) {
+    return mustBlockCallBackRequest() || mustDelayPush( currentTime );
+  }
+
+  /*
+   * A push for pending runnables is held back until the batch window has passed since the first
+   * runnable was added and the minimum interval has passed since the last push.
+   */
+  boolean mustDelayPush( long currentTime ) {
+    return isServerPushActive() && hasRunnables && getPushDelay( currentTime ) > 0;
+  }
+
+  private long getPushDelay( long currentTime ) {
+    long pushTime = Math.max( runnablesPendingSince + batchWindow, lastPushTime + minPushInterval );
+    return pushTime - currentTime;
+  }
+
+  private long getWaitTime( long currentTime ) {
+    if( mustDelayPush( currentTime ) ) {
+      return Math.min( getPushDelay( currentTime ), requestCheckInterval );
+    }
+    return requestCheckInterval;
+  }
+
+  private void recordPush( long currentTime ) {
+    if( isServerPushActive() && hasRunnables && !pushRecorded ) {
+      pushRecorded = true;
+      pushCount++;
+      pushDelaySum += Math.max( 0, currentTime - runnablesPendingSince );
+      lastPushTime = currentTime;
+    }
+  }
+
   public boolean isServerPushActive() {
     return serverPushActivationTracker.isActive();
   }
 
   private Object readResolve() {
     serverPushRequestTracker = new ServerPushRequestTracker();
+    parkedRequests = new ArrayList<>();
     return this;
   }
 
@@ -183,12 +401,14 @@ public final class ServerPushManager implements SerializableCompatibility {
     return result;
   }
 
-  private static boolean isSessionExpired( long requestStartTime ) {
-    return isSessionExpired( requestStartTime, System.currentTimeMillis() );
+  static boolean isSessionExpired( long requestStartTime, long currentTime ) {
+    return isSessionExpired( ContextProvider.getUISession(), requestStartTime, currentTime );
   }
 
-  static boolean isSessionExpired( long requestStartTime, long currentTime ) {
-    UISession uiSession = ContextProvider.getUISession();
+  private static boolean isSessionExpired( UISession uiSession,
+                                           long requestStartTime,
+                                           long currentTime )
+  {
     if( uiSession == null ) {
       return true;
     }
@@ -219,6 +439,85 @@ public final class ServerPushManager implements SerializableCompatibility {
     return result;
   }
 
+  private final class ParkedRequest implements UISessionListener {
+
+    private transient final AsyncContext asyncContext;
+    private transient final UISession uiSession;
+    private final long startTime;
+    // guarded by this, a probe must not write to the response once the request is completed
+    private boolean probing;
+    private boolean completed;
+
+    private ParkedRequest( AsyncContext asyncContext, UISession uiSession, long startTime ) {
+      this.asyncContext = asyncContext;
+      this.uiSession = uiSession;
+      this.startTime = startTime;
+    }
+
+    void attach() {
+      uiSession.addUISessionListener( this );
+    }
+
+    void probeConnection() {
+      synchronized( this ) {
+        if( probing || completed ) {
+          return;
+        }
+        probing = true;
+      }
+      try {
+        asyncContext.start( new Runnable() {
+          @Override
+          public void run() {
+            checkConnection();
+          }
+        } );
+      } catch( @SuppressWarnings( "unused" ) IllegalStateException ise ) {
+        // request was already completed or timed out by the container
+        synchronized( this ) {
+          probing = false;
+        }
+      }
+    }
+
+    private void checkConnection() {
+      boolean alive;
+      synchronized( this ) {
+        probing = false;
+        alive = completed || isConnectionAlive( ( HttpServletResponse )asyncContext.getResponse() );
+      }
+      if( !alive ) {
+        synchronized( lock ) {
+          if( parkedRequests.contains( this ) ) {
+            releaseParkedRequest( this );
+          }
+        }
+      }
+    }
+
+    void complete() {
+      uiSession.removeUISessionListener( this );
+      synchronized( this ) {
+        completed = true;
+        try {
+          asyncContext.complete();
+        } catch( @SuppressWarnings( "unused" ) IllegalStateException ise ) {
+          // request was already completed or timed out by the container
+        }
+      }
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      synchronized( lock ) {
+        if( parkedRequests.contains( this ) ) {
+          releaseParkedRequest( this );
+        }
+      }
+    }
+
+  }
+
   private static class TerminationListener implements UISessionListener {
 
     private transient final Thread currentThread;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import java.io.IOException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 
 
@@ -28,7 +29,12 @@ public class ServerPushServiceHandler implements ServiceHandler {
     throws IOException
   {
     setResponseHeaders( response );
-    ServerPushManager.getInstance().processRequest( response );
+    ServerPushManager serverPushManager = ServerPushManager.getInstance();
+    if( RWTProperties.isAsyncServerPush() && request.isAsyncSupported() ) {
+      serverPushManager.processAsyncRequest( request, response );
+    } else {
+      serverPushManager.processRequest( response );
+    }
   }
 
   private static void setResponseHeaders( HttpServletResponse response ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,12 +13,16 @@ package org.eclipse.rap.rwt.internal.service;
 
 import static javax.servlet.http.HttpServletResponse.SC_FORBIDDEN;
 import static javax.servlet.http.HttpServletResponse.SC_PRECONDITION_FAILED;
+import static org.eclipse.rap.rwt.internal.RWTProperties.isBinaryProtocol;
+import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.ENCODING;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.REQUEST_COUNTER;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.SHUTDOWN;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
+import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_BINARY;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -27,13 +31,18 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
+import org.eclipse.rap.rwt.internal.protocol.BinaryMessageFormat;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
+import org.eclipse.rap.rwt.internal.protocol.StreamedResponseMessage;
+import org.eclipse.rap.rwt.internal.protocol.StreamingProtocolMessageWriter;
+import org.eclipse.rap.rwt.internal.protocol.StringDictionary;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 import org.eclipse.rap.rwt.service.UISession;
@@ -42,6 +51,7 @@ import org.eclipse.rap.rwt.service.UISession;
 public class LifeCycleServiceHandler implements ServiceHandler {
 
   private static final String PROP_ERROR = "error";
+  private static final String PROP_ENCODINGS = "encodings";
   private static final String ATTR_LAST_RESPONSE_MESSAGE
     = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
 
@@ -97,20 +107,35 @@ public class LifeCycleServiceHandler implements ServiceHandler {
         writeInvalidRequestCounterError( response );
       }
     } else {
+      StreamingProtocolMessageWriter streamingWriter = startStreaming( requestMessage, response );
       ResponseMessage responseMessage = processMessage( requestMessage );
-      writeResponseMessage( responseMessage, response );
+      offerBinaryEncoding( requestMessage, responseMessage );
+      if( streamingWriter != null ) {
+        bufferMessage( responseMessage );
+        streamingWriter.finish();
+      } else {
+        writeResponseMessage( requestMessage, responseMessage, response );
+      }
       RequestCounter.getInstance().nextRequestId();
     }
   }
 
   private static RequestMessage readRequestMessage( HttpServletRequest request ) {
     try {
-      return new ClientMessage( JsonObject.readFrom( getReader( request ) ) );
+      return new ClientMessage( readJson( request ) );
     } catch( IOException ioe ) {
       throw new IllegalStateException( "Unable to read the json message", ioe );
     }
   }
 
+  private static JsonObject readJson( HttpServletRequest request ) throws IOException {
+    String encoding = request.getCharacterEncoding();
+    if( encoding == null || CHARSET_UTF_8.equalsIgnoreCase( encoding ) ) {
+      return JsonObject.readFrom( request.getInputStream() );
+    }
+    return JsonObject.readFrom( getReader( request ) );
+  }
+
   /*
    * Workaround for bug in certain servlet containers where the reader is sometimes empty.
    * 411616: Application crash with very long messages
@@ -124,6 +149,26 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     return new InputStreamReader( request.getInputStream(), encoding );
   }
 
+  /*
+   * Operations are only written to the response while they are rendered if the response is JSON
+   * and no message filter can inspect or replace the response message.
+   */
+  private StreamingProtocolMessageWriter startStreaming( RequestMessage requestMessage,
+                                                         ServletResponse response )
+    throws IOException
+  {
+    ProtocolMessageWriter writer = ContextProvider.getProtocolWriter();
+    if(    writer instanceof StreamingProtocolMessageWriter
+        && !( isBinaryProtocol() && isBinaryEncodingRequested( requestMessage ) )
+        && !messageChainReference.hasFilters() )
+    {
+      StreamingProtocolMessageWriter streamingWriter = ( StreamingProtocolMessageWriter )writer;
+      streamingWriter.streamTo( response.getWriter() );
+      return streamingWriter;
+    }
+    return null;
+  }
+
   private ResponseMessage processMessage( RequestMessage requestMessage ) {
     return messageChainReference.get().handleMessage( requestMessage );
   }
@@ -168,6 +213,24 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     writer.createMessage().toJson().writeTo( response.getWriter() );
   }
 
+  /*
+   * The offer is repeated in every JSON response, so that it reaches the client even if a
+   * response is lost. Clients that cannot decode binary messages ignore it.
+   */
+  private static void offerBinaryEncoding( RequestMessage requestMessage,
+                                           ResponseMessage responseMessage )
+  {
+    if( isBinaryProtocol() && !isBinaryEncodingRequested( requestMessage ) ) {
+      JsonArray encodings = new JsonArray().add( BinaryMessageFormat.ENCODING );
+      responseMessage.getHead().add( PROP_ENCODINGS, encodings );
+    }
+  }
+
+  private static boolean isBinaryEncodingRequested( RequestMessage requestMessage ) {
+    JsonValue encoding = JsonValue.valueOf( BinaryMessageFormat.ENCODING );
+    return encoding.equals( requestMessage.getHead().get( ENCODING ) );
+  }
+
   private static boolean isSessionShutdown( RequestMessage requestMessage ) {
     return JsonValue.TRUE.equals( requestMessage.getHead().get( SHUTDOWN ) );
   }
@@ -181,27 +244,68 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     new ProtocolMessageWriter().createMessage().toJson().writeTo( response.getWriter() );
   }
 
-  private static void writeResponseMessage( ResponseMessage responseMessage,
+  private static void writeResponseMessage( RequestMessage requestMessage,
+                                            ResponseMessage responseMessage,
                                             ServletResponse response )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    if( isBinaryProtocol() && isBinaryEncodingRequested( requestMessage ) ) {
+      byte[] binaryMessage = encodeBinaryMessage( responseMessage );
+      bufferMessage( binaryMessage );
+      writeBinaryMessage( binaryMessage, response );
+    } else {
+      bufferMessage( responseMessage );
+      writeMessage( responseMessage, response );
+    }
+  }
+
+  /*
+   * Binary messages are buffered as encoded, as encoding them again for a duplicate request would
+   * refer to the dictionary entries that were added by the lost response.
+   */
+  private static byte[] encodeBinaryMessage( ResponseMessage responseMessage ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    StringDictionary dictionary = StringDictionary.getInstance();
+    BinaryMessageFormat.write( responseMessage, outputStream, dictionary );
+    return outputStream.toByteArray();
   }
 
   private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+    Object bufferedMessage = getBufferedMessage();
+    if( bufferedMessage instanceof byte[] ) {
+      writeBinaryMessage( ( byte[] )bufferedMessage, response );
+    } else {
+      writeMessage( ( ResponseMessage )bufferedMessage, response );
+    }
+  }
+
+  private static void writeBinaryMessage( byte[] binaryMessage, ServletResponse response )
+    throws IOException
+  {
+    response.setContentType( CONTENT_TYPE_BINARY );
+    response.setContentLength( binaryMessage.length );
+    response.getOutputStream().write( binaryMessage );
+  }
+
+  private static void writeMessage( ResponseMessage responseMessage, ServletResponse response )
+    throws IOException
+  {
+    if( responseMessage instanceof StreamedResponseMessage ) {
+      ( ( StreamedResponseMessage )responseMessage ).writeTo( response.getOutputStream() );
+    } else {
+      responseMessage.toJson().writeTo( response.getWriter() );
+    }
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
+  private static void bufferMessage( Object message ) {
     UISession uiSession = getUISession();
     if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, message );
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static Object getBufferedMessage() {
+    return getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
   }
 
 }
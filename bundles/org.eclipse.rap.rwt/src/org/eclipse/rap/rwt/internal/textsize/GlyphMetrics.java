@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+
+/*
+ * The advance widths and kerning pairs of the printable ASCII characters of a font, in 1/1000 em,
+ * as read from a metrics file in resource/textsize.
+ */
+final class GlyphMetrics {
+
+  static final char FIRST_CHAR = ' ';
+  static final char LAST_CHAR = '~';
+
+  private static final String RESOURCE_PATH = "resource/textsize/";
+  private static final String PROPERTY_FAMILIES = "families";
+  private static final String PROPERTY_WIDTHS = "widths";
+  private static final String PROPERTY_KERNING = "kerning";
+
+  private final String[] families;
+  private final int[] widths;
+  private final Map<Integer, Integer> kerning;
+
+  GlyphMetrics( String[] families, int[] widths, Map<Integer, Integer> kerning ) {
+    if( widths.length != LAST_CHAR - FIRST_CHAR + 1 ) {
+      throw new IllegalArgumentException( "Invalid number of widths: " + widths.length );
+    }
+    this.families = families;
+    this.widths = widths;
+    this.kerning = kerning;
+  }
+
+  /*
+   * Returns null if there is no metrics file with the given name.
+   */
+  static GlyphMetrics load( String name ) {
+    ClassLoader classLoader = GlyphMetrics.class.getClassLoader();
+    InputStream inputStream = classLoader.getResourceAsStream( RESOURCE_PATH + name + ".metrics" );
+    if( inputStream == null ) {
+      return null;
+    }
+    Properties properties = new Properties();
+    try {
+      try {
+        properties.load( inputStream );
+      } finally {
+        inputStream.close();
+      }
+    } catch( IOException exception ) {
+      throw new IllegalStateException( "Failed to read glyph metrics: " + name, exception );
+    }
+    return new GlyphMetrics( parseFamilies( properties.getProperty( PROPERTY_FAMILIES, "" ) ),
+                             parseWidths( properties.getProperty( PROPERTY_WIDTHS, "" ) ),
+                             parseKerning( properties.getProperty( PROPERTY_KERNING, "" ) ) );
+  }
+
+  String[] getFamilies() {
+    return families.clone();
+  }
+
+  static boolean contains( char ch ) {
+    return ch >= FIRST_CHAR && ch <= LAST_CHAR;
+  }
+
+  /*
+   * Returns the width of the given characters of the string, including the kerning between them.
+   * All characters must be contained in the metrics.
+   */
+  int getWidth( String string, int start, int end ) {
+    int result = 0;
+    for( int i = start; i < end; i++ ) {
+      char ch = string.charAt( i );
+      result += widths[ ch - FIRST_CHAR ];
+      if( i > start ) {
+        result += getKerning( string.charAt( i - 1 ), ch );
+      }
+    }
+    return result;
+  }
+
+  int getKerning( char first, char second ) {
+    Integer result = kerning.get( Integer.valueOf( createKey( first, second ) ) );
+    return result == null ? 0 : result.intValue();
+  }
+
+  private static String[] parseFamilies( String value ) {
+    String[] result = value.trim().isEmpty() ? new String[ 0 ] : value.split( "," );
+    for( int i = 0; i < result.length; i++ ) {
+      result[ i ] = result[ i ].trim();
+    }
+    return result;
+  }
+
+  private static int[] parseWidths( String value ) {
+    String[] tokens = value.trim().split( "\\s+" );
+    int[] result = new int[ tokens.length ];
+    for( int i = 0; i < tokens.length; i++ ) {
+      result[ i ] = Integer.parseInt( tokens[ i ] );
+    }
+    return result;
+  }
+
+  private static Map<Integer, Integer> parseKerning( String value ) {
+    Map<Integer, Integer> result = new HashMap<>();
+    for( String token : value.trim().split( "\\s+" ) ) {
+      if( token.length() > 3 ) {
+        if( token.charAt( 2 ) != ':' ) {
+          throw new IllegalArgumentException( "Invalid kerning pair: " + token );
+        }
+        int key = createKey( token.charAt( 0 ), token.charAt( 1 ) );
+        result.put( Integer.valueOf( key ), Integer.valueOf( token.substring( 3 ) ) );
+      }
+    }
+    return result;
+  }
+
+  private static int createKey( char first, char second ) {
+    return first << 16 | second;
+  }
+
+}
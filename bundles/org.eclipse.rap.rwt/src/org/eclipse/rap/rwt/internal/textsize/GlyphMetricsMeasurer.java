@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.eclipse.rap.rwt.internal.util.EncodingUtil.splitNewLines;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/*
+ * Measures texts with the bundled glyph metrics of the first font family in the font name that
+ * has metrics, or with the sans-serif metrics if there is none. The metrics are calibrated with
+ * the size of the font probe that the client has measured, which accounts for the font size and
+ * for differences between the bundled metrics and the font that the client actually renders.
+ * Texts with characters beyond printable ASCII are left to the client.
+ *
+ * Like the client, text extents are wrapped at spaces, the width of a wrapped text is the wrap
+ * width unless a single word is wider.
+ */
+public final class GlyphMetricsMeasurer implements TextMeasurer {
+
+  private static final String[] METRICS_NAMES = { "sans", "serif", "mono" };
+  private static final String DEFAULT_METRICS_NAME = "sans";
+  private static final String BOLD_SUFFIX = "-bold";
+  // tolerates rounding errors when computed widths are rounded up like measured ones
+  private static final float EPSILON = 0.01f;
+
+  private final Map<String, GlyphMetrics> regularMetrics;
+  private final Map<String, GlyphMetrics> boldMetrics;
+  private final GlyphMetrics defaultRegularMetrics;
+  private final GlyphMetrics defaultBoldMetrics;
+
+  public GlyphMetricsMeasurer() {
+    regularMetrics = new HashMap<>();
+    boldMetrics = new HashMap<>();
+    GlyphMetrics defaultRegular = null;
+    GlyphMetrics defaultBold = null;
+    for( String name : METRICS_NAMES ) {
+      GlyphMetrics regular = GlyphMetrics.load( name );
+      GlyphMetrics bold = GlyphMetrics.load( name + BOLD_SUFFIX );
+      if( bold == null ) {
+        bold = regular;
+      }
+      for( String family : regular.getFamilies() ) {
+        regularMetrics.put( family, regular );
+        boldMetrics.put( family, bold );
+      }
+      if( DEFAULT_METRICS_NAME.equals( name ) ) {
+        defaultRegular = regular;
+        defaultBold = bold;
+      }
+    }
+    defaultRegularMetrics = defaultRegular;
+    defaultBoldMetrics = defaultBold;
+  }
+
+  @Override
+  public Point stringExtent( FontData fontData, String string ) {
+    Calibration calibration = getCalibration( fontData );
+    if( calibration == null || !isSupported( string ) ) {
+      return null;
+    }
+    int width = calibration.toPixels( calibration.metrics.getWidth( string, 0, string.length() ) );
+    return new Point( width, calibration.lineHeight );
+  }
+
+  @Override
+  public Point textExtent( FontData fontData, String text, int wrapWidth ) {
+    Calibration calibration = getCalibration( fontData );
+    if( calibration == null || !isSupported( text, wrapWidth > 0 ) ) {
+      return null;
+    }
+    if( text.length() == 0 ) {
+      return new Point( 0, 0 );
+    }
+    List<String> lines = splitNewLines( text );
+    if( lines.size() > 1 && lines.get( lines.size() - 1 ).length() == 0 ) {
+      // like a trailing line break in HTML, a trailing new line does not start another line
+      lines.remove( lines.size() - 1 );
+    }
+    LineBreaker breaker = new LineBreaker( calibration, wrapWidth );
+    for( String line : lines ) {
+      breaker.addLine( line );
+    }
+    return new Point( breaker.getWidth(), breaker.getLineCount() * calibration.lineHeight );
+  }
+
+  GlyphMetrics getMetrics( FontData fontData ) {
+    boolean bold = ( fontData.getStyle() & SWT.BOLD ) != 0;
+    Map<String, GlyphMetrics> metrics = bold ? boldMetrics : regularMetrics;
+    for( String family : ProtocolUtil.parseFontName( fontData.getName() ) ) {
+      GlyphMetrics result = metrics.get( family.toLowerCase( Locale.ENGLISH ) );
+      if( result != null ) {
+        return result;
+      }
+    }
+    return bold ? defaultBoldMetrics : defaultRegularMetrics;
+  }
+
+  private Calibration getCalibration( FontData fontData ) {
+    ProbeResult probeResult = ProbeResultStore.getInstance().getProbeResult( fontData );
+    if( probeResult == null ) {
+      return null;
+    }
+    String probeText = probeResult.getProbe().getText();
+    Point probeSize = probeResult.getSize();
+    if( !isSupported( probeText ) || probeSize.x <= 0 ) {
+      return null;
+    }
+    GlyphMetrics metrics = getMetrics( fontData );
+    int probeWidth = metrics.getWidth( probeText, 0, probeText.length() );
+    return new Calibration( metrics, ( float )probeSize.x / probeWidth, probeSize.y );
+  }
+
+  private static boolean isSupported( String string ) {
+    int length = string.length();
+    for( int i = 0; i < length; i++ ) {
+      if( !GlyphMetrics.contains( string.charAt( i ) ) ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /*
+   * The client preserves leading, trailing and consecutive spaces as non-breaking spaces, which
+   * would change the line breaks of a wrapped text.
+   */
+  private static boolean isSupported( String text, boolean wrap ) {
+    for( String line : splitNewLines( text ) ) {
+      if( !isSupported( line ) ) {
+        return false;
+      }
+      if(    wrap
+          && ( line.startsWith( " " ) || line.endsWith( " " ) || line.indexOf( "  " ) != -1 ) )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int ceil( float width ) {
+    return ( int )Math.ceil( width - EPSILON );
+  }
+
+  private static final class Calibration {
+
+    final GlyphMetrics metrics;
+    final float pixelsPerUnit;
+    final int lineHeight;
+
+    Calibration( GlyphMetrics metrics, float pixelsPerUnit, int lineHeight ) {
+      this.metrics = metrics;
+      this.pixelsPerUnit = pixelsPerUnit;
+      this.lineHeight = lineHeight;
+    }
+
+    float toFloatPixels( int units ) {
+      return units * pixelsPerUnit;
+    }
+
+    int toPixels( int units ) {
+      return ceil( toFloatPixels( units ) );
+    }
+
+  }
+
+  private static final class LineBreaker {
+
+    private final Calibration calibration;
+    private final int wrapWidth;
+    private final float spaceWidth;
+    private int lineCount;
+    private float maxContentWidth;
+    private float minContentWidth;
+
+    LineBreaker( Calibration calibration, int wrapWidth ) {
+      this.calibration = calibration;
+      this.wrapWidth = wrapWidth;
+      spaceWidth = calibration.toFloatPixels( calibration.metrics.getWidth( " ", 0, 1 ) );
+    }
+
+    void addLine( String line ) {
+      GlyphMetrics metrics = calibration.metrics;
+      lineCount++;
+      float lineWidth = 0;
+      float contentWidth = 0;
+      int start = 0;
+      while( start <= line.length() ) {
+        int end = line.indexOf( ' ', start );
+        if( end == -1 ) {
+          end = line.length();
+        }
+        float wordWidth = calibration.toFloatPixels( metrics.getWidth( line, start, end ) );
+        minContentWidth = Math.max( minContentWidth, wordWidth );
+        if( start > 0 ) {
+          contentWidth += spaceWidth;
+        }
+        contentWidth += wordWidth;
+        if( wrapWidth > 0 && start > 0 && lineWidth + spaceWidth + wordWidth > wrapWidth ) {
+          lineCount++;
+          lineWidth = wordWidth;
+        } else {
+          lineWidth += start > 0 ? spaceWidth + wordWidth : wordWidth;
+        }
+        start = end + 1;
+      }
+      maxContentWidth = Math.max( maxContentWidth, contentWidth );
+    }
+
+    int getLineCount() {
+      return lineCount;
+    }
+
+    int getWidth() {
+      int maxContent = ceil( maxContentWidth );
+      if( wrapWidth <= 0 || maxContent <= wrapWidth ) {
+        return maxContent;
+      }
+      return Math.max( wrapWidth, ceil( minContentWidth ) );
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -144,18 +144,32 @@ class MeasurementOperator implements SerializableCompatibility {
       }
     }
 
+    /*
+     * Returns true if a measured size differs from the size that was used for the layout, i.e.
+     * the estimated or the computed size.
+     */
     private boolean handleMeasuredTextSizes( JsonObject results ) {
-      int originalItemsSize = items.size();
+      boolean changed = false;
       Iterator<MeasurementItem> itemList = items.iterator();
       while( itemList.hasNext() ) {
         MeasurementItem item = itemList.next();
         Point size = readMeasuredSize( results, getId( item ) );
         if( size != null ) {
           storeTextMeasurement( item, size );
+          changed |= verifyComputedSize( item, size );
           itemList.remove();
         }
       }
-      return originalItemsSize != items.size();
+      return changed;
+    }
+
+    private boolean verifyComputedSize( MeasurementItem item, Point size ) {
+      Point computedSize = item.getComputedSize();
+      ServerTextMeasurement textMeasurement = getApplicationContext().getServerTextMeasurement();
+      if( computedSize == null || textMeasurement == null ) {
+        return true;
+      }
+      return textMeasurement.verify( item.getFontData(), computedSize, size );
     }
 
     private Point readMeasuredSize( JsonObject results, String id ) {
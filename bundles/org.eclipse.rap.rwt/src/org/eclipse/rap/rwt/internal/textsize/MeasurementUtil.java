@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,6 +26,7 @@ import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.internal.graphics.FontUtil;
 
 
@@ -64,6 +65,18 @@ public class MeasurementUtil {
     getMeasurementOperator().addItemToMeasure( newItem );
   }
 
+  static void addItemToVerify( String toMeasure,
+                               Font font,
+                               int wrapWidth,
+                               int mode,
+                               Point computedSize )
+  {
+    FontData fontData = FontUtil.getData( font );
+    MeasurementItem newItem
+      = new MeasurementItem( toMeasure, fontData, wrapWidth, mode, computedSize );
+    getMeasurementOperator().addItemToMeasure( newItem );
+  }
+
   public static MeasurementOperator getMeasurementOperator() {
     UISession uiSession = ContextProvider.getUISession();
     return ( MeasurementOperator )uiSession.getAttribute( ATTR_OPERATOR );
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/*
+ * Computes text extents on the server with a TextMeasurer, so that they do not have to be
+ * measured by the client. The first VERIFICATION_COUNT extents of every font are still measured
+ * by the client as well. A font whose verified extents deviate by more than TOLERANCE pixels too
+ * often is rejected, its extents are measured by the client from then on.
+ *
+ * The accuracy is tracked for the whole application, the counters can be used to monitor how
+ * well the measurer matches the clients.
+ */
+public final class ServerTextMeasurement {
+
+  static final int VERIFICATION_COUNT = 16;
+  static final int TOLERANCE = 1;
+  static final float MINIMUM_ACCURACY = 0.9f;
+
+  private final TextMeasurer measurer;
+  private final ConcurrentMap<FontData, FontAccuracy> fonts;
+  private final AtomicLong measuredCount;
+  private final AtomicLong unmeasuredCount;
+  private final AtomicLong verifiedCount;
+  private final AtomicLong accurateCount;
+  private final AtomicLong deviationSum;
+  private final AtomicInteger rejectedFontCount;
+
+  public ServerTextMeasurement( TextMeasurer measurer ) {
+    this.measurer = measurer;
+    fonts = new ConcurrentHashMap<>();
+    measuredCount = new AtomicLong();
+    unmeasuredCount = new AtomicLong();
+    verifiedCount = new AtomicLong();
+    accurateCount = new AtomicLong();
+    deviationSum = new AtomicLong();
+    rejectedFontCount = new AtomicInteger();
+  }
+
+  /*
+   * Returns the extent computed by the measurer, or null if the font has been rejected or the
+   * measurer can not measure the text. Markup is always measured by the client.
+   */
+  Point measure( FontData fontData, String string, int wrapWidth, int mode ) {
+    Point result = null;
+    if( !getAccuracy( fontData ).rejected ) {
+      if( mode == TextSizeUtil.STRING_EXTENT ) {
+        result = measurer.stringExtent( fontData, string );
+      } else if( mode == TextSizeUtil.TEXT_EXTENT ) {
+        result = measurer.textExtent( fontData, string, wrapWidth );
+      }
+    }
+    if( result == null ) {
+      unmeasuredCount.incrementAndGet();
+    } else {
+      measuredCount.incrementAndGet();
+    }
+    return result;
+  }
+
+  /*
+   * Returns true if the client should measure an extent of the given font to verify the computed
+   * one. Every call that returns true counts towards the verifications of the font.
+   */
+  boolean requestVerification( FontData fontData ) {
+    AtomicInteger requested = getAccuracy( fontData ).requested;
+    int count = requested.get();
+    while( count < VERIFICATION_COUNT ) {
+      if( requested.compareAndSet( count, count + 1 ) ) {
+        return true;
+      }
+      count = requested.get();
+    }
+    return false;
+  }
+
+  /*
+   * Compares a computed extent to the one measured by the client. Returns true if they differ.
+   */
+  boolean verify( FontData fontData, Point computed, Point measured ) {
+    int deviation = Math.max( Math.abs( computed.x - measured.x ),
+                              Math.abs( computed.y - measured.y ) );
+    boolean accurate = deviation <= TOLERANCE;
+    verifiedCount.incrementAndGet();
+    deviationSum.addAndGet( deviation );
+    if( accurate ) {
+      accurateCount.incrementAndGet();
+    }
+    getAccuracy( fontData ).addVerification( accurate );
+    return deviation != 0;
+  }
+
+  /*
+   * The number of extents that were computed on the server.
+   */
+  public long getMeasuredCount() {
+    return measuredCount.get();
+  }
+
+  /*
+   * The number of extents that were left to the client.
+   */
+  public long getUnmeasuredCount() {
+    return unmeasuredCount.get();
+  }
+
+  /*
+   * The number of computed extents that were compared to client measurements.
+   */
+  public long getVerifiedCount() {
+    return verifiedCount.get();
+  }
+
+  /*
+   * The number of verified extents that deviated by no more than TOLERANCE pixels.
+   */
+  public long getAccurateCount() {
+    return accurateCount.get();
+  }
+
+  /*
+   * The sum of the deviations of all verified extents in pixels, in the direction that deviated
+   * most.
+   */
+  public long getDeviationSum() {
+    return deviationSum.get();
+  }
+
+  public int getRejectedFontCount() {
+    return rejectedFontCount.get();
+  }
+
+  private FontAccuracy getAccuracy( FontData fontData ) {
+    FontAccuracy result = fonts.get( fontData );
+    if( result == null ) {
+      FontAccuracy accuracy = new FontAccuracy();
+      result = fonts.putIfAbsent( fontData, accuracy );
+      if( result == null ) {
+        result = accuracy;
+      }
+    }
+    return result;
+  }
+
+  private final class FontAccuracy {
+
+    final AtomicInteger requested;
+    private int verified;
+    private int accurate;
+    volatile boolean rejected;
+
+    FontAccuracy() {
+      requested = new AtomicInteger();
+    }
+
+    synchronized void addVerification( boolean isAccurate ) {
+      verified++;
+      if( isAccurate ) {
+        accurate++;
+      }
+      if( !rejected && verified >= VERIFICATION_COUNT && accurate < verified * MINIMUM_ACCURACY ) {
+        rejected = true;
+        rejectedFontCount.incrementAndGet();
+      }
+    }
+
+  }
+
+}
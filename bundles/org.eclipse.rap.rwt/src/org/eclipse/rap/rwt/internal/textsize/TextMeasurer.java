@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/*
+ * Computes text extents on the server, as they would be measured by the client. Texts that can
+ * not be measured reliably are left to the client.
+ *
+ * Measurers are called in the UI thread of the session that needs the extent.
+ */
+public interface TextMeasurer {
+
+  /*
+   * Returns the extent of the given single line string, or null if it can not be measured.
+   */
+  Point stringExtent( FontData fontData, String string );
+
+  /*
+   * Returns the extent of the given text, which may contain line breaks and is wrapped at the
+   * given width unless it is SWT.DEFAULT, or null if it can not be measured.
+   */
+  Point textExtent( FontData fontData, String text, int wrapWidth );
+
+}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.rap.rwt.internal.theme.CssFont;
+import org.eclipse.rap.rwt.internal.theme.CssValue;
+import org.eclipse.rap.rwt.internal.theme.Theme;
+import org.eclipse.rap.rwt.internal.theme.ThemeManager;
+import org.eclipse.swt.graphics.FontData;
+
+
+/**
+ * Writes the probed fonts and the measured text sizes of a {@link TextSizeStorage} to a file and
+ * reads them back, so that the text size cache of an application survives a restart. A snapshot
+ * is only restored if it was written with the same fingerprint, which is derived from the
+ * registered themes and the fonts they declare.
+ */
+public class TextSizeSnapshot {
+
+  private static final int MAGIC = 0x52545353;
+  private static final int VERSION = 1;
+
+  private final File file;
+
+  public TextSizeSnapshot( File file ) {
+    this.file = file;
+  }
+
+  public void save( String fingerprint, TextSizeStorage storage ) throws IOException {
+    File tempFile = new File( file.getPath() + ".tmp" );
+    DataOutputStream output
+      = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tempFile ) ) );
+    try {
+      output.writeInt( MAGIC );
+      output.writeInt( VERSION );
+      writeString( output, fingerprint );
+      FontData[] fontList = storage.getFontList();
+      output.writeInt( fontList.length );
+      for( FontData fontData : fontList ) {
+        writeString( output, fontData.getName() );
+        output.writeInt( fontData.getHeight() );
+        output.writeInt( fontData.getStyle() );
+      }
+      int[] entries = storage.getEntries();
+      output.writeInt( entries.length / 3 );
+      for( int value : entries ) {
+        output.writeInt( value );
+      }
+    } finally {
+      output.close();
+    }
+    Files.move( tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+  }
+
+  /**
+   * Adds the fonts and text sizes of the snapshot to the given storage.
+   *
+   * @return <code>false</code> if there is no snapshot or if it was written with a different
+   *         fingerprint
+   * @throws IOException if the snapshot cannot be read or is corrupt
+   */
+  public boolean load( String fingerprint, TextSizeStorage storage ) throws IOException {
+    if( !file.isFile() ) {
+      return false;
+    }
+    // read into the heap, a mapped file stays locked on Windows and could not be replaced by save
+    ByteBuffer buffer = ByteBuffer.wrap( Files.readAllBytes( file.toPath() ) );
+    try {
+      return read( buffer, fingerprint, storage );
+    } catch( BufferUnderflowException exception ) {
+      throw new IOException( "Text size snapshot is truncated: " + file, exception );
+    }
+  }
+
+  public static String createFingerprint( ThemeManager themeManager ) {
+    StringBuilder builder = new StringBuilder();
+    Set<String> themeIds = new TreeSet<>( Arrays.asList( themeManager.getRegisteredThemeIds() ) );
+    for( String themeId : themeIds ) {
+      builder.append( themeId ).append( '\n' );
+      Theme theme = themeManager.getTheme( themeId );
+      for( String font : getFonts( theme ) ) {
+        builder.append( font ).append( '\n' );
+      }
+    }
+    return builder.toString();
+  }
+
+  private boolean read( ByteBuffer buffer, String fingerprint, TextSizeStorage storage )
+    throws IOException
+  {
+    if( buffer.getInt() != MAGIC ) {
+      throw new IOException( "Not a text size snapshot: " + file );
+    }
+    if( buffer.getInt() != VERSION || !fingerprint.equals( readString( buffer ) ) ) {
+      return false;
+    }
+    int fontCount = readCount( buffer, 12 );
+    for( int i = 0; i < fontCount; i++ ) {
+      String name = readString( buffer );
+      storage.storeFont( new FontData( name, buffer.getInt(), buffer.getInt() ) );
+    }
+    int entryCount = readCount( buffer, 12 );
+    for( int i = 0; i < entryCount; i++ ) {
+      storage.storeTextSize( buffer.getInt(), buffer.getInt(), buffer.getInt() );
+    }
+    return true;
+  }
+
+  private int readCount( ByteBuffer buffer, int minBytesPerElement ) throws IOException {
+    int count = buffer.getInt();
+    if( count < 0 || count > buffer.remaining() / minBytesPerElement ) {
+      throw new IOException( "Text size snapshot is corrupt: " + file );
+    }
+    return count;
+  }
+
+  private String readString( ByteBuffer buffer ) throws IOException {
+    int length = readCount( buffer, 1 );
+    byte[] bytes = new byte[ length ];
+    buffer.get( bytes );
+    return new String( bytes, StandardCharsets.UTF_8 );
+  }
+
+  private static void writeString( DataOutputStream output, String string ) throws IOException {
+    byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+    output.writeInt( bytes.length );
+    output.write( bytes );
+  }
+
+  private static Set<String> getFonts( Theme theme ) {
+    Set<String> result = new TreeSet<>();
+    for( CssValue value : theme.getValuesMap().getAllValues() ) {
+      if( value instanceof CssFont ) {
+        result.add( ( ( CssFont )value ).toDefaultString() );
+      }
+    }
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,99 +12,178 @@
 package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
+import static org.eclipse.rap.rwt.internal.RWTProperties.isTextSizeStoreStatistics;
 
-import java.io.Serializable;
-import java.math.BigDecimal;
 import java.text.MessageFormat;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/*
+ * The text sizes of all sessions of an application. The entries are kept in a set-associative
+ * table: a key can only be stored in the WAYS slots of its set, and when the set is full, one of
+ * these slots is reclaimed using the CLOCK algorithm. Lookups and stores do not lock, and the
+ * eviction of an entry takes constant time. Hits and misses are only counted if the statistics
+ * are enabled, as the shared counters would be written by every lookup of every session.
+ */
 public final class TextSizeStorage {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
+  private static final int WAYS = 8;
 
-  private final Object lock;
-  // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
-  private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
+  private final boolean statistics;
+  private final AtomicLong hitCount;
+  private final AtomicLong missCount;
+  private final AtomicLong evictionCount;
+  private volatile Table table;
+  private volatile int maximumStoreSize;
+
+  private static final class Entry {
+    private final int key;
+    private final int width;
+    private final int height;
+    private volatile boolean referenced;
+
+    Entry( int key, int width, int height ) {
+      this.key = key;
+      this.width = width;
+      this.height = height;
+    }
+  }
 
+  private static final class Table {
+    private final AtomicReferenceArray<Entry> entries;
+    // racy updates of the clock hands only affect which entry is evicted
+    private final int[] hands;
+    private final int sets;
 
-  private static class Entry {
-    private Point point;
-    private long timeStamp;
-  }
+    Table( int maximumStoreSize ) {
+      sets = maximumStoreSize / WAYS;
+      entries = new AtomicReferenceArray<>( sets * WAYS );
+      hands = new int[ sets ];
+    }
 
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
+    int getSet( int key ) {
+      int hash = key * 0x9E3779B9;
+      hash ^= hash >>> 16;
+      return ( hash & Integer.MAX_VALUE ) % sets;
+    }
 
-    @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
+    int advanceHand( int set ) {
+      int hand = hands[ set ];
+      hands[ set ] = ( hand + 1 ) % WAYS;
+      return hand;
     }
   }
 
-
   public TextSizeStorage() {
-    lock = new Object();
-    data = new HashMap<>();
-    fontDatas = new HashSet<>();
+    fontDatas = Collections.newSetFromMap( new ConcurrentHashMap<FontData,Boolean>() );
+    statistics = isTextSizeStoreStatistics();
+    hitCount = new AtomicLong();
+    missCount = new AtomicLong();
+    evictionCount = new AtomicLong();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
   FontData[] getFontList() {
-    FontData[] result;
-    synchronized( lock ) {
-      result = new FontData[ fontDatas.size() ];
-      fontDatas.toArray( result );
-    }
-    return result;
+    return fontDatas.toArray( new FontData[ 0 ] );
   }
 
   void storeFont( FontData fontData ) {
-    synchronized( lock ) {
-      fontDatas.add( fontData );
+    fontDatas.add( fontData );
+  }
+
+  Point lookupTextSize( int key ) {
+    Table table = this.table;
+    int offset = table.getSet( key ) * WAYS;
+    for( int i = 0; i < WAYS; i++ ) {
+      Entry entry = table.entries.get( offset + i );
+      if( entry != null && entry.key == key ) {
+        // avoid writing the shared entry if it is already marked
+        if( !entry.referenced ) {
+          entry.referenced = true;
+        }
+        if( statistics ) {
+          hitCount.incrementAndGet();
+        }
+        return new Point( entry.width, entry.height );
+      }
+    }
+    if( statistics ) {
+      missCount.incrementAndGet();
+    }
+    return null;
+  }
+
+  void storeTextSize( int key, Point size ) {
+    storeTextSize( key, size.x, size.y );
+  }
+
+  void storeTextSize( int key, int width, int height ) {
+    Table table = this.table;
+    Entry entry = new Entry( key, width, height );
+    int set = table.getSet( key );
+    int offset = set * WAYS;
+    // Concurrent stores of the same key may occupy two slots, the duplicate is evicted eventually
+    for( int i = 0; i < WAYS; i++ ) {
+      Entry current = table.entries.get( offset + i );
+      if( current == null || current.key == key ) {
+        if( table.entries.compareAndSet( offset + i, current, entry ) ) {
+          return;
+        }
+      }
     }
+    evict( table, set, entry );
   }
 
-  Point lookupTextSize( Integer key ) {
-    Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /*
+   * Returns the key, width and height of all entries, three consecutive ints per entry.
+   */
+  int[] getEntries() {
+    Table table = this.table;
+    int[] result = new int[ table.entries.length() * 3 ];
+    int count = 0;
+    for( int i = 0; i < table.entries.length(); i++ ) {
+      Entry entry = table.entries.get( i );
       if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
+        result[ count++ ] = entry.key;
+        result[ count++ ] = entry.width;
+        result[ count++ ] = entry.height;
       }
     }
-    result = defensiveCopy( result );
-    return result;
+    return Arrays.copyOf( result, count );
   }
 
-  void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
-      handleOverFlow();
+  int getSize() {
+    Table table = this.table;
+    int result = 0;
+    for( int i = 0; i < table.entries.length(); i++ ) {
+      if( table.entries.get( i ) != null ) {
+        result++;
+      }
     }
+    return result;
   }
 
   ////////////////////
@@ -112,31 +191,38 @@ public final class TextSizeStorage {
 
   void setMaximumStoreSize( int maximumStoreSize ) {
     checkLowerStoreSizeBoundary( maximumStoreSize );
-    calculateClearRange( maximumStoreSize );
     this.maximumStoreSize = maximumStoreSize;
+    table = new Table( maximumStoreSize );
   }
 
   int getMaximumStoreSize() {
     return maximumStoreSize;
   }
 
-  private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
+  /*
+   * Replaces the first entry of the set that has not been referenced since the clock hand passed
+   * it last. After one round all marks are cleared, so this ends after at most two rounds unless
+   * other threads mark the entries again. In that case the entry under the hand is replaced.
+   */
+  private void evict( Table table, int set, Entry entry ) {
+    int offset = set * WAYS;
+    int index = offset;
+    for( int i = 0; i < 2 * WAYS; i++ ) {
+      index = offset + table.advanceHand( set );
+      Entry current = table.entries.get( index );
+      if( current != null && current.referenced ) {
+        current.referenced = false;
+      } else if( table.entries.compareAndSet( index, current, entry ) ) {
+        if( current != null ) {
+          evictionCount.incrementAndGet();
+        }
+        return;
       }
     }
+    table.entries.set( index, entry );
+    evictionCount.incrementAndGet();
   }
 
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
-  }
-
-
   //////////////////
   // helping methods
 
@@ -148,18 +234,4 @@ public final class TextSizeStorage {
     }
   }
 
-  private static Point defensiveCopy( Point point ) {
-    return point == null ? null : new Point( point.x, point.y );
-  }
-
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
-  }
-
-  private void calculateClearRange( int maximumStoreSize ) {
-    BigDecimal ten = new BigDecimal( 10 );
-    BigDecimal bdStoreSize = new BigDecimal( maximumStoreSize );
-    clearRange = bdStoreSize.divide( ten, 0, BigDecimal.ROUND_HALF_UP ).intValue();
-  }
-
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.textsize;
 
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
@@ -95,6 +96,9 @@ public class TextSizeUtil {
   private static Point determineTextSize( Font font, String string, int wrapWidth, int mode ) {
     int normalizedWrapWidth = normalizeWrapWidth( wrapWidth );
     Point result = lookup( font, string, normalizedWrapWidth, mode );
+    if( result == null ) {
+      result = measure( font, string, normalizedWrapWidth, mode );
+    }
     if( result == null ) {
       result = estimate( font, string, normalizedWrapWidth, mode );
       if( !isTemporaryResize() ) {
@@ -124,6 +128,23 @@ public class TextSizeUtil {
     return TextSizeStorageUtil.lookup( fontData, measurementString, wrapWidth, mode );
   }
 
+  private static Point measure( Font font, String string, int wrapWidth, int mode ) {
+    ServerTextMeasurement textMeasurement = getApplicationContext().getServerTextMeasurement();
+    if( textMeasurement == null ) {
+      return null;
+    }
+    String measurementString = createMeasurementString( string, mode );
+    FontData fontData = FontUtil.getData( font );
+    Point result = textMeasurement.measure( fontData, measurementString, wrapWidth, mode );
+    if(    result != null
+        && !isTemporaryResize()
+        && textMeasurement.requestVerification( fontData ) )
+    {
+      MeasurementUtil.addItemToVerify( measurementString, font, wrapWidth, mode, result );
+    }
+    return result;
+  }
+
   private static Point estimate( Font font, String string, int wrapWidth, int mode ) {
     Point result;
     switch( mode ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ public final class HTTP {
   public static final String CONTENT_TYPE_HTML = "text/html";
   public static final String CONTENT_TYPE_JAVASCRIPT = "text/javascript";
   public static final String CONTENT_TYPE_JSON = "application/json"; // RFC 4627
+  public static final String CONTENT_TYPE_BINARY = "application/octet-stream";
 
   public final static String CHARSET_UTF_8 = "UTF-8";
   public static final String METHOD_GET = "GET";
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,69 +11,123 @@
 package org.eclipse.rap.rwt.internal.util;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
+/*
+ * Instances are created at most once per key. Each key has its own holder that is used as the lock
+ * while the instance is created, so that a slow InstanceCreator only blocks threads that ask for
+ * the same key.
+ *
+ * An InstanceCreator may ask this or another buffer for the instance of a different key. If the
+ * creations wait for each other in a cycle, the thread that closes the cycle fails with an
+ * IllegalStateException instead of blocking forever.
+ */
 public class SharedInstanceBuffer<K, I> implements Serializable {
 
-  private final Lock readLock;
-  private final Lock writeLock;
-  private final Map<K, I> store;
+  // the holder that each thread is about to lock, used to detect cyclic creations
+  private static final ConcurrentMap<Thread, Holder<?>> AWAITED_HOLDERS
+    = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<Object, Holder<I>> store;
 
   public SharedInstanceBuffer() {
-    ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-    readLock = readWriteLock.readLock();
-    writeLock = readWriteLock.writeLock();
-    store = new HashMap<>();
+    store = new ConcurrentHashMap<>();
   }
 
   public I get( K key, InstanceCreator<K, I> instanceCreator ) {
-    I result = getInstance( key );
+    Holder<I> holder = getHolder( key );
+    I result = holder.instance;
     if( result == null ) {
-      result = createInstance( key, instanceCreator );
+      result = createInstance( holder, key, instanceCreator );
     }
     return result;
   }
 
   public I remove( K key ) {
-    writeLock.lock();
-    try {
-      return store.remove( key );
-    } finally {
-      writeLock.unlock();
+    Holder<I> holder = store.remove( maskNull( key ) );
+    return holder == null ? null : holder.instance;
+  }
+
+  private Holder<I> getHolder( K key ) {
+    Object storeKey = maskNull( key );
+    Holder<I> result = store.get( storeKey );
+    if( result == null ) {
+      Holder<I> holder = new Holder<>();
+      result = store.putIfAbsent( storeKey, holder );
+      if( result == null ) {
+        result = holder;
+      }
     }
+    return result;
   }
 
-  private I getInstance( K key ) {
-    readLock.lock();
+  private static <K, I> I createInstance( Holder<I> holder,
+                                          K key,
+                                          InstanceCreator<K, I> instanceCreator )
+  {
+    Thread thread = Thread.currentThread();
+    AWAITED_HOLDERS.put( thread, holder );
     try {
-      return store.get( key );
+      checkForCycle( holder, thread );
+      synchronized( holder ) {
+        AWAITED_HOLDERS.remove( thread );
+        // Re-check because another thread might have created the instance while we were waiting
+        I result = holder.instance;
+        if( result == null ) {
+          holder.creator = thread;
+          try {
+            result = instanceCreator.createInstance( key );
+          } finally {
+            holder.creator = null;
+          }
+          holder.instance = result;
+        }
+        return result;
+      }
     } finally {
-      readLock.unlock();
+      AWAITED_HOLDERS.remove( thread );
     }
   }
 
-  private I createInstance( K key, InstanceCreator<K, I> instanceCreator ) {
-    writeLock.lock();
-    try {
-      // Re-check because another thread might have acquired write lock and created an instance
-      // before we did. See doc on ReentrantReadWriteLock.
-      I result = store.get( key );
-      if( result == null ) {
-        result = instanceCreator.createInstance( key );
-        store.put( key, result );
+  /*
+   * Follows the chain of threads that create the awaited instances. Every thread registers the
+   * holder it waits for before it follows the chain, so of two threads that close a cycle at the
+   * same time, at least the second one sees the cycle.
+   */
+  private static void checkForCycle( Holder<?> holder, Thread thread ) {
+    Thread creator = holder.creator;
+    int remainingSteps = AWAITED_HOLDERS.size();
+    while( creator != null && remainingSteps-- >= 0 ) {
+      if( creator == thread ) {
+        throw new IllegalStateException( "Cyclic instance creation" );
       }
-      return result;
-    } finally {
-      writeLock.unlock();
+      Holder<?> awaitedHolder = AWAITED_HOLDERS.get( creator );
+      creator = awaitedHolder == null ? null : awaitedHolder.creator;
     }
   }
 
+  private static Object maskNull( Object key ) {
+    return key == null ? NullKey.INSTANCE : key;
+  }
+
+  /*
+   * Creates the instance for a key while the creation of this key is locked. An implementation may
+   * request instances of other keys, but must not depend on instances whose creation in turn
+   * depends on this key. Such a cycle results in an IllegalStateException.
+   */
   public interface InstanceCreator<K, T> extends Serializable {
     T createInstance( K key );
   }
 
+  private static final class Holder<I> implements Serializable {
+    private volatile I instance;
+    private transient volatile Thread creator;
+  }
+
+  private enum NullKey {
+    INSTANCE
+  }
+
 }
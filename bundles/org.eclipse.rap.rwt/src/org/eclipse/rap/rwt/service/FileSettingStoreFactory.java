@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -58,12 +58,21 @@ public final class FileSettingStoreFactory implements SettingStoreFactory {
 
   private File getWorkingDir() {
     if( directory == null ) {
-      directory = selectWorkingDir();
-      createDirectory( directory );
+      directory = createWorkingDir();
     }
     return directory;
   }
 
+  /*
+   * Also used by the WriteBehindFileSettingStoreFactory, so that both store their settings in the
+   * same directory.
+   */
+  static File createWorkingDir() {
+    File result = selectWorkingDir();
+    createDirectory( result );
+    return result;
+  }
+
   private static File selectWorkingDir() {
     File directory = getDirectoryFromServletContext();
     if( directory == null ) {
@@ -0,0 +1,529 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * A setting store implementation that persists all settings on the file system like the
+ * {@link FileSettingStore}, but writes changes in the background instead of rewriting the whole
+ * file on every change.
+ * <p>
+ * Changes are collected in memory and handed to the given executor. All changes that were
+ * collected until the executor runs the write are written together. They are appended to a
+ * journal file first, which is replayed when the store is loaded again, so that changes survive a
+ * crash of the server. Once the journal has grown large enough, the settings are written to a
+ * temporary file that replaces the settings file with an atomic rename, and the journal is
+ * deleted.
+ * </p>
+ * <p>
+ * Changes that could not be written are kept and written with the next batch, which then replaces
+ * the settings file, so that a partly written journal block is discarded. A failed write is retried
+ * up to three times in a row, after a delay if the executor is a
+ * <code>ScheduledExecutorService</code>. After that, the changes are written with the next change
+ * or flush.
+ * </p>
+ * <p>
+ * The settings file has the same format as the one of the {@link FileSettingStore}, so that both
+ * implementations can read the settings written by the other one.
+ * </p>
+ *
+ * @see WriteBehindFileSettingStoreFactory
+ * @since 3.2
+ */
+public final class WriteBehindFileSettingStore implements SettingStore {
+
+  static final String JOURNAL_SUFFIX = ".journal";
+  static final String OLD_JOURNAL_SUFFIX = ".journal.old";
+  static final String TEMP_SUFFIX = ".tmp";
+  static final int COMPACTION_THRESHOLD = 256;
+  static final int MAX_RETRIES = 3;
+  static final long RETRY_DELAY = 5000;
+
+  private static final char SET = 's';
+  private static final char REMOVE = 'r';
+
+  private final File workDir;
+  private final Executor executor;
+  private final Properties props;
+  private final Set<SettingStoreListener> listeners;
+  private final Object writeLock;
+  private final Runnable writeTask;
+  private Map<String, String> pendingChanges;
+  private boolean writeScheduled;
+  private int journalSize;
+  private int failedWrites;
+  private String id;
+
+  /**
+   * Creates an empty instance with a random unique ID. Use {@link #loadById(String)} to initialize
+   * an existing store with previously persisted attributes.
+   *
+   * @param baseDirectory an existing directory to persist this store's settings in
+   * @param executor the executor to write the changes with, must not be <code>null</code>
+   * @throws IllegalArgumentException if the given <code>baseDirectory</code> is not a directory
+   * @see #loadById(String)
+   */
+  public WriteBehindFileSettingStore( File baseDirectory, Executor executor ) {
+    ParamCheck.notNull( baseDirectory, "baseDirectory" );
+    ParamCheck.notNull( executor, "executor" );
+    checkWorkDir( baseDirectory );
+    workDir = baseDirectory;
+    this.executor = executor;
+    props = new Properties();
+    listeners = new HashSet<>();
+    writeLock = new Object();
+    writeTask = new Runnable() {
+      @Override
+      public void run() {
+        writePendingChanges();
+      }
+    };
+    pendingChanges = new LinkedHashMap<>();
+  }
+
+  @Override
+  public synchronized String getId() {
+    return id;
+  }
+
+  @Override
+  public synchronized String getAttribute( String name ) {
+    ParamCheck.notNull( name, "name" );
+    return props.getProperty( name );
+  }
+
+  @Override
+  public void setAttribute( String name, String value ) {
+    ParamCheck.notNull( name, "name" );
+    if( value == null ) {
+      removeAttribute( name );
+    } else {
+      boolean schedule = false;
+      synchronized( this ) {
+        String oldValue = ( String )props.setProperty( name, value );
+        if( !value.equals( oldValue ) ) {
+          notifyListeners( name, oldValue, value );
+          schedule = addPendingChange( name, value );
+        }
+      }
+      if( schedule ) {
+        scheduleWrite();
+      }
+    }
+  }
+
+  @Override
+  public synchronized Enumeration<String> getAttributeNames() {
+    final Enumeration<Object> keys = props.keys();
+    return new Enumeration<String>() {
+      @Override
+      public boolean hasMoreElements() {
+        return keys.hasMoreElements();
+      }
+      @Override
+      public String nextElement() {
+        return ( String )keys.nextElement();
+      }
+    };
+  }
+
+  /**
+   * Writes all pending changes of the current store before the settings with the given ID are
+   * loaded.
+   */
+  @Override
+  public void loadById( String id ) throws IOException {
+    ParamCheck.notNullOrEmpty( id, "id" );
+    synchronized( writeLock ) {
+      writePendingChanges();
+      synchronized( this ) {
+        this.id = id;
+        notifyForEachAttribute( true );
+        props.clear();
+        pendingChanges.clear();
+        journalSize = 0;
+        recoverCompaction( id );
+        Properties snapshot = readSnapshot( id );
+        if( snapshot != null ) {
+          props.putAll( snapshot );
+        }
+        journalSize = replayJournal( id );
+        notifyForEachAttribute( false );
+      }
+    }
+  }
+
+  @Override
+  public void removeAttribute( String name ) {
+    ParamCheck.notNull( name, "name" );
+    boolean schedule = false;
+    synchronized( this ) {
+      String oldValue = ( String )props.remove( name );
+      if( oldValue != null ) {
+        notifyListeners( name, oldValue, null );
+        schedule = addPendingChange( name, null );
+      }
+    }
+    if( schedule ) {
+      scheduleWrite();
+    }
+  }
+
+  @Override
+  public synchronized void addSettingStoreListener( SettingStoreListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.add( listener );
+  }
+
+  @Override
+  public synchronized void removeSettingStoreListener( SettingStoreListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.remove( listener );
+  }
+
+  /**
+   * Writes all pending changes in the calling thread.
+   */
+  public void flush() {
+    writePendingChanges();
+  }
+
+  //////////////////
+  // helping methods
+
+  private boolean addPendingChange( String name, String value ) {
+    pendingChanges.put( name, value );
+    boolean result = !writeScheduled && id != null;
+    if( result ) {
+      writeScheduled = true;
+    }
+    return result;
+  }
+
+  private void scheduleWrite() {
+    try {
+      executor.execute( writeTask );
+    } catch( @SuppressWarnings( "unused" ) RejectedExecutionException exception ) {
+      // the executor has been shut down, don't lose the changes
+      writePendingChanges();
+    }
+  }
+
+  private void writePendingChanges() {
+    synchronized( writeLock ) {
+      String storeId;
+      Map<String, String> changes;
+      Properties snapshot = null;
+      synchronized( this ) {
+        writeScheduled = false;
+        if( id == null || pendingChanges.isEmpty() ) {
+          return;
+        }
+        storeId = id;
+        changes = pendingChanges;
+        pendingChanges = new LinkedHashMap<>();
+        journalSize += changes.size();
+        if( journalSize >= COMPACTION_THRESHOLD ) {
+          snapshot = new Properties();
+          snapshot.putAll( props );
+          journalSize = 0;
+        }
+      }
+      try {
+        if( snapshot == null ) {
+          appendJournal( storeId, changes );
+        } else {
+          compact( storeId, snapshot );
+        }
+        failedWrites = 0;
+      } catch( IOException exception ) {
+        log( "Failed to write settings: " + storeId, exception );
+        failedWrites++;
+        if( restorePendingChanges( storeId, changes, failedWrites <= MAX_RETRIES ) ) {
+          scheduleRetry();
+        }
+      }
+    }
+  }
+
+  /*
+   * Puts the changes of a failed write back in front of the changes that were made in the meantime.
+   * As the journal may end with an incomplete block now, the next write replaces the settings file.
+   * Returns true if a retry has to be scheduled.
+   */
+  private synchronized boolean restorePendingChanges( String storeId,
+                                                      Map<String, String> changes,
+                                                      boolean retry )
+  {
+    boolean result = false;
+    if( storeId.equals( id ) ) {
+      changes.putAll( pendingChanges );
+      pendingChanges = changes;
+      journalSize = COMPACTION_THRESHOLD;
+      result = retry && !writeScheduled;
+      if( result ) {
+        writeScheduled = true;
+      }
+    }
+    return result;
+  }
+
+  private void scheduleRetry() {
+    try {
+      if( executor instanceof ScheduledExecutorService ) {
+        ScheduledExecutorService scheduledExecutor = ( ScheduledExecutorService )executor;
+        scheduledExecutor.schedule( writeTask, RETRY_DELAY, TimeUnit.MILLISECONDS );
+      } else {
+        executor.execute( writeTask );
+      }
+    } catch( @SuppressWarnings( "unused" ) RejectedExecutionException exception ) {
+      // the executor has been shut down, the changes are written with the next change or flush
+      synchronized( this ) {
+        writeScheduled = false;
+      }
+    }
+  }
+
+  /*
+   * The journal is moved aside before the settings file is replaced, so that it is not replayed
+   * on the new settings if the server stops before the journal is deleted. A remaining temporary
+   * file tells that the settings file has not been replaced, see recoverCompaction.
+   */
+  private void compact( String storeId, Properties snapshot ) throws IOException {
+    File tempFile = getStoreFile( storeId + TEMP_SUFFIX );
+    writeSnapshot( tempFile, snapshot );
+    File journalFile = getJournalFile( storeId );
+    if( journalFile.exists() ) {
+      move( journalFile, getOldJournalFile( storeId ) );
+    }
+    move( tempFile, getStoreFile( storeId ) );
+    Files.deleteIfExists( getOldJournalFile( storeId ).toPath() );
+  }
+
+  /*
+   * Completes or rolls back a compaction that was interrupted by a stop of the server.
+   */
+  private void recoverCompaction( String storeId ) throws IOException {
+    File tempFile = getStoreFile( storeId + TEMP_SUFFIX );
+    File oldJournalFile = getOldJournalFile( storeId );
+    if( oldJournalFile.exists() ) {
+      if( tempFile.exists() ) {
+        // the settings file has not been replaced, the moved journal is still needed
+        move( oldJournalFile, getJournalFile( storeId ) );
+      } else {
+        Files.delete( oldJournalFile.toPath() );
+      }
+    }
+    Files.deleteIfExists( tempFile.toPath() );
+  }
+
+  /*
+   * Every batch of changes is written as a block of properties in which each value starts with
+   * SET or REMOVE. The block is preceded by its length and checksum, an incomplete last block is
+   * ignored on replay.
+   */
+  private void appendJournal( String storeId, Map<String, String> changes ) throws IOException {
+    Properties records = new Properties();
+    for( Entry<String, String> change : changes.entrySet() ) {
+      String value = change.getValue();
+      String record = value == null ? String.valueOf( REMOVE ) : SET + value;
+      records.setProperty( change.getKey(), record );
+    }
+    ByteArrayOutputStream block = new ByteArrayOutputStream();
+    records.store( block, null );
+    byte[] bytes = block.toByteArray();
+    CRC32 checksum = new CRC32();
+    checksum.update( bytes );
+    FileOutputStream outputStream = new FileOutputStream( getJournalFile( storeId ), true );
+    try {
+      DataOutputStream dataStream = new DataOutputStream( outputStream );
+      dataStream.writeInt( bytes.length );
+      dataStream.writeLong( checksum.getValue() );
+      dataStream.write( bytes );
+      dataStream.flush();
+      outputStream.getFD().sync();
+    } finally {
+      outputStream.close();
+    }
+  }
+
+  private int replayJournal( String storeId ) throws IOException {
+    int result = 0;
+    File file = getJournalFile( storeId );
+    if( file.exists() ) {
+      DataInputStream dataStream
+        = new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) );
+      try {
+        byte[] bytes = readJournalBlock( dataStream );
+        while( bytes != null ) {
+          Properties records = new Properties();
+          records.load( new ByteArrayInputStream( bytes ) );
+          result += replayRecords( records );
+          bytes = readJournalBlock( dataStream );
+        }
+      } finally {
+        dataStream.close();
+      }
+    }
+    return result;
+  }
+
+  private static byte[] readJournalBlock( DataInputStream dataStream ) throws IOException {
+    try {
+      int length = dataStream.readInt();
+      long expectedChecksum = dataStream.readLong();
+      if( length < 0 ) {
+        return null;
+      }
+      byte[] result = new byte[ length ];
+      dataStream.readFully( result );
+      CRC32 checksum = new CRC32();
+      checksum.update( result );
+      return checksum.getValue() == expectedChecksum ? result : null;
+    } catch( @SuppressWarnings( "unused" ) EOFException exception ) {
+      // the server stopped while the last block was written
+      return null;
+    }
+  }
+
+  private int replayRecords( Properties records ) {
+    Enumeration<Object> names = records.keys();
+    while( names.hasMoreElements() ) {
+      String name = ( String )names.nextElement();
+      String record = records.getProperty( name );
+      if( record.length() > 0 && record.charAt( 0 ) == SET ) {
+        props.setProperty( name, record.substring( 1 ) );
+      } else {
+        props.remove( name );
+      }
+    }
+    return records.size();
+  }
+
+  private Properties readSnapshot( String storeId ) throws IOException {
+    File file = getStoreFile( storeId );
+    if( !file.exists() ) {
+      return null;
+    }
+    Properties result = new Properties();
+    InputStream inputStream = new BufferedInputStream( new FileInputStream( file ) );
+    try {
+      result.load( inputStream );
+    } finally {
+      inputStream.close();
+    }
+    return result;
+  }
+
+  private static void writeSnapshot( File file, Properties snapshot ) throws IOException {
+    FileOutputStream outputStream = new FileOutputStream( file );
+    try {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      snapshot.store( buffer, FileSettingStore.class.getName() );
+      buffer.writeTo( outputStream );
+      outputStream.getFD().sync();
+    } finally {
+      outputStream.close();
+    }
+  }
+
+  private static void move( File source, File target ) throws IOException {
+    try {
+      Files.move( source.toPath(),
+                  target.toPath(),
+                  StandardCopyOption.ATOMIC_MOVE,
+                  StandardCopyOption.REPLACE_EXISTING );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+  }
+
+  private File getJournalFile( String storeId ) {
+    return getStoreFile( storeId + JOURNAL_SUFFIX );
+  }
+
+  private File getOldJournalFile( String storeId ) {
+    return getStoreFile( storeId + OLD_JOURNAL_SUFFIX );
+  }
+
+  private File getStoreFile( String fileName ) {
+    return new File( workDir, fileName );
+  }
+
+  private static void log( String msg, Throwable throwable ) {
+    ServletLog.log( msg, throwable );
+  }
+
+  private void notifyForEachAttribute( boolean removed ) {
+    Enumeration<Object> attributes = props.keys();
+    while( attributes.hasMoreElements() ) {
+      String attribute = ( String )attributes.nextElement();
+      String value = props.getProperty( attribute );
+      if( removed ) {
+        notifyListeners( attribute, value, null );
+      } else {
+        notifyListeners( attribute, null, value );
+      }
+    }
+  }
+
+  private void notifyListeners( String attribute, String oldValue, String newValue ) {
+    SettingStoreEvent event = new SettingStoreEvent( this, attribute, oldValue, newValue );
+    for( SettingStoreListener listener : new HashSet<>( listeners ) ) {
+      try {
+        listener.settingChanged( event );
+      } catch( Exception exc ) {
+        String msg = "Exception when invoking listener " + listener.getClass().getName();
+        log( msg, exc );
+      } catch( LinkageError le ) {
+        String msg = "Linkage error when invoking listener " + listener.getClass().getName();
+        log( msg, le );
+      }
+    }
+  }
+
+  private static void checkWorkDir( File workDir ) {
+    if( !workDir.isDirectory() ) {
+      throw new IllegalArgumentException( "workDir is not a directory: " + workDir );
+    }
+  }
+
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * A setting store factory that creates instances of {@link WriteBehindFileSettingStore}.
+ * <p>
+ * The settings are persisted in the same directory as those of the
+ * {@link FileSettingStoreFactory}. All stores of a factory write their changes in a single
+ * background thread, which terminates when there is nothing to write for a while.
+ * </p>
+ * <p>
+ * To use this factory, register it with
+ * {@link org.eclipse.rap.rwt.application.Application#setSettingStoreFactory(SettingStoreFactory)}.
+ * </p>
+ *
+ * @since 3.2
+ */
+public final class WriteBehindFileSettingStoreFactory implements SettingStoreFactory {
+
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private final ScheduledThreadPoolExecutor executor;
+  private File directory;
+
+  public WriteBehindFileSettingStoreFactory() {
+    executor = new ScheduledThreadPoolExecutor( 1, new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable runnable ) {
+        Thread thread = new Thread( runnable, "RWT setting store writer" );
+        thread.setDaemon( true );
+        return thread;
+      }
+    } );
+    executor.setKeepAliveTime( KEEP_ALIVE_SECONDS, TimeUnit.SECONDS );
+    executor.allowCoreThreadTimeOut( true );
+  }
+
+  @Override
+  public SettingStore createSettingStore( String id ) {
+    ParamCheck.notNullOrEmpty( id, "id" );
+    SettingStore store = new WriteBehindFileSettingStore( getWorkingDir(), executor );
+    try {
+      store.loadById( id );
+    } catch( IOException sse ) {
+      ServletLog.log( sse.getMessage(), sse );
+    }
+    return store;
+  }
+
+  private synchronized File getWorkingDir() {
+    if( directory == null ) {
+      directory = FileSettingStoreFactory.createWorkingDir();
+    }
+    return directory;
+  }
+
+}
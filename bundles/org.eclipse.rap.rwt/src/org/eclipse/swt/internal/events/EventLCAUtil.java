@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -87,6 +87,20 @@ public final class EventLCAUtil {
     return 1L << (eventType - 1);
   }
 
+  /*
+   * Returns the mask of all event types that the widget has non-client listeners for, the same
+   * mask that is preserved for the widget when its listeners change.
+   */
+  public static long getEventList( Widget widget ) {
+    long result = 0;
+    for( int eventType = 1; eventType <= 64; eventType++ ) {
+      if( isListening( widget, eventType ) ) {
+        result |= getEventMask( eventType );
+      }
+    }
+    return result;
+  }
+
   public static boolean containsEvent( long events, int event ) {
     return ( events & getEventMask( event ) ) != 0;
   }
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
+import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Widget;
+
+
+/*
+ * Keeps track of the widgets of a display that have to be rendered in change tracking mode.
+ * Widgets are added when they are created and by their remote adapter when a property is
+ * preserved, which happens in the widget setters before a value changes. Together with a changed
+ * widget, all its ancestors are recorded, so that the render phase can descend to the changed
+ * widgets without visiting unchanged subtrees.
+ *
+ * Widgets whose LCA does not track changes are kept as untracked widgets after they have been
+ * rendered for the first time. They are preserved and rendered in every request.
+ *
+ * The ancestors of a control are its parents, the ancestors of other widgets are taken from the
+ * parent of their remote adapter. An LCA must only track changes if this parent chain leads
+ * through the widgets that the widget tree visitor passes on its way to the widget.
+ */
+public final class ChangedWidgets implements SerializableCompatibility {
+
+  private final Set<Widget> changedWidgets;
+  private final Set<Widget> ancestors;
+  private final Set<Widget> untrackedWidgets;
+
+  public ChangedWidgets() {
+    changedWidgets = new HashSet<>();
+    ancestors = new HashSet<>();
+    untrackedWidgets = new HashSet<>();
+  }
+
+  public void add( Widget widget ) {
+    changedWidgets.add( widget );
+    ancestors.add( widget );
+    // the parent may have changed since the widget was added
+    addAncestors( getParent( widget ) );
+  }
+
+  /*
+   * Adds a widget from its constructor, where the parent of the widget may not be set yet.
+   */
+  public void addCreated( Widget widget, Widget parent ) {
+    if( changedWidgets.add( widget ) ) {
+      ancestors.add( widget );
+      addAncestors( parent );
+    }
+  }
+
+  public void addUntracked( Widget widget ) {
+    untrackedWidgets.add( widget );
+  }
+
+  /*
+   * Marks all untracked widgets as changed, as they are rendered in every request.
+   */
+  public void addUntrackedWidgets() {
+    for( Widget widget : getUntrackedWidgets() ) {
+      add( widget );
+    }
+  }
+
+  public boolean isChanged( Widget widget ) {
+    return changedWidgets.contains( widget );
+  }
+
+  /*
+   * Returns whether the given widget is changed or has changed descendants.
+   */
+  public boolean isAncestor( Widget widget ) {
+    return ancestors.contains( widget );
+  }
+
+  public List<Widget> getChangedWidgets() {
+    return new ArrayList<>( changedWidgets );
+  }
+
+  public List<Widget> getUntrackedWidgets() {
+    List<Widget> result = new ArrayList<>( untrackedWidgets.size() );
+    Iterator<Widget> iterator = untrackedWidgets.iterator();
+    while( iterator.hasNext() ) {
+      Widget widget = iterator.next();
+      if( widget.isDisposed() ) {
+        iterator.remove();
+      } else {
+        result.add( widget );
+      }
+    }
+    return result;
+  }
+
+  public void clear() {
+    changedWidgets.clear();
+    ancestors.clear();
+  }
+
+  private void addAncestors( Widget widget ) {
+    Widget current = widget;
+    while( current != null && !current.isDisposed() && ancestors.add( current ) ) {
+      current = getParent( current );
+    }
+  }
+
+  private static Widget getParent( Widget widget ) {
+    if( widget instanceof Control ) {
+      return ( ( Control )widget ).getParent();
+    }
+    return widget.getAdapter( RemoteAdapter.class ).getParent();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 EclipseSource and others.
+ * Copyright (c) 2015, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.isToolTipMarkupEnabled
 
 import java.util.Arrays;
 
+import org.eclipse.rap.rwt.internal.lifecycle.RenderCacheKey;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Cursor;
@@ -355,6 +356,40 @@ public class ControlRemoteAdapter extends WidgetRemoteAdapter {
     return cancelKeys;
   }
 
+  /**
+   * Adds the values that the render methods of this adapter depend on while the control is not
+   * initialized to the given key. Returns <code>false</code> if the control renders references to
+   * other widgets or key bindings, which are not covered by a render cache key.
+   */
+  public boolean addRenderCacheValues( RenderCacheKey key, Control control ) {
+    if(    hasPreserved( CHILDREN )
+        || hasPreserved( MENU ) && control.getMenu() != null
+        || hasPreserved( ACTIVE_KEYS )
+        || hasPreserved( CANCEL_KEYS ) )
+    {
+      return false;
+    }
+    IControlAdapter controlAdapter = ControlUtil.getControlAdapter( control );
+    key.add( toJson( controlAdapter.getBounds() ) );
+    key.add( hasPreserved( TAB_INDEX ) ? Integer.valueOf( controlAdapter.getTabIndex() ) : null );
+    key.add( isToolTipMarkupEnabledFor( control ) );
+    key.add( hasPreserved( TOOL_TIP_TEXT ) ? control.getToolTipText() : null );
+    key.add( hasPreserved( VISIBLE ) ? Boolean.valueOf( control.getVisible() ) : null );
+    key.add( hasPreserved( ENABLED ) ? Boolean.valueOf( control.getEnabled() ) : null );
+    key.add( hasPreserved( FOREGROUND ) ? toJson( controlAdapter.getUserForeground() ) : null );
+    if( hasPreserved( BACKGROUND ) ) {
+      key.add( toJson( controlAdapter.getUserBackground() ) );
+      key.add( controlAdapter.getBackgroundTransparency() );
+    } else {
+      key.add( null ).add( null );
+    }
+    Image actualBackgroundImage = controlAdapter.getUserBackgroundImage();
+    key.add( hasPreserved( BACKGROUND_IMAGE ) ? toJson( actualBackgroundImage ) : null );
+    key.add( hasPreserved( FONT ) ? toJson( controlAdapter.getUserFont() ) : null );
+    key.add( hasPreserved( CURSOR ) ? toJson( control.getCursor() ) : null );
+    return true;
+  }
+
   @Override
   public void clearPreserved() {
     super.clearPreserved();
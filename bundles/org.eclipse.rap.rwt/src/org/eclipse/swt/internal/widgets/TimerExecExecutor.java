@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Executes the <code>timerExec</code> runnables of all displays of an application. There is one
+ * instance per application context, the scheduler thread is created on first use. Once shut down,
+ * the executor rejects further runnables with a <code>RejectedExecutionException</code>.
+ */
+public class TimerExecExecutor {
+
+  private ScheduledThreadPoolExecutor executor;
+  private boolean shutdown;
+
+  public ScheduledFuture<?> schedule( Runnable runnable, long delay ) {
+    return getExecutor().schedule( runnable, delay, TimeUnit.MILLISECONDS );
+  }
+
+  public synchronized void shutdown() {
+    shutdown = true;
+    if( executor != null ) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  synchronized boolean isRunning() {
+    return executor != null;
+  }
+
+  private synchronized ScheduledThreadPoolExecutor getExecutor() {
+    if( shutdown ) {
+      throw new RejectedExecutionException( "The timerExec executor is shut down" );
+    }
+    if( executor == null ) {
+      executor = new ScheduledThreadPoolExecutor( 1, new ThreadFactory() {
+        @Override
+        public Thread newThread( Runnable runnable ) {
+          Thread thread = new Thread( runnable, "RWT timerExec scheduler" );
+          thread.setDaemon( true );
+          return thread;
+        }
+      } );
+      // cancelled tasks must not pile up in the queue of a long running application
+      executor.setRemoveOnCancelPolicy( true );
+    }
+    return executor;
+  }
+
+}
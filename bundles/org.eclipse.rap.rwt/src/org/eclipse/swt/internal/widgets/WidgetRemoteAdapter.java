@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,6 +38,8 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private transient Runnable[] renderRunnables;
   private transient Object[] data;
   private transient String variant;
+  private Widget widget;
+  private ChangedWidgets changedWidgets;
 
   public WidgetRemoteAdapter( String id ) {
     this.id = id;
@@ -48,6 +50,15 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     preservedValues = new HashMap<>();
   }
 
+  /*
+   * Reports the widget to the given registry whenever a value is preserved or a render runnable
+   * is added, see ChangedWidgets.
+   */
+  public void trackChanges( Widget widget, ChangedWidgets changedWidgets ) {
+    this.widget = widget;
+    this.changedWidgets = changedWidgets;
+  }
+
   @Override
   public String getId() {
     return id;
@@ -74,6 +85,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   @Override
   public void preserve( String propertyName, Object value ) {
     preservedValues.put( propertyName, value );
+    reportChange();
   }
 
   @Override
@@ -130,6 +142,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   protected void markPreserved( int index ) {
     preserved |= ( 1 << index );
+    reportChange();
   }
 
   protected boolean hasPreserved( int index ) {
@@ -149,6 +162,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
       newRunnables[ newRunnables.length - 1 ] = renderRunnable;
       renderRunnables = newRunnables;
     }
+    reportChange();
   }
 
   public Runnable[] getRenderRunnables() {
@@ -166,6 +180,12 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     }
   }
 
+  private void reportChange() {
+    if( changedWidgets != null ) {
+      changedWidgets.add( widget );
+    }
+  }
+
   private Object readResolve() {
     initialize();
     return this;
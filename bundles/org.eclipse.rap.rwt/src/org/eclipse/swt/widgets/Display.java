@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,6 +31,7 @@ import java.util.Set;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.Adaptable;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.CurrentPhase;
 import org.eclipse.rap.rwt.internal.lifecycle.IUIThreadHolder;
@@ -62,6 +63,7 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.ChangedWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
@@ -235,6 +237,7 @@ public class Display extends Device implements Adaptable {
   private transient Monitor monitor;
   private transient IDisplayAdapter displayAdapter;
   private WidgetRemoteAdapter remoteAdapter;
+  private final ChangedWidgets changedWidgets;
   private Runnable[] disposeList;
   private Composite[] layoutDeferred;
   private int layoutDeferredCount;
@@ -283,6 +286,7 @@ public class Display extends Device implements Adaptable {
     dpi = readDPI();
     depth = readDepth();
     synchronizer = new Synchronizer( this );
+    changedWidgets = RWTProperties.isChangeTracking() ? new ChangedWidgets() : null;
     register();
   }
 
@@ -804,6 +808,9 @@ public class Display extends Device implements Adaptable {
       }
       return ( T )remoteAdapter;
     }
+    if( adapter == ChangedWidgets.class ) {
+      return ( T )changedWidgets;
+    }
     return null;
   }
 
@@ -1063,6 +1070,49 @@ public class Display extends Device implements Adaptable {
     }
   }
 
+  /**
+   * Causes the <code>run()</code> method of the runnable to
+   * be invoked by the user-interface thread at the next
+   * reasonable opportunity, like {@link #asyncExec(Runnable)}. If a
+   * runnable with an equal key has been passed to this method before and
+   * has not been invoked yet, it is replaced with the given runnable instead
+   * of queueing another one. This is useful for background threads that
+   * update the UI more often than the UI thread can process the updates,
+   * only the latest update per key is invoked.
+   * <p>
+   * Note that at the time the runnable is invoked, widgets
+   * that have the receiver as their display may have been
+   * disposed. Therefore, it is necessary to check for this
+   * case inside the runnable before accessing the widget.
+   * </p>
+   *
+   * @param key the key that identifies runnables which replace each other, must not be
+   *   <code>null</code>
+   * @param runnable code to run on the user-interface thread, must not be <code>null</code>
+   *
+   * @exception IllegalArgumentException <ul>
+   *    <li>ERROR_NULL_ARGUMENT - if the key or the runnable is null</li>
+   * </ul>
+   * @exception SWTException <ul>
+   *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+   * </ul>
+   *
+   * @see #asyncExec(Runnable)
+   * @rwtextension This method is not available in SWT.
+   * @since 3.2
+   */
+  public void asyncExec( Object key, Runnable runnable ) {
+    if( key == null || runnable == null ) {
+      error( SWT.ERROR_NULL_ARGUMENT );
+    }
+    synchronized( deviceLock ) {
+      if( isDisposed() ) {
+        error( SWT.ERROR_DEVICE_DISPOSED );
+      }
+      synchronizer.asyncExec( key, runnable );
+    }
+  }
+
   /**
    * Causes the <code>run()</code> method of the runnable to
    * be invoked by the user-interface thread at the next
@@ -1154,6 +1204,13 @@ public class Display extends Device implements Adaptable {
    * or <code>asyncExec()</code>) are waiting to be processed, and if
    * so handles them before returning.
    * </p>
+   * <!-- Begin RAP specific -->
+   * <p>
+   * Unlike in SWT, a single call may run several runnables that were posted with
+   * <code>asyncExec()</code>: up to 64 of the runnables that were waiting when the call started
+   * are run before it returns. Runnables that are posted meanwhile are left to the next call.
+   * </p>
+   * <!-- End RAP specific -->
    *
    * @return <code>false</code> if the caller can sleep upon return from this method
    *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,13 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -44,13 +51,20 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 public class Synchronizer implements SerializableCompatibility {
 
   Display display;
-  int messageCount;
-  RunnableLock [] messages;
-// RAP [rh] mesageLock must be serializable	(bug 345842)
+// RAP: Messages are queued without locking, background threads that add many runnables
+//      must not contend on a lock with each other and with the UI thread. The count is
+//      incremented before a message is queued and decremented after it has been removed,
+//      so that it is never smaller than the number of queued messages.
+//	int messageCount;
+//	RunnableLock [] messages;
 //	Object messageLock = new Object ();
+  AtomicInteger messageCount = new AtomicInteger ();
+  Queue<RunnableLock> messages = new ConcurrentLinkedQueue<> ();
+  // guards the notifications of the server push mechanism when the queue becomes (non-)empty
   Object messageLock = new SerializableLock();
+  ConcurrentMap<Object, KeyedRunnable> keyedRunnables = new ConcurrentHashMap<> ();
+// END RAP
   Thread syncThread;
-  static final int GROW_SIZE = 4;
   static final int MESSAGE_LIMIT = 64;
 
   //TEMPORARY CODE
@@ -68,35 +82,34 @@ public Synchronizer (Display display) {
 }
 
 void addLast (RunnableLock lock) {
-  boolean wake = false;
-  synchronized (messageLock) {
-    if (messages == null) {
-      messages = new RunnableLock [GROW_SIZE];
-    }
-    if (messageCount == messages.length) {
-      RunnableLock[] newMessages = new RunnableLock [messageCount + GROW_SIZE];
-      System.arraycopy (messages, 0, newMessages, 0, messageCount);
-      messages = newMessages;
-    }
-    messages [messageCount++] = lock;
+  boolean wake = messageCount.getAndIncrement () == 0;
+  messages.offer (lock);
 // RAP [rst] Notify server push mechanism when runnable was added to empty queue
-    if( messageCount == 1 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( true );
-        }
-      } );
-    }
-    runnableAdded( lock.runnable );
-// END RAP
-    wake = messageCount == 1;
+  if (wake) {
+    notifyHasRunnables ();
   }
+  runnableAdded( lock.runnable );
+// END RAP
   if (wake) {
     display.wakeThread ();
   }
 }
 
+// RAP: Notifies the server push mechanism of the current state rather than of the
+//      transition, as notifications of concurrent transitions may overtake each other
+private void notifyHasRunnables () {
+  synchronized (messageLock) {
+    final boolean hasRunnables = messageCount.get () > 0;
+    RWT.getUISession( display ).exec( new Runnable() {
+      @Override
+      public void run() {
+        ServerPushManager.getInstance().setHasRunnables( hasRunnables );
+      }
+    } );
+  }
+}
+// END RAP
+
 @SuppressWarnings( "unused" )
 protected void runnableAdded( Runnable runnable ) {
 }
@@ -123,12 +136,47 @@ protected void asyncExec (Runnable runnable) {
   addLast (new RunnableLock (runnable));
 }
 
-int getMessageCount () {
-  synchronized (messageLock) {
-    return messageCount;
+/**
+ * Causes the <code>run()</code> method of the runnable to
+ * be invoked by the user-interface thread at the next
+ * reasonable opportunity, unless another runnable with an
+ * equal key is still pending. In that case, the pending
+ * runnable is replaced with the given one, which is invoked
+ * at the position of the pending runnable instead.
+ * <p>
+ * The runnable is passed to {@link #asyncExec(Runnable)}
+ * wrapped in another runnable.
+ * </p>
+ *
+ * @param key the key that identifies runnables which replace each other
+ * @param runnable code to run on the user-interface thread.
+ *
+ * @see #asyncExec(Runnable)
+ * @since 3.2
+ */
+protected void asyncExec (Object key, Runnable runnable) {
+  while (true) {
+    KeyedRunnable pending = keyedRunnables.get (key);
+    if (pending != null && pending.replace (runnable)) {
+      return;
+    }
+    KeyedRunnable keyedRunnable = new KeyedRunnable (key, runnable);
+    if (pending == null) {
+      if (keyedRunnables.putIfAbsent (key, keyedRunnable) == null) {
+        asyncExec (keyedRunnable);
+        return;
+      }
+    } else if (keyedRunnables.replace (key, pending, keyedRunnable)) {
+      asyncExec (keyedRunnable);
+      return;
+    }
   }
 }
 
+int getMessageCount () {
+  return messageCount.get ();
+}
+
 void releaseSynchronizer () {
   // RAP [rh] release all threads that are waiting in syncExec(), see bug 352437
   RunnableLock runnableLock = removeFirst();
@@ -141,52 +189,43 @@ void releaseSynchronizer () {
     }
     runnableLock = removeFirst();
   }
+  keyedRunnables.clear ();
   // END RAP
 //	display = null;
-  messages = null;
-  messageLock = null;
+//	messages = null;
+//	messageLock = null;
   syncThread = null;
 }
 
 RunnableLock removeFirst () {
-  synchronized (messageLock) {
-    if (messageCount == 0) {
-      return null;
-    }
-    RunnableLock lock = messages [0];
-    System.arraycopy (messages, 1, messages, 0, --messageCount);
-    messages [messageCount] = null;
-    if (messageCount == 0) {
-      if (messages.length > MESSAGE_LIMIT) {
-        messages = null;
-      }
-    }
+  RunnableLock lock = messages.poll ();
+  if (lock == null) {
+    return null;
+  }
 // RAP [rst] Notify server push mechanism when last runnable has been removed
-    if( messageCount == 0 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( false );
-        }
-      } );
-    }
-// END RAP
-    return lock;
+  if (messageCount.decrementAndGet () == 0) {
+    notifyHasRunnables ();
   }
+// END RAP
+  return lock;
 }
 
 boolean runAsyncMessages () {
   return runAsyncMessages (false);
 }
 
+// RAP: Run the messages in batches of up to MESSAGE_LIMIT messages that were queued before
+//      the batch started, so that messages added meanwhile don't starve other work
 boolean runAsyncMessages (boolean all) {
   boolean run = false;
+  int batchSize = all ? Integer.MAX_VALUE : Math.min (messageCount.get (), MESSAGE_LIMIT);
   do {
     RunnableLock lock = removeFirst ();
     if (lock == null) {
       return run;
     }
     run = true;
+    batchSize--;
     synchronized (lock) {
       syncThread = lock.thread;
       try {
@@ -203,7 +242,7 @@ boolean runAsyncMessages (boolean all) {
         lock.notifyAll ();
       }
     }
-  } while (all);
+  } while (batchSize > 0);
   return run;
 }
 
@@ -266,4 +305,40 @@ protected void syncExec (Runnable runnable) {
   }
 }
 
+// RAP: Runnables of the keyed asyncExec, a runnable that replaces a pending one is run
+//      instead of it. The runnable is removed from the pending ones before it is taken, so
+//      that a runnable that arrives too late to replace it is queued anew.
+class KeyedRunnable implements Runnable, SerializableCompatibility {
+
+  final Object key;
+  final AtomicReference<Runnable> runnable;
+
+  KeyedRunnable (Object key, Runnable runnable) {
+    this.key = key;
+    this.runnable = new AtomicReference<> (runnable);
+  }
+
+  boolean replace (Runnable replacement) {
+    Runnable current = runnable.get ();
+    while (current != null) {
+      if (runnable.compareAndSet (current, replacement)) {
+        return true;
+      }
+      current = runnable.get ();
+    }
+    return false;
+  }
+
+  @Override
+  public void run () {
+    keyedRunnables.remove (key, this);
+    Runnable current = runnable.getAndSet (null);
+    if (current != null) {
+      current.run ();
+    }
+  }
+
+}
+// END RAP
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.isToolTipMarkupEnabled
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
@@ -230,7 +231,7 @@ public class Table extends Composite {
     public boolean isItemVirtual( int index ) {
       boolean result = false;
       if( ( style & SWT.VIRTUAL ) != 0 ) {
-        TableItem item = items[ index ];
+        TableItem item = items.get( index );
         result = item == null || !item.cached;
       }
       return result;
@@ -303,7 +304,7 @@ public class Table extends Composite {
   private final ITableAdapter tableAdapter;
   private int customItemHeight;
   private int itemCount;
-  private TableItem[] items;
+  private final TableItemStore items;
   private final ItemHolder<TableColumn> columnHolder;
   private int[] columnImageCount;
   private int[] columnOrder;
@@ -321,6 +322,8 @@ public class Table extends Composite {
   private BoxDimensions bufferedCellPadding;
   private int bufferedCellSpacing;
   private int preloadedItems;
+  private int resolvedStart;
+  private int resolvedEnd;
 
   /**
    * Constructs a new instance of this class given its parent
@@ -361,6 +364,7 @@ public class Table extends Composite {
     sortDirection = SWT.NONE;
     tableAdapter = new TableAdapter();
     columnHolder = new ItemHolder<>( TableColumn.class );
+    items = new TableItemStore();
     setTableEmpty();
     selection = EMPTY_SELECTION;
     customItemHeight = -1;
@@ -630,23 +634,10 @@ public class Table extends Composite {
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount && !isInDispose() ) {
-      int deleteIndex = oldItemCount - 1;
-      while( deleteIndex >= newItemCount ) {
-        TableItem item = items[ deleteIndex ];
-        if( item != null && !item.isDisposed() ) {
-          item.dispose();
-        } else {
-          destroyItem( null, deleteIndex );
-        }
-        deleteIndex--;
-      }
-      int length = Math.max( 4, ( newItemCount + 3 ) / 4 * 4 );
-      TableItem[] newItems = new TableItem[ length ];
-      System.arraycopy( items, 0, newItems, 0, Math.min( newItemCount, itemCount ) );
-      items = newItems;
+      removeTrailingItems( newItemCount );
       if( ( style & SWT.VIRTUAL ) == 0 ) {
         for( int i = itemCount; i < newItemCount; i++ ) {
-          items[ i ] = new TableItem( this, SWT.NONE, i, true );
+          new TableItem( this, SWT.NONE, i, true );
         }
       }
       itemCount = newItemCount;
@@ -694,13 +685,14 @@ public class Table extends Composite {
    */
   public TableItem[] getItems() {
     checkWidget();
-    TableItem[] result = new TableItem[ itemCount ];
+    TableItem[] result;
     if( ( style & SWT.VIRTUAL ) != 0 ) {
+      result = new TableItem[ itemCount ];
       for( int i = 0; i < itemCount; i++ ) {
         result[ i ] = _getItem( i );
       }
     } else {
-      System.arraycopy( items, 0, result, 0, itemCount );
+      result = items.toArray();
     }
     return result;
   }
@@ -809,9 +801,7 @@ public class Table extends Composite {
    */
   public void removeAll() {
     checkWidget();
-    while( itemCount > 0 ) {
-      removeItem( itemCount - 1 );
-    }
+    removeTrailingItems( 0 );
   }
 
   /**
@@ -938,7 +928,7 @@ public class Table extends Composite {
     if( index < 0 || index >= itemCount ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
-    TableItem item = items[ index ];
+    TableItem item = items.get( index );
     if( item != null ) {
       item.clear();
     }
@@ -974,11 +964,10 @@ public class Table extends Composite {
       if( start == 0 && end == itemCount - 1 ) {
         clearAll();
       } else {
-        for( int i = start; i <= end; i++ ) {
-          TableItem item = items[ i ];
-          if( item != null ) {
-            item.clear();
-          }
+        int position = items.ceilingPosition( start );
+        while( position < items.size() && items.indexAt( position ) <= end ) {
+          items.itemAt( position ).clear();
+          position++;
         }
       }
     }
@@ -1000,11 +989,8 @@ public class Table extends Composite {
    */
   public void clearAll() {
     checkWidget();
-    for( int i = 0; i < itemCount; i++ ) {
-      TableItem item = items[ i ];
-      if( item != null ) {
-        item.clear();
-      }
+    for( int i = 0; i < items.size(); i++ ) {
+      items.itemAt( i ).clear();
     }
     clearItemImageSize();
   }
@@ -1041,7 +1027,7 @@ public class Table extends Composite {
         }
       }
       for( int i = 0; i < indices.length; i++ ) {
-        TableItem item = items[ indices[ i ] ];
+        TableItem item = items.get( indices[ i ] );
         if( item != null ) {
           item.clear();
         }
@@ -2146,10 +2132,8 @@ public class Table extends Composite {
       System.arraycopy( columnImageCount, index, newColumnImageCount, index + 1, length - index );
       columnImageCount = newColumnImageCount;
     }
-    for( int i = 0; i < itemCount; i++ ) {
-      if( items[ i ] != null ) {
-        items[ i ].shiftData( index );
-      }
+    for( int i = 0; i < items.size(); i++ ) {
+      items.itemAt( i ).shiftData( index );
     }
     updateScrollBars();
   }
@@ -2158,10 +2142,8 @@ public class Table extends Composite {
     if( !isInDispose() ) {
       int index = indexOf( column );
       // Remove data from TableItems
-      for( int i = 0; i < itemCount; i++ ) {
-        if( items[ i ] != null ) {
-          items[ i ].removeData( index );
-        }
+      for( int i = 0; i < items.size(); i++ ) {
+        items.itemAt( i ).removeData( index );
       }
       // Reset sort column if necessary
       if( column == sortColumn ) {
@@ -2209,21 +2191,7 @@ public class Table extends Composite {
     if( index < 0 || index > itemCount ) {
       error( SWT.ERROR_INVALID_RANGE );
     }
-    if( itemCount == items.length ) {
-      /*
-       * Grow the array faster when redraw is off or the table is not visible.
-       * When the table is painted, the items array is resized to be smaller to
-       * reduce memory usage.
-       */
-      boolean small = /* drawCount == 0 && */isVisible();
-      int length = small ? items.length + 4 : Math.max( 4, items.length * 3 / 2 );
-      TableItem[] newItems = new TableItem[ length ];
-      System.arraycopy( items, 0, newItems, 0, items.length );
-      items = newItems;
-    }
-    /* Insert the item */
-    System.arraycopy( items, index, items, index + 1, itemCount - index );
-    items[ index ] = item;
+    items.insert( index, item );
     itemCount++;
     adjustItemIndices( index );
     // adjust the selection indices
@@ -2256,8 +2224,7 @@ public class Table extends Composite {
       if( itemCount == 0 ) {
         setTableEmpty();
       } else {
-        System.arraycopy( items, index + 1, items, index, itemCount - index );
-        items[ itemCount ] = null;
+        items.delete( index );
         adjustItemIndices( index );
       }
       adjustTopIndex();
@@ -2276,14 +2243,11 @@ public class Table extends Composite {
 
   @Override
   void releaseChildren() {
-    Item[] tableItems = new TableItem[ items.length ];
-    System.arraycopy( items, 0, tableItems, 0, items.length );
+    TableItem[] tableItems = items.toArray();
     for( int i = 0; i < tableItems.length; i++ ) {
-      if( tableItems[ i ] != null ) {
-        tableItems[ i ].dispose();
-        items[ i ] = null;
-      }
+      tableItems[ i ].dispose();
     }
+    items.clear();
     TableColumn[] tableColumns = columnHolder.getItems();
     for( int i = 0; i < tableColumns.length; i++ ) {
       tableColumns[ i ].dispose();
@@ -2296,58 +2260,39 @@ public class Table extends Composite {
   // Helping methods - item retrieval
 
   private TableItem _getItem( int index ) {
-    if( ( style & SWT.VIRTUAL ) != 0 && items[ index ] == null ) {
-      items[ index ] = new TableItem( this, SWT.NONE, index, false );
+    TableItem result = items.get( index );
+    if( ( style & SWT.VIRTUAL ) != 0 && result == null ) {
+      result = new TableItem( this, SWT.NONE, index, false );
+      items.set( index, result );
     }
-    return items[ index ];
+    return result;
   }
 
   final TableItem[] getCachedItems() {
     TableItem[] result;
     if( ( style & SWT.VIRTUAL ) != 0 ) {
       int count = 0;
-      for( int i = 0; i < itemCount; i++ ) {
-        if( items[ i ] != null && items[ i ].cached ) {
+      for( int i = 0; i < items.size(); i++ ) {
+        if( items.itemAt( i ).cached ) {
           count++;
         }
       }
       result = new TableItem[ count ];
       count = 0;
-      for( int i = 0; i < itemCount; i++ ) {
-        if( items[ i ] != null && items[ i ].cached ) {
-          result[ count ] = items[ i ];
+      for( int i = 0; i < items.size(); i++ ) {
+        if( items.itemAt( i ).cached ) {
+          result[ count ] = items.itemAt( i );
           count++;
         }
       }
     } else {
-      result = new TableItem[ itemCount ];
-      System.arraycopy( items, 0, result, 0, itemCount );
+      result = items.toArray();
     }
     return result;
   }
 
   final TableItem[] getCreatedItems() {
-    TableItem[] result;
-    if( ( style & SWT.VIRTUAL ) != 0 ) {
-      int count = 0;
-      for( int i = 0; i < itemCount; i++ ) {
-        if( items[ i ] != null ) {
-          count++;
-        }
-      }
-      result = new TableItem[ count ];
-      count = 0;
-      for( int i = 0; i < itemCount; i++ ) {
-        if( items[ i ] != null ) {
-          result[ count ] = items[ i ];
-          count++;
-        }
-      }
-    } else {
-      result = new TableItem[ itemCount ];
-      System.arraycopy( items, 0, result, 0, itemCount );
-    }
-    return result;
+    return items.toArray();
   }
 
   ///////////////////////////////////////////////
@@ -2357,11 +2302,44 @@ public class Table extends Composite {
     int visibleItemCount = getVisibleItemCount( true );
     int startIndex = Math.max( 0, topIndex - preloadedItems );
     int endIndex = Math.min( itemCount, topIndex + visibleItemCount + preloadedItems );
+    if( RWTProperties.isVirtualItemEviction() ) {
+      evictItems( startIndex, endIndex );
+    }
     for( int index = startIndex; index < endIndex; index++ ) {
       checkData( _getItem( index ), index );
     }
   }
 
+  /*
+   * Only the rows that left the range resolved by the previous call are inspected, so that the
+   * cost depends on the scroll distance rather than on the number of created items. Items that
+   * are kept because they are selected or focused are not evicted later.
+   */
+  private void evictItems( int startIndex, int endIndex ) {
+    boolean evicted = evictItemsInRange( resolvedStart, Math.min( resolvedEnd, startIndex ) );
+    evicted |= evictItemsInRange( Math.max( resolvedStart, endIndex ), resolvedEnd );
+    resolvedStart = startIndex;
+    resolvedEnd = endIndex;
+    if( evicted ) {
+      updateScrollBars();
+    }
+  }
+
+  private boolean evictItemsInRange( int startIndex, int endIndex ) {
+    boolean result = false;
+    int position = items.ceilingPosition( startIndex );
+    while( position < items.size() && items.indexAt( position ) < endIndex ) {
+      int index = items.indexAt( position );
+      TableItem item = items.itemAt( position );
+      if( item.cached && index != focusIndex && !isSelected( index ) ) {
+        item.evict();
+        result = true;
+      }
+      position++;
+    }
+    return result;
+  }
+
   final boolean checkData( TableItem item, int index ) {
     boolean result = true;
     boolean virtual = ( style & SWT.VIRTUAL ) != 0;
@@ -2579,7 +2557,7 @@ public class Table extends Composite {
   }
 
   private void removeItem( int index ) {
-    TableItem item = items[ index ];
+    TableItem item = items.get( index );
     if( item != null && !item.isDisposed() ) {
       item.dispose();
     } else {
@@ -2587,6 +2565,57 @@ public class Table extends Composite {
     }
   }
 
+  private void removeTrailingItems( int newItemCount ) {
+    int deleteIndex = itemCount - 1;
+    while( deleteIndex >= newItemCount ) {
+      TableItem item = items.get( deleteIndex );
+      if( item != null && !item.isDisposed() ) {
+        item.dispose();
+        deleteIndex--;
+      } else {
+        // Rows without an item are removed at once, down to the next created item
+        int position = items.ceilingPosition( deleteIndex ) - 1;
+        int createdIndex = position >= 0 ? items.indexAt( position ) : -1;
+        int startIndex = Math.max( newItemCount, createdIndex + 1 );
+        destroyTrailingRows( startIndex );
+        deleteIndex = startIndex - 1;
+      }
+    }
+  }
+
+  private void destroyTrailingRows( int startIndex ) {
+    int count = 0;
+    for( int i = 0; i < selection.length; i++ ) {
+      if( selection[ i ] < startIndex ) {
+        count++;
+      }
+    }
+    if( count < selection.length ) {
+      int[] newSelection = new int[ count ];
+      count = 0;
+      for( int i = 0; i < selection.length; i++ ) {
+        if( selection[ i ] < startIndex ) {
+          newSelection[ count ] = selection[ i ];
+          count++;
+        }
+      }
+      selection = newSelection;
+    }
+    items.truncate( startIndex );
+    itemCount = startIndex;
+    if( itemCount == 0 ) {
+      setTableEmpty();
+    }
+    adjustTopIndex();
+    if( focusIndex > itemCount - 1 ) {
+      adjustFocusIndex();
+    }
+    updateScrollBars();
+    if( ( style & SWT.VIRTUAL ) != 0 ) {
+      redraw();
+    }
+  }
+
   private void removeFromSelection( int index ) {
     if( index >= 0 && index < itemCount ) {
       boolean found = false;
@@ -2628,10 +2657,8 @@ public class Table extends Composite {
   }
 
   private void adjustItemIndices( int start ) {
-    for( int i = start; i < itemCount; i++ ) {
-      if( items[ i ] != null ) {
-        items[ i ].index = i;
-      }
+    for( int i = items.ceilingPosition( start ); i < items.size(); i++ ) {
+      items.itemAt( i ).index = items.indexAt( i );
     }
   }
 
@@ -2661,7 +2688,7 @@ public class Table extends Composite {
   }
 
   private void setTableEmpty() {
-    items = new TableItem[ 4 ];
+    items.clear();
     clearItemImageSize();
   }
 
@@ -2758,11 +2785,9 @@ public class Table extends Composite {
   @Override
   void reskinChildren( int flags ) {
     if( items != null ) {
-      for( int i = 0; i < items.length; i++ ) {
-        TableItem item = items[ i ];
-        if( item != null ) {
-          item.reskin( flags );
-        }
+      TableItem[] tableItems = items.toArray();
+      for( int i = 0; i < tableItems.length; i++ ) {
+        tableItems[ i ].reskin( flags );
       }
     }
     TableColumn[] columns = getColumns();
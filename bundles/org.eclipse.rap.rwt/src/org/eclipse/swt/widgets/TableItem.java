@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1098,6 +1098,24 @@ public class TableItem extends Item {
     }
   }
 
+  /*
+   * Resets a resolved item of a virtual table to its placeholder state. Unlike clear(), the
+   * item specific colors and font are released as well, and the parent is not updated.
+   */
+  final void evict() {
+    int columnCount = Math.max( 1, parent.getColumnCount() );
+    for( int i = 0; i < columnCount; i++ ) {
+      parent.updateColumnImageCount( i, getImageInternal( i ), null );
+    }
+    data = null;
+    checked = false;
+    grayed = false;
+    background = null;
+    foreground = null;
+    font = null;
+    cached = false;
+  }
+
   /////////////////////////////
   // Widget and Item overrides
 
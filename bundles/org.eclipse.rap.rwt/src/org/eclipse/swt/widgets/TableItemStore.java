@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * Holds the created items of a table, keyed by their row index. Only rows that have an item
+ * occupy memory, so a virtual table with millions of rows but few materialized items stays
+ * small. The entries are kept sorted by row index, an item is found by binary search or, when
+ * all rows below it have an item (always true for non-virtual tables), directly.
+ */
+final class TableItemStore implements SerializableCompatibility {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private int[] indices;
+  private TableItem[] items;
+  private int size;
+
+  TableItemStore() {
+    indices = new int[ INITIAL_CAPACITY ];
+    items = new TableItem[ INITIAL_CAPACITY ];
+  }
+
+  /**
+   * Returns the number of created items, not the number of rows.
+   */
+  int size() {
+    return size;
+  }
+
+  int indexAt( int position ) {
+    return indices[ position ];
+  }
+
+  TableItem itemAt( int position ) {
+    return items[ position ];
+  }
+
+  TableItem get( int index ) {
+    int position = find( index );
+    return position >= 0 ? items[ position ] : null;
+  }
+
+  /**
+   * Returns the position of the first entry whose row index is greater than or equal to the
+   * given index, or <code>size()</code> if there is none.
+   */
+  int ceilingPosition( int index ) {
+    int position = find( index );
+    return position >= 0 ? position : -position - 1;
+  }
+
+  /**
+   * Stores the item at the given row, replacing the item that was stored there before.
+   */
+  void set( int index, TableItem item ) {
+    int position = find( index );
+    if( position >= 0 ) {
+      items[ position ] = item;
+    } else {
+      add( -position - 1, index, item );
+    }
+  }
+
+  /**
+   * Inserts a row at the given index, the rows at and after that index are moved down by one.
+   */
+  void insert( int index, TableItem item ) {
+    int position = ceilingPosition( index );
+    for( int i = position; i < size; i++ ) {
+      indices[ i ]++;
+    }
+    add( position, index, item );
+  }
+
+  /**
+   * Removes the row at the given index, the rows after that index are moved up by one.
+   */
+  void delete( int index ) {
+    int position = find( index );
+    int start = position;
+    if( position >= 0 ) {
+      System.arraycopy( indices, position + 1, indices, position, size - position - 1 );
+      System.arraycopy( items, position + 1, items, position, size - position - 1 );
+      size--;
+      items[ size ] = null;
+    } else {
+      start = -position - 1;
+    }
+    for( int i = start; i < size; i++ ) {
+      indices[ i ]--;
+    }
+  }
+
+  /**
+   * Removes all entries whose row index is greater than or equal to the given count.
+   */
+  void truncate( int count ) {
+    int position = ceilingPosition( count );
+    Arrays.fill( items, position, size, null );
+    size = position;
+  }
+
+  void clear() {
+    indices = new int[ INITIAL_CAPACITY ];
+    items = new TableItem[ INITIAL_CAPACITY ];
+    size = 0;
+  }
+
+  TableItem[] toArray() {
+    TableItem[] result = new TableItem[ size ];
+    System.arraycopy( items, 0, result, 0, size );
+    return result;
+  }
+
+  private int find( int index ) {
+    if( index >= 0 && index < size && indices[ index ] == index ) {
+      return index;
+    }
+    return Arrays.binarySearch( indices, 0, size, index );
+  }
+
+  private void add( int position, int index, TableItem item ) {
+    if( size == indices.length ) {
+      int capacity = Math.max( INITIAL_CAPACITY, size * 3 / 2 );
+      indices = Arrays.copyOf( indices, capacity );
+      items = Arrays.copyOf( items, capacity );
+    }
+    System.arraycopy( indices, position, indices, position + 1, size - position );
+    System.arraycopy( items, position, items, position + 1, size - position );
+    indices[ position ] = index;
+    items[ position ] = item;
+    size++;
+  }
+
+}
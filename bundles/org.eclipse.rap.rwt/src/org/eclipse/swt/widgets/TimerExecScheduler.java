@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,37 +15,46 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
-import java.util.Collection;
-import java.util.Date;
-import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.TimerExecExecutor;
 
 
 class TimerExecScheduler implements SerializableCompatibility {
 
   final Display display;
   final ServerPushManager serverPushManager;
-  private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
+  // tasks are looked up by the identity of their runnable, like Display#timerExec requires
+  private final Map<Runnable, TimerExecTask> tasks;
+  private transient TimerExecExecutor executor;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
     serverPushManager = ServerPushManager.getInstance();
-    tasks = new LinkedList<>();
+    tasks = new IdentityHashMap<>();
   }
 
   void schedule( int milliseconds, Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
       TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      try {
+        task.schedule( getExecutor(), milliseconds );
+      } catch( @SuppressWarnings( "unused" ) RejectedExecutionException exception ) {
+        // the application is stopped and the display is about to be disposed
+        removeTask( task );
+        task.cancel();
+        SWT.error( SWT.ERROR_DEVICE_DISPOSED );
+      }
     }
   }
 
@@ -58,32 +67,31 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void dispose() {
     synchronized( display.getDeviceLock() ) {
-      if( timer != null ) {
-        timer.cancel();
+      for( TimerExecTask task : tasks.values() ) {
+        task.cancel();
       }
       tasks.clear();
     }
   }
 
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
+  private TimerExecExecutor getExecutor() {
+    if( executor == null ) {
+      executor = createExecutor();
     }
+    return executor;
   }
 
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
+  TimerExecExecutor createExecutor() {
+    return getApplicationContext().getTimerExecExecutor();
   }
 
   private TimerExecTask findOrAddTask( Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          return task;
-        }
+      TimerExecTask task = tasks.get( runnable );
+      if( task == null ) {
+        task = createTask( runnable );
+        tasks.put( runnable, task );
       }
-      TimerExecTask task = createTask( runnable );
-      tasks.add( task );
       return task;
     }
   }
@@ -94,33 +102,39 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   private TimerExecTask findAndRemoveTask( Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          tasks.remove( task );
-          return task;
-        }
-      }
+      return tasks.remove( runnable );
     }
-    return null;
   }
 
-  void removeTask( TimerTask task ) {
+  void removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
-      tasks.remove( task );
+      if( tasks.get( task.getRunnable() ) == task ) {
+        tasks.remove( task.getRunnable() );
+      }
     }
   }
 
   private void rescheduleTasks() {
     synchronized( display.getDeviceLock() ) {
-      if( tasks.size() > 0 ) {
-        initializeTimer();
-        for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
+      try {
+        for( TimerExecTask task : tasks.values() ) {
+          task.reschedule( getExecutor() );
         }
+      } catch( @SuppressWarnings( "unused" ) RejectedExecutionException exception ) {
+        dispose();
       }
     }
   }
 
+  private UISession getUISession() {
+    IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
+    return adapter.getUISession();
+  }
+
+  private ApplicationContextImpl getApplicationContext() {
+    return ( ( UISessionImpl )getUISession() ).getApplicationContext();
+  }
+
   private void writeObject( ObjectOutputStream stream ) throws IOException {
     synchronized( display.getDeviceLock() ) {
       stream.defaultWriteObject();
@@ -135,18 +149,12 @@ class TimerExecScheduler implements SerializableCompatibility {
   private class PostDeserializationValidation implements ObjectInputValidation {
     @Override
     public void validateObject() throws InvalidObjectException {
-      UISession uiSession = getUISession();
-      PostDeserialization.addProcessor( uiSession, new Runnable() {
+      PostDeserialization.addProcessor( getUISession(), new Runnable() {
         @Override
         public void run() {
           rescheduleTasks();
         }
       } );
     }
-
-    private UISession getUISession() {
-      IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
-      return adapter.getUISession();
-    }
   }
 }
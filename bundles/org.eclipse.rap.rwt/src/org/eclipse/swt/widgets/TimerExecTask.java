@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,18 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.TimerExecExecutor;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+class TimerExecTask implements Runnable, SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long executionTime;
+  private transient ScheduledFuture<?> future;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -26,6 +29,17 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.activateServerPushFor( this );
   }
 
+  void schedule( TimerExecExecutor executor, long delay ) {
+    cancelFuture();
+    executionTime = System.currentTimeMillis() + delay;
+    future = executor.schedule( this, delay );
+  }
+
+  void reschedule( TimerExecExecutor executor ) {
+    long delay = Math.max( 0, executionTime - System.currentTimeMillis() );
+    future = executor.schedule( this, delay );
+  }
+
   @Override
   public void run() {
     synchronized( scheduler.display.getDeviceLock() ) {
@@ -37,14 +51,26 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
-  public boolean cancel() {
+  boolean cancel() {
     scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+    return cancelFuture();
   }
 
   Runnable getRunnable() {
     return runnable;
   }
 
+  long getExecutionTime() {
+    return executionTime;
+  }
+
+  private boolean cancelFuture() {
+    boolean result = false;
+    if( future != null ) {
+      result = future.cancel( false );
+      future = null;
+    }
+    return result;
+  }
+
 }
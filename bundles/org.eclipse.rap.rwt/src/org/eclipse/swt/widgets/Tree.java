@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -138,8 +138,8 @@ public class Tree extends Composite {
   private boolean hasHScrollBar;
   private Point itemImageSize;
   LayoutCache layoutCache;
-  boolean isFlatIndexValid;
-  private int visibleItemsCount;
+  VisibleItemCounter visibleCounts;
+  private boolean isTopItemIndexValid;
   private int preloadedItems;
 
   /**
@@ -211,6 +211,7 @@ public class Tree extends Composite {
 
   private void setTreeEmpty() {
     items = new TreeItem[ 4 ];
+    visibleCounts = new VisibleItemCounter();
     // TODO: Not sure if we have to clear the image size???!!!
 //    clearItemImageSize();
   }
@@ -284,7 +285,8 @@ public class Tree extends Composite {
         }
       }
       itemCount = newItemCount;
-      invalidateFlatIndex();
+      visibleCounts.setSize( itemCount );
+      invalidateTopItemIndex();
       updateScrollBars();
       redraw();
     }
@@ -427,6 +429,7 @@ public class Tree extends Composite {
         items[ i ].dispose();
       } else {
         itemCount--;
+        visibleCounts.remove( i );
       }
     }
     setTreeEmpty();
@@ -533,8 +536,7 @@ public class Tree extends Composite {
     checkWidget();
     TreeItem result = null;
     if( itemCount > 0 ) {
-      List<TreeItem> visibleItems = collectVisibleItems( null );
-      result = visibleItems.get( getTopItemIndex() );
+      result = getVisibleItem( getTopItemIndex(), false );
     }
     return result;
   }
@@ -543,12 +545,12 @@ public class Tree extends Composite {
     if( index != topItemIndex ) {
       topItemIndex = index;
       adjustTopItemIndex();
-      updateAllItems();
+      checkData();
     }
   }
 
   int getTopItemIndex() {
-    if( !isVisibleItemsCountValid() ) {
+    if( !isTopItemIndexValid ) {
       adjustTopItemIndex();
     }
     return topItemIndex;
@@ -1007,9 +1009,8 @@ public class Tree extends Composite {
     }
     TreeItem result = null;
     int index = ( point.y - getHeaderHeight() ) / getItemHeight() + getTopItemIndex();
-    List<TreeItem> visibleItems = collectVisibleItems( null );
-    if( 0 <= index && index < visibleItems.size() ) {
-      result = visibleItems.get( index );
+    if( 0 <= index && index < visibleCounts.getTotal() ) {
+      result = getVisibleItem( index, false );
     }
     return result;
   }
@@ -2084,7 +2085,7 @@ public class Tree extends Composite {
   void notifyResize( Point oldSize ) {
     if( !oldSize.equals( getSize() ) && !TextSizeUtil.isTemporaryResize() ) {
       clearCachedHeights();
-      updateAllItems();
+      checkData();
       updateScrollBars();
       adjustTopItemIndex();
     }
@@ -2097,7 +2098,8 @@ public class Tree extends Composite {
   }
 
   private void adjustTopItemIndex() {
-    int visibleItems = getVisibleItemsCount();
+    isTopItemIndexValid = true;
+    int visibleItems = visibleCounts.getTotal();
     int visibleRows = getVisibleRowCount( false );
     int correction = visibleRows == 0 ? 1 : 0;
     if( topItemIndex > visibleItems - visibleRows - correction ) {
@@ -2118,67 +2120,39 @@ public class Tree extends Composite {
     return result;
   }
 
-  private int getVisibleItemsCount() {
-    if( !isVisibleItemsCountValid() ) {
-      visibleItemsCount = collectVisibleItems( null ).size();
-    }
-    return visibleItemsCount;
-  }
-
-  private boolean isVisibleItemsCountValid() {
-    return visibleItemsCount != -1;
-  }
-
-  private List<TreeItem> collectVisibleItems( TreeItem parentItem ) {
-    List<TreeItem> result = new ArrayList<>();
-    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
-    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      result.add( item );
-      if( item != null && item.getExpanded() ) {
-        result.addAll( collectVisibleItems( item ) );
-      }
+  /*
+   * Returns the item that is shown in the given row of the expanded tree, descending from the
+   * root items in O(depth * log(n)) steps. Items that are not created yet are created if
+   * requested, otherwise null is returned for them.
+   */
+  private TreeItem getVisibleItem( int flatIndex, boolean create ) {
+    int index = visibleCounts.find( flatIndex );
+    int row = flatIndex - visibleCounts.sum( index );
+    TreeItem result = create ? _getItem( index ) : items[ index ];
+    while( result != null && row > 0 ) {
+      // the first row of an expanded item is the item itself
+      row--;
+      index = result.visibleCounts.find( row );
+      row -= result.visibleCounts.sum( index );
+      result = create ? result._getItem( index ) : result.items[ index ];
     }
     return result;
   }
 
-  void updateAllItems() {
-    int flatIndex = 0;
-    for( int index = 0; index < itemCount; index++ ) {
-      flatIndex = updateAllItemsRecursively( null, index, flatIndex );
-    }
-    isFlatIndexValid = true;
-    visibleItemsCount = flatIndex;
-  }
-
-  private int updateAllItemsRecursively( TreeItem parent, int index, int flatIndex ) {
-    int newFlatIndex = flatIndex;
-    TreeItem item = parent == null ? items[ index ] : parent.items[ index ];
-    if( shouldResolveItem( flatIndex ) ) {
-      if( item == null ) {
-        item = parent == null ? _getItem( index ) : parent._getItem( index );
-      }
-      checkData( item, index );
-    }
-    if( item != null ) {
-      item.setFlatIndex( newFlatIndex );
-    }
-    newFlatIndex++;
-    if( item != null && item.getExpanded() ) {
-      for( int i = 0; i < item.itemCount; i++ ) {
-        newFlatIndex = updateAllItemsRecursively( item, i, newFlatIndex );
+  void checkData() {
+    if( isVirtual() ) {
+      int visibleRows = getVisibleRowCount( true );
+      int topIndex = getTopItemIndex();
+      int startIndex = Math.max( 0, topIndex - preloadedItems );
+      int endIndex = topIndex + visibleRows + preloadedItems;
+      // re-check the bounds every time, SetData listeners may change the tree
+      int flatIndex = startIndex;
+      while( !isDisposed() && flatIndex < Math.min( endIndex, visibleCounts.getTotal() ) ) {
+        TreeItem item = getVisibleItem( flatIndex, true );
+        checkData( item, item.index );
+        flatIndex++;
       }
     }
-    return newFlatIndex;
-  }
-
-  private boolean shouldResolveItem( int flatIndex ) {
-    int visibleRows = getVisibleRowCount( true );
-    int topIndex = getTopItemIndex();
-    int startIndex = topIndex - preloadedItems;
-    int endIndex = topIndex + visibleRows + preloadedItems;
-    return isVirtual() ? flatIndex >= startIndex && flatIndex < endIndex : false;
   }
 
   final boolean checkData( TreeItem item, int index ) {
@@ -2197,9 +2171,8 @@ public class Tree extends Composite {
     return result;
   }
 
-  void invalidateFlatIndex() {
-    visibleItemsCount = -1;
-    isFlatIndexValid = false;
+  void invalidateTopItemIndex() {
+    isTopItemIndexValid = false;
   }
 
   private static int checkStyle( int style ) {
@@ -2328,6 +2301,7 @@ public class Tree extends Composite {
     System.arraycopy( items, index, items, index + 1, itemCount - index );
     items[ index ] = item;
     itemCount++;
+    visibleCounts.insert( index, 1 );
     adjustItemIndices( index );
   }
 
@@ -2338,6 +2312,7 @@ public class Tree extends Composite {
     } else {
       System.arraycopy( items, index + 1, items, index, itemCount - index );
       items[ itemCount ] = null;
+      visibleCounts.remove( index );
     }
     adjustItemIndices( index );
   }
@@ -2422,7 +2397,7 @@ public class Tree extends Composite {
 
     @Override
     public void checkData() {
-      updateAllItems();
+      Tree.this.checkData();
     }
 
     @Override
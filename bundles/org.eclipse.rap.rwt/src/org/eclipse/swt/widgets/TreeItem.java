@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -56,6 +56,7 @@ public class TreeItem extends Item {
   final Tree parent;
   TreeItem[] items;
   int itemCount;
+  VisibleItemCounter visibleCounts;
   private transient ITreeItemAdapter treeItemAdapter;
   int index;
   private Data[] data;
@@ -67,7 +68,6 @@ public class TreeItem extends Item {
   private boolean grayed;
   int depth;
   private boolean cached;
-  private int flatIndex;
 
   /**
    * Constructs a new instance of this class given its parent (which must be a
@@ -222,7 +222,7 @@ public class TreeItem extends Item {
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
     }
-    parent.invalidateFlatIndex();
+    parent.invalidateTopItemIndex();
     setEmpty();
     if( create ) {
       int numberOfItems;
@@ -247,6 +247,7 @@ public class TreeItem extends Item {
 
   private void setEmpty() {
     items = new TreeItem[ 4 ];
+    visibleCounts = new VisibleItemCounter();
   }
 
   private void createItem( TreeItem item, int index ) {
@@ -265,6 +266,8 @@ public class TreeItem extends Item {
     System.arraycopy( items, index, items, index + 1, itemCount - index );
     items[ index ] = item;
     itemCount++;
+    visibleCounts.insert( index, 1 );
+    updateVisibleCount();
     adjustItemIndices( index );
   }
 
@@ -275,7 +278,9 @@ public class TreeItem extends Item {
     } else {
       System.arraycopy( items, index + 1, items, index, itemCount - index );
       items[ itemCount ] = null;
+      visibleCounts.remove( index );
     }
+    updateVisibleCount();
     adjustItemIndices( index );
   }
 
@@ -364,9 +369,10 @@ public class TreeItem extends Item {
         updateSelection();
       }
       markCached();
-      parent.invalidateFlatIndex();
+      updateVisibleCount();
+      parent.invalidateTopItemIndex();
       parent.updateScrollBars();
-      parent.updateAllItems();
+      parent.checkData();
     }
   }
 
@@ -1385,9 +1391,12 @@ public class TreeItem extends Item {
         items[ i ].dispose();
       } else {
         itemCount--;
+        visibleCounts.remove( i );
       }
     }
     setEmpty();
+    updateVisibleCount();
+    parent.invalidateTopItemIndex();
   }
 
   /**
@@ -1423,7 +1432,9 @@ public class TreeItem extends Item {
         }
       }
       itemCount = newItemCount;
-      parent.invalidateFlatIndex();
+      visibleCounts.setSize( itemCount );
+      updateVisibleCount();
+      parent.invalidateTopItemIndex();
       parent.updateScrollBars();
       parent.redraw();
     }
@@ -1449,7 +1460,7 @@ public class TreeItem extends Item {
       parent.destroyItem( index );
     }
     if( !parent.isInDispose() ) {
-      parent.invalidateFlatIndex();
+      parent.invalidateTopItemIndex();
       parent.removeFromSelection( this );
       parent.updateScrollBars();
     }
@@ -1475,14 +1486,40 @@ public class TreeItem extends Item {
   }
 
   int getFlatIndex() {
-    if( !parent.isFlatIndexValid ) {
-      parent.updateAllItems();
+    int result = 0;
+    TreeItem item = this;
+    while( item.parentItem != null ) {
+      result += item.parentItem.visibleCounts.sum( item.index ) + 1;
+      item = item.parentItem;
     }
-    return flatIndex;
+    return result + parent.visibleCounts.sum( item.index );
   }
 
-  void setFlatIndex( int flatIndex ) {
-    this.flatIndex = flatIndex;
+  int getVisibleCount() {
+    return expanded ? 1 + visibleCounts.getTotal() : 1;
+  }
+
+  /*
+   * Propagates the number of visible rows of this item's subtree to its ancestors, up to the
+   * first one that is collapsed or whose count does not change.
+   */
+  private void updateVisibleCount() {
+    TreeItem item = this;
+    boolean changed = true;
+    while( changed ) {
+      TreeItem parentItem = item.parentItem;
+      VisibleItemCounter counts;
+      if( parentItem == null ) {
+        counts = parent.visibleCounts;
+      } else {
+        counts = parentItem.visibleCounts;
+      }
+      int count = item.getVisibleCount();
+      changed = counts.get( item.index ) != count;
+      counts.set( item.index, count );
+      changed &= parentItem != null && parentItem.expanded;
+      item = parentItem;
+    }
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
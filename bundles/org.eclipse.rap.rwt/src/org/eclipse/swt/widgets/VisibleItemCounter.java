@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * Counts the visible rows of the subtrees of a list of sibling tree items. Every entry is at
+ * least one (the row of the item itself). The counts are kept in a binary indexed tree, so that
+ * changing a count, summing up the counts of the preceding siblings and finding the sibling
+ * that contains a given row take logarithmic time.
+ */
+final class VisibleItemCounter implements SerializableCompatibility {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private int[] counts;
+  // one-based binary indexed tree, entry i holds the sum of counts ( i - lowbit( i ), i ]
+  private int[] sums;
+  private int size;
+  private int total;
+
+  VisibleItemCounter() {
+    counts = new int[ INITIAL_CAPACITY ];
+    sums = new int[ INITIAL_CAPACITY + 1 ];
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of visible rows of all entries.
+   */
+  int getTotal() {
+    return total;
+  }
+
+  int get( int index ) {
+    return counts[ index ];
+  }
+
+  void set( int index, int count ) {
+    int delta = count - counts[ index ];
+    if( delta != 0 ) {
+      counts[ index ] = count;
+      total += delta;
+      for( int i = index + 1; i <= size; i += i & -i ) {
+        sums[ i ] += delta;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of visible rows of the entries before the given index.
+   */
+  int sum( int index ) {
+    int result = 0;
+    for( int i = index; i > 0; i -= i & -i ) {
+      result += sums[ i ];
+    }
+    return result;
+  }
+
+  /**
+   * Returns the index of the entry that contains the given row, i.e. the entry for which
+   * <code>sum( index ) &lt;= row &lt; sum( index + 1 )</code>. The row must be less than the
+   * total.
+   */
+  int find( int row ) {
+    int position = 0;
+    int remaining = row;
+    for( int step = Integer.highestOneBit( Math.max( 1, size ) ); step > 0; step >>= 1 ) {
+      int next = position + step;
+      if( next <= size && sums[ next ] <= remaining ) {
+        position = next;
+        remaining -= sums[ next ];
+      }
+    }
+    return position;
+  }
+
+  void insert( int index, int count ) {
+    ensureCapacity( size + 1 );
+    if( index == size ) {
+      counts[ size ] = count;
+      size++;
+      // the new node covers its own count and the nodes below it up to its low bit
+      sums[ size ] = count + sum( size - 1 ) - sum( size - ( size & -size ) );
+      total += count;
+    } else {
+      System.arraycopy( counts, index, counts, index + 1, size - index );
+      counts[ index ] = count;
+      size++;
+      rebuild();
+    }
+  }
+
+  void remove( int index ) {
+    if( index == size - 1 ) {
+      total -= counts[ index ];
+      counts[ index ] = 0;
+      sums[ size ] = 0;
+      size--;
+    } else {
+      System.arraycopy( counts, index + 1, counts, index, size - index - 1 );
+      size--;
+      counts[ size ] = 0;
+      rebuild();
+    }
+  }
+
+  /**
+   * Truncates the entries to the given size, or appends entries with a count of one.
+   */
+  void setSize( int newSize ) {
+    if( newSize != size ) {
+      ensureCapacity( newSize );
+      if( newSize > size ) {
+        Arrays.fill( counts, size, newSize, 1 );
+      } else {
+        Arrays.fill( counts, newSize, size, 0 );
+      }
+      size = newSize;
+      rebuild();
+    }
+  }
+
+  private void ensureCapacity( int capacity ) {
+    if( capacity > counts.length ) {
+      int newCapacity = Math.max( capacity, counts.length * 3 / 2 );
+      counts = Arrays.copyOf( counts, newCapacity );
+      sums = Arrays.copyOf( sums, newCapacity + 1 );
+    }
+  }
+
+  private void rebuild() {
+    Arrays.fill( sums, 0 );
+    total = 0;
+    for( int i = 1; i <= size; i++ ) {
+      sums[ i ] += counts[ i - 1 ];
+      total += counts[ i - 1 ];
+      int parent = i + ( i & -i );
+      if( parent <= size ) {
+        sums[ parent ] += sums[ i ];
+      }
+    }
+  }
+
+}
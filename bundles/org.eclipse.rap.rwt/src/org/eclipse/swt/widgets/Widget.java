@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,7 @@ import org.eclipse.swt.internal.SWTEventListener;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.ChangedWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetGraphicsAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
@@ -158,6 +159,10 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     display = parent.display;
     reskinWidget();
     remoteAdapter = new ParentHolderRemoteAdapter( parent );
+    ChangedWidgets changedWidgets = display.getAdapter( ChangedWidgets.class );
+    if( changedWidgets != null ) {
+      changedWidgets.addCreated( this, parent );
+    }
   }
 
   /**
@@ -1048,7 +1053,12 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
 
   private RemoteAdapter createRemoteAdapter( Widget parent ) {
     String id = IdGenerator.getInstance( RWT.getUISession( display ) ).createId( this );
-    return createRemoteAdapter( parent, id );
+    RemoteAdapter result = createRemoteAdapter( parent, id );
+    ChangedWidgets changedWidgets = display.getAdapter( ChangedWidgets.class );
+    if( changedWidgets != null ) {
+      ( ( WidgetRemoteAdapter )result ).trackChanges( this, changedWidgets );
+    }
+    return result;
   }
 
   RemoteAdapter createRemoteAdapter( Widget parent, String id ) {
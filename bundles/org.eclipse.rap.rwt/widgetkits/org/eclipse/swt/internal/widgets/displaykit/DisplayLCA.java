@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,6 +36,7 @@ import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.ReparentedControls;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.Operation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
@@ -46,6 +47,7 @@ import org.eclipse.rap.rwt.internal.textsize.MeasurementUtil;
 import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.widgets.ChangedWidgets;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
@@ -80,21 +82,29 @@ public class DisplayLCA {
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
     if( adapter.isInitialized() ) {
-      for( Shell shell : getShells( display ) ) {
-        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-          @Override
-          public boolean visit( Widget widget ) {
-            getLCA( widget ).preserveValues( widget );
-            return true;
-          }
-        } );
+      ChangedWidgets changedWidgets = getChangedWidgets( display );
+      if( changedWidgets != null ) {
+        for( Widget widget : changedWidgets.getUntrackedWidgets() ) {
+          getLCA( widget ).preserveValues( widget );
+        }
+        changedWidgets.addUntrackedWidgets();
+      } else {
+        for( Shell shell : getShells( display ) ) {
+          WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
+            @Override
+            public boolean visit( Widget widget ) {
+              getLCA( widget ).preserveValues( widget );
+              return true;
+            }
+          } );
+        }
       }
     }
   }
 
   public void render( Display display ) throws IOException {
     renderOverflow( display );
-    renderReparentControls();
+    renderReparentControls( display );
     renderDisposeWidgets();
     renderExitConfirmation( display );
     renderEnableUiTests( display );
@@ -114,14 +124,30 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
-          return true;
+    ChangedWidgets changedWidgets = getChangedWidgets( display );
+    if( changedWidgets != null ) {
+      List<Widget> widgets = changedWidgets.getChangedWidgets();
+      changedWidgets.clear();
+      for( Widget widget : widgets ) {
+        if( !widget.isDisposed() ) {
+          WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
+          adapter.clearPreserved();
+          // widgets created after the render phase have to be rendered in the next request
+          if( !adapter.isInitialized() ) {
+            changedWidgets.add( widget );
+          }
         }
-      } );
+      }
+    } else {
+      for( Shell shell : getShells( display ) ) {
+        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
+          @Override
+          public boolean visit( Widget widget ) {
+            ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+            return true;
+          }
+        } );
+      }
     }
   }
 
@@ -170,8 +196,13 @@ public class DisplayLCA {
   }
 
   private static void renderShells( Display display ) throws IOException {
-    RenderVisitor visitor = new RenderVisitor();
+    ChangedWidgets changedWidgets = getChangedWidgets( display );
+    RenderVisitor visitor = new RenderVisitor( changedWidgets );
     for( Shell shell : getShells( display ) ) {
+      if( changedWidgets != null && !getAdapter( shell ).isInitialized() ) {
+        // shells are not registered on creation as they have no parent widget
+        changedWidgets.add( shell );
+      }
       WidgetTreeUtil.accept( shell, visitor );
       visitor.reThrowProblem();
     }
@@ -194,10 +225,15 @@ public class DisplayLCA {
     return exitConfirmation == null ? null : exitConfirmation.getMessage();
   }
 
-  private static void renderReparentControls() {
+  private static void renderReparentControls( Display display ) {
+    ChangedWidgets changedWidgets = getChangedWidgets( display );
     for( Control control : ReparentedControls.getAll() ) {
       if( !control.isDisposed() ) {
         getRemoteAdapter( control ).renderParent( control );
+        if( changedWidgets != null ) {
+          // register the new parents of the control
+          changedWidgets.add( control );
+        }
       }
     }
   }
@@ -287,17 +323,29 @@ public class DisplayLCA {
     return display.getAdapter( IDisplayAdapter.class );
   }
 
+  private static ChangedWidgets getChangedWidgets( Display display ) {
+    return display.getAdapter( ChangedWidgets.class );
+  }
+
   private static Shell[] getShells( Display display ) {
     return getDisplayAdapter( display ).getShells();
   }
 
   private static final class RenderVisitor implements WidgetTreeVisitor {
 
+    private final ChangedWidgets changedWidgets;
     private IOException ioProblem;
 
+    RenderVisitor( ChangedWidgets changedWidgets ) {
+      this.changedWidgets = changedWidgets;
+    }
+
     @Override
     public boolean visit( Widget widget ) {
       ioProblem = null;
+      if( changedWidgets != null ) {
+        return visitChanged( widget );
+      }
       try {
         render( widget );
         runRenderRunnables( widget );
@@ -308,6 +356,31 @@ public class DisplayLCA {
       return true;
     }
 
+    /*
+     * Renders only the widgets that are registered as changed. Subtrees of controls without
+     * changed descendants are skipped, the items, menus and scroll bars of a visited control are
+     * always descended into, as their ancestors are resolved up to the enclosing control only.
+     */
+    private boolean visitChanged( Widget widget ) {
+      if( widget instanceof Control && !changedWidgets.isAncestor( widget ) ) {
+        return false;
+      }
+      if( changedWidgets.isChanged( widget ) ) {
+        try {
+          WidgetLCA<Widget> lca = getLCA( widget );
+          if( !lca.isChangeTracking() ) {
+            changedWidgets.addUntracked( widget );
+          }
+          lca.render( widget );
+          runRenderRunnables( widget );
+        } catch( IOException ioe ) {
+          ioProblem = ioe;
+          return false;
+        }
+      }
+      return true;
+    }
+
     private void reThrowProblem() throws IOException {
       if( ioProblem != null ) {
         throw ioProblem;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.swt.internal.widgets.labelkit;
 
 import java.io.IOException;
 
+import org.eclipse.rap.rwt.internal.lifecycle.RenderCacheKey;
 import org.eclipse.swt.widgets.Label;
 
 
@@ -22,4 +23,9 @@ abstract class AbstractLabelLCADelegate {
   abstract void renderInitialization( Label label ) throws IOException;
   abstract void renderChanges( Label label ) throws IOException;
 
+  @SuppressWarnings( "unused" )
+  RenderCacheKey getRenderCacheKey( Label label ) {
+    return null;
+  }
+
 }
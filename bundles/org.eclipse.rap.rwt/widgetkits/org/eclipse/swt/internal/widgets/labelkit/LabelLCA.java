@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.swt.internal.widgets.labelkit;
 
 import java.io.IOException;
 
+import org.eclipse.rap.rwt.internal.lifecycle.RenderCacheKey;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Label;
@@ -38,6 +39,11 @@ public class LabelLCA extends WidgetLCA<Label> {
     getDelegate( label ).renderChanges( label );
   }
 
+  @Override
+  public RenderCacheKey getRenderCacheKey( Label label ) {
+    return getDelegate( label ).getRenderCacheKey( label );
+  }
+
   private static AbstractLabelLCADelegate getDelegate( Widget widget ) {
     if( ( widget.getStyle() & SWT.SEPARATOR ) != 0 ) {
       return SeparatorLabelLCA.INSTANCE;
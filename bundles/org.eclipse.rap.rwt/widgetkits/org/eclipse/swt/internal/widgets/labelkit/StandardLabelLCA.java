@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preservePrope
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderClientListeners;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.remote.JsonMapping.toJson;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 
 import java.io.IOException;
@@ -25,6 +26,7 @@ import java.io.IOException;
 import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
 import org.eclipse.rap.rwt.internal.util.MnemonicUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.ControlLCAUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.RenderCacheKey;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.swt.SWT;
@@ -73,6 +75,18 @@ final class StandardLabelLCA extends AbstractLabelLCADelegate {
     renderProperty( label, PROP_ALIGNMENT, getAlignment( label ), DEFAULT_ALIGNMENT );
   }
 
+  @Override
+  RenderCacheKey getRenderCacheKey( Label label ) {
+    RenderCacheKey result = ControlLCAUtil.createRenderCacheKey( label, StandardLabelLCA.class );
+    if( result != null ) {
+      result.add( label.getText() )
+        .add( isMarkupEnabledFor( label ) )
+        .add( toJson( label.getImage() ) )
+        .add( getAlignment( label ) );
+    }
+    return result;
+  }
+
   private static String getAlignment( Label label ) {
     int alignment = label.getAlignment();
     String result;
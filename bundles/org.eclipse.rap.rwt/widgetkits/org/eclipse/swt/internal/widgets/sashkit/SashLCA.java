@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -34,6 +34,11 @@ public final class SashLCA extends WidgetLCA<Sash> {
     "HORIZONTAL", "VERTICAL", "SMOOTH", "BORDER"
   };
 
+  @Override
+  public boolean isChangeTracking() {
+    return true;
+  }
+
   @Override
   public void preserveValues( Sash sash ) {
   }
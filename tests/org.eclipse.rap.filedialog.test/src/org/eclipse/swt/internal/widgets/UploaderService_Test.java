@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,7 +38,8 @@ public class UploaderService_Test {
 
     uploader.submit( "foo" );
 
-    verify( clientService ).submit( eq( "foo" ), same( clientFiles ) );
+    verify( clientService )
+      .submit( eq( "foo" ), same( clientFiles ), eq( UploaderService.CHUNK_SIZE ) );
   }
 
   private ClientFileUploader mockClientFileUploaderService() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,10 +14,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
 
 import org.eclipse.rap.fileupload.internal.FileDetailsImpl;
 import org.eclipse.rap.fileupload.test.FileUploadTestUtil;
@@ -118,4 +123,223 @@ public class DiskFileUploadReceiver_Test {
     assertEquals( content, FileUploadTestUtil.getFileContents( createdFile ) );
   }
 
+  @Test( expected = NullPointerException.class )
+  public void testAddChunkSinkWithNull() {
+    new DiskFileUploadReceiver().addChunkSink( null );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testRemoveChunkSinkWithNull() {
+    new DiskFileUploadReceiver().removeChunkSink( null );
+  }
+
+  @Test
+  public void testReceive_notifiesChunkSink() throws IOException {
+    DiskFileUploadReceiver receiver = new DiskFileUploadReceiver();
+    TestChunkSink chunkSink = new TestChunkSink();
+    receiver.addChunkSink( chunkSink );
+    FileDetails details = new FileDetailsImpl( "foo.bar", "text/plain" );
+
+    receiver.receive( new ByteArrayInputStream( "Hello world!".getBytes() ), details );
+    createdFile = receiver.getTargetFiles()[ 0 ];
+
+    assertEquals( "start foo.bar.receive 12.finish.", chunkSink.getLog() );
+    assertEquals( "Hello world!", new String( chunkSink.getData() ) );
+  }
+
+  @Test
+  public void testReceive_doesNotNotifyRemovedChunkSink() throws IOException {
+    DiskFileUploadReceiver receiver = new DiskFileUploadReceiver();
+    TestChunkSink chunkSink = new TestChunkSink();
+    receiver.addChunkSink( chunkSink );
+    receiver.removeChunkSink( chunkSink );
+
+    receiver.receive( new ByteArrayInputStream( "Hello world!".getBytes() ), null );
+    createdFile = receiver.getTargetFiles()[ 0 ];
+
+    assertEquals( "", chunkSink.getLog() );
+  }
+
+  @Test
+  public void testReceive_largeDataInSmallPortions() throws IOException {
+    DiskFileUploadReceiver receiver = new DiskFileUploadReceiver();
+    TestChunkSink chunkSink = new TestChunkSink();
+    receiver.addChunkSink( chunkSink );
+    byte[] content = createContent( 100000 );
+
+    receiver.receive( new SlowInputStream( content ), null );
+    createdFile = receiver.getTargetFiles()[ 0 ];
+
+    assertEquals( "start null.receive 65536.receive 34464.finish.", chunkSink.getLog() );
+    assertTrue( Arrays.equals( content, chunkSink.getData() ) );
+    assertTrue( Arrays.equals( content, Files.readAllBytes( createdFile.toPath() ) ) );
+  }
+
+  @Test
+  public void testReceive_failsWithChunkSinkException() {
+    DiskFileUploadReceiver receiver = new DiskFileUploadReceiver() {
+      @Override
+      protected File createTargetFile( FileDetails details ) throws IOException {
+        createdFile = super.createTargetFile( details );
+        return createdFile;
+      }
+    };
+    receiver.addChunkSink( new TestChunkSink() {
+      @Override
+      public void receive( ByteBuffer chunk ) throws IOException {
+        throw new IOException( "rejected" );
+      }
+    } );
+
+    try {
+      receiver.receive( new ByteArrayInputStream( "Hello world!".getBytes() ), null );
+      fail();
+    } catch( IOException exception ) {
+      assertEquals( "rejected", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testReceive_abortsChunkSinksWithStreamFailure() {
+    DiskFileUploadReceiver receiver = createReceiver();
+    TestChunkSink chunkSink = new TestChunkSink();
+    receiver.addChunkSink( chunkSink );
+
+    try {
+      receiver.receive( new FailingInputStream(), null );
+      fail();
+    } catch( IOException exception ) {
+      assertEquals( "start null.abort connection lost.", chunkSink.getLog() );
+    }
+  }
+
+  @Test
+  public void testReceive_abortsAllChunkSinksWithChunkSinkException() {
+    DiskFileUploadReceiver receiver = createReceiver();
+    TestChunkSink chunkSink = new TestChunkSink();
+    TestChunkSink failingChunkSink = new TestChunkSink() {
+      @Override
+      public void receive( ByteBuffer chunk ) throws IOException {
+        super.receive( chunk );
+        throw new IOException( "rejected" );
+      }
+    };
+    receiver.addChunkSink( chunkSink );
+    receiver.addChunkSink( failingChunkSink );
+
+    try {
+      receiver.receive( new ByteArrayInputStream( "Hello world!".getBytes() ), null );
+      fail();
+    } catch( IOException exception ) {
+      assertEquals( "start null.receive 12.abort rejected.", chunkSink.getLog() );
+      assertEquals( "start null.receive 12.abort rejected.", failingChunkSink.getLog() );
+    }
+  }
+
+  @Test
+  public void testReceive_doesNotAbortFinishedChunkSinks() {
+    DiskFileUploadReceiver receiver = createReceiver();
+    TestChunkSink chunkSink = new TestChunkSink();
+    TestChunkSink failingChunkSink = new TestChunkSink() {
+      @Override
+      public void finish() throws IOException {
+        super.finish();
+        throw new IOException( "failed" );
+      }
+    };
+    receiver.addChunkSink( chunkSink );
+    receiver.addChunkSink( failingChunkSink );
+
+    try {
+      receiver.receive( new ByteArrayInputStream( "Hello world!".getBytes() ), null );
+      fail();
+    } catch( IOException exception ) {
+      assertEquals( "start null.receive 12.finish.", chunkSink.getLog() );
+      assertEquals( "start null.receive 12.finish.abort failed.", failingChunkSink.getLog() );
+    }
+  }
+
+  private DiskFileUploadReceiver createReceiver() {
+    return new DiskFileUploadReceiver() {
+      @Override
+      protected File createTargetFile( FileDetails details ) throws IOException {
+        createdFile = super.createTargetFile( details );
+        return createdFile;
+      }
+    };
+  }
+
+  private static byte[] createContent( int length ) {
+    byte[] result = new byte[ length ];
+    for( int i = 0; i < length; i++ ) {
+      result[ i ] = ( byte )i;
+    }
+    return result;
+  }
+
+  private static class TestChunkSink implements FileUploadChunkSink {
+
+    private final StringBuilder log = new StringBuilder();
+    private final ByteBuffer data = ByteBuffer.allocate( 200000 );
+
+    @Override
+    public void start( FileDetails details ) {
+      log.append( "start " + ( details == null ? null : details.getFileName() ) + "." );
+    }
+
+    @Override
+    public void receive( ByteBuffer chunk ) throws IOException {
+      log.append( "receive " + chunk.remaining() + "." );
+      data.put( chunk );
+    }
+
+    @Override
+    public void finish() throws IOException {
+      log.append( "finish." );
+    }
+
+    @Override
+    public void abort( Exception exception ) {
+      log.append( "abort " + exception.getMessage() + "." );
+    }
+
+    String getLog() {
+      return log.toString();
+    }
+
+    byte[] getData() {
+      return Arrays.copyOf( data.array(), data.position() );
+    }
+
+  }
+
+  private static class FailingInputStream extends InputStream {
+
+    @Override
+    public int read() throws IOException {
+      throw new IOException( "connection lost" );
+    }
+
+  }
+
+  private static class SlowInputStream extends InputStream {
+
+    private final ByteArrayInputStream delegate;
+
+    SlowInputStream( byte[] content ) {
+      delegate = new ByteArrayInputStream( content );
+    }
+
+    @Override
+    public int read() {
+      return delegate.read();
+    }
+
+    @Override
+    public int read( byte[] buffer, int offset, int length ) {
+      return delegate.read( buffer, offset, Math.min( length, 1000 ) );
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -167,6 +167,23 @@ public class FileUploadHandler_Test {
     assertEquals( "", anotherUploadListener.getLog() );
   }
 
+  @Test
+  public void testGetProgressInterval_default() {
+    assertEquals( 0, handler.getProgressInterval() );
+  }
+
+  @Test
+  public void testSetProgressInterval() {
+    handler.setProgressInterval( 500 );
+
+    assertEquals( 500, handler.getProgressInterval() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetProgressInterval_failsWithNegativeValue() {
+    handler.setProgressInterval( -1 );
+  }
+
   @Test
   public void testUpload() throws IOException, ServletException {
     TestFileUploadReceiver receiver = new TestFileUploadReceiver();
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import static org.eclipse.rap.fileupload.internal.ChunkedUploadStore.MAX_UPLOADS_PER_HANDLER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.eclipse.rap.fileupload.FileDetails;
+import org.eclipse.rap.fileupload.FileUploadHandler;
+import org.eclipse.rap.fileupload.test.TestFileUploadListener;
+import org.eclipse.rap.fileupload.test.TestFileUploadReceiver;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ChunkedUploadStore_Test {
+
+  private static final long NEVER = Long.MAX_VALUE;
+
+  private TestFileUploadListener listener;
+  private FileUploadHandler handler;
+  private FileDetails details;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    listener = new TestFileUploadListener();
+    handler = new FileUploadHandler( new TestFileUploadReceiver() );
+    handler.addUploadListener( listener );
+    details = new FileDetailsImpl( "test.txt", "text/plain" );
+  }
+
+  @After
+  public void tearDown() {
+    handler.dispose();
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testGetUpload_doesNotCreateUpload() {
+    ChunkedUploadStore store = new ChunkedUploadStore( NEVER, NEVER );
+
+    store.getUpload( "token", "id" );
+
+    assertNull( store.getUpload( "token", "id" ) );
+  }
+
+  @Test
+  public void testCreateUpload() {
+    ChunkedUploadStore store = new ChunkedUploadStore( NEVER, NEVER );
+
+    ChunkedUpload upload = store.createUpload( "token", "id", handler, 1, 10 );
+
+    assertNotNull( upload );
+    assertSame( upload, store.getUpload( "token", "id" ) );
+    assertNull( store.getUpload( "other", "id" ) );
+  }
+
+  @Test
+  public void testCreateUpload_returnsExistingUpload() {
+    ChunkedUploadStore store = new ChunkedUploadStore( NEVER, NEVER );
+    ChunkedUpload upload = store.createUpload( "token", "id", handler, 1, 10 );
+
+    assertSame( upload, store.createUpload( "token", "id", handler, 1, 10 ) );
+  }
+
+  @Test
+  public void testCreateUpload_limitsUploadsPerHandler() {
+    ChunkedUploadStore store = new ChunkedUploadStore( NEVER, NEVER );
+    for( int i = 0; i < MAX_UPLOADS_PER_HANDLER; i++ ) {
+      assertNotNull( store.createUpload( "token", "id" + i, handler, 1, 10 ) );
+    }
+
+    assertNull( store.createUpload( "token", "id", handler, 1, 10 ) );
+    assertNotNull( store.createUpload( "other", "id", handler, 1, 10 ) );
+  }
+
+  @Test
+  public void testCreateUpload_removesExpiredUploads() {
+    ChunkedUploadStore store = new ChunkedUploadStore( 0, 0 );
+    for( int i = 0; i < MAX_UPLOADS_PER_HANDLER; i++ ) {
+      store.createUpload( "token", "id" + i, handler, 1, 10 );
+    }
+
+    assertNotNull( store.createUpload( "token", "id", handler, 1, 10 ) );
+  }
+
+  @Test
+  public void testGetUpload_failsIdleUpload() {
+    ChunkedUploadStore store = new ChunkedUploadStore( 0, NEVER );
+    ChunkedUpload upload = store.createUpload( "token", "id", handler, 1, 10 );
+
+    assertNull( store.getUpload( "token", "id" ) );
+    assertTrue( upload.isFailed() );
+    assertEquals( "failed.", listener.getLog() );
+  }
+
+  @Test
+  public void testGetUpload_keepsFinishedUploadForRetentionTime() throws IOException {
+    ChunkedUploadStore store = new ChunkedUploadStore( 0, NEVER );
+    ChunkedUpload upload = store.createUpload( "token", "id", handler, 1, 4 );
+    upload.append( 0, 0, new ByteArrayInputStream( "0123".getBytes() ), details, 4 );
+
+    assertSame( upload, store.getUpload( "token", "id" ) );
+  }
+
+  @Test
+  public void testGetUpload_removesFinishedUploadAfterRetentionTime() throws IOException {
+    ChunkedUploadStore store = new ChunkedUploadStore( NEVER, 0 );
+    ChunkedUpload upload = store.createUpload( "token", "id", handler, 1, 4 );
+    upload.append( 0, 0, new ByteArrayInputStream( "0123".getBytes() ), details, 4 );
+
+    assertNull( store.getUpload( "token", "id" ) );
+    assertEquals( "progress.finished.", listener.getLog() );
+  }
+
+  @Test
+  public void testRemoveUploads() {
+    ChunkedUploadStore store = new ChunkedUploadStore( NEVER, NEVER );
+    ChunkedUpload upload = store.createUpload( "token", "id", handler, 1, 10 );
+    store.createUpload( "other", "id", handler, 1, 10 );
+
+    store.removeUploads( "token" );
+
+    assertNull( store.getUpload( "token", "id" ) );
+    assertTrue( upload.isFailed() );
+    assertNotNull( store.getUpload( "other", "id" ) );
+  }
+
+}
@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.fileupload.FileDetails;
+import org.eclipse.rap.fileupload.FileUploadHandler;
+import org.eclipse.rap.fileupload.FileUploadReceiver;
+import org.eclipse.rap.fileupload.test.TestFileUploadListener;
+import org.eclipse.rap.fileupload.test.TestFileUploadReceiver;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ChunkedUpload_Test {
+
+  private TestFileUploadReceiver receiver;
+  private TestFileUploadListener listener;
+  private FileUploadHandler handler;
+  private FileDetails details;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    receiver = new TestFileUploadReceiver();
+    listener = new TestFileUploadListener();
+    handler = new FileUploadHandler( receiver );
+    handler.addUploadListener( listener );
+    details = new FileDetailsImpl( "test.txt", "text/plain" );
+  }
+
+  @After
+  public void tearDown() {
+    handler.dispose();
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testGetOffset_initial() {
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 10 );
+
+    assertEquals( 0, upload.getOffset( 0, 10 ) );
+  }
+
+  @Test
+  public void testAppend_completeFile() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 10 );
+
+    boolean accepted = upload.append( 0, 0, stream( "0123456789" ), details, 10 );
+
+    assertTrue( accepted );
+    assertEquals( "0123456789", new String( receiver.getContent() ) );
+    assertEquals( "progress.finished.", listener.getLog() );
+    assertSame( details, listener.getLastEvent().getFileDetails()[ 0 ] );
+  }
+
+  @Test
+  public void testAppend_resumesAtOffset() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 10 );
+
+    upload.append( 0, 0, stream( "0123" ), details, 10 );
+
+    assertEquals( 4, upload.getOffset( 0, 10 ) );
+    assertNull( receiver.getContent() );
+    upload.append( 0, 4, stream( "456789" ), details, 10 );
+    assertEquals( "0123456789", new String( receiver.getContent() ) );
+  }
+
+  @Test
+  public void testAppend_rejectsWrongOffset() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 10 );
+    upload.append( 0, 0, stream( "0123" ), details, 10 );
+
+    boolean accepted = upload.append( 0, 2, stream( "23456789" ), details, 10 );
+
+    assertFalse( accepted );
+    assertEquals( 4, upload.getOffset( 0, 10 ) );
+  }
+
+  @Test
+  public void testAppend_rejectsWrongFileIndex() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 2, 20 );
+
+    boolean accepted = upload.append( 1, 0, stream( "0123456789" ), details, 10 );
+
+    assertFalse( accepted );
+    assertEquals( -1, upload.getOffset( 1, 10 ) );
+  }
+
+  @Test
+  public void testAppend_ignoresDataBeyondFileSize() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 4 );
+
+    upload.append( 0, 0, stream( "0123456789" ), details, 4 );
+
+    assertEquals( "0123", new String( receiver.getContent() ) );
+  }
+
+  @Test
+  public void testAppend_finishesAfterLastFile() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 2, 8 );
+
+    upload.append( 0, 0, stream( "0123" ), details, 4 );
+
+    assertEquals( 4, upload.getOffset( 0, 4 ) );
+    assertEquals( "progress.", listener.getLog() );
+    upload.append( 1, 0, stream( "4567" ), details, 4 );
+    assertEquals( "progress.progress.finished.", listener.getLog() );
+    assertEquals( 2, listener.getLastEvent().getFileDetails().length );
+    assertEquals( 8, listener.getLastEvent().getBytesRead() );
+    assertEquals( 8, listener.getLastEvent().getContentLength() );
+  }
+
+  @Test
+  public void testAppend_rejectedAfterFinish() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 4 );
+    upload.append( 0, 0, stream( "0123" ), details, 4 );
+
+    boolean accepted = upload.append( 0, 0, stream( "0123" ), details, 4 );
+
+    assertFalse( accepted );
+    assertEquals( "progress.finished.", listener.getLog() );
+  }
+
+  @Test
+  public void testAppend_failsWithReceiverException() {
+    final IOException exception = new IOException();
+    handler.dispose();
+    handler = new FileUploadHandler( new FileUploadReceiver() {
+      @Override
+      public void receive( InputStream stream, FileDetails details ) throws IOException {
+        throw exception;
+      }
+    } );
+    handler.addUploadListener( listener );
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 4 );
+
+    try {
+      upload.append( 0, 0, stream( "0123" ), details, 4 );
+      fail();
+    } catch( IOException expected ) {
+      assertSame( exception, expected );
+    }
+    assertTrue( upload.isFailed() );
+    assertEquals( "progress.failed.", listener.getLog() );
+    assertSame( exception, listener.getLastEvent().getException() );
+  }
+
+  @Test
+  public void testFail() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 10 );
+    upload.append( 0, 0, stream( "0123" ), details, 10 );
+    Exception exception = new Exception();
+
+    upload.fail( exception );
+    upload.fail( new Exception() );
+
+    assertTrue( upload.isFailed() );
+    assertEquals( "progress.failed.", listener.getLog() );
+    assertSame( exception, listener.getLastEvent().getException() );
+    assertFalse( upload.append( 0, 4, stream( "456789" ), details, 10 ) );
+  }
+
+  @Test
+  public void testFail_ignoredAfterFinish() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 4 );
+    upload.append( 0, 0, stream( "0123" ), details, 4 );
+
+    upload.fail( new Exception() );
+
+    assertFalse( upload.isFailed() );
+    assertEquals( "progress.finished.", listener.getLog() );
+  }
+
+  @Test
+  public void testIsValid() {
+    ChunkedUpload upload = new ChunkedUpload( handler, 2, 10 );
+
+    assertTrue( upload.isValid( 2, 10, 0, 4 ) );
+    assertTrue( upload.isValid( 2, 10, 0, 10 ) );
+    assertFalse( upload.isValid( 3, 10, 0, 4 ) );
+    assertFalse( upload.isValid( 2, 11, 0, 4 ) );
+    assertFalse( upload.isValid( 2, 10, 0, 11 ) );
+  }
+
+  @Test
+  public void testIsValid_rejectsChangedFileSize() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 2, 10 );
+    upload.append( 0, 0, stream( "01" ), details, 4 );
+
+    assertTrue( upload.isValid( 2, 10, 0, 4 ) );
+    assertFalse( upload.isValid( 2, 10, 0, 5 ) );
+  }
+
+  @Test
+  public void testIsValid_lastFileMustMatchTotalSize() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 2, 10 );
+    upload.append( 0, 0, stream( "0123" ), details, 4 );
+
+    assertTrue( upload.isValid( 2, 10, 1, 6 ) );
+    assertFalse( upload.isValid( 2, 10, 1, 5 ) );
+  }
+
+  @Test
+  public void testAppend_emptyFile() throws IOException {
+    ChunkedUpload upload = new ChunkedUpload( handler, 1, 0 );
+
+    boolean accepted = upload.append( 0, 0, stream( "" ), details, 0 );
+
+    assertTrue( accepted );
+    assertEquals( "", new String( receiver.getContent() ) );
+    assertTrue( listener.getLog().endsWith( "finished." ) );
+  }
+
+  @Test
+  public void testGetOffset_notBlockedByAppend() throws Exception {
+    final ChunkedUpload upload = new ChunkedUpload( handler, 1, 10 );
+    final BlockingInputStream inputStream = new BlockingInputStream( "0123" );
+    Thread thread = appendInBackground( upload, inputStream );
+    inputStream.awaitRead();
+
+    long offset = upload.getOffset( 0, 10 );
+    boolean accepted = upload.append( 0, 0, stream( "0123456789" ), details, 10 );
+
+    inputStream.release();
+    thread.join( 5000 );
+    assertEquals( 0, offset );
+    assertFalse( accepted );
+    assertEquals( 4, upload.getOffset( 0, 10 ) );
+  }
+
+  @Test
+  public void testFail_duringAppend() throws Exception {
+    final ChunkedUpload upload = new ChunkedUpload( handler, 1, 10 );
+    final BlockingInputStream inputStream = new BlockingInputStream( "0123" );
+    Thread thread = appendInBackground( upload, inputStream );
+    inputStream.awaitRead();
+
+    upload.fail( new Exception() );
+
+    inputStream.release();
+    thread.join( 5000 );
+    assertTrue( upload.isFailed() );
+    assertEquals( "failed.", listener.getLog() );
+    assertFalse( upload.append( 0, 4, stream( "456789" ), details, 10 ) );
+  }
+
+  private Thread appendInBackground( final ChunkedUpload upload, final InputStream inputStream ) {
+    Thread result = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          upload.append( 0, 0, inputStream, details, 10 );
+        } catch( IOException exception ) {
+          throw new RuntimeException( exception );
+        }
+      }
+    } );
+    result.start();
+    return result;
+  }
+
+  private static InputStream stream( String content ) {
+    return new ByteArrayInputStream( content.getBytes() );
+  }
+
+  /*
+   * Returns the given content on the first read and blocks the second read until released.
+   */
+  private static class BlockingInputStream extends InputStream {
+
+    private final byte[] content;
+    private final CountDownLatch read = new CountDownLatch( 1 );
+    private final CountDownLatch released = new CountDownLatch( 1 );
+    private boolean contentRead;
+
+    BlockingInputStream( String content ) {
+      this.content = content.getBytes();
+    }
+
+    void awaitRead() throws InterruptedException {
+      assertTrue( read.await( 5, TimeUnit.SECONDS ) );
+    }
+
+    void release() {
+      released.countDown();
+    }
+
+    @Override
+    public int read() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read( byte[] buffer, int offset, int length ) throws IOException {
+      if( !contentRead ) {
+        contentRead = true;
+        System.arraycopy( content, 0, buffer, offset, content.length );
+        return content.length;
+      }
+      read.countDown();
+      try {
+        released.await( 5, TimeUnit.SECONDS );
+      } catch( InterruptedException exception ) {
+        throw new IOException( exception );
+      }
+      return -1;
+    }
+
+  }
+
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.fileupload.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.rap.fileupload.FileUploadHandler;
+import org.eclipse.rap.fileupload.test.TestFileUploadListener;
+import org.eclipse.rap.fileupload.test.TestFileUploadReceiver;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+@SuppressWarnings( "restriction" )
+public class ThrottledProgressListener_Test {
+
+  private FileUploadHandler handler;
+  private TestFileUploadListener uploadListener;
+  private FileUploadTracker tracker;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    handler = new FileUploadHandler( new TestFileUploadReceiver() );
+    uploadListener = new TestFileUploadListener();
+    handler.addUploadListener( uploadListener );
+    tracker = new FileUploadTracker( handler );
+  }
+
+  @After
+  public void tearDown() {
+    handler.dispose();
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testUpdate_withoutInterval_reportsEveryIncrease() {
+    ThrottledProgressListener listener = new ThrottledProgressListener( tracker, 0 );
+
+    listener.update( 10, 100, 0L );
+    listener.update( 20, 100, 0L );
+    listener.update( 30, 100, 0L );
+
+    assertEquals( "progress.progress.progress.", uploadListener.getLog() );
+  }
+
+  @Test
+  public void testUpdate_ignoresUpdateWithoutIncrease() {
+    ThrottledProgressListener listener = new ThrottledProgressListener( tracker, 0 );
+
+    listener.update( 10, 100, 0L );
+    listener.update( 10, 100, 0L );
+
+    assertEquals( "progress.", uploadListener.getLog() );
+  }
+
+  @Test
+  public void testUpdate_withInterval_reportsFirstUpdate() {
+    ThrottledProgressListener listener = new ThrottledProgressListener( tracker, 100 );
+
+    listener.update( 10, 100, 1000L );
+
+    assertEquals( "progress.", uploadListener.getLog() );
+    assertEquals( 10, uploadListener.getLastEvent().getBytesRead() );
+    assertEquals( 100, uploadListener.getLastEvent().getContentLength() );
+  }
+
+  @Test
+  public void testUpdate_withInterval_skipsUpdatesWithinInterval() {
+    ThrottledProgressListener listener = new ThrottledProgressListener( tracker, 100 );
+
+    listener.update( 10, 1000, 1000L );
+    listener.update( 20, 1000, 1050L );
+    listener.update( 30, 1000, 1099L );
+    listener.update( 40, 1000, 1100L );
+
+    assertEquals( "progress.progress.", uploadListener.getLog() );
+    assertEquals( 40, uploadListener.getLastEvent().getBytesRead() );
+  }
+
+  @Test
+  public void testUpdate_withInterval_reportsLastUpdate() {
+    ThrottledProgressListener listener = new ThrottledProgressListener( tracker, 100 );
+
+    listener.update( 10, 100, 1000L );
+    listener.update( 100, 100, 1010L );
+
+    assertEquals( "progress.progress.", uploadListener.getLog() );
+    assertEquals( 100, uploadListener.getLastEvent().getBytesRead() );
+  }
+
+  @Test
+  public void testComplete_reportsSkippedLastUpdateWithUnknownContentLength() {
+    ThrottledProgressListener listener = new ThrottledProgressListener( tracker, 100 );
+    listener.update( 10, -1, 1000L );
+    listener.update( 20, -1, 1010L );
+
+    listener.complete();
+
+    assertEquals( "progress.progress.", uploadListener.getLog() );
+    assertEquals( 20, uploadListener.getLastEvent().getBytesRead() );
+    assertEquals( -1, uploadListener.getLastEvent().getContentLength() );
+  }
+
+  @Test
+  public void testComplete_withoutSkippedUpdate() {
+    ThrottledProgressListener listener = new ThrottledProgressListener( tracker, 100 );
+    listener.update( 10, 100, 1000L );
+    listener.update( 100, 100, 1010L );
+
+    listener.complete();
+
+    assertEquals( "progress.progress.", uploadListener.getLog() );
+  }
+
+  @Test
+  public void testComplete_withoutUpdates() {
+    ThrottledProgressListener listener = new ThrottledProgressListener( tracker, 100 );
+
+    listener.complete();
+
+    assertEquals( "", uploadListener.getLog() );
+  }
+
+}
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.jface.gridviewer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.nebula.widgets.grid.Grid;
+import org.eclipse.nebula.widgets.grid.GridColumn;
+import org.eclipse.nebula.widgets.grid.GridItem;
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class GridTreeViewer_Test {
+
+  private static final String ROOT = "root";
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  private Grid grid;
+  private GridTreeViewer viewer;
+  private LazyContentProvider contentProvider;
+
+  @Before
+  public void setUp() {
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    grid = new Grid( shell, SWT.VIRTUAL );
+    new GridColumn( grid, SWT.NONE );
+    viewer = new GridTreeViewer( grid );
+    viewer.setUseHashlookup( true );
+    contentProvider = new LazyContentProvider();
+    viewer.setContentProvider( contentProvider );
+    viewer.setLabelProvider( new LabelProvider() );
+  }
+
+  @Test
+  public void testSetInput_createsRootItemsWithoutElements() {
+    viewer.setInput( ROOT );
+
+    assertEquals( 100, grid.getRootItemCount() );
+    assertNull( grid.getRootItem( 50 ).getData() );
+    assertFalse( contentProvider.log.contains( "updateElement root 50" ) );
+  }
+
+  @Test
+  public void testSetData_replacesElementAtItemIndex() {
+    viewer.setInput( ROOT );
+
+    GridItem item = grid.getRootItem( 50 );
+    item.getText();
+
+    assertTrue( contentProvider.log.contains( "updateElement root 50" ) );
+    assertEquals( "node 50", item.getData() );
+    assertEquals( "node 50", item.getText() );
+  }
+
+  @Test
+  public void testSetData_replacesChildElementAtItemIndex() {
+    viewer.setInput( ROOT );
+    viewer.expandToLevel( "node 5", 1 );
+
+    GridItem item = grid.getRootItem( 5 ).getItem( 2 );
+    item.getText();
+
+    assertTrue( contentProvider.log.contains( "updateElement node 5 2" ) );
+    assertEquals( "node 5.2", item.getData() );
+  }
+
+  @Test
+  public void testExpandToLevel_createsChildrenLazily() {
+    viewer.setInput( ROOT );
+
+    viewer.expandToLevel( "node 5", 1 );
+
+    GridItem item = grid.getRootItem( 5 );
+    assertTrue( item.isExpanded() );
+    assertEquals( 3, item.getItemCount() );
+    assertNull( item.getItem( 1 ).getData() );
+    assertFalse( contentProvider.log.contains( "updateElement node 5 1" ) );
+  }
+
+  @Test
+  public void testExpandToLevel_withNestedElement() {
+    viewer.setInput( ROOT );
+
+    viewer.expandToLevel( "node 7.1", 1 );
+
+    GridItem item = grid.getRootItem( 7 ).getItem( 1 );
+    assertEquals( "node 7.1", item.getData() );
+    assertTrue( grid.getRootItem( 7 ).isExpanded() );
+    assertEquals( 0, item.getItemCount() );
+  }
+
+  @Test
+  public void testReplace_rootElement() {
+    viewer.setInput( ROOT );
+
+    viewer.replace( ROOT, 3, "other" );
+
+    GridItem item = grid.getRootItem( 3 );
+    assertEquals( "other", item.getData() );
+    assertEquals( "other", item.getText() );
+  }
+
+  @Test
+  public void testReplace_childElement() {
+    viewer.setInput( ROOT );
+    viewer.expandToLevel( "node 5", 1 );
+
+    viewer.replace( "node 5", 1, "other" );
+
+    assertEquals( "other", grid.getRootItem( 5 ).getItem( 1 ).getData() );
+  }
+
+  @Test
+  public void testSetChildCount_ofInput() {
+    viewer.setInput( ROOT );
+
+    viewer.setChildCount( ROOT, 10 );
+
+    assertEquals( 10, grid.getRootItemCount() );
+  }
+
+  @Test
+  public void testSetChildCount_ofElement() {
+    viewer.setInput( ROOT );
+    viewer.expandToLevel( "node 5", 1 );
+
+    viewer.setChildCount( "node 5", 5 );
+
+    assertEquals( 5, grid.getRootItem( 5 ).getItemCount() );
+  }
+
+  @Test
+  public void testRefresh_updatesExpandedElementAtItemIndex() {
+    viewer.setInput( ROOT );
+    viewer.expandToLevel( "node 50", 1 );
+    contentProvider.log.clear();
+
+    viewer.refresh( "node 50" );
+
+    assertTrue( contentProvider.log.contains( "updateElement root 50" ) );
+  }
+
+  @Test
+  public void testRefresh_updatesExpandedElementAfterRootItemsChanged() {
+    viewer.setInput( ROOT );
+    viewer.expandToLevel( "node 50", 1 );
+    contentProvider.log.clear();
+
+    grid.getRootItem( 10 ).dispose();
+    viewer.refresh( "node 50" );
+
+    assertTrue( contentProvider.log.contains( "updateElement root 49" ) );
+  }
+
+  /*
+   * A tree of 100 root elements with three children each.
+   */
+  private static class LazyContentProvider implements ILazyTreeContentProvider {
+
+    final List<String> log = new ArrayList<>();
+    private GridTreeViewer viewer;
+
+    @Override
+    public void inputChanged( Viewer viewer, Object oldInput, Object newInput ) {
+      this.viewer = ( GridTreeViewer )viewer;
+    }
+
+    @Override
+    public void updateElement( Object parent, int index ) {
+      log.add( "updateElement " + parent + " " + index );
+      String element = ROOT.equals( parent ) ? "node " + index : parent + "." + index;
+      viewer.replace( parent, index, element );
+      viewer.setChildCount( element, getChildCount( element ) );
+    }
+
+    @Override
+    public void updateChildCount( Object element, int currentChildCount ) {
+      log.add( "updateChildCount " + element );
+      viewer.setChildCount( element, getChildCount( element ) );
+    }
+
+    @Override
+    public Object getParent( Object element ) {
+      String name = ( String )element;
+      int index = name.lastIndexOf( '.' );
+      return index == -1 ? ROOT : name.substring( 0, index );
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    private static int getChildCount( Object element ) {
+      if( ROOT.equals( element ) ) {
+        return 100;
+      }
+      return ( ( String )element ).indexOf( '.' ) == -1 ? 3 : 0;
+    }
+
+  }
+
+}
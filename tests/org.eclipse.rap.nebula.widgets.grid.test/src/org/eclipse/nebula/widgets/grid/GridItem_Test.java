@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.nebula.widgets.grid.internal.IGridItemAdapter;
 import org.eclipse.nebula.widgets.grid.internal.griditemkit.GridItemLCA;
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
@@ -145,6 +146,47 @@ public class GridItem_Test {
     assertEquals( 9, grid.getItem( 0 ).getItemCount() );
   }
 
+  @Test
+  public void testSetItemCount_MoreItems() {
+    GridItem[] items = createGridItems( grid, 2, 1 );
+
+    items[ 0 ].setItemCount( 3 );
+
+    assertEquals( 3, items[ 0 ].getItemCount() );
+    assertEquals( 6, grid.getItemCount() );
+    assertSame( items[ 2 ], grid.getItem( 4 ) );
+  }
+
+  @Test
+  public void testSetItemCount_LessItems() {
+    GridItem[] items = createGridItems( grid, 1, 3 );
+
+    items[ 0 ].setItemCount( 1 );
+
+    assertEquals( 1, items[ 0 ].getItemCount() );
+    assertSame( items[ 1 ], items[ 0 ].getItem( 0 ) );
+    assertTrue( items[ 3 ].isDisposed() );
+  }
+
+  @Test
+  public void testSetItemCount_NegativeCount() {
+    GridItem[] items = createGridItems( grid, 1, 3 );
+
+    items[ 0 ].setItemCount( -1 );
+
+    assertEquals( 0, items[ 0 ].getItemCount() );
+    assertEquals( 1, grid.getItemCount() );
+  }
+
+  @Test
+  public void testSetItemCount_collapsedItemsAreHidden() {
+    GridItem item = new GridItem( grid, SWT.NONE );
+
+    item.setItemCount( 2 );
+
+    assertFalse( item.getItem( 0 ).isVisible() );
+  }
+
   @Test
   public void testGetItems() {
     GridItem[] items = createGridItems( grid, 1, 10 );
@@ -422,6 +464,20 @@ public class GridItem_Test {
     assertEquals( "foo", item.getText( 0 ) );
   }
 
+  @Test
+  public void testGetText_ItemCreatedAfterDispose() {
+    createGridColumns( grid, 2, SWT.CHECK );
+    GridItem item = new GridItem( grid, SWT.NONE );
+    item.setText( 1, "foo" );
+    item.setChecked( 1, true );
+    item.dispose();
+
+    GridItem newItem = new GridItem( grid, SWT.NONE );
+
+    assertEquals( "", newItem.getText( 1 ) );
+    assertFalse( newItem.getChecked( 1 ) );
+  }
+
   @Test( expected = IndexOutOfBoundsException.class )
   public void testSetText_InvalidColumn() {
     GridItem item = new GridItem( grid, SWT.NONE );
@@ -462,6 +518,16 @@ public class GridItem_Test {
     assertEquals( 1, event.index );
   }
 
+  @Test
+  public void testGetAdapter_getIndex() {
+    GridItem[] items = createGridItems( grid, 3, 3 );
+
+    new GridItem( grid, SWT.NONE, 0 );
+
+    assertEquals( 2, items[ 4 ].getAdapter( IGridItemAdapter.class ).getIndex() );
+    assertEquals( 1, items[ 6 ].getAdapter( IGridItemAdapter.class ).getIndex() );
+  }
+
   @Test
   public void testHandleVirtual_SubItem() {
     grid = new Grid( shell, SWT.VIRTUAL );
@@ -722,6 +788,51 @@ public class GridItem_Test {
     assertTrue( item.isCached() );
   }
 
+  @Test
+  public void testClearChild() {
+    GridItem[] items = createGridItems( grid, 1, 2 );
+    items[ 2 ].setText( "foo" );
+    items[ 1 ].setText( "bar" );
+
+    items[ 0 ].clear( 1, false );
+
+    assertEquals( "", items[ 2 ].getText() );
+    assertEquals( "bar", items[ 1 ].getText() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testClearChild_InvalidIndex() {
+    GridItem[] items = createGridItems( grid, 1, 2 );
+
+    items[ 0 ].clear( 2, false );
+  }
+
+  @Test
+  public void testClearAllChildren() {
+    GridItem[] items = createGridItems( grid, 1, 2 );
+    GridItem subItem = new GridItem( items[ 1 ], SWT.NONE );
+    items[ 0 ].setText( "root" );
+    items[ 1 ].setText( "foo" );
+    subItem.setText( "bar" );
+
+    items[ 0 ].clearAll( false );
+
+    assertEquals( "root", items[ 0 ].getText() );
+    assertEquals( "", items[ 1 ].getText() );
+    assertEquals( "bar", subItem.getText() );
+  }
+
+  @Test
+  public void testClearAllChildren_Recursive() {
+    GridItem[] items = createGridItems( grid, 1, 2 );
+    GridItem subItem = new GridItem( items[ 1 ], SWT.NONE );
+    subItem.setText( "bar" );
+
+    items[ 0 ].clearAll( true );
+
+    assertEquals( "", subItem.getText() );
+  }
+
   @Test
   public void testClear() {
     GridItem item = new GridItem( grid, SWT.NONE );
@@ -1482,8 +1593,8 @@ public class GridItem_Test {
 
     new GridItem( grid, SWT.NONE, 1 );
 
-    assertEquals( 0, grid.getItem( 0 ).index );
-    assertEquals( 3, grid.getItem( 3 ).index );
+    assertEquals( 0, grid.getItem( 0 ).internalGetIndex() );
+    assertEquals( 3, grid.getItem( 3 ).internalGetIndex() );
   }
 
   @Test
@@ -1492,8 +1603,8 @@ public class GridItem_Test {
 
     grid.getItem( 1 ).dispose();
 
-    assertEquals( 0, grid.getItem( 0 ).index );
-    assertEquals( 1, grid.getItem( 1 ).index );
+    assertEquals( 0, grid.getItem( 0 ).internalGetIndex() );
+    assertEquals( 1, grid.getItem( 1 ).internalGetIndex() );
   }
 
   @Test
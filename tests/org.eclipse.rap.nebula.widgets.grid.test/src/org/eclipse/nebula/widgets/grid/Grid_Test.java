@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -280,6 +280,49 @@ public class Grid_Test {
     assertEquals( 2, grid.indexOf( items[ 4 ] ) );
   }
 
+  @Test
+  public void testIndexOf_AfterInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+
+    GridItem item = new GridItem( grid, SWT.NONE, 1 );
+
+    assertEquals( 2, grid.indexOf( item ) );
+    assertEquals( 3, grid.indexOf( items[ 2 ] ) );
+    assertEquals( 6, grid.indexOf( items[ 5 ] ) );
+  }
+
+  @Test
+  public void testIndexOf_AfterInsertChild() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+
+    GridItem item = new GridItem( items[ 2 ], SWT.NONE, 0 );
+
+    assertEquals( 3, grid.indexOf( item ) );
+    assertEquals( 4, grid.indexOf( items[ 3 ] ) );
+    assertEquals( 1, grid.indexOf( items[ 1 ] ) );
+  }
+
+  @Test
+  public void testGetItemIndex_RootItemAfterInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+    IGridAdapter adapter = grid.getAdapter( IGridAdapter.class );
+
+    new GridItem( grid, SWT.NONE, 0 );
+
+    assertEquals( 3, adapter.getItemIndex( items[ 4 ] ) );
+    assertEquals( 0, adapter.getItemIndex( items[ 5 ] ) );
+  }
+
+  @Test
+  public void testGetItemIndex_RootItemAfterDispose() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+    IGridAdapter adapter = grid.getAdapter( IGridAdapter.class );
+
+    items[ 0 ].dispose();
+
+    assertEquals( 1, adapter.getItemIndex( items[ 4 ] ) );
+  }
+
   @Test
   public void testGetColumnCount() {
     createGridColumns( grid, 5, SWT.NONE );
@@ -2869,6 +2912,74 @@ public class Grid_Test {
     assertTrue( grid.getItem( 3 ).isResolved() );
   }
 
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetPreloadedItems_invalidValue() {
+    grid.setData( RWT.PRELOADED_ITEMS, "abc" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetPreloadedItems_negativeValue() {
+    grid.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( -1 ) );
+  }
+
+  @Test
+  public void testResolvedItems_onVirtual_zeroPreloadedItems() {
+    grid = new Grid( shell, SWT.V_SCROLL | SWT.VIRTUAL );
+    grid.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( 0 ) );
+    grid.setSize( 200, 100 );
+    grid.setItemCount( 200 );
+
+    grid.setTopIndex( 100 );
+    doFakeRedraw();
+
+    assertEquals( 4, countResolvedGridItems() );
+  }
+
+  @Test
+  public void testResolvedItems_onVirtual_10PreloadedItems() {
+    grid = new Grid( shell, SWT.V_SCROLL | SWT.VIRTUAL );
+    grid.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( 10 ) );
+    grid.setSize( 200, 100 );
+    grid.setItemCount( 200 );
+
+    grid.setTopIndex( 100 );
+    doFakeRedraw();
+
+    // visible (4) + above visible area (10) + below visible area (10)
+    assertEquals( 24, countResolvedGridItems() );
+    assertTrue( grid.getItem( 90 ).isResolved() );
+    assertTrue( grid.getItem( 113 ).isResolved() );
+  }
+
+  @Test
+  public void testResolvedItems_onVirtual_preloadedItemsSkipCollapsedItems() {
+    grid = new Grid( shell, SWT.V_SCROLL | SWT.VIRTUAL );
+    grid.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( 2 ) );
+    grid.setSize( 200, 100 );
+    grid.setItemCount( 10 );
+    grid.getItem( 4 ).setItemCount( 5 );
+
+    doFakeRedraw();
+
+    // visible (4) + below visible area (2), children of item 4 are collapsed
+    assertEquals( 6, countResolvedGridItems() );
+    assertTrue( grid.getItem( 10 ).isResolved() );
+  }
+
+  @Test
+  public void testResolvedItems_onVirtual_300PreloadedItems() {
+    grid = new Grid( shell, SWT.V_SCROLL | SWT.VIRTUAL );
+    grid.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( 300 ) );
+    grid.setSize( 200, 100 );
+    grid.setItemCount( 200 );
+
+    grid.setTopIndex( 100 );
+    doFakeRedraw();
+
+    // all items preloaded
+    assertEquals( 200, countResolvedGridItems() );
+  }
+
   @Test
   public void testRemoveAll_disposeInReverseOrder() {
     final List<String> log = new ArrayList<String>();
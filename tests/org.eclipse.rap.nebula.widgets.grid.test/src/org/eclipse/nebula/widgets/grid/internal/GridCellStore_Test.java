@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class GridCellStore_Test {
+
+  private GridCellStore store;
+
+  @Before
+  public void setUp() {
+    store = new GridCellStore( 3 );
+  }
+
+  @Test
+  public void testCreate_zeroColumns() {
+    store = new GridCellStore( 0 );
+
+    assertEquals( 1, store.getColumnCount() );
+  }
+
+  @Test
+  public void testCreate_nonZeroColumns() {
+    assertEquals( 3, store.getColumnCount() );
+  }
+
+  @Test
+  public void testCreate_defaultValues() {
+    int slot = store.allocate();
+
+    assertEquals( "", store.getText( slot, 1 ) );
+    assertNull( store.getTooltip( slot, 1 ) );
+    assertNull( store.getFont( slot, 1 ) );
+    assertNull( store.getBackground( slot, 1 ) );
+    assertNull( store.getForeground( slot, 1 ) );
+    assertNull( store.getImage( slot, 1 ) );
+    assertFalse( store.getChecked( slot, 1 ) );
+    assertFalse( store.getGrayed( slot, 1 ) );
+    assertTrue( store.getCheckable( slot, 1 ) );
+    assertEquals( 0, store.getColumnSpan( slot, 1 ) );
+  }
+
+  @Test
+  public void testAllocate_distinctSlots() {
+    int slot1 = store.allocate();
+    int slot2 = store.allocate();
+
+    assertTrue( slot1 != slot2 );
+  }
+
+  @Test
+  public void testSetValues() {
+    int slot = store.allocate();
+    Font font = mock( Font.class );
+    Color background = mock( Color.class );
+    Color foreground = mock( Color.class );
+    Image image = mock( Image.class );
+
+    store.setText( slot, 1, "foo" );
+    store.setTooltip( slot, 1, "tooltip" );
+    store.setFont( slot, 1, font );
+    store.setBackground( slot, 1, background );
+    store.setForeground( slot, 1, foreground );
+    store.setImage( slot, 1, image );
+    store.setChecked( slot, 1, true );
+    store.setGrayed( slot, 1, true );
+    store.setCheckable( slot, 1, false );
+    store.setColumnSpan( slot, 1, 2 );
+
+    assertEquals( "foo", store.getText( slot, 1 ) );
+    assertEquals( "tooltip", store.getTooltip( slot, 1 ) );
+    assertSame( font, store.getFont( slot, 1 ) );
+    assertSame( background, store.getBackground( slot, 1 ) );
+    assertSame( foreground, store.getForeground( slot, 1 ) );
+    assertSame( image, store.getImage( slot, 1 ) );
+    assertTrue( store.getChecked( slot, 1 ) );
+    assertTrue( store.getGrayed( slot, 1 ) );
+    assertFalse( store.getCheckable( slot, 1 ) );
+    assertEquals( 2, store.getColumnSpan( slot, 1 ) );
+  }
+
+  @Test
+  public void testSetValues_doesNotAffectOtherCells() {
+    int slot1 = store.allocate();
+    int slot2 = store.allocate();
+
+    store.setText( slot2, 1, "foo" );
+    store.setChecked( slot2, 1, true );
+
+    assertEquals( "", store.getText( slot1, 1 ) );
+    assertEquals( "", store.getText( slot2, 0 ) );
+    assertFalse( store.getChecked( slot1, 1 ) );
+    assertFalse( store.getChecked( slot2, 2 ) );
+  }
+
+  @Test
+  public void testSetValues_manySlots() {
+    for( int i = 0; i < 1000; i++ ) {
+      store.setText( store.allocate(), 2, "item" + i );
+    }
+
+    assertEquals( "item999", store.getText( 999, 2 ) );
+  }
+
+  @Test( expected = IndexOutOfBoundsException.class )
+  public void testGetText_invalidColumn() {
+    store.getText( store.allocate(), 4 );
+  }
+
+  @Test
+  public void testClear() {
+    int slot = store.allocate();
+    store.setText( slot, 0, "foo" );
+    store.setChecked( slot, 0, true );
+    store.setColumnSpan( slot, 0, 1 );
+
+    store.clear( slot );
+
+    assertEquals( "", store.getText( slot, 0 ) );
+    assertFalse( store.getChecked( slot, 0 ) );
+    assertEquals( 0, store.getColumnSpan( slot, 0 ) );
+  }
+
+  @Test
+  public void testRelease_reusesClearedSlot() {
+    int slot = store.allocate();
+    store.setText( slot, 0, "foo" );
+
+    store.release( slot );
+
+    assertEquals( slot, store.allocate() );
+    assertEquals( "", store.getText( slot, 0 ) );
+  }
+
+  @Test
+  public void testAddColumn_atEnd() {
+    store = new GridCellStore( 1 );
+    int slot = store.allocate();
+    store.setText( slot, 0, "foo" );
+
+    store.addColumn( -1 );
+
+    assertEquals( "foo", store.getText( slot, 0 ) );
+    assertEquals( "", store.getText( slot, 1 ) );
+  }
+
+  @Test
+  public void testAddColumn_atIndex() {
+    store = new GridCellStore( 1 );
+    int slot = store.allocate();
+    store.setText( slot, 0, "foo" );
+
+    store.addColumn( 0 );
+
+    assertEquals( "", store.getText( slot, 0 ) );
+    assertEquals( "foo", store.getText( slot, 1 ) );
+  }
+
+  @Test
+  public void testRemoveColumn() {
+    int slot = store.allocate();
+    store.setText( slot, 1, "foo" );
+
+    store.removeColumn( 0 );
+
+    assertEquals( 2, store.getColumnCount() );
+    assertEquals( "foo", store.getText( slot, 0 ) );
+  }
+
+}
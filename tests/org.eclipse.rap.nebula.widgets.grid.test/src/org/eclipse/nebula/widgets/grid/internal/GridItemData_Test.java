@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,7 +36,7 @@ public class GridItemData_Test {
   public void setUp() {
     Fixture.setUp();
     display = new Display();
-    data = new GridItemData( 3 );
+    data = new GridItemData();
   }
 
   @After
@@ -52,60 +52,6 @@ public class GridItemData_Test {
     assertEquals( -1, data.customHeight );
     assertFalse( data.expanded );
     assertNull( data.children );
-    assertNotNull( data.cellData );
-  }
-
-  @Test
-  public void testCreate_zeroCells() {
-    data = new GridItemData( 0 );
-
-    assertEquals( 1, data.cellData.size() );
-  }
-
-  @Test
-  public void testCreate_nonZeroCells() {
-    assertEquals( 3, data.cellData.size() );
-  }
-
-  @Test
-  public void testGetCellData() {
-    assertNotNull( data.getCellData( 1 ) );
-  }
-
-  @Test( expected = IndexOutOfBoundsException.class )
-  public void testGetCellData_invalidIndex() {
-    data.getCellData( 4 );
-  }
-
-  @Test
-  public void testAddCellData_atEnd() {
-    data = new GridItemData( 1 );
-    data.getCellData( 0 );
-
-    data.addCellData( -1 );
-
-    assertNotNull( data.cellData.get( 0 ) );
-    assertNull( data.cellData.get( 1 ) );
-  }
-
-  @Test
-  public void testAddCellData_atIndex() {
-    data = new GridItemData( 1 );
-    data.getCellData( 0 );
-
-    data.addCellData( 0 );
-
-    assertNull( data.cellData.get( 0 ) );
-    assertNotNull( data.cellData.get( 1 ) );
-  }
-
-  @Test
-  public void testRemoveCellData() {
-    data = new GridItemData( 1 );
-
-    data.removeCellData( 0 );
-
-    assertEquals( 0, data.cellData.size() );
   }
 
   @Test
@@ -120,12 +66,9 @@ public class GridItemData_Test {
     data.defaultForeground = mock( Color.class );
     data.customHeight = 10;
     data.expanded = true;
-    data.getCellData( 1 );
 
     data.clear();
 
-    assertEquals( 3, data.cellData.size() );
-    assertNull( data.cellData.get( 1 ) );
     assertNull( data.defaultFont );
     assertNull( data.defaultBackground );
     assertNull( data.defaultForeground );
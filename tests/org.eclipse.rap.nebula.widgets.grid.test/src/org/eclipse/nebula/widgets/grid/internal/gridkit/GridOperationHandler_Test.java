@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,8 +25,12 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.nebula.widgets.grid.Grid;
 import org.eclipse.nebula.widgets.grid.GridItem;
+import org.eclipse.nebula.widgets.grid.internal.IGridAdapter;
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.RWT;
@@ -38,6 +42,7 @@ import org.eclipse.swt.internal.widgets.ICellToolTipProvider;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Shell;
 import org.junit.After;
 import org.junit.Before;
@@ -133,6 +138,26 @@ public class GridOperationHandler_Test {
     assertEquals( 6, grid.getTopIndex() );
   }
 
+  @Test
+  public void testHandleSetTopItemIndex_resolvesItemsOnVirtual() {
+    grid = new Grid( shell, SWT.V_SCROLL | SWT.VIRTUAL );
+    grid.setBounds( 0, 0, 100, 100 );
+    grid.setItemCount( 100 );
+    grid.getAdapter( IGridAdapter.class ).doRedraw();
+    final List<Integer> log = new ArrayList<Integer>();
+    grid.addListener( SWT.SetData, new Listener() {
+      @Override
+      public void handleEvent( Event event ) {
+        log.add( Integer.valueOf( event.index ) );
+      }
+    } );
+    handler = new GridOperationHandler( grid );
+
+    handler.handleSet( new JsonObject().add( "topItemIndex", 50 ) );
+
+    assertEquals( Integer.valueOf( 50 ), log.get( 0 ) );
+  }
+
   @Test
   public void testHandleSetFocusItem() {
     GridItem[] items = createGridItems( grid, 3, 1 );
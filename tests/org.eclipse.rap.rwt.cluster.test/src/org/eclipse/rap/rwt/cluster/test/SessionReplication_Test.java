@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rap.rwt.cluster.test.entrypoints.WidgetsEntryPoint;
+import org.eclipse.rap.rwt.cluster.testfixture.ReplicationMeter;
+import org.eclipse.rap.rwt.cluster.testfixture.client.RWTClient;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
+import org.eclipse.rap.rwt.cluster.testfixture.server.JettyFactory;
+import org.junit.Test;
+
+
+public class SessionReplication_Test {
+
+  private static final int REQUESTS = 10;
+
+  @Test
+  public void testReplicatesUISessionInEveryRequest() throws Exception {
+    IServletEngine servletEngine = new JettyFactory().createServletEngine();
+    servletEngine.start( WidgetsEntryPoint.class );
+    try {
+      RWTClient client = new RWTClient( servletEngine );
+      client.sendStartupRequest();
+      client.sendInitializationRequest();
+      ReplicationMeter replicationMeter = servletEngine.getReplicationMeter();
+      replicationMeter.reset();
+      for( int i = 0; i < REQUESTS; i++ ) {
+        client.sendDisplayResizeRequest( 600 + i, 800 );
+      }
+
+      assertEquals( REQUESTS, replicationMeter.getRequestCount() );
+      assertTrue( replicationMeter.getTotalBytes() > 0 );
+    } finally {
+      servletEngine.stop();
+    }
+  }
+
+}
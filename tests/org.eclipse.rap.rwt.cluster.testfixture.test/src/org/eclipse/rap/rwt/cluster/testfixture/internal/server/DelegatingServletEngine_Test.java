@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import java.util.List;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.cluster.testfixture.ReplicationMeter;
 import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
 import org.eclipse.rap.rwt.cluster.testfixture.test.TestEntryPoint;
 import org.junit.Before;
@@ -167,6 +168,10 @@ public class DelegatingServletEngine_Test {
       invocations.add( GET_SESSIONS );
       return null;
     }
+
+    public ReplicationMeter getReplicationMeter() {
+      return null;
+    }
   }
 
 }
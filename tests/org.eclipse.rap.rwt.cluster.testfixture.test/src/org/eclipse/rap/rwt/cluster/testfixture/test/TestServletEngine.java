@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.rap.rwt.cluster.testfixture.test;
 
 import javax.servlet.http.HttpSession;
 
+import org.eclipse.rap.rwt.cluster.testfixture.ReplicationMeter;
 import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
 
 public class TestServletEngine implements IServletEngine {
@@ -41,4 +42,8 @@ public class TestServletEngine implements IServletEngine {
   public HttpSession[] getSessions() {
     return null;
   }
+
+  public ReplicationMeter getReplicationMeter() {
+    return null;
+  }
 }
\ No newline at end of file
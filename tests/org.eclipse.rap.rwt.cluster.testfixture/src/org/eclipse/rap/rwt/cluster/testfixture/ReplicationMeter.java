@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.testfixture;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpSession;
+
+
+/**
+ * Measures the number of bytes that a servlet container replicates per request, if it
+ * replicates every session attribute that is set during the request (like the Tomcat
+ * DeltaManager does). The attribute values are serialized after the request to count their
+ * bytes.
+ */
+public class ReplicationMeter implements Filter {
+
+  private final List<Long> bytesPerRequest;
+
+  public ReplicationMeter() {
+    bytesPerRequest = new ArrayList<Long>();
+  }
+
+  public void init( FilterConfig filterConfig ) {
+  }
+
+  public void doFilter( ServletRequest request, ServletResponse response, FilterChain chain )
+    throws IOException, ServletException
+  {
+    Map<String, Object> changes = new LinkedHashMap<String, Object>();
+    HttpServletRequest httpRequest = ( HttpServletRequest )request;
+    HttpServletRequest meteredRequest = new MeteredRequest( httpRequest, changes );
+    try {
+      chain.doFilter( meteredRequest, response );
+    } finally {
+      long bytes;
+      synchronized( changes ) {
+        bytes = countBytes( changes );
+        changes.clear();
+      }
+      synchronized( bytesPerRequest ) {
+        bytesPerRequest.add( Long.valueOf( bytes ) );
+      }
+    }
+  }
+
+  public void destroy() {
+  }
+
+  public int getRequestCount() {
+    synchronized( bytesPerRequest ) {
+      return bytesPerRequest.size();
+    }
+  }
+
+  public long getBytes( int request ) {
+    synchronized( bytesPerRequest ) {
+      return bytesPerRequest.get( request ).longValue();
+    }
+  }
+
+  public long getLastBytes() {
+    synchronized( bytesPerRequest ) {
+      return bytesPerRequest.get( bytesPerRequest.size() - 1 ).longValue();
+    }
+  }
+
+  public long getTotalBytes() {
+    long result = 0;
+    synchronized( bytesPerRequest ) {
+      for( Long bytes : bytesPerRequest ) {
+        result += bytes.longValue();
+      }
+    }
+    return result;
+  }
+
+  public void reset() {
+    synchronized( bytesPerRequest ) {
+      bytesPerRequest.clear();
+    }
+  }
+
+  private static long countBytes( Map<String, Object> changes ) throws IOException {
+    CountingOutputStream countingStream = new CountingOutputStream();
+    for( Map.Entry<String, Object> change : changes.entrySet() ) {
+      ObjectOutputStream outputStream = new ObjectOutputStream( countingStream );
+      outputStream.writeUTF( change.getKey() );
+      outputStream.writeObject( change.getValue() );
+      outputStream.close();
+    }
+    return countingStream.count;
+  }
+
+  private static class MeteredRequest extends HttpServletRequestWrapper {
+
+    private final Map<String, Object> changes;
+
+    MeteredRequest( HttpServletRequest request, Map<String, Object> changes ) {
+      super( request );
+      this.changes = changes;
+    }
+
+    @Override
+    public HttpSession getSession() {
+      return meter( super.getSession() );
+    }
+
+    @Override
+    public HttpSession getSession( boolean create ) {
+      return meter( super.getSession( create ) );
+    }
+
+    private HttpSession meter( HttpSession httpSession ) {
+      HttpSession result = null;
+      if( httpSession != null ) {
+        ClassLoader classLoader = ReplicationMeter.class.getClassLoader();
+        Class<?>[] interfaces = new Class<?>[] { HttpSession.class };
+        SessionHandler handler = new SessionHandler( httpSession, changes );
+        result = ( HttpSession )Proxy.newProxyInstance( classLoader, interfaces, handler );
+      }
+      return result;
+    }
+
+  }
+
+  private static class SessionHandler implements InvocationHandler {
+
+    private final HttpSession httpSession;
+    private final Map<String, Object> changes;
+
+    SessionHandler( HttpSession httpSession, Map<String, Object> changes ) {
+      this.httpSession = httpSession;
+      this.changes = changes;
+    }
+
+    public Object invoke( Object proxy, Method method, Object[] args ) throws Throwable {
+      String name = method.getName();
+      if( "setAttribute".equals( name ) && args[ 1 ] != null ) {
+        synchronized( changes ) {
+          changes.put( ( String )args[ 0 ], args[ 1 ] );
+        }
+      } else if( "equals".equals( name ) ) {
+        return Boolean.valueOf( proxy == args[ 0 ] || httpSession.equals( args[ 0 ] ) );
+      }
+      try {
+        return method.invoke( httpSession, args );
+      } catch( InvocationTargetException exception ) {
+        throw exception.getCause();
+      }
+    }
+
+  }
+
+  private static class CountingOutputStream extends OutputStream {
+
+    long count;
+
+    @Override
+    public void write( int value ) {
+      count++;
+    }
+
+    @Override
+    public void write( byte[] bytes, int offset, int length ) {
+      count += length;
+    }
+
+  }
+
+}
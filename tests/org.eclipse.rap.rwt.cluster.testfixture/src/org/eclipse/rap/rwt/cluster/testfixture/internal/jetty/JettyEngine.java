@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.cluster.testfixture.ReplicationMeter;
 import org.eclipse.rap.rwt.cluster.testfixture.internal.server.RWTStartup;
 import org.eclipse.rap.rwt.cluster.testfixture.internal.util.SocketUtil;
 import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
@@ -30,6 +31,7 @@ public class JettyEngine implements IServletEngine {
 
   private final JettyController jettyController;
   private final SessionTracker sessionTracker;
+  private final ReplicationMeter replicationMeter;
 
   public JettyEngine() {
     this( new SessionHandlerProvider() );
@@ -46,6 +48,7 @@ public class JettyEngine implements IServletEngine {
   JettyEngine( ISessionHandlerProvider sessionHandlerProvider, int port ) {
     this.jettyController = new JettyController( sessionHandlerProvider, port );
     this.sessionTracker = new SessionTracker();
+    this.replicationMeter = new ReplicationMeter();
   }
 
   @Override
@@ -74,10 +77,16 @@ public class JettyEngine implements IServletEngine {
     return sessionTracker.getSessions();
   }
 
+  @Override
+  public ReplicationMeter getReplicationMeter() {
+    return replicationMeter;
+  }
+
   private void addEntryPoint( Class<? extends EntryPoint> entryPointClass ) {
     ServletContextHandler context = jettyController.createServletContext( "/" );
     context.addServlet( new ServletHolder( new RWTServlet() ), IServletEngine.SERVLET_PATH );
     addServletContextFilter( context, sessionTracker );
+    addServletContextFilter( context, replicationMeter );
     context.addEventListener( RWTStartup.createServletContextListener( entryPointClass ) );
   }
 
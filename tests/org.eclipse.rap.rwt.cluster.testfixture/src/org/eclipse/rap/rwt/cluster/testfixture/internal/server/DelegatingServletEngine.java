@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.rap.rwt.cluster.testfixture.internal.server;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.cluster.testfixture.ReplicationMeter;
 import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
 
 
@@ -60,6 +61,10 @@ public class DelegatingServletEngine implements IServletEngine {
     return delegate.getSessions();
   }
 
+  public ReplicationMeter getReplicationMeter() {
+    return delegate.getReplicationMeter();
+  }
+
   private void checkNotNull( Class<? extends EntryPoint> entryPointClass ) {
     if( entryPointClass == null ) {
       throw new NullPointerException( "entryPointClass" );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,11 +19,14 @@ import org.apache.catalina.Engine;
 import org.apache.catalina.Session;
 import org.apache.catalina.Wrapper;
 import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.deploy.FilterDef;
+import org.apache.catalina.deploy.FilterMap;
 import org.apache.catalina.servlets.DefaultServlet;
 import org.apache.catalina.session.ManagerBase;
 import org.apache.catalina.session.StandardManager;
 import org.apache.catalina.startup.Tomcat;
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.cluster.testfixture.ReplicationMeter;
 import org.eclipse.rap.rwt.cluster.testfixture.internal.server.RWTStartup;
 import org.eclipse.rap.rwt.cluster.testfixture.internal.util.FileUtil;
 import org.eclipse.rap.rwt.cluster.testfixture.internal.util.SocketUtil;
@@ -39,6 +42,7 @@ public class TomcatEngine implements IServletEngine {
 
   private final Tomcat tomcat;
   private final StandardContext context;
+  private final ReplicationMeter replicationMeter;
 
   public TomcatEngine() {
     this( SocketUtil.getFreePort() );
@@ -48,6 +52,7 @@ public class TomcatEngine implements IServletEngine {
     tomcat = new Tomcat();
     configureTomcat( port );
     context = ( StandardContext )tomcat.addContext( "/", tomcat.getHost().getAppBase() );
+    replicationMeter = new ReplicationMeter();
   }
 
   private void configureTomcat( int port ) {
@@ -91,6 +96,10 @@ public class TomcatEngine implements IServletEngine {
     return result;
   }
 
+  public ReplicationMeter getReplicationMeter() {
+    return replicationMeter;
+  }
+
   Engine getEngine() {
     return tomcat.getEngine();
   }
@@ -111,6 +120,18 @@ public class TomcatEngine implements IServletEngine {
     context.addServletMapping( IServletEngine.SERVLET_PATH, rwtServlet.getName() );
     Wrapper defaultServlet = addServlet( "defaultServlet", new DefaultServlet() );
     context.addServletMapping( "/", defaultServlet.getName() );
+    addReplicationMeter();
+  }
+
+  private void addReplicationMeter() {
+    FilterDef filterDef = new FilterDef();
+    filterDef.setFilterName( "replicationMeter" );
+    filterDef.setFilter( replicationMeter );
+    context.addFilterDef( filterDef );
+    FilterMap filterMap = new FilterMap();
+    filterMap.setFilterName( filterDef.getFilterName() );
+    filterMap.addURLPattern( IServletEngine.SERVLET_PATH );
+    context.addFilterMap( filterMap );
   }
 
   private void configureSessionSweepInterval() {
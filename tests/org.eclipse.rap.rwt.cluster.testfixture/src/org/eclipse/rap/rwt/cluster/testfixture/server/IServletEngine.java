@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.rap.rwt.cluster.testfixture.server;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.cluster.testfixture.ReplicationMeter;
 
 
 public interface IServletEngine {
@@ -25,4 +26,5 @@ public interface IServletEngine {
   int getPort();
 
   HttpSession[] getSessions();
+  ReplicationMeter getReplicationMeter();
 }
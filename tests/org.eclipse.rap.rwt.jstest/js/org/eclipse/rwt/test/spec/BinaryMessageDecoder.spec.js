@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+describe( "BinaryMessageDecoder", function() {
+
+  var Decoder = rwt.remote.BinaryMessageDecoder;
+
+  var toBuffer = function( bytes ) {
+    return new Uint8Array( bytes ).buffer;
+  };
+
+  var decode = function( bytes ) {
+    return Decoder.decode( toBuffer( [ 2, 0 ].concat( bytes ) ) );
+  };
+
+  describe( "decode", function() {
+
+    it( "decodes constants", function() {
+      expect( decode( [ 0x80 ] ) ).toBe( null );
+      expect( decode( [ 0x81 ] ) ).toBe( false );
+      expect( decode( [ 0x82 ] ) ).toBe( true );
+    });
+
+    it( "decodes small integers", function() {
+      expect( decode( [ 0x00 ] ) ).toBe( 0 );
+      expect( decode( [ 0x7f ] ) ).toBe( 127 );
+    });
+
+    it( "decodes negative integers", function() {
+      expect( decode( [ 0x83, 0xff, 0xff, 0xff, 0xfe ] ) ).toBe( -2 );
+    });
+
+    it( "decodes doubles", function() {
+      expect( decode( [ 0x84, 0x3f, 0xf8, 0, 0, 0, 0, 0, 0 ] ) ).toBe( 1.5 );
+    });
+
+    it( "decodes UTF-8 strings", function() {
+      var bytes = [ 0x85, 10, 0x66, 0xc3, 0xbc, 0xe2, 0x82, 0xac, 0xf0, 0x9f, 0x98, 0x80 ];
+
+      expect( decode( bytes ) ).toBe( "f\u00fc\u20ac\ud83d\ude00" );
+    });
+
+    it( "decodes string references", function() {
+      var bytes = [ 0x87, 3, 0x85, 2, 0x77, 0x32, 0x85, 1, 0x78, 0x86, 0 ];
+
+      expect( decode( bytes ) ).toEqual( [ "w2", "x", "w2" ] );
+    });
+
+    it( "decodes objects", function() {
+      var bytes = [ 0x88, 2, 0x85, 1, 0x61, 0x05, 0x85, 1, 0x62, 0x87, 1, 0x86, 0 ];
+
+      expect( decode( bytes ) ).toEqual( { "a" : 5, "b" : [ "a" ] });
+    });
+
+    it( "decodes multi-byte lengths", function() {
+      var bytes = [ 0x87, 0x80, 0x01 ];
+      for( var i = 0; i < 128; i++ ) {
+        bytes.push( 0x80 );
+      }
+
+      expect( decode( bytes ).length ).toBe( 128 );
+    });
+
+    it( "adds strings to dictionary", function() {
+      var dictionary = [];
+      var bytes = [ 2, 0, 0x87, 2, 0x89, 2, 0x77, 0x32, 0x8a, 0 ];
+
+      var result = Decoder.decode( toBuffer( bytes ), dictionary );
+
+      expect( result ).toEqual( [ "w2", "w2" ] );
+      expect( dictionary ).toEqual( [ "w2" ] );
+    });
+
+    it( "decodes dictionary references", function() {
+      var dictionary = [ "w2", "text" ];
+      var bytes = [ 2, 2, 0x88, 1, 0x8a, 1, 0x8a, 0 ];
+
+      var result = Decoder.decode( toBuffer( bytes ), dictionary );
+
+      expect( result ).toEqual( { "text" : "w2" } );
+    });
+
+    it( "truncates unexpected dictionary entries", function() {
+      var dictionary = [ "w2", "text" ];
+
+      Decoder.decode( toBuffer( [ 2, 1, 0x80 ] ), dictionary );
+
+      expect( dictionary ).toEqual( [ "w2" ] );
+    });
+
+    it( "fails with missing dictionary entries", function() {
+      expect( function() {
+        Decoder.decode( toBuffer( [ 2, 1, 0x80 ] ), [] );
+      }).toThrow();
+    });
+
+    it( "fails with invalid dictionary reference", function() {
+      expect( function() {
+        decode( [ 0x8a, 0 ] );
+      }).toThrow();
+    });
+
+    it( "fails with unsupported version", function() {
+      expect( function() {
+        Decoder.decode( toBuffer( [ 1, 0x80 ] ) );
+      } ).toThrow();
+    });
+
+    it( "fails with invalid tag", function() {
+      expect( function() {
+        decode( [ 0xff ] );
+      } ).toThrow();
+    });
+
+    it( "fails with invalid object key", function() {
+      expect( function() {
+        decode( [ 0x88, 1, 0x01, 0x01 ] );
+      } ).toThrow();
+    });
+
+    it( "fails with truncated message", function() {
+      expect( function() {
+        decode( [ 0x87, 2, 0x01 ] );
+      } ).toThrow();
+    });
+
+  });
+
+  describe( "decodeText", function() {
+
+    it( "decodes UTF-8 text", function() {
+      var buffer = toBuffer( [ 0x7b, 0x22, 0xc3, 0xbc, 0x22, 0x7d ] );
+
+      expect( Decoder.decodeText( buffer ) ).toBe( "{\"\u00fc\"}" );
+    });
+
+  });
+
+});
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+describe( "ChunkedFileUpload", function() {
+
+  var requests;
+  var files;
+
+  var createFile = function( name, size ) {
+    return {
+      "name" : name,
+      "type" : "text/plain",
+      "size" : size,
+      "slice" : function( start, end ) {
+        return name + "[" + start + "-" + end + "]";
+      }
+    };
+  };
+
+  var createXHR = function() {
+    var xhr = {
+      "open" : function( method, url ) {
+        xhr.method = method;
+        xhr.url = url;
+      },
+      "send" : function( data ) {
+        xhr.data = data;
+        requests.push( xhr );
+      },
+      "respond" : function( status, text ) {
+        xhr.readyState = 4;
+        xhr.status = status;
+        xhr.responseText = text;
+        xhr.onreadystatechange();
+      }
+    };
+    return xhr;
+  };
+
+  var getParameter = function( xhr, name ) {
+    var match = new RegExp( "[?&]" + name + "=([^&]*)" ).exec( xhr.url );
+    return match ? decodeURIComponent( match[ 1 ] ) : null;
+  };
+
+  beforeEach( function() {
+    requests = [];
+    files = [ createFile( "file1.txt", 10 ), createFile( "file2.txt", 3 ) ];
+    spyOn( rwt.remote.Request, "createXHR" ).andCallFake( createXHR );
+    spyOn( rwt.client.Timer, "once" );
+  });
+
+  describe( "start", function() {
+
+    it( "sends first chunk of first file", function() {
+      new rwt.client.ChunkedFileUpload( "http://foo/bar?token=1", files, 4 ).start();
+
+      expect( requests.length ).toBe( 1 );
+      expect( requests[ 0 ].method ).toBe( "POST" );
+      expect( requests[ 0 ].url.indexOf( "http://foo/bar?token=1&" ) ).toBe( 0 );
+      expect( requests[ 0 ].data ).toBe( "file1.txt[0-4]" );
+    });
+
+    it( "sends upload parameters", function() {
+      new rwt.client.ChunkedFileUpload( "http://foo/bar", files, 4 ).start();
+
+      var xhr = requests[ 0 ];
+      expect( getParameter( xhr, "uploadId" ) ).not.toBe( null );
+      expect( getParameter( xhr, "fileCount" ) ).toBe( "2" );
+      expect( getParameter( xhr, "totalSize" ) ).toBe( "13" );
+      expect( getParameter( xhr, "fileIndex" ) ).toBe( "0" );
+      expect( getParameter( xhr, "fileSize" ) ).toBe( "10" );
+      expect( getParameter( xhr, "offset" ) ).toBe( "0" );
+      expect( getParameter( xhr, "fileName" ) ).toBe( "file1.txt" );
+      expect( getParameter( xhr, "contentType" ) ).toBe( "text/plain" );
+    });
+
+  });
+
+  describe( "response", function() {
+
+    var upload;
+
+    beforeEach( function() {
+      upload = new rwt.client.ChunkedFileUpload( "http://foo/bar", files, 4 );
+      upload.start();
+    });
+
+    it( "sends next chunk at received offset", function() {
+      requests[ 0 ].respond( 200, "{\"offset\":4}" );
+
+      expect( requests.length ).toBe( 2 );
+      expect( requests[ 1 ].data ).toBe( "file1.txt[4-8]" );
+      expect( getParameter( requests[ 1 ], "offset" ) ).toBe( "4" );
+      expect( getParameter( requests[ 1 ], "fileName" ) ).toBe( null );
+    });
+
+    it( "sends last chunk up to the file size", function() {
+      requests[ 0 ].respond( 200, "{\"offset\":8}" );
+
+      expect( requests[ 1 ].data ).toBe( "file1.txt[8-10]" );
+    });
+
+    it( "continues with next file", function() {
+      requests[ 0 ].respond( 200, "{\"offset\":10}" );
+
+      expect( requests[ 1 ].data ).toBe( "file2.txt[0-3]" );
+      expect( getParameter( requests[ 1 ], "fileIndex" ) ).toBe( "1" );
+      expect( getParameter( requests[ 1 ], "fileSize" ) ).toBe( "3" );
+      expect( getParameter( requests[ 1 ], "fileName" ) ).toBe( "file2.txt" );
+    });
+
+    it( "stops after last file", function() {
+      requests[ 0 ].respond( 200, "{\"offset\":10}" );
+      requests[ 1 ].respond( 200, "{\"offset\":3}" );
+
+      expect( requests.length ).toBe( 2 );
+    });
+
+    it( "resumes at offset of conflict response", function() {
+      requests[ 0 ].respond( 409, "{\"offset\":2}" );
+
+      expect( requests[ 1 ].data ).toBe( "file1.txt[2-6]" );
+    });
+
+    it( "does not continue after error response", function() {
+      requests[ 0 ].respond( 410, "" );
+
+      expect( requests.length ).toBe( 1 );
+      expect( rwt.client.Timer.once ).not.toHaveBeenCalled();
+    });
+
+    it( "schedules offset query after connection problem", function() {
+      requests[ 0 ].respond( 0, "" );
+
+      expect( rwt.client.Timer.once ).toHaveBeenCalledWith( upload._queryOffset, upload, 1000 );
+    });
+
+    it( "increases delay of repeated retries", function() {
+      requests[ 0 ].respond( 503, "" );
+      upload._queryOffset();
+      requests[ 1 ].respond( 503, "" );
+
+      expect( rwt.client.Timer.once ).toHaveBeenCalledWith( upload._queryOffset, upload, 2000 );
+    });
+
+    it( "queries offset with GET request", function() {
+      requests[ 0 ].respond( 0, "" );
+      upload._queryOffset();
+
+      expect( requests[ 1 ].method ).toBe( "GET" );
+      expect( getParameter( requests[ 1 ], "offset" ) ).toBe( null );
+      expect( getParameter( requests[ 1 ], "fileIndex" ) ).toBe( "0" );
+    });
+
+    it( "resumes at queried offset", function() {
+      requests[ 0 ].respond( 0, "" );
+      upload._queryOffset();
+      requests[ 1 ].respond( 200, "{\"offset\":3}" );
+
+      expect( requests[ 2 ].data ).toBe( "file1.txt[3-7]" );
+    });
+
+    it( "aborts upload after too many retries", function() {
+      for( var i = 0; i < 5; i++ ) {
+        requests[ i ].respond( 0, "" );
+        upload._queryOffset();
+      }
+      requests[ 5 ].respond( 0, "" );
+
+      var abort = requests[ 6 ];
+      expect( abort.method ).toBe( "POST" );
+      expect( getParameter( abort, "abort" ) ).toBe( "true" );
+    });
+
+  });
+
+});
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -51,6 +51,8 @@ public class JasmineTestsContribution implements TestContribution {
     "spec/ScrollBarsActivator.spec.js",
     "spec/System.spec.js",
     "spec/MultiCellWidget.spec.js",
+    "spec/BinaryMessageDecoder.spec.js",
+    "spec/ChunkedFileUpload.spec.js",
   };
 
   public String getName() {
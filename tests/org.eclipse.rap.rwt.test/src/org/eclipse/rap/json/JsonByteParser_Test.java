@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.json;
+
+import static org.eclipse.rap.json.TestUtil.assertException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.hamcrest.core.StringStartsWith;
+import org.junit.Test;
+
+
+public class JsonByteParser_Test {
+
+  @Test
+  public void parse_rejectsEmptyInput() {
+    assertParseException( 0, "Unexpected end of input", "" );
+  }
+
+  @Test
+  public void parse_acceptsArrays() {
+    assertEquals( new JsonArray(), parse( "[]" ) );
+  }
+
+  @Test
+  public void parse_acceptsObjects() {
+    assertEquals( new JsonObject(), parse( "{}" ) );
+  }
+
+  @Test
+  public void parse_acceptsStrings() {
+    assertEquals( new JsonString( "" ), parse( "\"\"" ) );
+  }
+
+  @Test
+  public void parse_acceptsLiterals() {
+    assertSame( JsonValue.NULL, parse( "null" ) );
+    assertSame( JsonValue.TRUE, parse( "true" ) );
+    assertSame( JsonValue.FALSE, parse( "false" ) );
+  }
+
+  @Test
+  public void parse_ignoresAllWhiteSpace() {
+    assertEquals( new JsonArray(), parse( "\t\r\n [\t\r\n ]\t\r\n " ) );
+  }
+
+  @Test
+  public void parse_failsWithUnterminatedString() {
+    assertParseException( 5, "Unexpected end of input", "[\"foo" );
+  }
+
+  @Test
+  public void parse_handlesLineBreaksAndColumnsCorrectly() {
+    assertParseException( 0, 1, 0, "!" );
+    assertParseException( 2, 2, 0, "[\n!" );
+    assertParseException( 3, 2, 0, "[\r\n!" );
+    assertParseException( 6, 3, 1, "[ \n \n !" );
+    assertParseException( 7, 2, 3, "[ \r\n \r !" );
+  }
+
+  @Test
+  public void parse_handlesInputsThatExceedBufferSize() throws IOException {
+    String input = "[ 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47 ]";
+
+    JsonValue value = new JsonByteParser( toStream( input ), 3 ).parse();
+
+    assertEquals( "[2,3,5,7,11,13,17,19,23,29,31,37,41,43,47]", value.toString() );
+  }
+
+  @Test
+  public void parse_handlesStringsThatExceedBufferSize() throws IOException {
+    String input = "[ \"lorem ipsum dolor sit amet\" ]";
+
+    JsonValue value = new JsonByteParser( toStream( input ), 3 ).parse();
+
+    assertEquals( "[\"lorem ipsum dolor sit amet\"]", value.toString() );
+  }
+
+  @Test
+  public void parse_handlesMultiByteCharsThatExceedBufferSize() throws IOException {
+    String input = "[ \"\u00e4\u00e4\u20ac\u20ac\ud83d\ude00\" ]";
+
+    JsonValue value = new JsonByteParser( toStream( input ), 10 ).parse();
+
+    assertEquals( "\u00e4\u00e4\u20ac\u20ac\ud83d\ude00", value.asArray().get( 0 ).asString() );
+  }
+
+  @Test
+  public void parse_handlesPositionsCorrectlyWhenInputExceedsBufferSize() {
+    final String input = "{\n  \"a\": 23,\n  \"b\": 42,\n}";
+
+    ParseException exception = assertException( ParseException.class, new Runnable() {
+      public void run() {
+        try {
+          new JsonByteParser( toStream( input ), 3 ).parse();
+        } catch( IOException e ) {
+        }
+      }
+    } );
+
+    assertEquals( 4, exception.getLine() );
+    assertEquals( 0, exception.getColumn() );
+    assertEquals( 24, exception.getOffset() );
+  }
+
+  @Test
+  public void arrays_illegalSyntax() {
+    assertParseException( 1, "Expected value", "[,]" );
+    assertParseException( 4, "Expected ',' or ']'", "[23 42]" );
+    assertParseException( 4, "Expected value", "[23,]" );
+  }
+
+  @Test
+  public void objects_nested() {
+    JsonValue value = parse( "{ \"foo\": { \"bar\": [ 23, {} ] } }" );
+
+    assertEquals( "{\"foo\":{\"bar\":[23,{}]}}", value.toString() );
+  }
+
+  @Test
+  public void objects_illegalSyntax() {
+    assertParseException( 1, "Expected name", "{,}" );
+    assertParseException( 5, "Expected ':'", "{\"a\" 23}" );
+    assertParseException( 8, "Expected ',' or '}'", "{\"a\":23 x}" );
+  }
+
+  @Test
+  public void strings_decodesUtf8() {
+    String string = "\u00e4\u00f6\u00fc \u20ac \ud83d\ude00";
+
+    assertEquals( string, parse( "\"" + string + "\"" ).asString() );
+  }
+
+  @Test
+  public void strings_replacesMalformedUtf8() throws IOException {
+    byte[] bytes = new byte[] { '"', 'a', ( byte )0xC3, 'b', ( byte )0xFF, '"' };
+
+    JsonValue value = new JsonByteParser( new ByteArrayInputStream( bytes ) ).parse();
+
+    assertEquals( "a\ufffdb\ufffd", value.asString() );
+  }
+
+  @Test
+  public void strings_replacesOverlongUtf8() throws IOException {
+    byte[] bytes = new byte[] { '"', ( byte )0xC0, ( byte )0xAF, '"' };
+
+    JsonValue value = new JsonByteParser( new ByteArrayInputStream( bytes ) ).parse();
+
+    assertEquals( "\ufffd", value.asString() );
+  }
+
+  @Test
+  public void strings_escapes() {
+    JsonValue value = parse( "\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00E4\"" );
+
+    assertEquals( "\"\\/\b\f\n\r\t\u00e4", value.asString() );
+  }
+
+  @Test
+  public void strings_illegalEscapes() {
+    assertParseException( 2, "Expected valid escape sequence", "\"\\a\"" );
+    assertParseException( 4, "Expected hexadecimal digit", "\"\\u0x\"" );
+  }
+
+  @Test
+  public void strings_illegalControlCharacters() {
+    assertParseException( 1, "Expected valid string character", "\"\n\"" );
+  }
+
+  @Test
+  public void strings_reusesEqualShortStrings() {
+    JsonArray array = parse( "[\"w23\",\"w23\"]" ).asArray();
+
+    assertSame( array.get( 0 ).asString(), array.get( 1 ).asString() );
+  }
+
+  @Test
+  public void objects_reusesEqualNames() {
+    JsonObject first = parse( "{\"selectionStart\":1}" ).asObject();
+    JsonObject second = parse( "{\"selectionStart\":2}" ).asObject();
+
+    assertSame( first.names().get( 0 ), second.names().get( 0 ) );
+  }
+
+  @Test
+  public void objects_doesNotShareNamesBetweenThreads() throws InterruptedException {
+    JsonObject first = parse( "{\"selectionStart\":1}" ).asObject();
+    final JsonObject[] second = new JsonObject[ 1 ];
+    Thread thread = new Thread( new Runnable() {
+      public void run() {
+        second[ 0 ] = parse( "{\"selectionStart\":2}" ).asObject();
+      }
+    } );
+    thread.start();
+    thread.join();
+
+    assertNotSame( first.names().get( 0 ), second[ 0 ].names().get( 0 ) );
+  }
+
+  @Test
+  public void objects_doesNotShareNamesWithUnpooledParser() throws IOException {
+    JsonObject first = parse( "{\"selectionStart\":1}" ).asObject();
+    InputStream input = toStream( "{\"selectionStart\":2}" );
+    JsonObject second = new JsonByteParser( input, 16 ).parse().asObject();
+
+    assertNotSame( first.names().get( 0 ), second.names().get( 0 ) );
+  }
+
+  @Test
+  public void numbers() {
+    assertEquals( "[0,-1,23.5,-1.5e-3,1E+10]", parse( "[0,-1,23.5,-1.5e-3,1E+10]" ).toString() );
+  }
+
+  @Test
+  public void numbers_illegalSyntax() {
+    assertParseException( 1, "Expected digit", "-x" );
+    assertParseException( 2, "Expected digit", "0.x" );
+    assertParseException( 2, "Expected digit", "1ex" );
+    assertParseException( 1, "Unexpected character", "01" );
+  }
+
+  @Test
+  public void parse_returnsSameResultAsReaderBasedParser() throws IOException {
+    String input = "{\"head\":{\"requestCounter\":12},\"operations\":[[\"set\",\"w5\","
+                 + "{\"text\":\"Gr\u00fc\u00dfe \u20ac\",\"selection\":[5,5]}],"
+                 + "[\"notify\",\"w5\",\"Modify\",{}]]}";
+
+    JsonValue expected = new JsonParser( input ).parse();
+
+    assertEquals( expected, parse( input ) );
+  }
+
+  private static void assertParseException( int offset, String message, final String json ) {
+    ParseException exception = assertException( ParseException.class, new Runnable() {
+      public void run() {
+        parse( json );
+      }
+    } );
+    assertEquals( offset, exception.getOffset() );
+    assertThat( exception.getMessage(), StringStartsWith.startsWith( message + " at" ) );
+  }
+
+  private static void assertParseException( int offset, int line, int column, final String json ) {
+    ParseException exception = assertException( ParseException.class, new Runnable() {
+      public void run() {
+        parse( json );
+      }
+    } );
+    assertEquals( "offset", offset, exception.getOffset() );
+    assertEquals( "line", line, exception.getLine() );
+    assertEquals( "column", column, exception.getColumn() );
+  }
+
+  private static JsonValue parse( String json ) {
+    try {
+      return new JsonByteParser( toStream( json ) ).parse();
+    } catch( IOException exception ) {
+      throw new RuntimeException( exception );
+    }
+  }
+
+  private static InputStream toStream( String string ) {
+    return new ByteArrayInputStream( string.getBytes( StandardCharsets.UTF_8 ) );
+  }
+
+}
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.engine;
+
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.MemoryResourceStore;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.internal.resources.StoredResource;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class RWTResourceServlet_Test {
+
+  private ApplicationContextImpl applicationContext;
+  private MemoryResourceStore resourceStore;
+  private RWTResourceServlet servlet;
+  private TestRequest request;
+  private TestResponse response;
+
+  @Before
+  public void setUp() throws ServletException {
+    resourceStore = new MemoryResourceStore( false );
+    applicationContext = mockApplicationContext( new ResourceManagerImpl( resourceStore ) );
+    final ServletContext servletContext = mockServletContext( applicationContext );
+    servlet = new RWTResourceServlet() {
+      @Override
+      public ServletContext getServletContext() {
+        return servletContext;
+      }
+    };
+    servlet.init();
+    request = new TestRequest();
+    response = new TestResponse();
+  }
+
+  @Test
+  public void testDoGet() throws Exception {
+    resourceStore.store( "foo.txt", new ByteArrayInputStream( "foo".getBytes( "UTF-8" ) ) );
+    request.setPathInfo( "/foo.txt" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "foo", response.getContent() );
+    assertEquals( "text/plain", response.getContentType() );
+    assertEquals( resourceStore.getResource( "foo.txt" ).getETag(), response.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testDoGet_withUnknownResource() throws Exception {
+    request.setPathInfo( "/foo.txt" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_withoutPathInfo() throws Exception {
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_withMatchingETag() throws Exception {
+    resourceStore.store( "foo.txt", new ByteArrayInputStream( "foo".getBytes( "UTF-8" ) ) );
+    request.setPathInfo( "/foo.txt" );
+    request.setHeader( "If-None-Match", resourceStore.getResource( "foo.txt" ).getETag() );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_MODIFIED, response.getStatus() );
+    assertEquals( "", response.getContent() );
+  }
+
+  @Test
+  public void testDoGet_withGzipAccepted() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+    request.setHeader( "Accept-Encoding", "gzip, deflate" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+  }
+
+  @Test
+  public void testDoGet_withGzipNotAccepted() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertEquals( 1000, response.getContent().length() );
+  }
+
+  @Test
+  public void testDoGet_withGzipAccepted_sendsGzipETag() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+    request.setHeader( "Accept-Encoding", "gzip" );
+
+    servlet.doGet( request, response );
+
+    StoredResource resource = resourceStore.getResource( "foo.js" );
+    assertEquals( resource.getGzipETag(), response.getHeader( "ETag" ) );
+    assertNotEquals( resource.getETag(), resource.getGzipETag() );
+  }
+
+  @Test
+  public void testDoGet_withGzipNotAccepted_sendsETagAndVary() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( resourceStore.getResource( "foo.js" ).getETag(), response.getHeader( "ETag" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+  }
+
+  @Test
+  public void testDoGet_withGzipETagButGzipNotAccepted() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+    request.setHeader( "If-None-Match", resourceStore.getResource( "foo.js" ).getGzipETag() );
+
+    servlet.doGet( request, response );
+
+    assertEquals( 1000, response.getContent().length() );
+  }
+
+  @Test
+  public void testDoGet_withMatchingETagInList() throws Exception {
+    resourceStore.store( "foo.txt", new ByteArrayInputStream( "foo".getBytes( "UTF-8" ) ) );
+    request.setPathInfo( "/foo.txt" );
+    String etag = resourceStore.getResource( "foo.txt" ).getETag();
+    request.setHeader( "If-None-Match", "\"other\", W/" + etag );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_MODIFIED, response.getStatus() );
+  }
+
+  @Test
+  public void testDoGet_withWildcardETag() throws Exception {
+    resourceStore.store( "foo.txt", new ByteArrayInputStream( "foo".getBytes( "UTF-8" ) ) );
+    request.setPathInfo( "/foo.txt" );
+    request.setHeader( "If-None-Match", "*" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_MODIFIED, response.getStatus() );
+  }
+
+  @Test
+  public void testDoGet_withOtherETags() throws Exception {
+    resourceStore.store( "foo.txt", new ByteArrayInputStream( "foo".getBytes( "UTF-8" ) ) );
+    request.setPathInfo( "/foo.txt" );
+    request.setHeader( "If-None-Match", "\"other\", \"another\"" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "foo", response.getContent() );
+  }
+
+  @Test
+  public void testDoGet_withGzipRejectedByQuality() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+    request.setHeader( "Accept-Encoding", "deflate, gzip;q=0" );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+  }
+
+  @Test
+  public void testDoGet_withGzipAcceptedWithQualityAndUpperCase() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+    request.setHeader( "Accept-Encoding", "deflate;q=1.0, GZIP ; Q=0.5" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+  }
+
+  @Test
+  public void testDoGet_withWildcardEncoding() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+    request.setHeader( "Accept-Encoding", "*" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+  }
+
+  @Test
+  public void testDoGet_withWildcardEncodingButGzipRejected() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+    request.setHeader( "Accept-Encoding", "gzip;q=0, *" );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+  }
+
+  @Test
+  public void testDoGet_withEncodingContainingGzip() throws Exception {
+    storeLargeText( "foo.js" );
+    request.setPathInfo( "/foo.js" );
+    request.setHeader( "Accept-Encoding", "notgzip" );
+
+    servlet.doGet( request, response );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+  }
+
+  @Test
+  public void testDoGet_whenRequestsNotAllowed() throws Exception {
+    when( Boolean.valueOf( applicationContext.allowsRequests() ) ).thenReturn( Boolean.FALSE );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_SERVICE_UNAVAILABLE, response.getErrorStatus() );
+  }
+
+  private void storeLargeText( String path ) throws IOException {
+    byte[] text = new byte[ 1000 ];
+    Arrays.fill( text, ( byte )'a' );
+    resourceStore.store( path, new ByteArrayInputStream( text ) );
+  }
+
+  private static ServletContext mockServletContext( ApplicationContextImpl applicationContext ) {
+    ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.getAttribute( anyString() ) ).thenReturn( applicationContext );
+    when( servletContext.getMimeType( "/foo.txt" ) ).thenReturn( "text/plain" );
+    return servletContext;
+  }
+
+  private static ApplicationContextImpl mockApplicationContext( ResourceManagerImpl manager ) {
+    ApplicationContextImpl applicationContext = mock( ApplicationContextImpl.class );
+    when( applicationContext.getResourceManager() ).thenReturn( manager );
+    when( Boolean.valueOf( applicationContext.allowsRequests() ) ).thenReturn( Boolean.TRUE );
+    return applicationContext;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.io.NotSerializableException;
@@ -148,6 +149,30 @@ public class SingletonManager_Test {
     assertNotSame( singleton1, singleton2 );
   }
 
+  @Test
+  public void testGetSingleton_fromSessionsOfApplicationContext() {
+    UISession otherUISession = mock( UISession.class );
+    fakeAttributeStore( otherUISession );
+    when( uiSession.getApplicationContext() ).thenReturn( applicationContext );
+    when( otherUISession.getApplicationContext() ).thenReturn( applicationContext );
+    SingletonManager.install( applicationContext );
+    SingletonManager.install( uiSession );
+    SingletonManager.install( otherUISession );
+    SingletonManager applicationManager = SingletonManager.getInstance( applicationContext );
+    SingletonManager singletonManager1 = SingletonManager.getInstance( uiSession );
+    SingletonManager singletonManager2 = SingletonManager.getInstance( otherUISession );
+
+    Object singleton1 = singletonManager1.getSingleton( TestSingleton.class );
+    Object otherSingleton = singletonManager2.getSingleton( OtherTestSingleton.class );
+    Object singleton2 = singletonManager2.getSingleton( TestSingleton.class );
+
+    assertSame( TestSingleton.class, singleton2.getClass() );
+    assertSame( OtherTestSingleton.class, otherSingleton.getClass() );
+    assertNotSame( singleton1, singleton2 );
+    assertNotSame( singleton1, applicationManager.getSingleton( TestSingleton.class ) );
+    assertSame( singleton2, singletonManager2.getSingleton( TestSingleton.class ) );
+  }
+
   @Test
   public void testGetSingleton_withSameType() {
     SingletonManager singletonManager = new SingletonManager();
@@ -220,6 +245,20 @@ public class SingletonManager_Test {
     assertEquals( singleton.value, deserializedSingleton.value );
   }
 
+  @Test
+  public void testSerialize_keepsSingletonsAfterDeserialization() throws Exception {
+    SingletonManager singletonManager = new SingletonManager();
+    singletonManager.getSingleton( SerializableTestSingleton.class );
+
+    SingletonManager deserialized = serializeAndDeserialize( singletonManager );
+
+    SerializableTestSingleton deserializedSingleton
+      = deserialized.getSingleton( SerializableTestSingleton.class );
+    SerializableTestSingleton again = deserialized.getSingleton( SerializableTestSingleton.class );
+    assertSame( deserializedSingleton, again );
+    assertSame( TestSingleton.class, deserialized.getSingleton( TestSingleton.class ).getClass() );
+  }
+
   @Test( expected = NotSerializableException.class )
   public void testSerializableWithNonSerializableSingleton() throws IOException {
     SingletonManager singletonManager = new SingletonManager();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -99,6 +99,27 @@ public class ClientFileUploaderImpl_Test {
     verify( remoteObject ).call( eq( "submit" ), eq( expected ) );
   }
 
+  @Test( expected = IllegalArgumentException.class )
+  public void testSubmitChunked_failsWithZeroChunkSize() {
+    uploader.submit( "fooURL", new ClientFile[ 0 ], 0 );
+  }
+
+  @Test
+  public void testSubmitChunked_createsCallOperationWithChunkSize() {
+    RemoteObject remoteObject = mock( RemoteObject.class );
+    fakeConnection( remoteObject );
+    ClientFile[] files = new ClientFile[]{ new ClientFileImpl( "fileId1", "", "", 0 ) };
+
+    uploader = new ClientFileUploaderImpl();
+    uploader.submit( "fooURL", files, 1024 );
+
+    JsonObject expected = new JsonObject()
+      .add( "url", "fooURL" )
+      .add( "fileIds", new JsonArray().add( "fileId1" ) )
+      .add( "chunkSize", 1024 );
+    verify( remoteObject ).call( eq( "submit" ), eq( expected ) );
+  }
+
   private static ConnectionImpl fakeConnection( RemoteObject remoteObject ) {
     ConnectionImpl connection = mock( ConnectionImpl.class );
     when( connection.createServiceObject( anyString() ) ).thenReturn( remoteObject );
@@ -23,6 +23,7 @@ import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemot
 import static org.eclipse.rap.rwt.testfixture.internal.Fixture.getProtocolMessage;
 import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -38,6 +39,7 @@ import java.util.List;
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
@@ -50,6 +52,7 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.internal.graphics.ImageFactory;
+import org.eclipse.swt.internal.widgets.ChangedWidgets;
 import org.eclipse.swt.internal.widgets.shellkit.ShellOperationHandler;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
@@ -94,6 +97,7 @@ public class ControlLCAUtil_Test {
   public void tearDown() {
     display.dispose();
     Fixture.tearDown();
+    System.getProperties().remove( RWTProperties.CHANGE_TRACKING );
   }
 
   @Test
@@ -265,6 +269,33 @@ public class ControlLCAUtil_Test {
     assertNull( getProtocolMessage().findSetOperation( control, "tabIndex" ) );
   }
 
+  @Test
+  public void testRenderTabIndex_withChangeTracking_doesNotTouchUnchangedIndex() {
+    enableChangeTracking();
+    ControlLCAUtil.renderChanges( shell );
+    Fixture.markInitialized( control );
+    Fixture.clearPreserved();
+
+    ControlLCAUtil.renderChanges( shell );
+
+    assertFalse( display.getAdapter( ChangedWidgets.class ).isChanged( control ) );
+  }
+
+  @Test
+  public void testRenderTabIndex_withChangeTracking_changed() {
+    enableChangeTracking();
+    ControlLCAUtil.renderChanges( shell );
+    Fixture.markInitialized( control );
+    Fixture.clearPreserved();
+
+    shell.setTabList( new Control[] { new Button( shell, SWT.PUSH ), control } );
+    ControlLCAUtil.renderChanges( shell );
+    ControlLCAUtil.renderChanges( control );
+
+    assertTrue( display.getAdapter( ChangedWidgets.class ).isChanged( control ) );
+    assertEquals( 2, getProtocolMessage().findSetProperty( control, "tabIndex" ).asInt() );
+  }
+
   @Test
   public void testRenderToolTipText_initial() {
     ControlLCAUtil.renderChanges( control );
@@ -1209,4 +1240,12 @@ public class ControlLCAUtil_Test {
     Fixture.fakeNotifyOperation( target, EVENT_TRAVERSE, properties  );
   }
 
+  private void enableChangeTracking() {
+    System.setProperty( RWTProperties.CHANGE_TRACKING, "true" );
+    display.dispose();
+    display = new Display();
+    shell = new Shell( display );
+    control = new Button( shell, SWT.PUSH );
+  }
+
 }
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
@@ -39,6 +40,7 @@ import javax.servlet.http.HttpServletResponse;
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.client.WebClient;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.IPhase.IInterruptible;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
@@ -88,6 +90,7 @@ public class RWTLifeCycle_Test {
 
   @After
   public void tearDown() {
+    System.getProperties().remove( RWTProperties.VIRTUAL_UI_THREADS );
     Fixture.tearDown();
   }
 
@@ -114,6 +117,21 @@ public class RWTLifeCycle_Test {
     assertEquals( DISPLAY_CREATED, log.toString() );
   }
 
+  @Test
+  public void testDefaultEntryPoint_withVirtualUIThreads() throws IOException {
+    assumeTrue( VirtualUIThread.isSupported() );
+    System.setProperty( RWTProperties.VIRTUAL_UI_THREADS, "true" );
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH,
+                                TestEntryPointWithLog.class,
+                                null );
+    RWTLifeCycle lifeCycle = getLifeCycle();
+
+    lifeCycle.execute();
+
+    assertEquals( DISPLAY_CREATED, log.toString() );
+    assertTrue( LifeCycleUtil.getUIThread( ContextProvider.getUISession() ) instanceof VirtualUIThread );
+  }
+
   @Test
   public void testParamOfExistingEntryPoint() throws IOException {
     fakeServletPath( MY_ENTRY_POINT );
@@ -808,6 +826,32 @@ public class RWTLifeCycle_Test {
     assertEquals( "", log.toString() );
   }
 
+  @Test
+  public void testSessionInvalidateWithRunningEventLoop_withVirtualUIThreads() throws Throwable {
+    assumeTrue( VirtualUIThread.isSupported() );
+    System.setProperty( RWTProperties.VIRTUAL_UI_THREADS, "true" );
+    final UISession uiSession = ContextProvider.getUISession();
+    final AtomicReference<String> invalidateThreadName = new AtomicReference<>();
+    uiSession.addUISessionListener( new UISessionListener() {
+      @Override
+      public void beforeDestroy( UISessionEvent event ) {
+        invalidateThreadName.set( Thread.currentThread().getName() );
+      }
+    } );
+    Class<? extends EntryPoint> entryPointClass = SessionInvalidateWithEventLoopEntryPoint.class;
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, entryPointClass, null );
+    RWTLifeCycle lifeCycle = getLifeCycle();
+    lifeCycle.execute();
+    IUIThreadHolder uiThreadHolder = LifeCycleUtil.getUIThread( uiSession );
+    String uiThreadName = uiThreadHolder.getThread().getName();
+
+    invalidateSession( uiSession );
+
+    assertFalse( uiThreadHolder.getThread().isAlive() );
+    assertFalse( uiSession.isBound() );
+    assertEquals( invalidateThreadName.get(), uiThreadName );
+  }
+
   @Test
   public void testExceptionInRender() {
     fakeServletPath( TestRequest.DEFAULT_SERVLET_PATH );
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.eclipse.rap.json.JsonArray;
+import org.junit.Test;
+
+
+public class RenderCacheKey_Test {
+
+  @Test
+  public void testEquals_sameValues() {
+    RenderCacheKey key1 = new RenderCacheKey( String.class, 4 ).add( "foo" ).add( 1 ).add( true );
+    RenderCacheKey key2 = new RenderCacheKey( String.class, 4 ).add( "foo" ).add( 1 ).add( true );
+
+    assertEquals( key1, key2 );
+    assertEquals( key1.hashCode(), key2.hashCode() );
+  }
+
+  @Test
+  public void testEquals_equalJsonValues() {
+    RenderCacheKey key1 = new RenderCacheKey( String.class, 0 ).add( new JsonArray().add( 1 ) );
+    RenderCacheKey key2 = new RenderCacheKey( String.class, 0 ).add( new JsonArray().add( 1 ) );
+
+    assertEquals( key1, key2 );
+  }
+
+  @Test
+  public void testEquals_nullValues() {
+    RenderCacheKey key1 = new RenderCacheKey( String.class, 0 ).add( null );
+    RenderCacheKey key2 = new RenderCacheKey( String.class, 0 ).add( null );
+
+    assertEquals( key1, key2 );
+  }
+
+  @Test
+  public void testEquals_differentType() {
+    RenderCacheKey key1 = new RenderCacheKey( String.class, 0 );
+    RenderCacheKey key2 = new RenderCacheKey( Integer.class, 0 );
+
+    assertFalse( key1.equals( key2 ) );
+  }
+
+  @Test
+  public void testEquals_differentStyle() {
+    RenderCacheKey key1 = new RenderCacheKey( String.class, 0 );
+    RenderCacheKey key2 = new RenderCacheKey( String.class, 4 );
+
+    assertFalse( key1.equals( key2 ) );
+  }
+
+  @Test
+  public void testEquals_differentValues() {
+    RenderCacheKey key1 = new RenderCacheKey( String.class, 0 ).add( "foo" );
+    RenderCacheKey key2 = new RenderCacheKey( String.class, 0 ).add( "bar" );
+
+    assertFalse( key1.equals( key2 ) );
+  }
+
+  @Test
+  public void testEquals_differentValueOrder() {
+    RenderCacheKey key1 = new RenderCacheKey( String.class, 0 ).add( "foo" ).add( null );
+    RenderCacheKey key2 = new RenderCacheKey( String.class, 0 ).add( null ).add( "foo" );
+
+    assertFalse( key1.equals( key2 ) );
+  }
+
+}
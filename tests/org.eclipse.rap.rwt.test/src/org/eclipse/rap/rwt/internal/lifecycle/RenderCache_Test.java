@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
+import org.eclipse.rap.rwt.internal.protocol.RenderFragment;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class RenderCache_Test {
+
+  private RenderCache renderCache;
+
+  @Before
+  public void setUp() {
+    renderCache = new RenderCache( 2 );
+  }
+
+  @Test
+  public void testGet_unknownKey() {
+    assertNull( renderCache.get( createKey( "foo" ) ) );
+    assertEquals( 1, renderCache.getMissCount() );
+  }
+
+  @Test
+  public void testGet_equalKey() {
+    RenderFragment fragment = createFragment();
+    renderCache.put( createKey( "foo" ), fragment );
+
+    RenderFragment result = renderCache.get( createKey( "foo" ) );
+
+    assertSame( fragment, result );
+    assertEquals( 1, renderCache.getHitCount() );
+  }
+
+  @Test
+  public void testPut_keepsFirstFragment() {
+    RenderFragment fragment = createFragment();
+    renderCache.put( createKey( "foo" ), fragment );
+
+    renderCache.put( createKey( "foo" ), createFragment() );
+
+    assertSame( fragment, renderCache.get( createKey( "foo" ) ) );
+  }
+
+  @Test
+  public void testPut_exceedsMaximumSize() {
+    renderCache.put( createKey( "foo" ), createFragment() );
+    renderCache.put( createKey( "bar" ), createFragment() );
+
+    renderCache.put( createKey( "baz" ), createFragment() );
+
+    assertEquals( 2, renderCache.getSize() );
+    assertNull( renderCache.get( createKey( "baz" ) ) );
+  }
+
+  @Test
+  public void testClear() {
+    renderCache.put( createKey( "foo" ), createFragment() );
+
+    renderCache.clear();
+
+    assertEquals( 0, renderCache.getSize() );
+  }
+
+  private static RenderCacheKey createKey( String value ) {
+    return new RenderCacheKey( RenderCache_Test.class, 0 ).add( value );
+  }
+
+  private static RenderFragment createFragment() {
+    ProtocolMessageWriter writer = new ProtocolMessageWriter();
+    writer.startRecording( "id" );
+    writer.appendSet( "id", "property", "value" );
+    return writer.stopRecording();
+  }
+
+}
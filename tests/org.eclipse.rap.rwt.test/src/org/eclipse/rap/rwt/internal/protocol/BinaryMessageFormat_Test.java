@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class BinaryMessageFormat_Test {
+
+  private StringDictionary dictionary;
+  private List<String> clientDictionary;
+
+  @Before
+  public void setUp() {
+    dictionary = new StringDictionary();
+    clientDictionary = new ArrayList<>();
+  }
+
+  @Test
+  public void testWrite_startsWithVersionAndDictionarySize() throws IOException {
+    byte[] bytes = write( JsonValue.NULL );
+
+    assertArrayEquals( new byte[] { BinaryMessageFormat.VERSION, 0, ( byte )0x80 }, bytes );
+  }
+
+  @Test
+  public void testWrite_smallIntegerTakesSingleByte() throws IOException {
+    byte[] bytes = write( JsonValue.valueOf( 23 ) );
+
+    assertArrayEquals( new byte[] { BinaryMessageFormat.VERSION, 0, 23 }, bytes );
+  }
+
+  @Test
+  public void testWrite_largeInteger() throws IOException {
+    byte[] bytes = write( JsonValue.valueOf( 128 ) );
+
+    byte[] expected = new byte[] {
+      BinaryMessageFormat.VERSION, 0,
+      ( byte )0x83, 0, 0, 0, ( byte )128
+    };
+    assertArrayEquals( expected, bytes );
+  }
+
+  @Test
+  public void testWrite_repeatedStringIsReferenced() throws IOException {
+    byte[] bytes = write( new JsonArray().add( "w2" ).add( "w2" ) );
+
+    byte[] expected = new byte[] {
+      BinaryMessageFormat.VERSION, 0,
+      ( byte )0x87, 2,
+      ( byte )0x85, 2, 'w', '2',
+      ( byte )0x86, 0
+    };
+    assertArrayEquals( expected, bytes );
+  }
+
+  @Test
+  public void testRoundtrip_values() throws IOException {
+    JsonArray values = new JsonArray()
+      .add( JsonValue.NULL )
+      .add( true )
+      .add( false )
+      .add( 0 )
+      .add( 127 )
+      .add( -1 )
+      .add( Integer.MAX_VALUE )
+      .add( Integer.MIN_VALUE )
+      .add( 1.5 )
+      .add( -0.0 )
+      .add( "" )
+      .add( "füße € 😀" );
+
+    assertEquals( values, roundtrip( values ) );
+  }
+
+  @Test
+  public void testRoundtrip_message() throws IOException {
+    JsonObject properties = new JsonObject()
+      .add( "parent", "w2" )
+      .add( "style", new JsonArray().add( "BORDER" ) )
+      .add( "bounds", new JsonArray().add( 10 ).add( 20 ).add( 300 ).add( 400 ) );
+    JsonArray create = new JsonArray().add( "create" ).add( "w3" ).add( "rwt.widgets.Label" );
+    JsonArray set = new JsonArray().add( "set" ).add( "w3" );
+    JsonObject message = new JsonObject()
+      .add( "head", new JsonObject().add( "requestCounter", 1 ) )
+      .add( "operations", new JsonArray()
+        .add( create.add( properties ) )
+        .add( set.add( new JsonObject().add( "text", "w2" ) ) ) );
+
+    assertEquals( message, roundtrip( message ) );
+  }
+
+  @Test
+  public void testWriteMessage_equalsWriteOfJson() throws IOException {
+    ProtocolMessageWriter writer = new ProtocolMessageWriter();
+    fillMessage( writer );
+    ResponseMessage message = writer.createMessage();
+
+    assertArrayEquals( write( message.toJson(), new StringDictionary() ),
+                       write( message, new StringDictionary() ) );
+  }
+
+  @Test
+  public void testWriteMessage_writesStreamedMessage() throws IOException {
+    StreamingProtocolMessageWriter writer = new StreamingProtocolMessageWriter();
+    writer.streamTo( new StringWriter() );
+    fillMessage( writer );
+    ResponseMessage message = writer.createMessage();
+
+    assertArrayEquals( write( message.toJson(), new StringDictionary() ),
+                       write( message, new StringDictionary() ) );
+  }
+
+  @Test
+  public void testWriteMessage_writesEmptyStreamedMessage() throws IOException {
+    StreamingProtocolMessageWriter writer = new StreamingProtocolMessageWriter();
+    writer.streamTo( new StringWriter() );
+    ResponseMessage message = writer.createMessage();
+
+    assertEquals( message.toJson(), read( write( message, dictionary ), clientDictionary ) );
+  }
+
+  @Test
+  public void testWrite_isSmallerThanJson() throws IOException {
+    JsonArray operations = new JsonArray();
+    for( int i = 0; i < 100; i++ ) {
+      JsonObject properties = new JsonObject().add( "parent", "w2" ).add( "index", i );
+      operations.add( new JsonArray().add( "create" ).add( "w" + i ).add( "rwt.widgets.GridItem" )
+                                     .add( properties ) );
+    }
+    JsonObject message = new JsonObject().add( "operations", operations );
+
+    assertTrue( write( message ).length < message.toString().length() / 2 );
+  }
+
+  @Test
+  public void testWrite_addsPropertyNamesToDictionary() throws IOException {
+    JsonObject object = new JsonObject().add( "text", "foo" );
+
+    byte[] bytes = write( object, dictionary );
+
+    byte[] expected = new byte[] {
+      BinaryMessageFormat.VERSION, 0,
+      ( byte )0x88, 1,
+      ( byte )0x89, 4, 't', 'e', 'x', 't',
+      ( byte )0x85, 3, 'f', 'o', 'o'
+    };
+    assertArrayEquals( expected, bytes );
+    assertEquals( 1, dictionary.getSize() );
+  }
+
+  @Test
+  public void testWrite_refersToDictionary() throws IOException {
+    JsonObject object = new JsonObject().add( "text", "foo" );
+    write( object, dictionary );
+
+    byte[] bytes = write( object, dictionary );
+
+    byte[] expected = new byte[] {
+      BinaryMessageFormat.VERSION, 1,
+      ( byte )0x88, 1,
+      ( byte )0x8a, 0,
+      ( byte )0x89, 3, 'f', 'o', 'o'
+    };
+    assertArrayEquals( expected, bytes );
+    assertEquals( 2, dictionary.getSize() );
+  }
+
+  @Test
+  public void testRoundtrip_withDictionary() throws IOException {
+    JsonArray first = new JsonArray().add( "w2" ).add( new JsonObject().add( "text", "foo" ) );
+    JsonArray second = new JsonArray().add( "w2" ).add( new JsonObject().add( "text", "bar" ) );
+
+    assertEquals( first, read( write( first, dictionary ), clientDictionary ) );
+    assertEquals( second, read( write( second, dictionary ), clientDictionary ) );
+    assertEquals( first, read( write( first, dictionary ), clientDictionary ) );
+    assertEquals( Arrays.asList( "text", "w2", "foo" ), clientDictionary );
+  }
+
+  @Test
+  public void testRead_resendMessageWithDictionary() throws IOException {
+    JsonArray message = new JsonArray().add( "w2" ).add( new JsonObject().add( "text", "foo" ) );
+    read( write( message, dictionary ), clientDictionary );
+    byte[] lost = write( message, dictionary );
+
+    JsonValue resent = read( lost, clientDictionary );
+
+    assertEquals( message, resent );
+    assertEquals( Arrays.asList( "text", "w2", "foo" ), clientDictionary );
+  }
+
+  @Test
+  public void testRead_truncatesUnexpectedDictionaryEntries() throws IOException {
+    clientDictionary.add( "text" );
+
+    read( write( new JsonArray().add( "foo" ), dictionary ), clientDictionary );
+
+    assertTrue( clientDictionary.isEmpty() );
+  }
+
+  @Test( expected = IOException.class )
+  public void testRead_failsWithMissingDictionaryEntries() throws IOException {
+    write( new JsonObject().add( "text", "foo" ), dictionary );
+
+    read( write( new JsonObject().add( "text", "bar" ), dictionary ), clientDictionary );
+  }
+
+  @Test( expected = IOException.class )
+  public void testRead_failsWithInvalidDictionaryReference() throws IOException {
+    read( new byte[] { BinaryMessageFormat.VERSION, 0, ( byte )0x8a, 0 } );
+  }
+
+  @Test( expected = IOException.class )
+  public void testRead_failsWithUnsupportedVersion() throws IOException {
+    read( new byte[] { 1, ( byte )0x80 } );
+  }
+
+  @Test( expected = IOException.class )
+  public void testRead_failsWithInvalidTag() throws IOException {
+    read( new byte[] { BinaryMessageFormat.VERSION, 0, ( byte )0xff } );
+  }
+
+  @Test( expected = IOException.class )
+  public void testRead_failsWithInvalidObjectKey() throws IOException {
+    read( new byte[] { BinaryMessageFormat.VERSION, 0, ( byte )0x88, 1, 1, 1 } );
+  }
+
+  @Test( expected = IOException.class )
+  public void testRead_failsWithTruncatedMessage() throws IOException {
+    read( new byte[] { BinaryMessageFormat.VERSION, 0, ( byte )0x85, 5, 'a' } );
+  }
+
+  private static void fillMessage( ProtocolMessageWriter writer ) {
+    writer.appendHead( "requestCounter", 3 );
+    writer.appendCreate( "w3", "rwt.widgets.Label" );
+    writer.appendSet( "w3", "parent", "w2" );
+    writer.appendSet( "w3", "text", "\"quoted\" \\ \u00e4\u20ac\n\u2028" );
+    writer.appendSet( "w3", "bounds", new JsonArray().add( -10 ).add( 0 ).add( 300 ).add( 4000 ) );
+    writer.appendSet( "w3", "alpha", 0.25 );
+    writer.appendSet( "w3", "size", 12345678901L );
+    writer.appendSet( "w3", "visible", false );
+    writer.appendSet( "w3", "data", new JsonObject().add( "empty", new JsonArray() )
+                                                    .add( "nothing", new JsonObject() )
+                                                    .add( "none", JsonValue.NULL ) );
+    writer.appendListen( "w3", "Selection", true );
+    writer.appendCall( "w3", "focus", null );
+    writer.appendDestroy( "w4" );
+  }
+
+  private static JsonValue roundtrip( JsonValue value ) throws IOException {
+    return read( write( value ) );
+  }
+
+  private static byte[] write( JsonValue value ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryMessageFormat.write( value, outputStream );
+    return outputStream.toByteArray();
+  }
+
+  private static byte[] write( JsonValue value, StringDictionary dictionary ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryMessageFormat.write( value, outputStream, dictionary );
+    return outputStream.toByteArray();
+  }
+
+  private static byte[] write( ResponseMessage message, StringDictionary dictionary )
+    throws IOException
+  {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryMessageFormat.write( message, outputStream, dictionary );
+    return outputStream.toByteArray();
+  }
+
+  private static JsonValue read( byte[] bytes ) throws IOException {
+    return BinaryMessageFormat.read( new ByteArrayInputStream( bytes ) );
+  }
+
+  private static JsonValue read( byte[] bytes, List<String> dictionary ) throws IOException {
+    return BinaryMessageFormat.read( new ByteArrayInputStream( bytes ), dictionary );
+  }
+
+}
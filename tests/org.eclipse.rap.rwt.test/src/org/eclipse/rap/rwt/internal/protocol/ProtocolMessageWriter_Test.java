@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2011, 2014 EclipseSource and others.
+* Copyright (c) 2011, 2026 EclipseSource and others.
 * All rights reserved. This program and the accompanying materials
 * are made available under the terms of the Eclipse Public License v1.0
 * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ import static org.eclipse.rap.rwt.testfixture.internal.TestMessage.getParent;
 import static org.eclipse.rap.rwt.testfixture.internal.TestMessage.getStyles;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -303,6 +304,75 @@ public class ProtocolMessageWriter_Test {
     assertEquals( 1, buttonCallOperation.getParameters().size() );
   }
 
+  @Test
+  public void testStopRecording_withoutRecording() {
+    assertNull( writer.stopRecording() );
+  }
+
+  @Test
+  public void testRecording_replaysOperationsForOtherTarget() {
+    writer.startRecording( "id-1" );
+    writer.appendSet( "id-1", "property", "value" );
+    writer.appendListen( "id-1", "Selection", true );
+    writer.appendCall( "id-1", "method", new JsonObject().add( "key", 1 ) );
+    RenderFragment fragment = writer.stopRecording();
+
+    fragment.replay( writer, "id-2" );
+
+    List<Operation> operations = createMessage().getOperations();
+    assertEquals( 6, operations.size() );
+    SetOperation setOperation = ( SetOperation )operations.get( 3 );
+    assertEquals( "id-2", setOperation.getTarget() );
+    assertEquals( "value", setOperation.getProperties().get( "property" ).asString() );
+    ListenOperation listenOperation = ( ListenOperation )operations.get( 4 );
+    assertEquals( "id-2", listenOperation.getTarget() );
+    assertTrue( listenOperation.getProperties().get( "Selection" ).asBoolean() );
+    CallOperation callOperation = ( CallOperation )operations.get( 5 );
+    assertEquals( "id-2", callOperation.getTarget() );
+    assertEquals( "method", callOperation.getMethodName() );
+    assertEquals( 1, callOperation.getParameters().get( "key" ).asInt() );
+  }
+
+  @Test
+  public void testRecording_replayMergesIntoCreate() {
+    writer.startRecording( "id-1" );
+    writer.appendSet( "id-1", "property", "value" );
+    RenderFragment fragment = writer.stopRecording();
+
+    writer.appendCreate( "id-2", "type" );
+    fragment.replay( writer, "id-2" );
+
+    List<Operation> operations = createMessage().getOperations();
+    assertEquals( 2, operations.size() );
+    CreateOperation operation = ( CreateOperation )operations.get( 1 );
+    assertEquals( "value", operation.getProperties().get( "property" ).asString() );
+  }
+
+  @Test
+  public void testRecording_withOperationForOtherTarget() {
+    writer.startRecording( "id-1" );
+    writer.appendSet( "id-1", "property", "value" );
+    writer.appendSet( "id-2", "property", "value" );
+
+    assertNull( writer.stopRecording() );
+  }
+
+  @Test
+  public void testRecording_withCreateOperation() {
+    writer.startRecording( "id-1" );
+    writer.appendCreate( "id-1", "type" );
+
+    assertNull( writer.stopRecording() );
+  }
+
+  @Test
+  public void testRecording_withDestroyOperation() {
+    writer.startRecording( "id-1" );
+    writer.appendDestroy( "id-1" );
+
+    assertNull( writer.stopRecording() );
+  }
+
   private void addShellCreate( Shell shell ) {
     writer.appendCreate( shellId, "org.eclipse.swt.widgets.Shell" );
     writer.appendSet( shellId, "styles", new JsonArray().add( "SHELL_TRIM" ) );
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StreamingProtocolMessageWriter_Test {
+
+  private StreamingProtocolMessageWriter writer;
+  private StringWriter output;
+
+  @Before
+  public void setUp() {
+    writer = new StreamingProtocolMessageWriter();
+    output = new StringWriter();
+  }
+
+  @Test
+  public void testCreateMessage_withoutStreaming() {
+    ProtocolMessageWriter nonStreamingWriter = new ProtocolMessageWriter();
+    appendExampleOperations( writer );
+    appendExampleOperations( nonStreamingWriter );
+
+    ResponseMessage message = writer.createMessage();
+
+    assertFalse( message instanceof StreamedResponseMessage );
+    assertEquals( nonStreamingWriter.createMessage().toJson(), message.toJson() );
+    assertEquals( "", output.toString() );
+  }
+
+  @Test
+  public void testCreateMessage_returnsStreamedResponseMessage() {
+    writer.streamTo( output );
+
+    assertTrue( writer.createMessage() instanceof StreamedResponseMessage );
+  }
+
+  @Test
+  public void testEmptyMessage() throws IOException {
+    writer.streamTo( output );
+    Message message = writer.createMessage();
+    writer.finish();
+
+    assertTrue( message.getHead().isEmpty() );
+    assertTrue( message.getOperations().isEmpty() );
+    assertMessageEquals( new ProtocolMessageWriter().createMessage().toJson(), readOutput() );
+  }
+
+  @Test
+  public void testStreamTo_writesOperationsBeforeMessageIsCreated() {
+    writer.streamTo( output );
+
+    for( int i = 0; i < 1000; i++ ) {
+      writer.appendSet( "w" + i, "text", "foo" );
+    }
+
+    String expected = "{\"operations\":[[\"set\",\"w0\",{\"text\":\"foo\"}]";
+    assertTrue( output.toString().startsWith( expected ) );
+  }
+
+  @Test
+  public void testStreamTo_writesOperationsAppendedBefore() throws IOException {
+    ProtocolMessageWriter nonStreamingWriter = new ProtocolMessageWriter();
+    appendExampleOperations( writer );
+    appendExampleOperations( nonStreamingWriter );
+
+    writer.streamTo( output );
+    writer.appendSet( "w4", "text", "bar" );
+    nonStreamingWriter.appendSet( "w4", "text", "bar" );
+    writer.createMessage();
+    writer.finish();
+
+    assertMessageEquals( nonStreamingWriter.createMessage().toJson(), readOutput() );
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testStreamTo_failsWhenStarted() {
+    writer.streamTo( output );
+
+    writer.streamTo( output );
+  }
+
+  @Test
+  public void testFinish_writesMessage() throws IOException {
+    ProtocolMessageWriter nonStreamingWriter = new ProtocolMessageWriter();
+    writer.streamTo( output );
+    appendExampleOperations( writer );
+    appendExampleOperations( nonStreamingWriter );
+
+    writer.createMessage();
+    writer.finish();
+
+    assertMessageEquals( nonStreamingWriter.createMessage().toJson(), readOutput() );
+  }
+
+  @Test
+  public void testFinish_writesHeadChangedAfterCreation() throws IOException {
+    writer.streamTo( output );
+    appendExampleOperations( writer );
+
+    ResponseMessage message = writer.createMessage();
+    message.getHead().add( "foo", "bar" );
+    writer.finish();
+
+    assertEquals( "bar", readOutput().get( "head" ).asObject().get( "foo" ).asString() );
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testFinish_failsBeforeMessageIsCreated() throws IOException {
+    writer.streamTo( output );
+
+    writer.finish();
+  }
+
+  @Test
+  public void testGetOperations() {
+    writer.streamTo( output );
+    writer.appendCreate( "w1", "rwt.widgets.Text" );
+    writer.appendSet( "w1", "text", "foo" );
+    writer.appendSet( "w2", "text", "bar" );
+
+    List<Operation> operations = writer.createMessage().getOperations();
+
+    assertEquals( 2, operations.size() );
+    CreateOperation createOperation = ( CreateOperation )operations.get( 0 );
+    assertEquals( "foo", createOperation.getProperties().get( "text" ).asString() );
+    SetOperation setOperation = ( SetOperation )operations.get( 1 );
+    assertEquals( "w2", setOperation.getTarget() );
+  }
+
+  @Test
+  public void testWriteTo() throws Exception {
+    writer.streamTo( output );
+    appendExampleOperations( writer );
+    StreamedResponseMessage message = ( StreamedResponseMessage )writer.createMessage();
+    writer.finish();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    message.writeTo( outputStream );
+
+    JsonObject written = JsonObject.readFrom( outputStream.toString( "UTF-8" ) );
+    assertMessageEquals( readOutput(), written );
+  }
+
+  @Test
+  public void testIsSerializable() throws Exception {
+    writer.streamTo( output );
+    appendExampleOperations( writer );
+    ResponseMessage message = writer.createMessage();
+
+    ResponseMessage deserialized = serializeAndDeserialize( message );
+
+    assertEquals( message.toJson(), deserialized.toJson() );
+  }
+
+  // the streamed message starts with the operations
+  private static void assertMessageEquals( JsonObject expected, JsonObject actual ) {
+    assertEquals( expected.get( "head" ), actual.get( "head" ) );
+    assertEquals( expected.get( "operations" ), actual.get( "operations" ) );
+  }
+
+  private JsonObject readOutput() {
+    return JsonObject.readFrom( output.toString() );
+  }
+
+  private static void appendExampleOperations( ProtocolMessageWriter writer ) {
+    writer.appendHead( "requestCounter", 1 );
+    writer.appendCreate( "w1", "rwt.widgets.Text" );
+    writer.appendSet( "w1", "text", "f\u00f6\u00f6 \u20ac \"\n" );
+    writer.appendListen( "w1", "Selection", true );
+    writer.appendCall( "w2", "method", new JsonObject().add( "key", "value" ) );
+    writer.appendSet( "w2", "visible", false );
+    writer.appendDestroy( "w3" );
+  }
+
+}
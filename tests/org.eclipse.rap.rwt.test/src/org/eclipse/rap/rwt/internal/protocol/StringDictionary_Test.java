@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StringDictionary_Test {
+
+  private StringDictionary dictionary;
+
+  @Before
+  public void setUp() {
+    dictionary = new StringDictionary();
+  }
+
+  @Test
+  public void testAdd_propertyName() {
+    assertEquals( 0, dictionary.add( "text", true ) );
+    assertEquals( 1, dictionary.add( "bounds", true ) );
+
+    assertEquals( 1, dictionary.indexOf( "bounds" ) );
+    assertEquals( 2, dictionary.getSize() );
+  }
+
+  @Test
+  public void testAdd_valueIsAddedOnSecondAttempt() {
+    assertEquals( -1, dictionary.add( "w2", false ) );
+    assertEquals( 0, dictionary.add( "w2", false ) );
+
+    assertEquals( 0, dictionary.indexOf( "w2" ) );
+  }
+
+  @Test
+  public void testAdd_rejectsLongStrings() {
+    String string = new String( new char[ StringDictionary.MAXIMUM_LENGTH + 1 ] );
+
+    assertEquals( -1, dictionary.add( string, true ) );
+    assertEquals( -1, dictionary.indexOf( string ) );
+  }
+
+  @Test
+  public void testAdd_rejectsStringsWhenFull() {
+    for( int i = 0; i < StringDictionary.MAXIMUM_SIZE; i++ ) {
+      dictionary.add( "p" + i, true );
+    }
+
+    assertEquals( -1, dictionary.add( "text", true ) );
+    assertEquals( StringDictionary.MAXIMUM_SIZE, dictionary.getSize() );
+  }
+
+  @Test
+  public void testIndexOf_unknownString() {
+    assertEquals( -1, dictionary.indexOf( "text" ) );
+  }
+
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class MappedFileResourceStore_Test {
+
+  private File tempDir;
+  private ResourceDirectory resourceDirectory;
+  private MappedFileResourceStore store;
+
+  @Before
+  public void setUp() {
+    tempDir = FileUtil.createTempDir();
+    resourceDirectory = new ResourceDirectory();
+    resourceDirectory.configure( tempDir.getAbsolutePath() );
+    store = new MappedFileResourceStore( resourceDirectory );
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( tempDir );
+  }
+
+  @Test
+  public void testIsDirectoryBased() {
+    assertTrue( store.isDirectoryBased() );
+  }
+
+  @Test
+  public void testStore_writesFile() throws IOException {
+    store.store( "path/to/resource", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    File file = new File( resourceDirectory.getDirectory(), "path/to/resource" );
+    assertTrue( file.exists() );
+  }
+
+  @Test
+  public void testGetResource_isNotServedFromMemory() throws IOException {
+    store.store( "resource.js", new ByteArrayInputStream( new byte[ 1000 ] ) );
+
+    assertNull( store.getResource( "resource.js" ) );
+  }
+
+  @Test
+  public void testGetContent_doesNotReadFile() throws IOException {
+    store.store( "resource", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+    new File( resourceDirectory.getDirectory(), "resource" ).delete();
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( store.getContent( "resource" ) ) );
+  }
+
+  @Test
+  public void testStore_replacesPreviousContent() throws IOException {
+    store.store( "resource", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+    InputStream previous = store.getContent( "resource" );
+
+    store.store( "resource", new ByteArrayInputStream( new byte[] { 4 } ) );
+
+    assertArrayEquals( new byte[] { 4 }, read( store.getContent( "resource" ) ) );
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( previous ) );
+  }
+
+  @Test
+  public void testRemove() throws IOException {
+    store.store( "resource", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    store.remove( "resource" );
+
+    assertFalse( new File( resourceDirectory.getDirectory(), "resource" ).exists() );
+  }
+
+  @Test( expected = FileNotFoundException.class )
+  public void testGetContent_afterRemove() throws IOException {
+    store.store( "resource", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+    store.remove( "resource" );
+
+    store.getContent( "resource" );
+  }
+
+  private static byte[] read( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 64 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      outputStream.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return outputStream.toByteArray();
+  }
+
+}
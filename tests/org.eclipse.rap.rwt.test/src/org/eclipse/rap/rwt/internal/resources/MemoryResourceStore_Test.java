@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+
+public class MemoryResourceStore_Test {
+
+  @Test
+  public void testIsDirectoryBased() {
+    assertFalse( new MemoryResourceStore( false ).isDirectoryBased() );
+  }
+
+  @Test
+  public void testStore() throws IOException {
+    MemoryResourceStore store = new MemoryResourceStore( false );
+
+    store.store( "path/to/resource", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( store.getContent( "path/to/resource" ) ) );
+    assertNotNull( store.getResource( "path/to/resource" ) );
+  }
+
+  @Test
+  public void testStore_withDirectBuffers() throws IOException {
+    MemoryResourceStore store = new MemoryResourceStore( true );
+
+    store.store( "path/to/resource", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( store.getContent( "path/to/resource" ) ) );
+  }
+
+  @Test
+  public void testStore_replacesPreviousContent() throws IOException {
+    MemoryResourceStore store = new MemoryResourceStore( false );
+    store.store( "resource", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    store.store( "resource", new ByteArrayInputStream( new byte[] { 4 } ) );
+
+    assertArrayEquals( new byte[] { 4 }, read( store.getContent( "resource" ) ) );
+  }
+
+  @Test
+  public void testGetContent_withUnknownPath() {
+    MemoryResourceStore store = new MemoryResourceStore( false );
+
+    try {
+      store.getContent( "not-there" );
+      fail();
+    } catch( IOException expected ) {
+    }
+  }
+
+  @Test
+  public void testRemove() throws IOException {
+    MemoryResourceStore store = new MemoryResourceStore( false );
+    store.store( "resource", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    store.remove( "resource" );
+
+    assertNull( store.getResource( "resource" ) );
+  }
+
+  private static byte[] read( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 64 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      outputStream.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return outputStream.toByteArray();
+  }
+
+}
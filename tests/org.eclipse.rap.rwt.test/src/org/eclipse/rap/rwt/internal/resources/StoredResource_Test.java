@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+
+public class StoredResource_Test {
+
+  @Test
+  public void testGetLength() throws IOException {
+    StoredResource resource = StoredResource.create( "foo.gif", wrap( 1, 2, 3 ), false );
+
+    assertEquals( 3, resource.getLength() );
+  }
+
+  @Test
+  public void testGetContent() throws IOException {
+    StoredResource resource = StoredResource.create( "foo.gif", wrap( 1, 2, 3 ), false );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( resource.getContent() ) );
+  }
+
+  @Test
+  public void testGetContent_canBeReadRepeatedly() throws IOException {
+    StoredResource resource = StoredResource.create( "foo.gif", wrap( 1, 2, 3 ), false );
+    read( resource.getContent() );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( resource.getContent() ) );
+  }
+
+  @Test
+  public void testGetETag_isQuoted() throws IOException {
+    StoredResource resource = StoredResource.create( "foo.gif", wrap( 1, 2, 3 ), false );
+
+    String etag = resource.getETag();
+
+    assertTrue( etag.matches( "\"[0-9a-f]{32}\"" ) );
+  }
+
+  @Test
+  public void testGetETag_dependsOnContent() throws IOException {
+    StoredResource resource1 = StoredResource.create( "foo.gif", wrap( 1, 2, 3 ), false );
+    StoredResource resource2 = StoredResource.create( "foo.gif", wrap( 1, 2, 3 ), false );
+    StoredResource resource3 = StoredResource.create( "foo.gif", wrap( 1, 2, 4 ), false );
+
+    assertEquals( resource1.getETag(), resource2.getETag() );
+    assertNotEquals( resource1.getETag(), resource3.getETag() );
+  }
+
+  @Test
+  public void testGetGzipETag_differsFromETag() throws IOException {
+    ByteBuffer text = ByteBuffer.wrap( createText( 1000 ) );
+    StoredResource resource = StoredResource.create( "foo.js", text, false );
+
+    String etag = resource.getGzipETag();
+
+    assertEquals( resource.getETag().replace( "\"", "" ) + "-gz", etag.replace( "\"", "" ) );
+    assertTrue( etag.startsWith( "\"" ) && etag.endsWith( "\"" ) );
+  }
+
+  @Test
+  public void testGetGzipETag_withoutGzipContent() throws IOException {
+    StoredResource resource = StoredResource.create( "foo.gif", wrap( 1, 2, 3 ), false );
+
+    assertNull( resource.getGzipETag() );
+  }
+
+  @Test
+  public void testGzipContent_withTextResource() throws IOException {
+    byte[] text = createText( 1000 );
+
+    StoredResource resource = StoredResource.create( "foo.js", ByteBuffer.wrap( text ), false );
+
+    assertTrue( resource.hasGzipContent() );
+    assertTrue( resource.getGzipLength() < resource.getLength() );
+    assertArrayEquals( text, gunzip( resource ) );
+  }
+
+  @Test
+  public void testGzipContent_withDirectBuffer() throws IOException {
+    byte[] text = createText( 1000 );
+    ByteBuffer buffer = ByteBuffer.allocateDirect( text.length );
+    buffer.put( text ).flip();
+
+    StoredResource resource = StoredResource.create( "foo.css", buffer, true );
+
+    assertArrayEquals( text, gunzip( resource ) );
+    assertArrayEquals( text, write( resource, false ) );
+  }
+
+  @Test
+  public void testGzipContent_withBinaryResource() throws IOException {
+    StoredResource resource
+      = StoredResource.create( "foo.png", ByteBuffer.wrap( createText( 1000 ) ), false );
+
+    assertFalse( resource.hasGzipContent() );
+    assertEquals( -1, resource.getGzipLength() );
+  }
+
+  @Test
+  public void testGzipContent_withSmallResource() throws IOException {
+    StoredResource resource
+      = StoredResource.create( "foo.js", ByteBuffer.wrap( createText( 100 ) ), false );
+
+    assertFalse( resource.hasGzipContent() );
+  }
+
+  @Test
+  public void testWriteTo() throws IOException {
+    StoredResource resource = StoredResource.create( "foo.gif", wrap( 1, 2, 3 ), false );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, write( resource, false ) );
+  }
+
+  private static ByteBuffer wrap( int... values ) {
+    byte[] bytes = new byte[ values.length ];
+    for( int i = 0; i < values.length; i++ ) {
+      bytes[ i ] = ( byte )values[ i ];
+    }
+    return ByteBuffer.wrap( bytes );
+  }
+
+  private static byte[] createText( int length ) {
+    byte[] result = new byte[ length ];
+    Arrays.fill( result, ( byte )'a' );
+    return result;
+  }
+
+  private static byte[] write( StoredResource resource, boolean gzip ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.writeTo( outputStream, gzip );
+    return outputStream.toByteArray();
+  }
+
+  private static byte[] gunzip( StoredResource resource ) throws IOException {
+    byte[] compressed = write( resource, true );
+    assertEquals( resource.getGzipLength(), compressed.length );
+    return read( new GZIPInputStream( new ByteArrayInputStream( compressed ) ) );
+  }
+
+  private static byte[] read( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 64 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      outputStream.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return outputStream.toByteArray();
+  }
+
+}
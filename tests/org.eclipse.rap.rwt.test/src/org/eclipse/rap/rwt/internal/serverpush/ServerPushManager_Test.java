@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,7 +18,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -28,6 +32,10 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpSessionBindingListener;
 
@@ -48,6 +56,8 @@ import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 
 public class ServerPushManager_Test {
@@ -309,6 +319,204 @@ public class ServerPushManager_Test {
     assertFalse( callBackRequestSimulator.isRequestRunning() );
   }
 
+  @Test
+  public void testProcessAsyncRequest_withoutActivation() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    HttpServletRequest request = mockAsyncRequest( asyncContext );
+
+    manager.processAsyncRequest( request, ContextProvider.getResponse() );
+
+    verify( request, never() ).startAsync( any( ServletRequest.class ),
+                                           any( ServletResponse.class ) );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_parksRequest() {
+    manager.activateServerPushFor( HANDLE_1 );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    verify( asyncContext ).setTimeout( 0 );
+    verify( asyncContext, never() ).complete();
+    assertTrue( manager.isCallBackRequestBlocked() );
+    assertEquals( 1, getAsyncServerPushRegistry().getRegisteredCount() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesOnWakeClient() {
+    manager.activateServerPushFor( HANDLE_1 );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( asyncContext ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+    assertEquals( 0, getAsyncServerPushRegistry().getRegisteredCount() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesOnDeactivation() {
+    manager.activateServerPushFor( HANDLE_1 );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.deactivateServerPushFor( HANDLE_1 );
+
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesPreviousRequest() {
+    manager.activateServerPushFor( HANDLE_1 );
+    AsyncContext asyncContext1 = mock( AsyncContext.class );
+    AsyncContext asyncContext2 = mock( AsyncContext.class );
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext1 ), ContextProvider.getResponse() );
+
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext2 ), ContextProvider.getResponse() );
+
+    verify( asyncContext1 ).complete();
+    verify( asyncContext2, never() ).complete();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesOnApplicationContextDeactivation() {
+    manager.activateServerPushFor( HANDLE_1 );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    getAsyncServerPushRegistry().deactivate();
+
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_afterApplicationContextDeactivation() {
+    manager.activateServerPushFor( HANDLE_1 );
+    getAsyncServerPushRegistry().deactivate();
+    HttpServletRequest request = mockAsyncRequest( mock( AsyncContext.class ) );
+
+    manager.processAsyncRequest( request, ContextProvider.getResponse() );
+
+    verify( request, never() ).startAsync( any( ServletRequest.class ),
+                                           any( ServletResponse.class ) );
+    assertEquals( 0, getAsyncServerPushRegistry().getRegisteredCount() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesWhenConnectionBreaks() throws Exception {
+    manager.setRequestCheckInterval( 10 );
+    manager.activateServerPushFor( HANDLE_1 );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    TestResponse response = new TestResponse() {
+      @Override
+      public PrintWriter getWriter() throws IOException {
+        PrintWriter failingWriter = mock( PrintWriter.class );
+        when( new Boolean( failingWriter.checkError() ) ).thenReturn( Boolean.TRUE );
+        return failingWriter;
+      }
+    };
+    when( asyncContext.getResponse() ).thenReturn( response );
+    runStartedRunnables( asyncContext );
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext ), response );
+
+    Thread.sleep( SLEEP_TIME );
+
+    verify( asyncContext ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_delaysPushWithinBatchWindow() throws Exception {
+    manager.setBatchWindow( SLEEP_TIME / 2 );
+    manager.activateServerPushFor( HANDLE_1 );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( asyncContext, never() ).complete();
+    Thread.sleep( SLEEP_TIME );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_coalescesWakeUpsWithinBatchWindow() throws Exception {
+    manager.setBatchWindow( SLEEP_TIME / 2 );
+    manager.activateServerPushFor( HANDLE_1 );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+    manager.wakeClient();
+    Thread.sleep( SLEEP_TIME );
+
+    verify( asyncContext ).complete();
+    assertEquals( 2, manager.getWakeUpCount() );
+    assertEquals( 1, manager.getPushCount() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_delaysPushWithinMinPushInterval() {
+    manager.setMinPushInterval( 60000 );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.setHasRunnables( true );
+    manager.processAsyncRequest( mockAsyncRequest( mock( AsyncContext.class ) ),
+                                 ContextProvider.getResponse() );
+    manager.setHasRunnables( false );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.processAsyncRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( asyncContext, never() ).complete();
+    assertEquals( 1, manager.getPushCount() );
+  }
+
+  @Test
+  public void testProcessRequest_delaysPushWithinBatchWindow() throws Throwable {
+    manager.setBatchWindow( SLEEP_TIME / 2 );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.setHasRunnables( true );
+
+    long startTime = System.currentTimeMillis();
+    manager.processRequest( ContextProvider.getResponse() );
+
+    assertTrue( System.currentTimeMillis() - startTime >= SLEEP_TIME / 2 - 1 );
+    assertEquals( 1, manager.getPushCount() );
+    assertTrue( manager.getPushDelaySum() >= SLEEP_TIME / 2 - 1 );
+  }
+
+  @Test
+  public void testProcessRequest_countsPushForSameRunnablesOnce() {
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.setHasRunnables( true );
+
+    manager.processRequest( ContextProvider.getResponse() );
+    manager.processRequest( ContextProvider.getResponse() );
+
+    assertEquals( 1, manager.getPushCount() );
+  }
+
+  @Test
+  public void testProcessRequest_countsPushForNewRunnables() {
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.setHasRunnables( true );
+    manager.processRequest( ContextProvider.getResponse() );
+    manager.setHasRunnables( false );
+
+    manager.setHasRunnables( true );
+    manager.processRequest( ContextProvider.getResponse() );
+
+    assertEquals( 2, manager.getPushCount() );
+  }
+
   @Test
   public void testAsyncExec() throws Throwable {
     Throwable[] serverPushServiceHandlerThrowable = { null };
@@ -436,6 +644,34 @@ public class ServerPushManager_Test {
     assertFalse( manager.mustBlockCallBackRequest() );
   }
 
+  @Test
+  public void testMustDelayPush() {
+    manager.setBatchWindow( 1000 );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.setHasRunnables( true );
+
+    long currentTime = System.currentTimeMillis();
+
+    assertTrue( manager.mustDelayPush( currentTime ) );
+    assertFalse( manager.mustDelayPush( currentTime + 1000 ) );
+  }
+
+  @Test
+  public void testMustDelayPushWithoutRunnables() {
+    manager.setBatchWindow( 1000 );
+    manager.activateServerPushFor( HANDLE_1 );
+
+    assertFalse( manager.mustDelayPush( System.currentTimeMillis() ) );
+  }
+
+  @Test
+  public void testMustDelayPushWithDefaults() {
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.setHasRunnables( true );
+
+    assertFalse( manager.mustDelayPush( System.currentTimeMillis() ) );
+  }
+
   @Test
   public void testNeedActivationFromDifferentSession() throws Throwable {
     // test that on/off switching is managed in session scope
@@ -619,6 +855,27 @@ public class ServerPushManager_Test {
     return serviceContext;
   }
 
+  private static HttpServletRequest mockAsyncRequest( AsyncContext asyncContext ) {
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    when( request.startAsync( any( ServletRequest.class ), any( ServletResponse.class ) ) )
+      .thenReturn( asyncContext );
+    return request;
+  }
+
+  private static void runStartedRunnables( AsyncContext asyncContext ) {
+    doAnswer( new Answer<Object>() {
+      @Override
+      public Object answer( InvocationOnMock invocation ) {
+        ( ( Runnable )invocation.getArguments()[ 0 ] ).run();
+        return null;
+      }
+    } ).when( asyncContext ).start( any( Runnable.class ) );
+  }
+
+  private static AsyncServerPushRegistry getAsyncServerPushRegistry() {
+    return ContextProvider.getApplicationContext().getAsyncServerPushRegistry();
+  }
+
   private class AsyncExecRunnable implements Runnable {
     @Override
     public void run() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -36,11 +37,16 @@ import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.client.WebClient;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
+import org.eclipse.rap.rwt.internal.protocol.StreamedResponseMessage;
+import org.eclipse.rap.rwt.internal.protocol.StreamingProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.remote.MessageChainElement;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
 import org.eclipse.rap.rwt.internal.remote.MessageFilter;
@@ -279,6 +285,107 @@ public class LifeCycleServiceHandler_Test {
     assertEquals( firstResponse, secondResponse );
   }
 
+  @Test
+  public void testWritesStreamedResponseMessage() throws IOException {
+    ResponseMessage responseMessage = createStreamedResponseMessage();
+    when( filter.handleMessage( any( RequestMessage.class ), any( MessageFilterChain.class ) ) )
+      .thenReturn( responseMessage );
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    JsonObject message = JsonObject.readFrom( getResponse().getContent() );
+    assertEquals( responseMessage.toJson(), message );
+  }
+
+  @Test
+  public void testSendBufferedResponse_withStreamedResponseMessage() throws IOException {
+    ResponseMessage responseMessage = createStreamedResponseMessage();
+    when( filter.handleMessage( any( RequestMessage.class ), any( MessageFilterChain.class ) ) )
+      .thenReturn( responseMessage );
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+
+    service( serviceHandler );
+    JsonObject firstResponse = JsonObject.readFrom( getResponse().getContent() );
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    JsonObject secondResponse = JsonObject.readFrom( getResponse().getContent() );
+
+    assertEquals( firstResponse, secondResponse );
+  }
+
+  @Test
+  public void testStreamsResponseMessage() throws IOException {
+    System.setProperty( RWTProperties.STREAMING_RESPONSE, "true" );
+    try {
+      serviceHandler = createServiceHandler( new RenderingMessageHandler() );
+      simulateUiRequest();
+
+      service( serviceHandler );
+    } finally {
+      System.clearProperty( RWTProperties.STREAMING_RESPONSE );
+    }
+
+    JsonObject message = JsonObject.readFrom( getResponse().getContent() );
+    assertEquals( "[[\"set\",\"w1\",{\"text\":\"foo\"}]]", message.get( "operations" ).toString() );
+    assertEquals( JsonValue.TRUE, message.get( "head" ).asObject().get( "rendered" ) );
+  }
+
+  @Test
+  public void testSendBufferedResponse_afterStreamedResponse() throws IOException {
+    System.setProperty( RWTProperties.STREAMING_RESPONSE, "true" );
+    try {
+      serviceHandler = createServiceHandler( new RenderingMessageHandler() );
+      simulateUiRequest();
+      int requestCounter = RequestCounter.getInstance().currentRequestId();
+      service( serviceHandler );
+      String firstResponse = getResponse().getContent();
+
+      simulateUiRequest();
+      Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+      service( serviceHandler );
+      JsonObject secondResponse = JsonObject.readFrom( getResponse().getContent() );
+
+      JsonObject expected = JsonObject.readFrom( firstResponse );
+      assertEquals( expected.get( "head" ), secondResponse.get( "head" ) );
+      assertEquals( expected.get( "operations" ), secondResponse.get( "operations" ) );
+    } finally {
+      System.clearProperty( RWTProperties.STREAMING_RESPONSE );
+    }
+  }
+
+  @Test
+  public void testDoesNotStreamResponseMessage_withMessageFilter() throws IOException {
+    final List<ResponseMessage> filteredMessages = new ArrayList<>();
+    System.setProperty( RWTProperties.STREAMING_RESPONSE, "true" );
+    try {
+      serviceHandler = createServiceHandler( new RenderingMessageHandler() );
+      messageChainReference.add( new MessageFilter() {
+        @Override
+        public ResponseMessage handleMessage( RequestMessage request, MessageFilterChain chain ) {
+          ResponseMessage response = chain.handleMessage( request );
+          filteredMessages.add( response );
+          return response;
+        }
+      } );
+      simulateUiRequest();
+
+      service( serviceHandler );
+    } finally {
+      System.clearProperty( RWTProperties.STREAMING_RESPONSE );
+    }
+
+    assertFalse( filteredMessages.get( 0 ) instanceof StreamedResponseMessage );
+    assertEquals( 1, filteredMessages.get( 0 ).getOperations().size() );
+    JsonObject message = JsonObject.readFrom( getResponse().getContent() );
+    assertEquals( 1, message.get( "operations" ).asArray().size() );
+  }
+
   @Test
   public void testWritesValidJson() throws IOException {
     simulateUiRequest();
@@ -404,6 +511,21 @@ public class LifeCycleServiceHandler_Test {
     return filter;
   }
 
+  private LifeCycleServiceHandler createServiceHandler( MessageFilter messageHandler ) {
+    messageChainReference = new MessageChainReference( new MessageChainElement( messageHandler,
+                                                                                null ) );
+    return new LifeCycleServiceHandler( messageChainReference );
+  }
+
+  private static ResponseMessage createStreamedResponseMessage() {
+    StreamingProtocolMessageWriter writer = new StreamingProtocolMessageWriter();
+    writer.streamTo( new StringWriter() );
+    writer.appendHead( "test", 1 );
+    writer.appendSet( "w1", "text", "f\u00f6\u00f6" );
+    writer.appendCall( "w2", "method", null );
+    return writer.createMessage();
+  }
+
   private static JsonObject createExampleMessage() {
     return new JsonObject()
       .add( "head", new JsonObject().add( "test", true ).add( "requestCounter", 0 ) )
@@ -465,4 +587,14 @@ public class LifeCycleServiceHandler_Test {
     }
   }
 
+  private static class RenderingMessageHandler implements MessageFilter {
+    @Override
+    public ResponseMessage handleMessage( RequestMessage request, MessageFilterChain chain ) {
+      ProtocolMessageWriter writer = ContextProvider.getProtocolWriter();
+      writer.appendSet( "w1", "text", "foo" );
+      writer.appendHead( "rendered", JsonValue.TRUE );
+      return writer.createMessage();
+    }
+  }
+
 }
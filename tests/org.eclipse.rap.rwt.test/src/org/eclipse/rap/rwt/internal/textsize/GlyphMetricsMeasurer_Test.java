@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class GlyphMetricsMeasurer_Test {
+
+  private static final FontData FONT_DATA = new FontData( "Verdana, Arial", 14, SWT.NORMAL );
+  private static final int LINE_HEIGHT = 16;
+
+  // widths of the sans metrics including kerning, calibrated to 1/100 pixel per 1/1000 em
+  private static final float HELLO_WIDTH = 22.78f;
+  private static final float WORLD_WIDTH = 25.81f;
+  private static final float SPACE_WIDTH = 2.78f;
+
+  private GlyphMetricsMeasurer measurer;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    measurer = new GlyphMetricsMeasurer();
+    createProbeResult( FONT_DATA );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testGetMetrics_usesFirstFamilyWithMetrics() {
+    GlyphMetrics metrics = measurer.getMetrics( new FontData( "Verdana, Times", 14, SWT.NORMAL ) );
+
+    assertSame( measurer.getMetrics( new FontData( "serif", 14, SWT.NORMAL ) ), metrics );
+  }
+
+  @Test
+  public void testGetMetrics_ignoresCase() {
+    GlyphMetrics metrics = measurer.getMetrics( new FontData( "Courier New", 14, SWT.NORMAL ) );
+
+    assertSame( measurer.getMetrics( new FontData( "monospace", 14, SWT.NORMAL ) ), metrics );
+  }
+
+  @Test
+  public void testGetMetrics_usesSansSerifForUnknownFamilies() {
+    GlyphMetrics metrics = measurer.getMetrics( new FontData( "Unknown", 14, SWT.NORMAL ) );
+
+    assertSame( measurer.getMetrics( new FontData( "sans-serif", 14, SWT.NORMAL ) ), metrics );
+  }
+
+  @Test
+  public void testGetMetrics_usesBoldMetrics() {
+    FontData fontData = new FontData( "Arial", 14, SWT.BOLD );
+
+    GlyphMetrics metrics = measurer.getMetrics( fontData );
+
+    assertEquals( 722 + 556 + 278 + 278 + 611, metrics.getWidth( "Hello", 0, 5 ) );
+  }
+
+  @Test
+  public void testStringExtent() {
+    Point extent = measurer.stringExtent( FONT_DATA, "Hello" );
+
+    assertEquals( new Point( ceil( HELLO_WIDTH ), LINE_HEIGHT ), extent );
+  }
+
+  @Test
+  public void testStringExtent_includesKerning() {
+    Point extent = measurer.stringExtent( FONT_DATA, "AV" );
+
+    assertEquals( new Point( 13, LINE_HEIGHT ), extent );
+  }
+
+  @Test
+  public void testStringExtent_withoutProbeResult() {
+    FontData fontData = new FontData( "Arial", 20, SWT.NORMAL );
+
+    assertNull( measurer.stringExtent( fontData, "Hello" ) );
+  }
+
+  @Test
+  public void testStringExtent_withUnsupportedCharacter() {
+    assertNull( measurer.stringExtent( FONT_DATA, "H\u00e4llo" ) );
+  }
+
+  @Test
+  public void testTextExtent_withoutWrapping() {
+    Point extent = measurer.textExtent( FONT_DATA, "Hello World", SWT.DEFAULT );
+
+    int width = ceil( HELLO_WIDTH + SPACE_WIDTH + WORLD_WIDTH );
+    assertEquals( new Point( width, LINE_HEIGHT ), extent );
+  }
+
+  @Test
+  public void testTextExtent_withLineBreak() {
+    Point extent = measurer.textExtent( FONT_DATA, "Hello\nWorld", SWT.DEFAULT );
+
+    assertEquals( new Point( ceil( WORLD_WIDTH ), 2 * LINE_HEIGHT ), extent );
+  }
+
+  @Test
+  public void testTextExtent_ignoresTrailingLineBreak() {
+    Point extent = measurer.textExtent( FONT_DATA, "Hello\n", SWT.DEFAULT );
+
+    assertEquals( new Point( ceil( HELLO_WIDTH ), LINE_HEIGHT ), extent );
+  }
+
+  @Test
+  public void testTextExtent_withEmptyText() {
+    Point extent = measurer.textExtent( FONT_DATA, "", SWT.DEFAULT );
+
+    assertEquals( new Point( 0, 0 ), extent );
+  }
+
+  @Test
+  public void testTextExtent_fitsWrapWidth() {
+    Point extent = measurer.textExtent( FONT_DATA, "Hello World", 100 );
+
+    int width = ceil( HELLO_WIDTH + SPACE_WIDTH + WORLD_WIDTH );
+    assertEquals( new Point( width, LINE_HEIGHT ), extent );
+  }
+
+  @Test
+  public void testTextExtent_wrapsAtSpace() {
+    Point extent = measurer.textExtent( FONT_DATA, "Hello World", 40 );
+
+    assertEquals( new Point( 40, 2 * LINE_HEIGHT ), extent );
+  }
+
+  @Test
+  public void testTextExtent_keepsWordsThatExceedWrapWidth() {
+    Point extent = measurer.textExtent( FONT_DATA, "Hello World", 20 );
+
+    assertEquals( new Point( ceil( WORLD_WIDTH ), 2 * LINE_HEIGHT ), extent );
+  }
+
+  @Test
+  public void testTextExtent_wrapsMultipleWords() {
+    Point extent = measurer.textExtent( FONT_DATA, "Hello World Hello World", 55 );
+
+    assertEquals( new Point( 55, 2 * LINE_HEIGHT ), extent );
+  }
+
+  @Test
+  public void testTextExtent_withConsecutiveSpacesWhenWrapped() {
+    assertNull( measurer.textExtent( FONT_DATA, "Hello  World", 40 ) );
+  }
+
+  @Test
+  public void testTextExtent_withConsecutiveSpacesWhenNotWrapped() {
+    Point extent = measurer.textExtent( FONT_DATA, "Hello  World", SWT.DEFAULT );
+
+    int width = ceil( HELLO_WIDTH + 2 * SPACE_WIDTH + WORLD_WIDTH );
+    assertEquals( new Point( width, LINE_HEIGHT ), extent );
+  }
+
+  private static int ceil( float width ) {
+    return ( int )Math.ceil( width - 0.001f );
+  }
+
+  /*
+   * Creates a probe result that calibrates the sans metrics to 1/100 pixel per unit.
+   */
+  private static void createProbeResult( FontData fontData ) {
+    StringBuilder probeText = new StringBuilder();
+    for( int i = 0; i < 50; i++ ) {
+      probeText.append( '0' );
+    }
+    Probe probe = new Probe( probeText.toString(), fontData );
+    ProbeResultStore.getInstance().createProbeResult( probe, new Point( 278, LINE_HEIGHT ) );
+  }
+
+}
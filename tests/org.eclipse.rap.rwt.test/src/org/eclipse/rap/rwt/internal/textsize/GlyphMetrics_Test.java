@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+
+public class GlyphMetrics_Test {
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_failsWithMissingWidths() {
+    new GlyphMetrics( new String[ 0 ], new int[ 10 ], new HashMap<Integer, Integer>() );
+  }
+
+  @Test
+  public void testContains() {
+    assertTrue( GlyphMetrics.contains( ' ' ) );
+    assertTrue( GlyphMetrics.contains( '~' ) );
+    assertFalse( GlyphMetrics.contains( '\t' ) );
+    assertFalse( GlyphMetrics.contains( '\u00e4' ) );
+  }
+
+  @Test
+  public void testGetWidth() {
+    GlyphMetrics metrics = createMetrics();
+
+    assertEquals( 3 * 500, metrics.getWidth( "abc", 0, 3 ) );
+  }
+
+  @Test
+  public void testGetWidth_ofRange() {
+    GlyphMetrics metrics = createMetrics();
+
+    assertEquals( 500, metrics.getWidth( "abc", 1, 2 ) );
+  }
+
+  @Test
+  public void testGetWidth_includesKerning() {
+    GlyphMetrics metrics = createMetrics();
+
+    assertEquals( 2 * 500 - 100, metrics.getWidth( "AV", 0, 2 ) );
+  }
+
+  @Test
+  public void testGetWidth_ignoresKerningBeforeRange() {
+    GlyphMetrics metrics = createMetrics();
+
+    assertEquals( 500, metrics.getWidth( "AV", 1, 2 ) );
+  }
+
+  @Test
+  public void testGetKerning_withoutPair() {
+    GlyphMetrics metrics = createMetrics();
+
+    assertEquals( 0, metrics.getKerning( 'V', 'A' ) );
+  }
+
+  @Test
+  public void testLoad_withUnknownName() {
+    assertNull( GlyphMetrics.load( "unknown" ) );
+  }
+
+  @Test
+  public void testLoad_sans() {
+    GlyphMetrics metrics = GlyphMetrics.load( "sans" );
+
+    assertTrue( asList( metrics.getFamilies() ).contains( "arial" ) );
+    assertTrue( asList( metrics.getFamilies() ).contains( "sans-serif" ) );
+    assertEquals( 722 + 556 + 222 + 222 + 556, metrics.getWidth( "Hello", 0, 5 ) );
+    assertEquals( -70, metrics.getKerning( 'A', 'V' ) );
+  }
+
+  @Test
+  public void testLoad_allMetrics() {
+    String[] names = { "sans", "sans-bold", "serif", "serif-bold", "mono" };
+    for( String name : names ) {
+      assertNotNull( name, GlyphMetrics.load( name ) );
+    }
+  }
+
+  @Test
+  public void testLoad_boldMetricsHaveNoFamilies() {
+    GlyphMetrics metrics = GlyphMetrics.load( "sans-bold" );
+
+    assertEquals( 0, metrics.getFamilies().length );
+  }
+
+  private static GlyphMetrics createMetrics() {
+    int[] widths = new int[ GlyphMetrics.LAST_CHAR - GlyphMetrics.FIRST_CHAR + 1 ];
+    for( int i = 0; i < widths.length; i++ ) {
+      widths[ i ] = 500;
+    }
+    Map<Integer, Integer> kerning = new HashMap<>();
+    kerning.put( Integer.valueOf( 'A' << 16 | 'V' ), Integer.valueOf( -100 ) );
+    return new GlyphMetrics( new String[] { "test" }, widths, kerning );
+  }
+
+}
@@ -25,6 +25,7 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +42,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
@@ -74,6 +76,7 @@ public class MeasurementOperator_Test {
 
   @After
   public void tearDown() {
+    getApplicationContext().setTextMeasurer( null );
     Fixture.tearDown();
   }
 
@@ -128,6 +131,41 @@ public class MeasurementOperator_Test {
     verify( listener, times( 2 ) ).handleEvent( any( Event.class ) );
   }
 
+  @Test
+  public void testOperationHandler_handleCall_verifiedSizeDoesNotTriggerTextSizeRecalculation() {
+    getApplicationContext().setTextMeasurer( mock( TextMeasurer.class ) );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    operator.addProbeToMeasure( FONT_DATA_1 );
+    operator.addItemToMeasure( createItemToVerify( new Point( 12, 4 ) ) );
+    Shell shell = new Shell( display );
+    Listener listener = mock( Listener.class );
+    shell.addListener( SWT.Resize, listener );
+
+    JsonObject parameters = createMeasurementResult( FONT_DATA_1, MEASUREMENT_ITEM_1 );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    verify( listener, never() ).handleEvent( any( Event.class ) );
+    assertEquals( 0, operator.getItemCount() );
+    assertEquals( 1, getApplicationContext().getServerTextMeasurement().getAccurateCount() );
+  }
+
+  @Test
+  public void testOperationHandler_handleCall_deviatingSizeTriggersTextSizeRecalculation() {
+    getApplicationContext().setTextMeasurer( mock( TextMeasurer.class ) );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    operator.addProbeToMeasure( FONT_DATA_1 );
+    operator.addItemToMeasure( createItemToVerify( new Point( 10, 4 ) ) );
+    Shell shell = new Shell( display );
+    Listener listener = mock( Listener.class );
+    shell.addListener( SWT.Resize, listener );
+
+    JsonObject parameters = createMeasurementResult( FONT_DATA_1, MEASUREMENT_ITEM_1 );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    verify( listener, times( 2 ) ).handleEvent( any( Event.class ) );
+    assertEquals( 2, getApplicationContext().getServerTextMeasurement().getDeviationSum() );
+  }
+
   @Test
   public void testAddItemToMeasure() {
     operator.addItemToMeasure( MEASUREMENT_ITEM_1 );
@@ -238,6 +276,10 @@ public class MeasurementOperator_Test {
     return new JsonObject().add( PARAM_RESULTS, results );
   }
 
+  private static MeasurementItem createItemToVerify( Point computedSize ) {
+    return new MeasurementItem( TEXT_TO_MEASURE, FONT_DATA_1, SWT.DEFAULT, MODE, computedSize );
+  }
+
   private void checkMeasurementItemBuffering( MeasurementItem item ) {
     assertEquals( 1, operator.getItemCount() );
     assertSame( item, operator.getItems()[ 0 ] );
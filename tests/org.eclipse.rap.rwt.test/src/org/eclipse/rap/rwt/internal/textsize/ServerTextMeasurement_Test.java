@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.eclipse.rap.rwt.internal.textsize.ServerTextMeasurement.VERIFICATION_COUNT;
+import static org.eclipse.rap.rwt.internal.textsize.TextSizeUtil.MARKUP_EXTENT;
+import static org.eclipse.rap.rwt.internal.textsize.TextSizeUtil.STRING_EXTENT;
+import static org.eclipse.rap.rwt.internal.textsize.TextSizeUtil.TEXT_EXTENT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ServerTextMeasurement_Test {
+
+  private static final FontData FONT_DATA = new FontData( "arial", 12, SWT.NORMAL );
+  private static final Point SIZE = new Point( 40, 14 );
+
+  private ServerTextMeasurement textMeasurement;
+
+  @Before
+  public void setUp() {
+    textMeasurement = new ServerTextMeasurement( new TestTextMeasurer() );
+  }
+
+  @Test
+  public void testMeasure_stringExtent() {
+    Point result = textMeasurement.measure( FONT_DATA, "foo", SWT.DEFAULT, STRING_EXTENT );
+
+    assertEquals( SIZE, result );
+    assertEquals( 1, textMeasurement.getMeasuredCount() );
+  }
+
+  @Test
+  public void testMeasure_textExtent() {
+    Point result = textMeasurement.measure( FONT_DATA, "foo", 20, TEXT_EXTENT );
+
+    assertEquals( new Point( 20, SIZE.y ), result );
+  }
+
+  @Test
+  public void testMeasure_leavesMarkupToClient() {
+    Point result = textMeasurement.measure( FONT_DATA, "foo", SWT.DEFAULT, MARKUP_EXTENT );
+
+    assertNull( result );
+    assertEquals( 0, textMeasurement.getMeasuredCount() );
+    assertEquals( 1, textMeasurement.getUnmeasuredCount() );
+  }
+
+  @Test
+  public void testMeasure_leavesUnsupportedTextsToClient() {
+    Point result = textMeasurement.measure( FONT_DATA, "", SWT.DEFAULT, STRING_EXTENT );
+
+    assertNull( result );
+    assertEquals( 1, textMeasurement.getUnmeasuredCount() );
+  }
+
+  @Test
+  public void testRequestVerification_isLimited() {
+    for( int i = 0; i < VERIFICATION_COUNT; i++ ) {
+      assertTrue( textMeasurement.requestVerification( FONT_DATA ) );
+    }
+
+    assertFalse( textMeasurement.requestVerification( FONT_DATA ) );
+  }
+
+  @Test
+  public void testRequestVerification_isLimitedPerFont() {
+    for( int i = 0; i < VERIFICATION_COUNT; i++ ) {
+      textMeasurement.requestVerification( FONT_DATA );
+    }
+
+    assertTrue( textMeasurement.requestVerification( new FontData( "arial", 14, SWT.NORMAL ) ) );
+  }
+
+  @Test
+  public void testVerify_equalSize() {
+    boolean changed = textMeasurement.verify( FONT_DATA, SIZE, new Point( 40, 14 ) );
+
+    assertFalse( changed );
+    assertEquals( 1, textMeasurement.getVerifiedCount() );
+    assertEquals( 1, textMeasurement.getAccurateCount() );
+    assertEquals( 0, textMeasurement.getDeviationSum() );
+  }
+
+  @Test
+  public void testVerify_deviationWithinTolerance() {
+    boolean changed = textMeasurement.verify( FONT_DATA, SIZE, new Point( 41, 14 ) );
+
+    assertTrue( changed );
+    assertEquals( 1, textMeasurement.getAccurateCount() );
+    assertEquals( 1, textMeasurement.getDeviationSum() );
+  }
+
+  @Test
+  public void testVerify_deviationBeyondTolerance() {
+    boolean changed = textMeasurement.verify( FONT_DATA, SIZE, new Point( 40, 17 ) );
+
+    assertTrue( changed );
+    assertEquals( 1, textMeasurement.getVerifiedCount() );
+    assertEquals( 0, textMeasurement.getAccurateCount() );
+    assertEquals( 3, textMeasurement.getDeviationSum() );
+  }
+
+  @Test
+  public void testVerify_rejectsInaccurateFont() {
+    for( int i = 0; i < VERIFICATION_COUNT; i++ ) {
+      textMeasurement.verify( FONT_DATA, SIZE, new Point( 50, 14 ) );
+    }
+
+    Point result = textMeasurement.measure( FONT_DATA, "foo", SWT.DEFAULT, STRING_EXTENT );
+
+    assertNull( result );
+    assertEquals( 1, textMeasurement.getRejectedFontCount() );
+  }
+
+  @Test
+  public void testVerify_keepsAccurateFont() {
+    textMeasurement.verify( FONT_DATA, SIZE, new Point( 50, 14 ) );
+    for( int i = 1; i < VERIFICATION_COUNT; i++ ) {
+      textMeasurement.verify( FONT_DATA, SIZE, SIZE );
+    }
+
+    Point result = textMeasurement.measure( FONT_DATA, "foo", SWT.DEFAULT, STRING_EXTENT );
+
+    assertEquals( SIZE, result );
+    assertEquals( 0, textMeasurement.getRejectedFontCount() );
+  }
+
+  private static class TestTextMeasurer implements TextMeasurer {
+
+    @Override
+    public Point stringExtent( FontData fontData, String string ) {
+      return string.isEmpty() ? null : SIZE;
+    }
+
+    @Override
+    public Point textExtent( FontData fontData, String text, int wrapWidth ) {
+      return new Point( wrapWidth, SIZE.y );
+    }
+
+  }
+
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextSizeSnapshot_Test {
+
+  private static final String FINGERPRINT = "rwt.default\n10px Arial\n";
+  private static final FontData FONT_DATA = new FontData( "Arial", 10, SWT.BOLD );
+
+  private File file;
+  private TextSizeSnapshot snapshot;
+  private TextSizeStorage storage;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    file = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    snapshot = new TextSizeSnapshot( file );
+    storage = new TextSizeStorage();
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testLoad_withoutFile() throws IOException {
+    assertFalse( snapshot.load( FINGERPRINT, storage ) );
+  }
+
+  @Test
+  public void testSaveAndLoad_restoresTextSizes() throws IOException {
+    storage.storeTextSize( 1, new Point( 10, 20 ) );
+    storage.storeTextSize( -7, new Point( 30, 40 ) );
+    snapshot.save( FINGERPRINT, storage );
+
+    TextSizeStorage restored = new TextSizeStorage();
+    boolean loaded = snapshot.load( FINGERPRINT, restored );
+
+    assertTrue( loaded );
+    assertEquals( new Point( 10, 20 ), restored.lookupTextSize( 1 ) );
+    assertEquals( new Point( 30, 40 ), restored.lookupTextSize( -7 ) );
+  }
+
+  @Test
+  public void testSaveAndLoad_restoresFonts() throws IOException {
+    storage.storeFont( FONT_DATA );
+    snapshot.save( FINGERPRINT, storage );
+
+    TextSizeStorage restored = new TextSizeStorage();
+    snapshot.load( FINGERPRINT, restored );
+
+    assertArrayEquals( new FontData[] { FONT_DATA }, restored.getFontList() );
+  }
+
+  @Test
+  public void testSave_replacesExistingSnapshot() throws IOException {
+    storage.storeTextSize( 1, new Point( 10, 20 ) );
+    snapshot.save( FINGERPRINT, storage );
+    TextSizeStorage otherStorage = new TextSizeStorage();
+    otherStorage.storeTextSize( 2, new Point( 30, 40 ) );
+
+    snapshot.save( FINGERPRINT, otherStorage );
+
+    TextSizeStorage restored = new TextSizeStorage();
+    snapshot.load( FINGERPRINT, restored );
+    assertNull( restored.lookupTextSize( 1 ) );
+    assertEquals( new Point( 30, 40 ), restored.lookupTextSize( 2 ) );
+  }
+
+  @Test
+  public void testSave_replacesLoadedSnapshot() throws IOException {
+    storage.storeTextSize( 1, new Point( 10, 20 ) );
+    snapshot.save( FINGERPRINT, storage );
+    snapshot.load( FINGERPRINT, new TextSizeStorage() );
+    storage.storeTextSize( 2, new Point( 30, 40 ) );
+
+    snapshot.save( FINGERPRINT, storage );
+
+    TextSizeStorage restored = new TextSizeStorage();
+    snapshot.load( FINGERPRINT, restored );
+    assertEquals( new Point( 30, 40 ), restored.lookupTextSize( 2 ) );
+  }
+
+  @Test
+  public void testLoad_withDifferentFingerprint() throws IOException {
+    storage.storeFont( FONT_DATA );
+    storage.storeTextSize( 1, new Point( 10, 20 ) );
+    snapshot.save( FINGERPRINT, storage );
+
+    TextSizeStorage restored = new TextSizeStorage();
+    boolean loaded = snapshot.load( "rwt.default\n12px Arial\n", restored );
+
+    assertFalse( loaded );
+    assertNull( restored.lookupTextSize( 1 ) );
+    assertEquals( 0, restored.getFontList().length );
+  }
+
+  @Test
+  public void testLoad_withInvalidFile() throws IOException {
+    writeFile( new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 } );
+
+    try {
+      snapshot.load( FINGERPRINT, storage );
+      fail();
+    } catch( IOException expected ) {
+    }
+  }
+
+  @Test
+  public void testLoad_withTruncatedFile() throws IOException {
+    storage.storeTextSize( 1, new Point( 10, 20 ) );
+    snapshot.save( FINGERPRINT, storage );
+    byte[] content = Files.readAllBytes( file.toPath() );
+    writeFile( Arrays.copyOf( content, content.length - 2 ) );
+
+    try {
+      snapshot.load( FINGERPRINT, new TextSizeStorage() );
+      fail();
+    } catch( IOException expected ) {
+    }
+  }
+
+  private void writeFile( byte[] content ) throws IOException {
+    FileOutputStream output = new FileOutputStream( file );
+    try {
+      output.write( content );
+    } finally {
+      output.close();
+    }
+  }
+
+}
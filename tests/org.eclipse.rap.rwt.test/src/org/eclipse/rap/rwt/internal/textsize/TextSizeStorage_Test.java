@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import static org.junit.Assert.fail;
 
 import java.util.Arrays;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.FontData;
@@ -31,8 +32,8 @@ import org.junit.Test;
 public class TextSizeStorage_Test {
   private static final FontData FONT_DATA_1 = new FontData( "arial", 10, SWT.NORMAL );
   private static final FontData FONT_DATA_2 = new FontData( "helvetia", 12, SWT.NORMAL );
-  private static final Integer KEY_FIRST = new Integer( 0 );
-  private static final Integer KEY_OVERFLOW = new Integer( Integer.MAX_VALUE );
+  private static final int KEY_FIRST = 0;
+  private static final int KEY_OVERFLOW = Integer.MAX_VALUE;
   private static final Point SIZE_FIRST = new Point( 0, 0 );
   private static final Point SIZE_OVERFLOW = new Point( -1, -1 );
   private static final String STORE_SIZE_SYSPROP = "org.eclipse.rap.rwt.textSizeStoreSize";
@@ -48,6 +49,7 @@ public class TextSizeStorage_Test {
   @After
   public void tearDown() {
     System.getProperties().remove( STORE_SIZE_SYSPROP );
+    System.getProperties().remove( RWTProperties.TEXT_SIZE_STORE_STATISTICS );
     Fixture.tearDown();
   }
 
@@ -74,16 +76,87 @@ public class TextSizeStorage_Test {
     assertNotSame( size, foundSize );
   }
 
+  @Test
+  public void testTextSizeStorage_replacesExistingEntry() {
+    storage.storeTextSize( 1, new Point( 1, 4 ) );
+
+    storage.storeTextSize( 1, new Point( 2, 5 ) );
+
+    assertEquals( new Point( 2, 5 ), storage.lookupTextSize( 1 ) );
+    assertEquals( 1, storage.getSize() );
+  }
+
   @Test
   public void testStorageOverflowHandling() {
-    populateUntilOverflowThresholdIsReached();
-    updateTimestampOnFirstEntry();
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+
+    int count = TextSizeStorage.MIN_STORE_SIZE * 10;
+    for( int i = 0; i < count; i++ ) {
+      storage.storeTextSize( i, new Point( i, i ) );
+    }
+
+    assertTrue( storage.getSize() <= TextSizeStorage.MIN_STORE_SIZE );
+    assertEquals( count - storage.getSize(), storage.getEvictionCount() );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_keepsReferencedEntries() {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+
+    for( int i = 1; i < TextSizeStorage.MIN_STORE_SIZE * 10; i++ ) {
+      storage.lookupTextSize( KEY_FIRST );
+      storage.storeTextSize( i, new Point( i, i ) );
+    }
+
+    assertEquals( SIZE_FIRST, storage.lookupTextSize( KEY_FIRST ) );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_keepsLatestEntry() {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE * 10; i++ ) {
+      storage.storeTextSize( i, new Point( i, i ) );
+    }
+
+    storage.storeTextSize( KEY_OVERFLOW, SIZE_OVERFLOW );
+
+    assertEquals( SIZE_OVERFLOW, storage.lookupTextSize( KEY_OVERFLOW ) );
+  }
+
+  @Test
+  public void testHitAndMissCount() {
+    System.setProperty( RWTProperties.TEXT_SIZE_STORE_STATISTICS, "true" );
+    storage = new TextSizeStorage();
+    storage.storeTextSize( 1, new Point( 1, 4 ) );
+
+    storage.lookupTextSize( 1 );
+    storage.lookupTextSize( 1 );
+    storage.lookupTextSize( 2 );
+
+    assertEquals( 2, storage.getHitCount() );
+    assertEquals( 1, storage.getMissCount() );
+    assertEquals( 0, storage.getEvictionCount() );
+  }
+
+  @Test
+  public void testHitAndMissCount_withoutStatistics() {
+    storage.storeTextSize( 1, new Point( 1, 4 ) );
 
-    forceOverflow();
+    storage.lookupTextSize( 1 );
+    storage.lookupTextSize( 2 );
 
-    checkTimestampOrdering();
-    checkLatestEntriesExist();
-    checkRangeCleanup();
+    assertEquals( 0, storage.getHitCount() );
+    assertEquals( 0, storage.getMissCount() );
+  }
+
+  @Test
+  public void testSetMaximumStoreSize_clearsStorage() {
+    storage.storeTextSize( 1, new Point( 1, 4 ) );
+
+    storage.setMaximumStoreSize( 2000 );
+
+    assertNull( storage.lookupTextSize( 1 ) );
   }
 
   @Test
@@ -117,33 +190,4 @@ public class TextSizeStorage_Test {
     assertEquals( 20000, storage.getMaximumStoreSize() );
   }
 
-  private void populateUntilOverflowThresholdIsReached() {
-    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
-    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE - 1; i++ ) {
-      Integer key = new Integer( i );
-      Point point = new Point( i, i );
-      storage.storeTextSize( key, point );
-    }
-  }
-
-  private Point updateTimestampOnFirstEntry() {
-    return storage.lookupTextSize( KEY_FIRST );
-  }
-
-  private void checkRangeCleanup() {
-    assertNull( storage.lookupTextSize( new Integer( 99 ) ) );
-  }
-
-  private void checkLatestEntriesExist() {
-    assertEquals( SIZE_OVERFLOW, storage.lookupTextSize( KEY_OVERFLOW ) );
-    assertEquals( new Point( 101, 101 ), storage.lookupTextSize( new Integer( 101 ) ) );
-  }
-
-  private void checkTimestampOrdering() {
-    assertEquals( SIZE_FIRST, storage.lookupTextSize( KEY_FIRST ) );
-  }
-
-  private void forceOverflow() {
-    storage.storeTextSize( KEY_OVERFLOW, SIZE_OVERFLOW );
-  }
 }
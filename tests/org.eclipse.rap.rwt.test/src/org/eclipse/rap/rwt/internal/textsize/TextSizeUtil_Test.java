@@ -13,7 +13,10 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
@@ -42,6 +45,7 @@ public class TextSizeUtil_Test {
 
   @After
   public void tearDown() {
+    getApplicationContext().setTextMeasurer( null );
     Fixture.tearDown();
   }
 
@@ -89,6 +93,51 @@ public class TextSizeUtil_Test {
     assertEquals( storedSize, determinedSize );
   }
 
+  @Test
+  public void testStringExtent_usesServerTextMeasurement() {
+    TextMeasurer measurer = mock( TextMeasurer.class );
+    when( measurer.stringExtent( FONT_DATA, TEST_STRING ) ).thenReturn( new Point( 42, 12 ) );
+    getApplicationContext().setTextMeasurer( measurer );
+
+    Point determined = TextSizeUtil.stringExtent( getFont(), TEST_STRING );
+
+    assertEquals( new Point( 42, 12 ), determined );
+  }
+
+  @Test
+  public void testStringExtent_verifiesServerTextMeasurement() {
+    TextMeasurer measurer = mock( TextMeasurer.class );
+    when( measurer.stringExtent( FONT_DATA, TEST_STRING ) ).thenReturn( new Point( 42, 12 ) );
+    getApplicationContext().setTextMeasurer( measurer );
+
+    TextSizeUtil.stringExtent( getFont(), TEST_STRING );
+
+    assertEquals( 1, getMeasurementItems().length );
+    assertEquals( new Point( 42, 12 ), getMeasurementItems()[ 0 ].getComputedSize() );
+  }
+
+  @Test
+  public void testStringExtent_doesNotVerifyServerTextMeasurementIfTemporaryResize() {
+    TextMeasurer measurer = mock( TextMeasurer.class );
+    when( measurer.stringExtent( FONT_DATA, TEST_STRING ) ).thenReturn( new Point( 42, 12 ) );
+    getApplicationContext().setTextMeasurer( measurer );
+    markTemporaryResize();
+
+    TextSizeUtil.stringExtent( getFont(), TEST_STRING );
+
+    assertEquals( 0, getMeasurementItems().length );
+  }
+
+  @Test
+  public void testStringExtent_usesEstimationIfServerTextMeasurementFails() {
+    getApplicationContext().setTextMeasurer( mock( TextMeasurer.class ) );
+
+    Point determined = TextSizeUtil.stringExtent( getFont(), TEST_STRING );
+
+    assertEquals( TextSizeEstimation.stringExtent( getFont(), TEST_STRING ), determined );
+    assertNull( getMeasurementItems()[ 0 ].getComputedSize() );
+  }
+
   @Test
   public void testStringExtent_forEmptyString() {
     Point emptyStringSize = TextSizeUtil.stringExtent( getFont(), "" );
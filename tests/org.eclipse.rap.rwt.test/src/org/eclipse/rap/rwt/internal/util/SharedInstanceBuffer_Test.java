@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,14 +10,28 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.junit.Before;
 import org.junit.Test;
@@ -106,6 +120,164 @@ public class SharedInstanceBuffer_Test {
     assertSame( value, removed );
   }
 
+  @Test
+  public void testGet_createsInstanceOnceForConcurrentCalls() throws InterruptedException {
+    final AtomicInteger creationCount = new AtomicInteger();
+    final InstanceCreator<Object, Object> instanceCreator = new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        creationCount.incrementAndGet();
+        Thread.yield();
+        return new Object();
+      }
+    };
+    final Set<Object> instances = Collections.synchronizedSet( new HashSet<Object>() );
+    Runnable runnable = new Runnable() {
+      @Override
+      public void run() {
+        instances.add( keyValueStore.get( key, instanceCreator ) );
+      }
+    };
+
+    joinThreads( startThreads( 20, runnable ) );
+
+    assertEquals( 1, creationCount.get() );
+    assertEquals( 1, instances.size() );
+  }
+
+  @Test
+  public void testGet_doesNotWaitForCreationOfOtherKey() throws InterruptedException {
+    final CountDownLatch creationStarted = new CountDownLatch( 1 );
+    final CountDownLatch releaseCreation = new CountDownLatch( 1 );
+    final AtomicBoolean creationFinished = new AtomicBoolean();
+    final InstanceCreator<Object, Object> blockingCreator = new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        creationStarted.countDown();
+        try {
+          releaseCreation.await( 5, TimeUnit.SECONDS );
+        } catch( InterruptedException exception ) {
+          Thread.currentThread().interrupt();
+        }
+        creationFinished.set( true );
+        return value;
+      }
+    };
+    Thread[] threads = startThreads( 1, new Runnable() {
+      @Override
+      public void run() {
+        keyValueStore.get( key, blockingCreator );
+      }
+    } );
+    creationStarted.await();
+
+    Object otherValue = keyValueStore.get( "otherKey", mockInstanceCreator( "otherValue" ) );
+
+    assertFalse( creationFinished.get() );
+    assertEquals( "otherValue", otherValue );
+    releaseCreation.countDown();
+    joinThreads( threads );
+  }
+
+  @Test
+  public void testGet_createsInstanceOfOtherKeyInCreator() {
+    final InstanceCreator<Object, Object> otherCreator = mockInstanceCreator( "otherValue" );
+    InstanceCreator<Object, Object> instanceCreator = new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        return keyValueStore.get( "otherKey", otherCreator );
+      }
+    };
+
+    Object returnedValue = keyValueStore.get( key, instanceCreator );
+
+    assertEquals( "otherValue", returnedValue );
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testGet_failsForRecursiveCreationOfSameKey() {
+    InstanceCreator<Object, Object> instanceCreator = new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        return keyValueStore.get( key, this );
+      }
+    };
+
+    keyValueStore.get( key, instanceCreator );
+  }
+
+  @Test
+  public void testGet_failsForCyclicCreationOfKeysInDifferentThreads() throws Exception {
+    final CountDownLatch creationsStarted = new CountDownLatch( 2 );
+    final Set<String> crossedKeys = Collections.synchronizedSet( new HashSet<String>() );
+    final InstanceCreator<Object, Object> instanceCreator = new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        if( crossedKeys.add( ( String )key ) ) {
+          creationsStarted.countDown();
+          try {
+            creationsStarted.await( 5, TimeUnit.SECONDS );
+          } catch( InterruptedException exception ) {
+            Thread.currentThread().interrupt();
+          }
+          keyValueStore.get( "a".equals( key ) ? "b" : "a", this );
+        }
+        return key;
+      }
+    };
+    final Set<Throwable> exceptions = Collections.synchronizedSet( new HashSet<Throwable>() );
+    Thread[] threads = new Thread[ 2 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      final String startKey = i == 0 ? "a" : "b";
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          try {
+            keyValueStore.get( startKey, instanceCreator );
+          } catch( IllegalStateException exception ) {
+            exceptions.add( exception );
+          }
+        }
+      } );
+      threads[ i ].setDaemon( true );
+      threads[ i ].start();
+    }
+
+    for( Thread thread : threads ) {
+      thread.join( 5000 );
+      assertFalse( thread.isAlive() );
+    }
+    assertEquals( 1, exceptions.size() );
+  }
+
+  @Test
+  public void testGet_retriesAfterFailedCreation() {
+    InstanceCreator<Object, Object> instanceCreator = mockInstanceCreator( value );
+    when( instanceCreator.createInstance( key ) )
+      .thenThrow( new IllegalStateException() )
+      .thenReturn( value );
+    try {
+      keyValueStore.get( key, instanceCreator );
+      fail();
+    } catch( IllegalStateException expected ) {
+    }
+
+    Object returnedValue = keyValueStore.get( key, instanceCreator );
+
+    assertSame( value, returnedValue );
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    keyValueStore.get( null, mockInstanceCreator( "nullValue" ) );
+    keyValueStore.get( "key", mockInstanceCreator( "value" ) );
+
+    SharedInstanceBuffer<Object, Object> deserialized = serializeAndDeserialize( keyValueStore );
+
+    assertEquals( "nullValue", deserialized.get( null, mockInstanceCreator( "other" ) ) );
+    assertEquals( "value", deserialized.get( "key", mockInstanceCreator( "other" ) ) );
+  }
+
   @SuppressWarnings( "unchecked" )
   private static InstanceCreator<Object, Object> mockInstanceCreator( Object value ) {
     InstanceCreator mock = mock( InstanceCreator.class );
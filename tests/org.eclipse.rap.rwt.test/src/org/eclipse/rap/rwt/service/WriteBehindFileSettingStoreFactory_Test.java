@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.UUID;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class WriteBehindFileSettingStoreFactory_Test {
+
+  private SettingStoreFactory factory;
+  private File directory;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    directory = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    directory.deleteOnExit();
+    String path = directory.getAbsolutePath();
+    Fixture.getServletContext().setInitParameter( FileSettingStore.FILE_SETTING_STORE_DIR, path );
+    factory = new WriteBehindFileSettingStoreFactory();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_failsWithNullId() {
+    factory.createSettingStore( null );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_failsWithEmptyId() {
+    factory.createSettingStore( "" );
+  }
+
+  @Test
+  public void testCreate_createsInstancesWithCorrectType() {
+    SettingStore instance = factory.createSettingStore( "id" );
+
+    assertSame( WriteBehindFileSettingStore.class, instance.getClass() );
+  }
+
+  @Test
+  public void testCreate_usesFileSettingStoreDirectory() {
+    factory.createSettingStore( "id" );
+
+    assertTrue( directory.isDirectory() );
+  }
+
+  @Test
+  public void testCreate_loadsSettingsWrittenBefore() throws Exception {
+    WriteBehindFileSettingStore store
+      = ( WriteBehindFileSettingStore )factory.createSettingStore( "id" );
+    store.setAttribute( "key", "value" );
+    store.flush();
+
+    SettingStore loaded = new WriteBehindFileSettingStoreFactory().createSettingStore( "id" );
+
+    assertEquals( "value", loaded.getAttribute( "key" ) );
+  }
+
+}
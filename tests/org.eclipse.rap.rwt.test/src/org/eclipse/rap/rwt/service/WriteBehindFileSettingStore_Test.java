@@ -0,0 +1,381 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import static org.eclipse.rap.rwt.service.WriteBehindFileSettingStore.COMPACTION_THRESHOLD;
+import static org.eclipse.rap.rwt.service.WriteBehindFileSettingStore.JOURNAL_SUFFIX;
+import static org.eclipse.rap.rwt.service.WriteBehindFileSettingStore.MAX_RETRIES;
+import static org.eclipse.rap.rwt.service.WriteBehindFileSettingStore.OLD_JOURNAL_SUFFIX;
+import static org.eclipse.rap.rwt.service.WriteBehindFileSettingStore.TEMP_SUFFIX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class WriteBehindFileSettingStore_Test {
+
+  private static final String STORE_ID = "1234_0";
+
+  private File workDir;
+  private List<Runnable> tasks;
+  private Executor executor;
+  private WriteBehindFileSettingStore store;
+
+  @Before
+  public void setUp() throws IOException {
+    workDir = FileUtil.createTempDir();
+    tasks = new ArrayList<>();
+    executor = new Executor() {
+      @Override
+      public void execute( Runnable command ) {
+        tasks.add( command );
+      }
+    };
+    store = createStore( STORE_ID );
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( workDir );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_failsWithNonExistingDirectory() {
+    new WriteBehindFileSettingStore( new File( workDir, "foo" ), executor );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_failsWithNullExecutor() {
+    new WriteBehindFileSettingStore( workDir, null );
+  }
+
+  @Test
+  public void testSetAttribute_doesNotWriteInCallingThread() {
+    store.setAttribute( "key", "value" );
+
+    assertEquals( "value", store.getAttribute( "key" ) );
+    assertFalse( getJournalFile().exists() );
+    assertEquals( 1, tasks.size() );
+  }
+
+  @Test
+  public void testSetAttribute_coalescesChanges() {
+    store.setAttribute( "key1", "value1" );
+    store.setAttribute( "key2", "value2" );
+    store.removeAttribute( "key1" );
+
+    assertEquals( 1, tasks.size() );
+  }
+
+  @Test
+  public void testSetAttribute_doesNotScheduleUnchangedValue() {
+    store.setAttribute( "key", "value" );
+    runTasks();
+
+    store.setAttribute( "key", "value" );
+
+    assertEquals( 0, tasks.size() );
+  }
+
+  @Test
+  public void testSetAttribute_schedulesAgainAfterWrite() {
+    store.setAttribute( "key", "value" );
+    runTasks();
+
+    store.setAttribute( "key", "value2" );
+
+    assertEquals( 1, tasks.size() );
+  }
+
+  @Test
+  public void testSetAttribute_writesWhenExecutorIsShutDown() throws IOException {
+    executor = new Executor() {
+      @Override
+      public void execute( Runnable command ) {
+        throw new RejectedExecutionException();
+      }
+    };
+    store = createStore( STORE_ID );
+
+    store.setAttribute( "key", "value" );
+
+    assertEquals( "value", createStore( STORE_ID ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testLoadById_replaysJournal() throws IOException {
+    store.setAttribute( "key1", "value1" );
+    store.setAttribute( "key2", "value2" );
+    runTasks();
+    store.removeAttribute( "key1" );
+    store.setAttribute( "key2", "new value" );
+    runTasks();
+
+    WriteBehindFileSettingStore loaded = createStore( STORE_ID );
+
+    assertTrue( getJournalFile().exists() );
+    assertNull( loaded.getAttribute( "key1" ) );
+    assertEquals( "new value", loaded.getAttribute( "key2" ) );
+  }
+
+  @Test
+  public void testLoadById_ignoresIncompleteJournalBlock() throws IOException {
+    store.setAttribute( "key", "value1" );
+    runTasks();
+    store.setAttribute( "key", "value2" );
+    runTasks();
+    truncate( getJournalFile(), 3 );
+
+    WriteBehindFileSettingStore loaded = createStore( STORE_ID );
+
+    assertEquals( "value1", loaded.getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testLoadById_writesPendingChangesOfPreviousId() throws IOException {
+    store.setAttribute( "key", "value" );
+
+    store.loadById( "5678_0" );
+
+    assertNull( store.getAttribute( "key" ) );
+    assertEquals( "value", createStore( STORE_ID ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testFlush_writesPendingChanges() throws IOException {
+    store.setAttribute( "key", "value" );
+
+    store.flush();
+
+    assertEquals( "value", createStore( STORE_ID ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testFlush_compactsLargeJournal() throws IOException {
+    for( int i = 0; i < COMPACTION_THRESHOLD; i++ ) {
+      store.setAttribute( "key" + i, "value" + i );
+    }
+
+    store.flush();
+
+    assertFalse( getJournalFile().exists() );
+    assertEquals( COMPACTION_THRESHOLD, readSettingsFile().size() );
+    assertEquals( "value0", createStore( STORE_ID ).getAttribute( "key0" ) );
+  }
+
+  @Test
+  public void testFlush_settingsFileIsReadableByFileSettingStore() throws IOException {
+    for( int i = 0; i < COMPACTION_THRESHOLD; i++ ) {
+      store.setAttribute( "key" + i, "value" + i );
+    }
+    store.flush();
+
+    FileSettingStore fileSettingStore = new FileSettingStore( workDir );
+    fileSettingStore.loadById( STORE_ID );
+
+    assertEquals( "value1", fileSettingStore.getAttribute( "key1" ) );
+  }
+
+  @Test
+  public void testFlush_removesOldJournalAfterCompaction() throws IOException {
+    store.setAttribute( "key", "value" );
+    store.flush();
+    for( int i = 0; i < COMPACTION_THRESHOLD; i++ ) {
+      store.setAttribute( "key" + i, "value" + i );
+    }
+
+    store.flush();
+
+    assertFalse( getJournalFile().exists() );
+    assertFalse( getOldJournalFile().exists() );
+    assertFalse( getTempFile().exists() );
+  }
+
+  @Test
+  public void testLoadById_ignoresJournalOfCompletedCompaction() throws IOException {
+    // the server stopped after the settings file was replaced, before the journal was deleted
+    store.setAttribute( "key", "old value" );
+    store.flush();
+    assertTrue( getJournalFile().renameTo( getOldJournalFile() ) );
+    Properties settings = new Properties();
+    settings.setProperty( "key", "new value" );
+    writeSettingsFile( settings );
+
+    WriteBehindFileSettingStore loaded = createStore( STORE_ID );
+
+    assertEquals( "new value", loaded.getAttribute( "key" ) );
+    assertFalse( getOldJournalFile().exists() );
+  }
+
+  @Test
+  public void testLoadById_replaysJournalOfIncompleteCompaction() throws IOException {
+    // the server stopped after the journal was moved, before the settings file was replaced
+    store.setAttribute( "key", "value" );
+    store.flush();
+    assertTrue( getJournalFile().renameTo( getOldJournalFile() ) );
+    assertTrue( getTempFile().createNewFile() );
+
+    WriteBehindFileSettingStore loaded = createStore( STORE_ID );
+
+    assertEquals( "value", loaded.getAttribute( "key" ) );
+    assertTrue( getJournalFile().exists() );
+    assertFalse( getOldJournalFile().exists() );
+    assertFalse( getTempFile().exists() );
+  }
+
+  @Test
+  public void testFlush_keepsChangesAfterWriteFailure() throws IOException {
+    // a directory in place of the journal makes the write fail
+    assertTrue( getJournalFile().mkdir() );
+    store.setAttribute( "key1", "value1" );
+    store.flush();
+    assertTrue( getJournalFile().delete() );
+
+    store.setAttribute( "key2", "value2" );
+    store.flush();
+
+    WriteBehindFileSettingStore loaded = createStore( STORE_ID );
+    assertEquals( "value1", loaded.getAttribute( "key1" ) );
+    assertEquals( "value2", loaded.getAttribute( "key2" ) );
+  }
+
+  @Test
+  public void testFlush_replacesSettingsFileAfterWriteFailure() throws IOException {
+    assertTrue( getJournalFile().mkdir() );
+    store.setAttribute( "key", "value" );
+    store.flush();
+    assertTrue( getJournalFile().delete() );
+
+    store.flush();
+
+    assertEquals( "value", readSettingsFile().getProperty( "key" ) );
+    assertFalse( getJournalFile().exists() );
+  }
+
+  @Test
+  public void testSetAttribute_retriesFailedWrite() throws IOException {
+    assertTrue( getJournalFile().mkdir() );
+    store.setAttribute( "key", "value" );
+    runTasks();
+    assertTrue( getJournalFile().delete() );
+
+    assertEquals( 1, tasks.size() );
+    runTasks();
+
+    assertEquals( "value", createStore( STORE_ID ).getAttribute( "key" ) );
+    assertEquals( 0, tasks.size() );
+  }
+
+  @Test
+  public void testSetAttribute_limitsRetriesOfFailedWrite() {
+    // directories in place of the journal and the temporary file make all writes fail
+    assertTrue( getJournalFile().mkdir() );
+    assertTrue( getTempFile().mkdir() );
+    store.setAttribute( "key", "value" );
+
+    int writes = 0;
+    while( !tasks.isEmpty() ) {
+      runTasks();
+      writes++;
+    }
+
+    assertEquals( MAX_RETRIES + 1, writes );
+    store.setAttribute( "key", "value2" );
+    assertEquals( 1, tasks.size() );
+  }
+
+  @Test
+  public void testLoadById_notifiesListeners() throws IOException {
+    store.setAttribute( "key1", "value1" );
+    store.setAttribute( "key2", "value2" );
+    store.flush();
+    WriteBehindFileSettingStore otherStore = createStore( "5678_0" );
+    FTSettingStoreListener listener = new FTSettingStoreListener();
+    otherStore.addSettingStoreListener( listener );
+
+    otherStore.loadById( STORE_ID );
+
+    assertEquals( 2, listener.getCount() );
+  }
+
+  private WriteBehindFileSettingStore createStore( String id ) throws IOException {
+    WriteBehindFileSettingStore result = new WriteBehindFileSettingStore( workDir, executor );
+    result.loadById( id );
+    return result;
+  }
+
+  private void runTasks() {
+    List<Runnable> scheduledTasks = new ArrayList<>( tasks );
+    tasks.clear();
+    for( Runnable task : scheduledTasks ) {
+      task.run();
+    }
+  }
+
+  private File getJournalFile() {
+    return new File( workDir, STORE_ID + JOURNAL_SUFFIX );
+  }
+
+  private File getOldJournalFile() {
+    return new File( workDir, STORE_ID + OLD_JOURNAL_SUFFIX );
+  }
+
+  private File getTempFile() {
+    return new File( workDir, STORE_ID + TEMP_SUFFIX );
+  }
+
+  private void writeSettingsFile( Properties settings ) throws IOException {
+    FileOutputStream outputStream = new FileOutputStream( new File( workDir, STORE_ID ) );
+    try {
+      settings.store( outputStream, null );
+    } finally {
+      outputStream.close();
+    }
+  }
+
+  private Properties readSettingsFile() throws IOException {
+    Properties result = new Properties();
+    FileInputStream inputStream = new FileInputStream( new File( workDir, STORE_ID ) );
+    try {
+      result.load( inputStream );
+    } finally {
+      inputStream.close();
+    }
+    return result;
+  }
+
+  private static void truncate( File file, int bytes ) throws IOException {
+    RandomAccessFile randomAccessFile = new RandomAccessFile( file, "rw" );
+    try {
+      randomAccessFile.setLength( randomAccessFile.length() - bytes );
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class ChangedWidgets_Test {
+
+  private Shell shell;
+  private ChangedWidgets changedWidgets;
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  @Before
+  public void setUp() {
+    Display display = new Display();
+    shell = new Shell( display );
+    changedWidgets = new ChangedWidgets();
+  }
+
+  @Test
+  public void testAdd_registersAncestors() {
+    Composite composite = new Composite( shell, SWT.NONE );
+    Button button = new Button( composite, SWT.PUSH );
+
+    changedWidgets.add( button );
+
+    assertTrue( changedWidgets.isChanged( button ) );
+    assertTrue( changedWidgets.isAncestor( button ) );
+    assertTrue( changedWidgets.isAncestor( composite ) );
+    assertTrue( changedWidgets.isAncestor( shell ) );
+    assertFalse( changedWidgets.isChanged( composite ) );
+  }
+
+  @Test
+  public void testAdd_doesNotRegisterSiblings() {
+    Composite composite = new Composite( shell, SWT.NONE );
+    Composite sibling = new Composite( shell, SWT.NONE );
+
+    changedWidgets.add( new Button( composite, SWT.PUSH ) );
+
+    assertFalse( changedWidgets.isAncestor( sibling ) );
+  }
+
+  @Test
+  public void testAdd_registersEnclosingControlOfItem() {
+    Tree tree = new Tree( shell, SWT.NONE );
+    TreeItem subItem = new TreeItem( new TreeItem( tree, SWT.NONE ), SWT.NONE );
+
+    changedWidgets.add( subItem );
+
+    assertTrue( changedWidgets.isAncestor( tree ) );
+    assertTrue( changedWidgets.isAncestor( shell ) );
+  }
+
+  @Test
+  public void testAdd_afterReparent() {
+    Composite oldParent = new Composite( shell, SWT.NONE );
+    Composite newParent = new Composite( shell, SWT.NONE );
+    Button button = new Button( oldParent, SWT.PUSH );
+    changedWidgets.add( button );
+
+    button.setParent( newParent );
+    changedWidgets.add( button );
+
+    assertTrue( changedWidgets.isAncestor( newParent ) );
+  }
+
+  @Test
+  public void testAddCreated_registersGivenParent() {
+    Composite composite = new Composite( shell, SWT.NONE );
+    Button button = new Button( shell, SWT.PUSH );
+
+    changedWidgets.addCreated( button, composite );
+
+    assertTrue( changedWidgets.isChanged( button ) );
+    assertTrue( changedWidgets.isAncestor( composite ) );
+  }
+
+  @Test
+  public void testAddUntrackedWidgets() {
+    Button button = new Button( shell, SWT.PUSH );
+    changedWidgets.addUntracked( button );
+
+    changedWidgets.addUntrackedWidgets();
+
+    assertTrue( changedWidgets.isChanged( button ) );
+    assertTrue( changedWidgets.isAncestor( shell ) );
+  }
+
+  @Test
+  public void testGetUntrackedWidgets_skipsDisposedWidgets() {
+    Button button = new Button( shell, SWT.PUSH );
+    Button disposed = new Button( shell, SWT.PUSH );
+    changedWidgets.addUntracked( button );
+    changedWidgets.addUntracked( disposed );
+
+    disposed.dispose();
+
+    assertEquals( Arrays.asList( button ), changedWidgets.getUntrackedWidgets() );
+  }
+
+  @Test
+  public void testClear() {
+    Button button = new Button( shell, SWT.PUSH );
+    changedWidgets.add( button );
+    changedWidgets.addUntracked( button );
+
+    changedWidgets.clear();
+
+    assertFalse( changedWidgets.isChanged( button ) );
+    assertFalse( changedWidgets.isAncestor( shell ) );
+    assertEquals( 1, changedWidgets.getUntrackedWidgets().size() );
+  }
+
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TimerExecExecutor_Test {
+
+  private TimerExecExecutor executor;
+
+  @Before
+  public void setUp() {
+    executor = new TimerExecExecutor();
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void testCreation_doesNotStartThread() {
+    assertFalse( executor.isRunning() );
+  }
+
+  @Test
+  public void testSchedule_runsRunnable() {
+    Runnable runnable = mock( Runnable.class );
+
+    executor.schedule( runnable, 1 );
+
+    verify( runnable, timeout( 1000 ) ).run();
+  }
+
+  @Test
+  public void testSchedule_startsThread() {
+    executor.schedule( mock( Runnable.class ), 1000 );
+
+    assertTrue( executor.isRunning() );
+  }
+
+  @Test
+  public void testSchedule_returnsCancelableFuture() {
+    ScheduledFuture<?> future = executor.schedule( mock( Runnable.class ), 1000 );
+
+    assertTrue( future.cancel( false ) );
+  }
+
+  @Test
+  public void testShutdown_stopsThread() {
+    executor.schedule( mock( Runnable.class ), 1000 );
+
+    executor.shutdown();
+
+    assertFalse( executor.isRunning() );
+  }
+
+  @Test( expected = RejectedExecutionException.class )
+  public void testSchedule_afterShutdown() {
+    executor.shutdown();
+
+    executor.schedule( mock( Runnable.class ), 1 );
+  }
+
+  @Test
+  public void testSchedule_afterShutdownDoesNotStartThread() {
+    executor.shutdown();
+
+    try {
+      executor.schedule( mock( Runnable.class ), 1 );
+    } catch( @SuppressWarnings( "unused" ) RejectedExecutionException expected ) {
+    }
+
+    assertFalse( executor.isRunning() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -124,6 +124,50 @@ public class WidgetRemoteAdapter_Test {
     assertNull( adapter.getPreserved( "prop" ) );
   }
 
+  @Test
+  public void testTrackChanges_reportsPreservedProperty() {
+    Shell shell = new Shell( display );
+    ChangedWidgets changedWidgets = new ChangedWidgets();
+    adapter.trackChanges( shell, changedWidgets );
+
+    adapter.preserve( "prop", new Object() );
+
+    assertTrue( changedWidgets.isChanged( shell ) );
+  }
+
+  @Test
+  public void testTrackChanges_reportsMarkPreserved() {
+    Shell shell = new Shell( display );
+    ChangedWidgets changedWidgets = new ChangedWidgets();
+    adapter.trackChanges( shell, changedWidgets );
+
+    adapter.markPreserved( 3 );
+
+    assertTrue( changedWidgets.isChanged( shell ) );
+  }
+
+  @Test
+  public void testTrackChanges_reportsRenderRunnable() {
+    Shell shell = new Shell( display );
+    ChangedWidgets changedWidgets = new ChangedWidgets();
+    adapter.trackChanges( shell, changedWidgets );
+
+    adapter.addRenderRunnable( mock( Runnable.class ) );
+
+    assertTrue( changedWidgets.isChanged( shell ) );
+  }
+
+  @Test
+  public void testTrackChanges_notReportedWithoutChange() {
+    Shell shell = new Shell( display );
+    ChangedWidgets changedWidgets = new ChangedWidgets();
+    adapter.trackChanges( shell, changedWidgets );
+
+    adapter.getPreserved( "prop" );
+
+    assertFalse( changedWidgets.isChanged( shell ) );
+  }
+
   @Test
   public void testGetRenderRunnables_initial() {
     assertEquals( 0, adapter.getRenderRunnables().length );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,8 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -45,6 +47,7 @@ import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
@@ -73,6 +76,7 @@ import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.ChangedWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Button;
@@ -107,6 +111,7 @@ public class DisplayLCA_Test {
   public void tearDown() {
     Fixture.tearDown();
     setEnableUiTests( false );
+    System.getProperties().remove( RWTProperties.CHANGE_TRACKING );
   }
 
   @Test
@@ -395,6 +400,174 @@ public class DisplayLCA_Test {
     assertTrue( operations.indexOf( destroyOperation ) < operations.indexOf( createOperation ) );
   }
 
+  @Test
+  public void testPreserveValues_withChangeTracking() {
+    enableChangeTracking();
+    WidgetLCA<Widget> lca = mockChangeTrackingLCA();
+    Shell shell = new CustomLCAShell( display, lca );
+    Widget widget = new CustomLCAWidget( shell, lca );
+    Fixture.markInitialized( display );
+
+    displayLCA.preserveValues( display );
+
+    verify( lca, never() ).preserveValues( shell );
+    verify( lca, never() ).preserveValues( widget );
+  }
+
+  @Test
+  public void testPreserveValues_withChangeTracking_preservesNonTrackingLCA() throws IOException {
+    enableChangeTracking();
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    Widget widget = new CustomLCAWidget( shell, lca );
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( widget );
+
+    displayLCA.preserveValues( display );
+
+    verify( lca ).preserveValues( shell );
+    verify( lca ).preserveValues( widget );
+  }
+
+  @Test
+  public void testRender_withChangeTracking_skipsUnchangedWidget() throws IOException {
+    enableChangeTracking();
+    WidgetLCA<Widget> lca = mockChangeTrackingLCA();
+    Shell shell = new CustomLCAShell( display, lca );
+    Widget widget = new CustomLCAWidget( shell, lca );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( widget );
+    displayLCA.clearPreserved( display );
+
+    displayLCA.render( display );
+
+    verify( lca, never() ).render( shell );
+    verify( lca, never() ).render( widget );
+  }
+
+  @Test
+  public void testRender_withChangeTracking_rendersChangedWidget() throws IOException {
+    enableChangeTracking();
+    WidgetLCA<Widget> lca = mockChangeTrackingLCA();
+    Shell shell = new CustomLCAShell( display, lca );
+    Control control = new CustomLCAWidget( shell, lca );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( control );
+    displayLCA.clearPreserved( display );
+
+    control.setToolTipText( "foo" );
+    displayLCA.render( display );
+
+    verify( lca, never() ).render( shell );
+    verify( lca ).render( control );
+  }
+
+  @Test
+  public void testRender_withChangeTracking_skipsUnchangedSubtree() throws IOException {
+    enableChangeTracking();
+    WidgetLCA<Widget> lca = mockChangeTrackingLCA();
+    Shell shell = new CustomLCAShell( display, lca );
+    Composite unchanged = new CustomLCAWidget( shell, lca );
+    Control unchangedChild = new CustomLCAWidget( unchanged, lca );
+    Composite parent = new CustomLCAWidget( shell, lca );
+    Control changedChild = new CustomLCAWidget( parent, lca );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( unchanged );
+    Fixture.markInitialized( unchangedChild );
+    Fixture.markInitialized( parent );
+    Fixture.markInitialized( changedChild );
+    displayLCA.clearPreserved( display );
+
+    changedChild.setToolTipText( "foo" );
+    displayLCA.render( display );
+
+    verify( lca ).render( changedChild );
+    verify( lca, never() ).render( parent );
+    verify( lca, never() ).render( unchanged );
+    verify( lca, never() ).render( unchangedChild );
+  }
+
+  @Test
+  public void testRender_withChangeTracking_rendersUninitializedWidget() throws IOException {
+    enableChangeTracking();
+    WidgetLCA<Widget> lca = mockChangeTrackingLCA();
+    Shell shell = new CustomLCAShell( display, lca );
+    Fixture.markInitialized( shell );
+    displayLCA.clearPreserved( display );
+
+    Widget widget = new CustomLCAWidget( shell, lca );
+    displayLCA.render( display );
+
+    verify( lca ).render( widget );
+  }
+
+  @Test
+  public void testRender_withChangeTracking_rendersNonTrackingLCA() throws IOException {
+    enableChangeTracking();
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    Widget widget = new CustomLCAWidget( shell, lca );
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( widget );
+
+    displayLCA.preserveValues( display );
+    displayLCA.render( display );
+
+    verify( lca, times( 2 ) ).render( shell );
+    verify( lca, times( 2 ) ).render( widget );
+  }
+
+  @Test
+  public void testRender_withoutChangeTracking_rendersUnchangedWidget() throws IOException {
+    WidgetLCA<Widget> lca = mockChangeTrackingLCA();
+    Shell shell = new CustomLCAShell( display, lca );
+    Widget widget = new CustomLCAWidget( shell, lca );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( widget );
+    displayLCA.clearPreserved( display );
+
+    displayLCA.render( display );
+
+    verify( lca ).render( shell );
+    verify( lca ).render( widget );
+  }
+
+  @Test
+  public void testRender_withChangeTracking_runsRenderRunnables() throws IOException {
+    enableChangeTracking();
+    WidgetLCA<Widget> lca = mockChangeTrackingLCA();
+    Shell shell = new CustomLCAShell( display, lca );
+    Fixture.markInitialized( shell );
+    displayLCA.clearPreserved( display );
+    Runnable renderRunnable = mock( Runnable.class );
+    ( ( WidgetRemoteAdapter )getAdapter( shell ) ).addRenderRunnable( renderRunnable );
+
+    displayLCA.render( display );
+
+    verify( renderRunnable ).run();
+  }
+
+  @Test
+  public void testClearPreserved_withChangeTracking_clearsChangedWidgets() {
+    enableChangeTracking();
+    Shell shell = new Shell( display );
+    Control control = new Button( shell, SWT.PUSH );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( control );
+    control.setToolTipText( "foo" );
+
+    displayLCA.clearPreserved( display );
+
+    ChangedWidgets changedWidgets = display.getAdapter( ChangedWidgets.class );
+    assertFalse( changedWidgets.isChanged( control ) );
+    assertFalse( changedWidgets.isAncestor( shell ) );
+  }
+
   @Test
   public void testRenderRunnablesAreExecutedAndCleared_onWidget() throws IOException {
     Widget widget = new Shell( display );
@@ -642,6 +815,19 @@ public class DisplayLCA_Test {
     }
   }
 
+  private void enableChangeTracking() {
+    System.setProperty( RWTProperties.CHANGE_TRACKING, "true" );
+    display.dispose();
+    display = new Display();
+    displayId = DisplayUtil.getId( display );
+  }
+
+  private static WidgetLCA<Widget> mockChangeTrackingLCA() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    when( Boolean.valueOf( lca.isChangeTracking() ) ).thenReturn( Boolean.TRUE );
+    return lca;
+  }
+
   private static void registerDefaultEntryPoint( Class< ? extends EntryPoint> entryPoint,
                                                  Map<String, String> properties )
   {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,11 +30,14 @@ import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.lifecycle.RenderCache;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.rap.rwt.scripting.ClientListener;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -71,6 +74,7 @@ public class LabelLCA_Test {
   @After
   public void tearDown() {
     Fixture.tearDown();
+    System.getProperties().remove( RWTProperties.RENDER_CACHE );
   }
 
   @Test
@@ -382,4 +386,79 @@ public class LabelLCA_Test {
     assertNotNull( message.findCallOperation( label, "addListener" ) );
   }
 
+  @Test
+  public void testRender_withRenderCache_replaysOperationsOfEqualLabel() throws IOException {
+    enableRenderCache();
+    Label label1 = createLabel( "foo" );
+    Label label2 = createLabel( "foo" );
+
+    lca.render( label1 );
+    lca.render( label2 );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( "foo", message.findCreateProperty( label2, "text" ).asString() );
+    JsonValue bounds = message.findCreateProperty( label1, "bounds" );
+    assertEquals( bounds, message.findCreateProperty( label2, "bounds" ) );
+    assertEquals( 1, getRenderCache().getHitCount() );
+  }
+
+  @Test
+  public void testRender_withRenderCache_rendersDifferentLabel() throws IOException {
+    enableRenderCache();
+    Label label1 = createLabel( "foo" );
+    Label label2 = createLabel( "bar" );
+
+    lca.render( label1 );
+    lca.render( label2 );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( "bar", message.findCreateProperty( label2, "text" ).asString() );
+    assertEquals( 0, getRenderCache().getHitCount() );
+    assertEquals( 2, getRenderCache().getSize() );
+  }
+
+  @Test
+  public void testRender_withRenderCache_skipsLabelWithClientListener() throws IOException {
+    enableRenderCache();
+    label = createLabel( "foo" );
+    label.addListener( SWT.MouseEnter, new ClientListener( "" ) );
+
+    lca.render( label );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( label, "addListener" ) );
+    assertEquals( 0, getRenderCache().getSize() );
+  }
+
+  @Test
+  public void testRender_withRenderCache_skipsInitializedLabel() throws IOException {
+    enableRenderCache();
+    label = createLabel( "foo" );
+    Fixture.markInitialized( label );
+
+    label.setText( "bar" );
+    lca.render( label );
+
+    assertEquals( 0, getRenderCache().getSize() );
+  }
+
+  private void enableRenderCache() {
+    Fixture.tearDown();
+    System.setProperty( RWTProperties.RENDER_CACHE, "true" );
+    Fixture.setUp();
+    display = new Display();
+    shell = new Shell( display );
+  }
+
+  private Label createLabel( String text ) {
+    Label result = new Label( shell, SWT.NONE );
+    result.setText( text );
+    result.setBounds( 10, 20, 100, 30 );
+    return result;
+  }
+
+  private static RenderCache getRenderCache() {
+    return ContextProvider.getApplicationContext().getRenderCache();
+  }
+
 }
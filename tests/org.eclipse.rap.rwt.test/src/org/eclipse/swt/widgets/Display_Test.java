@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1594,6 +1594,87 @@ public class Display_Test {
     }
   }
 
+  @Test
+  public void testAsyncExec_runsQueuedRunnablesInBatch() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable runnable1 = mock( Runnable.class );
+    Runnable runnable2 = mock( Runnable.class );
+    display.asyncExec( runnable1 );
+    display.asyncExec( runnable2 );
+
+    display.readAndDispatch();
+
+    verify( runnable1 ).run();
+    verify( runnable2 ).run();
+    assertEquals( 0, display.getSynchronizer().getMessageCount() );
+  }
+
+  @Test
+  public void testAsyncExecWithKey_delegatesToSynchronizer() {
+    Synchronizer synchronizer = mock( Synchronizer.class );
+    display.setSynchronizer( synchronizer );
+    Runnable runnable = mock( Runnable.class );
+
+    display.asyncExec( "key", runnable );
+
+    verify( synchronizer ).asyncExec( same( "key" ), same( runnable ) );
+  }
+
+  @Test
+  public void testAsyncExecWithKey_failsWithNullKey() {
+    try {
+      display.asyncExec( null, mock( Runnable.class ) );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertEquals( "Argument cannot be null", exception.getMessage() );
+    }
+  }
+
+  @Test
+  public void testAsyncExecWithKey_replacesPendingRunnable() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable runnable1 = mock( Runnable.class );
+    Runnable runnable2 = mock( Runnable.class );
+    display.asyncExec( "key", runnable1 );
+    display.asyncExec( "key", runnable2 );
+
+    while( display.readAndDispatch() ) {
+    }
+
+    verify( runnable1, never() ).run();
+    verify( runnable2 ).run();
+  }
+
+  @Test
+  public void testAsyncExecWithKey_queuesRunnablesWithDifferentKeys() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable runnable1 = mock( Runnable.class );
+    Runnable runnable2 = mock( Runnable.class );
+    display.asyncExec( "key1", runnable1 );
+    display.asyncExec( "key2", runnable2 );
+
+    while( display.readAndDispatch() ) {
+    }
+
+    verify( runnable1 ).run();
+    verify( runnable2 ).run();
+  }
+
+  @Test
+  public void testAsyncExecWithKey_queuesRunnableAgainAfterRun() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable runnable = mock( Runnable.class );
+    display.asyncExec( "key", runnable );
+    while( display.readAndDispatch() ) {
+    }
+
+    display.asyncExec( "key", runnable );
+    while( display.readAndDispatch() ) {
+    }
+
+    verify( runnable, times( 2 ) ).run();
+  }
+
   @Test
   public void testSyncExec_delegatesToSynchronizer() {
     Synchronizer synchronizer = mock( Synchronizer.class );
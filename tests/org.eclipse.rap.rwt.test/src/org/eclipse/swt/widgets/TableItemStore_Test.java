@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TableItemStore_Test {
+
+  private TableItemStore store;
+
+  @Before
+  public void setUp() {
+    store = new TableItemStore();
+  }
+
+  @Test
+  public void testInitiallyEmpty() {
+    assertEquals( 0, store.size() );
+    assertNull( store.get( 0 ) );
+    assertEquals( 0, store.toArray().length );
+  }
+
+  @Test
+  public void testSet_sparse() {
+    TableItem item1 = mock( TableItem.class );
+    TableItem item2 = mock( TableItem.class );
+
+    store.set( 1000000, item2 );
+    store.set( 10, item1 );
+
+    assertEquals( 2, store.size() );
+    assertSame( item1, store.get( 10 ) );
+    assertSame( item2, store.get( 1000000 ) );
+    assertNull( store.get( 11 ) );
+    assertArrayEquals( new TableItem[] { item1, item2 }, store.toArray() );
+  }
+
+  @Test
+  public void testSet_replaces() {
+    TableItem item1 = mock( TableItem.class );
+    TableItem item2 = mock( TableItem.class );
+    store.set( 5, item1 );
+
+    store.set( 5, item2 );
+
+    assertEquals( 1, store.size() );
+    assertSame( item2, store.get( 5 ) );
+  }
+
+  @Test
+  public void testInsert_movesFollowingRows() {
+    TableItem item1 = mock( TableItem.class );
+    TableItem item2 = mock( TableItem.class );
+    TableItem item3 = mock( TableItem.class );
+    store.set( 2, item1 );
+    store.set( 500, item2 );
+
+    store.insert( 2, item3 );
+
+    assertSame( item3, store.get( 2 ) );
+    assertSame( item1, store.get( 3 ) );
+    assertSame( item2, store.get( 501 ) );
+    assertNull( store.get( 500 ) );
+  }
+
+  @Test
+  public void testInsert_dense() {
+    TableItem[] items = new TableItem[ 10 ];
+    for( int i = 0; i < items.length; i++ ) {
+      items[ i ] = mock( TableItem.class );
+      store.insert( i, items[ i ] );
+    }
+
+    assertEquals( 10, store.size() );
+    assertArrayEquals( items, store.toArray() );
+    for( int i = 0; i < items.length; i++ ) {
+      assertSame( items[ i ], store.get( i ) );
+      assertEquals( i, store.indexAt( i ) );
+    }
+  }
+
+  @Test
+  public void testDelete_createdRow() {
+    TableItem item1 = mock( TableItem.class );
+    TableItem item2 = mock( TableItem.class );
+    store.set( 2, item1 );
+    store.set( 500, item2 );
+
+    store.delete( 2 );
+
+    assertEquals( 1, store.size() );
+    assertNull( store.get( 2 ) );
+    assertSame( item2, store.get( 499 ) );
+  }
+
+  @Test
+  public void testDelete_rowWithoutItem() {
+    TableItem item1 = mock( TableItem.class );
+    TableItem item2 = mock( TableItem.class );
+    store.set( 2, item1 );
+    store.set( 500, item2 );
+
+    store.delete( 100 );
+
+    assertEquals( 2, store.size() );
+    assertSame( item1, store.get( 2 ) );
+    assertSame( item2, store.get( 499 ) );
+  }
+
+  @Test
+  public void testTruncate() {
+    TableItem item1 = mock( TableItem.class );
+    TableItem item2 = mock( TableItem.class );
+    store.set( 2, item1 );
+    store.set( 500, item2 );
+
+    store.truncate( 500 );
+
+    assertEquals( 1, store.size() );
+    assertNull( store.get( 500 ) );
+    assertSame( item1, store.get( 2 ) );
+  }
+
+  @Test
+  public void testCeilingPosition() {
+    store.set( 2, mock( TableItem.class ) );
+    store.set( 500, mock( TableItem.class ) );
+
+    assertEquals( 0, store.ceilingPosition( 0 ) );
+    assertEquals( 0, store.ceilingPosition( 2 ) );
+    assertEquals( 1, store.ceilingPosition( 3 ) );
+    assertEquals( 2, store.ceilingPosition( 501 ) );
+  }
+
+  @Test
+  public void testClear() {
+    store.set( 2, mock( TableItem.class ) );
+
+    store.clear();
+
+    assertEquals( 0, store.size() );
+    assertNull( store.get( 2 ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
@@ -56,6 +57,7 @@ import org.eclipse.swt.internal.widgets.ITableAdapter;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
 import org.eclipse.swt.internal.widgets.tablekit.TableLCA;
 import org.eclipse.swt.layout.FillLayout;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -77,6 +79,11 @@ public class Table_Test {
     table = new Table( shell, SWT.NONE );
   }
 
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.VIRTUAL_ITEM_EVICTION );
+  }
+
   @Test
   public void testInitialValues() {
     assertFalse( table.getHeaderVisible() );
@@ -2874,6 +2881,155 @@ public class Table_Test {
     assertEquals( 200, countResolvedItems( table ) );
   }
 
+  @Test
+  public void testSetItemCount_virtualCreatesNoItems() {
+    table = new Table( shell, SWT.VIRTUAL );
+
+    table.setItemCount( 1000000 );
+
+    assertEquals( 1000000, table.getItemCount() );
+    assertEquals( 0, getTableAdapter( table ).getCreatedItems().length );
+  }
+
+  @Test
+  public void testSetItemCount_virtualDecreaseWithSparseItems() {
+    table = new Table( shell, SWT.VIRTUAL | SWT.MULTI );
+    table.setItemCount( 1000000 );
+    TableItem item10 = table.getItem( 10 );
+    TableItem item500000 = table.getItem( 500000 );
+    table.setSelection( new int[] { 10, 900000 } );
+
+    table.setItemCount( 100 );
+
+    assertEquals( 100, table.getItemCount() );
+    assertTrue( item500000.isDisposed() );
+    assertSame( item10, table.getItem( 10 ) );
+    assertArrayEquals( new int[] { 10 }, table.getSelectionIndices() );
+    assertEquals( 1, getTableAdapter( table ).getCreatedItems().length );
+  }
+
+  @Test
+  public void testRemoveAll_virtualWithManyItems() {
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setItemCount( 1000000 );
+    TableItem item = table.getItem( 1000 );
+
+    table.removeAll();
+
+    assertEquals( 0, table.getItemCount() );
+    assertTrue( item.isDisposed() );
+  }
+
+  @Test
+  public void testInsertItem_virtualMovesCreatedItems() {
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setItemCount( 1000000 );
+    TableItem item = table.getItem( 500000 );
+
+    new TableItem( table, SWT.NONE, 10 );
+
+    assertEquals( 1000001, table.getItemCount() );
+    assertEquals( 500001, table.indexOf( item ) );
+    assertSame( item, table.getItem( 500001 ) );
+  }
+
+  @Test
+  public void testEvictItems_disabledByDefault() {
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( 0 ) );
+    table.setSize( 100, 100 );
+    table.setItemCount( 200 );
+    redrawTable( table );
+
+    table.setTopIndex( 100 );
+    redrawTable( table );
+
+    assertEquals( 8, countResolvedItems( table ) );
+  }
+
+  @Test
+  public void testEvictItems() {
+    System.setProperty( RWTProperties.VIRTUAL_ITEM_EVICTION, "true" );
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( 0 ) );
+    table.setSize( 100, 100 );
+    table.setItemCount( 200 );
+    redrawTable( table );
+    TableItem item = table.getItem( 0 );
+    item.setText( "item" );
+
+    table.setTopIndex( 100 );
+    redrawTable( table );
+
+    assertEquals( 4, countResolvedItems( table ) );
+    assertTrue( getTableAdapter( table ).isItemVirtual( 0 ) );
+    assertFalse( item.isDisposed() );
+    assertEquals( "", item.getText() );
+  }
+
+  @Test
+  public void testEvictItems_requestsDataAgain() {
+    System.setProperty( RWTProperties.VIRTUAL_ITEM_EVICTION, "true" );
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( 0 ) );
+    table.setSize( 100, 100 );
+    table.setItemCount( 200 );
+    final List<Integer> indices = new ArrayList<>();
+    table.addListener( SWT.SetData, new Listener() {
+      @Override
+      public void handleEvent( Event event ) {
+        indices.add( Integer.valueOf( event.index ) );
+      }
+    } );
+    redrawTable( table );
+    table.setTopIndex( 100 );
+    redrawTable( table );
+    indices.clear();
+
+    table.setTopIndex( 0 );
+    redrawTable( table );
+
+    assertEquals( 4, indices.size() );
+    assertEquals( 4, countResolvedItems( table ) );
+  }
+
+  @Test
+  public void testEvictItems_evictsItemsThatLeftResolvedRange() {
+    System.setProperty( RWTProperties.VIRTUAL_ITEM_EVICTION, "true" );
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( 0 ) );
+    table.setSize( 100, 100 );
+    table.setItemCount( 200 );
+    redrawTable( table );
+
+    table.setTopIndex( 2 );
+    redrawTable( table );
+
+    assertTrue( getTableAdapter( table ).isItemVirtual( 0 ) );
+    assertTrue( getTableAdapter( table ).isItemVirtual( 1 ) );
+    assertFalse( getTableAdapter( table ).isItemVirtual( 2 ) );
+    assertFalse( getTableAdapter( table ).isItemVirtual( 3 ) );
+    assertEquals( 4, countResolvedItems( table ) );
+  }
+
+  @Test
+  public void testEvictItems_keepsSelectedAndFocusedItems() {
+    System.setProperty( RWTProperties.VIRTUAL_ITEM_EVICTION, "true" );
+    table = new Table( shell, SWT.VIRTUAL | SWT.MULTI );
+    table.setData( RWT.PRELOADED_ITEMS, Integer.valueOf( 0 ) );
+    table.setSize( 100, 100 );
+    table.setItemCount( 200 );
+    redrawTable( table );
+    table.setSelection( new int[] { 1, 2 } );
+
+    table.setTopIndex( 100 );
+    redrawTable( table );
+
+    assertFalse( getTableAdapter( table ).isItemVirtual( 1 ) );
+    assertFalse( getTableAdapter( table ).isItemVirtual( 2 ) );
+    assertTrue( getTableAdapter( table ).isItemVirtual( 3 ) );
+  }
+
   @Test
   public void testGetAdapter_LCA() {
     assertTrue( table.getAdapter( WidgetLCA.class ) instanceof TableLCA );
@@ -14,24 +14,32 @@ import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinT
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Timer;
+import java.util.List;
 
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.internal.widgets.TimerExecExecutor;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.ArgumentCaptor;
 
 
 public class TimerExecScheduler_Test {
@@ -39,22 +47,25 @@ public class TimerExecScheduler_Test {
   private TimerExecScheduler scheduler;
   private Display display;
   private Collection<Throwable> exceptions;
-  private Timer timer;
+  private TimerExecExecutor executor;
+  private List<TimerExecTask> tasks;
 
   @Before
   public void setUp() {
     Fixture.setUp();
     display = new Display();
-    timer = mock( Timer.class );
+    executor = mock( TimerExecExecutor.class );
+    tasks = new ArrayList<>();
     scheduler = new TimerExecScheduler( display ) {
       @Override
-      Timer createTimer() {
-        return timer;
+      TimerExecExecutor createExecutor() {
+        return executor;
       }
       @Override
       TimerExecTask createTask( Runnable runnable ) {
         TimerExecTask task = mock( TimerExecTask.class );
         when( task.getRunnable() ).thenReturn( runnable );
+        tasks.add( task );
         return task;
       }
     };
@@ -72,9 +83,9 @@ public class TimerExecScheduler_Test {
 
     scheduler.schedule( 23, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    assertSame( runnable, taskCaptor.getValue().getRunnable() );
+    assertEquals( 1, tasks.size() );
+    assertSame( runnable, tasks.get( 0 ).getRunnable() );
+    verify( tasks.get( 0 ) ).schedule( same( executor ), eq( 23L ) );
   }
 
   @Test
@@ -84,10 +95,38 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 23, runnable );
     scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertEquals( 1, tasks.size() );
+    verify( tasks.get( 0 ) ).schedule( same( executor ), eq( 23L ) );
+    verify( tasks.get( 0 ) ).schedule( same( executor ), eq( 42L ) );
+  }
+
+  @Test
+  public void testSchedule_usesApplicationWideExecutor() {
+    scheduler = new TimerExecScheduler( display );
+
+    TimerExecExecutor executor = scheduler.createExecutor();
+
+    assertSame( ContextProvider.getApplicationContext().getTimerExecExecutor(), executor );
+  }
+
+  @Test
+  public void testSchedule_afterExecutorShutdown() {
+    final TimerExecExecutor shutdownExecutor = new TimerExecExecutor();
+    shutdownExecutor.shutdown();
+    scheduler = new TimerExecScheduler( display ) {
+      @Override
+      TimerExecExecutor createExecutor() {
+        return shutdownExecutor;
+      }
+    };
+
+    try {
+      scheduler.schedule( 23, mock( Runnable.class ) );
+      fail();
+    } catch( SWTException expected ) {
+      assertEquals( SWT.ERROR_DEVICE_DISPOSED, expected.code );
+    }
+    assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
 
   @Test
@@ -97,9 +136,7 @@ public class TimerExecScheduler_Test {
 
     scheduler.cancel( runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( taskCaptor.getValue() ).cancel();
+    verify( tasks.get( 0 ) ).cancel();
   }
 
   @Test
@@ -115,10 +152,20 @@ public class TimerExecScheduler_Test {
     scheduler.cancel( runnable );
     scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertNotSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertEquals( 2, tasks.size() );
+    assertNotSame( tasks.get( 0 ), tasks.get( 1 ) );
+    verify( tasks.get( 1 ) ).schedule( same( executor ), eq( 42L ) );
+  }
+
+  @Test
+  public void testDispose_cancelsTasks() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
+    scheduler.schedule( 42, mock( Runnable.class ) );
+
+    scheduler.dispose();
+
+    verify( tasks.get( 0 ) ).cancel();
+    verify( tasks.get( 1 ) ).cancel();
   }
 
   @Test
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,14 +14,20 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.ScheduledFuture;
+
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.internal.widgets.TimerExecExecutor;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -104,6 +110,42 @@ public class TimerExecTask_Test {
     assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
 
+  @Test
+  public void testSchedule_schedulesOnExecutor() {
+    TimerExecExecutor executor = mock( TimerExecExecutor.class );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+
+    task.schedule( executor, 23 );
+
+    verify( executor ).schedule( same( task ), eq( 23L ) );
+  }
+
+  @Test
+  public void testSchedule_cancelsPreviousSchedule() {
+    TimerExecExecutor executor = mock( TimerExecExecutor.class );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    doReturn( future ).when( executor ).schedule( any( Runnable.class ), anyLong() );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( executor, 23 );
+
+    task.schedule( executor, 42 );
+
+    verify( future ).cancel( false );
+  }
+
+  @Test
+  public void testCancel_cancelsScheduledFuture() {
+    TimerExecExecutor executor = mock( TimerExecExecutor.class );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    doReturn( future ).when( executor ).schedule( any( Runnable.class ), anyLong() );
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    task.schedule( executor, 23 );
+
+    task.cancel();
+
+    verify( future ).cancel( false );
+  }
+
   @Test
   public void testCancel_deactivatesServerPush() {
     Runnable runnable = mock( Runnable.class );
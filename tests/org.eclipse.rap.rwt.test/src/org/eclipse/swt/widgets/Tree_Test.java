@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1586,6 +1586,101 @@ public class Tree_Test {
     assertSame( item1, result );
   }
 
+  @Test
+  public void testGetItemByPoint_inExpandedSubtree() {
+    TreeItem[] roots = createTreeItems( tree, 3 );
+    TreeItem[] children = new TreeItem[ 5 ];
+    for( int i = 0; i < children.length; i++ ) {
+      children[ i ] = new TreeItem( roots[ 1 ], SWT.NONE );
+    }
+    roots[ 1 ].setExpanded( true );
+    tree.setSize( 100, 10 * tree.getItemHeight() );
+
+    TreeItem result = tree.getItem( new Point( 5, 4 * tree.getItemHeight() + 1 ) );
+
+    assertSame( children[ 2 ], result );
+  }
+
+  @Test
+  public void testGetFlatIndex_nestedItems() {
+    TreeItem[] roots = createTreeItems( tree, 3 );
+    TreeItem child = new TreeItem( roots[ 0 ], SWT.NONE );
+    TreeItem grandChild = new TreeItem( child, SWT.NONE );
+    new TreeItem( child, SWT.NONE );
+    child.setExpanded( true );
+    roots[ 0 ].setExpanded( true );
+
+    assertEquals( 2, grandChild.getFlatIndex() );
+    assertEquals( 5, roots[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_afterCollapse() {
+    TreeItem[] roots = createTreeItems( tree, 3 );
+    new TreeItem( roots[ 0 ], SWT.NONE );
+    new TreeItem( roots[ 0 ], SWT.NONE );
+    roots[ 0 ].setExpanded( true );
+
+    roots[ 0 ].setExpanded( false );
+
+    assertEquals( 2, roots[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_afterInsertInExpandedItem() {
+    TreeItem[] roots = createTreeItems( tree, 3 );
+    new TreeItem( roots[ 0 ], SWT.NONE );
+    roots[ 0 ].setExpanded( true );
+
+    TreeItem child = new TreeItem( roots[ 0 ], SWT.NONE, 0 );
+
+    assertEquals( 1, child.getFlatIndex() );
+    assertEquals( 4, roots[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_afterDisposeInExpandedItem() {
+    TreeItem[] roots = createTreeItems( tree, 3 );
+    TreeItem child = new TreeItem( roots[ 0 ], SWT.NONE );
+    new TreeItem( roots[ 0 ], SWT.NONE );
+    roots[ 0 ].setExpanded( true );
+
+    child.dispose();
+
+    assertEquals( 3, roots[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetTopItem_inExpandedSubtree() {
+    TreeItem[] roots = createTreeItems( tree, 3 );
+    TreeItem child = new TreeItem( roots[ 1 ], SWT.NONE );
+    TreeItem grandChild = new TreeItem( child, SWT.NONE );
+    child.setExpanded( true );
+    roots[ 1 ].setExpanded( true );
+    tree.setSize( 100, 2 * tree.getItemHeight() );
+
+    getTreeAdapter( tree ).setTopItemIndex( 3 );
+
+    assertSame( grandChild, tree.getTopItem() );
+  }
+
+  @Test
+  public void testVirtual_resolvesVisibleRowsOfLargeTreeOnly() {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setSize( 100, 10 * tree.getItemHeight() );
+    tree.setItemCount( 100000 );
+    TreeItem item = tree.getItem( 0 );
+    item.setItemCount( 100000 );
+    item.setExpanded( true );
+    LoggingListener log = new LoggingListener();
+    tree.addListener( SWT.SetData, log );
+
+    getTreeAdapter( tree ).setTopItemIndex( 150000 );
+
+    assertTrue( log.size() < 20 );
+    assertSame( tree.getItem( 50000 ), tree.getTopItem() );
+  }
+
   @Test
   public void testPreferredWidthBufferHandlingOfTreeItem() throws IOException {
     TreeItem item1 = new TreeItem( tree, SWT.NONE );
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class VisibleItemCounter_Test {
+
+  private VisibleItemCounter counter;
+
+  @Before
+  public void setUp() {
+    counter = new VisibleItemCounter();
+  }
+
+  @Test
+  public void testInitiallyEmpty() {
+    assertEquals( 0, counter.size() );
+    assertEquals( 0, counter.getTotal() );
+    assertEquals( 0, counter.sum( 0 ) );
+  }
+
+  @Test
+  public void testInsert_append() {
+    for( int i = 0; i < 10; i++ ) {
+      counter.insert( i, i + 1 );
+    }
+
+    assertEquals( 10, counter.size() );
+    assertEquals( 55, counter.getTotal() );
+    assertEquals( 0, counter.sum( 0 ) );
+    assertEquals( 6, counter.sum( 3 ) );
+    assertEquals( 55, counter.sum( 10 ) );
+  }
+
+  @Test
+  public void testInsert_movesFollowingEntries() {
+    counter.insert( 0, 1 );
+    counter.insert( 1, 2 );
+
+    counter.insert( 0, 5 );
+
+    assertEquals( 5, counter.get( 0 ) );
+    assertEquals( 1, counter.get( 1 ) );
+    assertEquals( 2, counter.get( 2 ) );
+    assertEquals( 6, counter.sum( 2 ) );
+    assertEquals( 8, counter.getTotal() );
+  }
+
+  @Test
+  public void testSet() {
+    counter.setSize( 5 );
+
+    counter.set( 2, 10 );
+
+    assertEquals( 10, counter.get( 2 ) );
+    assertEquals( 2, counter.sum( 2 ) );
+    assertEquals( 12, counter.sum( 3 ) );
+    assertEquals( 14, counter.getTotal() );
+  }
+
+  @Test
+  public void testRemove_last() {
+    counter.setSize( 3 );
+    counter.set( 2, 4 );
+
+    counter.remove( 2 );
+
+    assertEquals( 2, counter.size() );
+    assertEquals( 2, counter.getTotal() );
+  }
+
+  @Test
+  public void testRemove_movesFollowingEntries() {
+    counter.setSize( 3 );
+    counter.set( 0, 3 );
+    counter.set( 2, 4 );
+
+    counter.remove( 0 );
+
+    assertEquals( 2, counter.size() );
+    assertEquals( 1, counter.get( 0 ) );
+    assertEquals( 4, counter.get( 1 ) );
+    assertEquals( 5, counter.getTotal() );
+  }
+
+  @Test
+  public void testFind() {
+    counter.setSize( 4 );
+    counter.set( 1, 3 );
+
+    assertEquals( 0, counter.find( 0 ) );
+    assertEquals( 1, counter.find( 1 ) );
+    assertEquals( 1, counter.find( 3 ) );
+    assertEquals( 2, counter.find( 4 ) );
+    assertEquals( 3, counter.find( 5 ) );
+  }
+
+  @Test
+  public void testSetSize_grow() {
+    counter.insert( 0, 3 );
+
+    counter.setSize( 1000000 );
+
+    assertEquals( 1000000, counter.size() );
+    assertEquals( 1000002, counter.getTotal() );
+    assertEquals( 500002, counter.sum( 500000 ) );
+    assertEquals( 500000, counter.find( 500002 ) );
+  }
+
+  @Test
+  public void testSetSize_truncate() {
+    counter.setSize( 10 );
+    counter.set( 9, 5 );
+
+    counter.setSize( 5 );
+
+    assertEquals( 5, counter.size() );
+    assertEquals( 5, counter.getTotal() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,7 +23,7 @@ public class TestResourceManager extends ResourceManagerImpl {
   private final Set<String> registeredResources;
 
   public TestResourceManager() {
-    super( null );
+    super( ( ResourceDirectory )null );
     registeredResources = new HashSet<String>();
   }
 